@@ -17,6 +17,7 @@ import java.util.Date;
 public interface Batch {
 
     String PROCESS_MIGRATION_TYPE = "processMigration";
+    String HISTORIC_PROCESS_DELETE_TYPE = "historicProcessDelete";
 
     String getId();
 
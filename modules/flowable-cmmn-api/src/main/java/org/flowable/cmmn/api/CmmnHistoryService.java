@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.api;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -20,6 +21,7 @@ import org.flowable.cmmn.api.history.HistoricMilestoneInstanceQuery;
 import org.flowable.cmmn.api.history.HistoricPlanItemInstanceQuery;
 import org.flowable.cmmn.api.history.HistoricVariableInstanceQuery;
 import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.FlowableIllegalStateException;
 import org.flowable.entitylink.api.history.HistoricEntityLink;
@@ -59,6 +61,15 @@ public interface CmmnHistoryService {
     List<StageResponse> getStageOverview(String caseInstanceId);
 
     void deleteHistoricCaseInstance(String caseInstanceId);
+
+    /**
+     * Deletes the given historic case instances, including their sub case instances, together with their related historic data,
+     * using set-based delete statements instead of loading and deleting every historic entity.
+     * 
+     * @throws FlowableException
+     *             when one of the case instances, or one of their sub case instances, is still running. Nothing is deleted in that case.
+     */
+    void bulkDeleteHistoricCaseInstances(Collection<String> caseInstanceIds);
     
     /**
      * Deletes historic task instance. This might be useful for tasks that are {@link CmmnTaskService#newTask() dynamically created} and then {@link CmmnTaskService#complete(String) completed}. If the
@@ -57,6 +57,14 @@ public interface CmmnRuntimeService {
     
     void terminateCaseInstance(String caseInstanceId);
 
+    /**
+     * Terminates the given case instances in one transaction. Case instances for which the termination is not observed
+     * (no event listeners, no lifecycle or task listeners, no case or process tasks and history level none) are deleted
+     * with set-based statements. All other case instances are terminated as with {@link #terminateCaseInstance(String)}.
+     * Case instances that don't exist or are not active are ignored.
+     */
+    void bulkTerminateCaseInstances(Collection<String> caseInstanceIds);
+
     void terminatePlanItemInstance(String planItemInstanceId);
 
     void evaluateCriteria(String caseInstanceId);
@@ -77,6 +77,7 @@ import org.flowable.cmmn.engine.impl.history.CmmnHistoryTaskManager;
 import org.flowable.cmmn.engine.impl.history.CmmnHistoryVariableManager;
 import org.flowable.cmmn.engine.impl.history.DefaultCmmnHistoryManager;
 import org.flowable.cmmn.engine.impl.history.async.AsyncCmmnHistoryManager;
+import org.flowable.cmmn.engine.impl.history.async.CaseInstanceHistoryPartitionKeyProvider;
 import org.flowable.cmmn.engine.impl.history.async.CmmnAsyncHistoryConstants;
 import org.flowable.cmmn.engine.impl.history.async.json.transformer.CaseInstanceEndHistoryJsonTransformer;
 import org.flowable.cmmn.engine.impl.history.async.json.transformer.CaseInstanceReactivateHistoryJsonTransformer;
@@ -115,6 +116,7 @@ import org.flowable.cmmn.engine.impl.interceptor.DefaultCmmnIdentityLinkIntercep
 import org.flowable.cmmn.engine.impl.job.AsyncActivatePlanItemInstanceJobHandler;
 import org.flowable.cmmn.engine.impl.job.AsyncInitializePlanModelJobHandler;
 import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupJobHandler;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupPartJobHandler;
 import org.flowable.cmmn.engine.impl.job.ExternalWorkerTaskCompleteJobHandler;
 import org.flowable.cmmn.engine.impl.job.TriggerTimerEventJobHandler;
 import org.flowable.cmmn.engine.impl.listener.CmmnListenerFactory;
@@ -221,6 +223,7 @@ import org.flowable.common.engine.impl.HasVariableTypes;
 import org.flowable.common.engine.impl.ScriptingEngineAwareEngineConfiguration;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskInvoker;
+import org.flowable.common.engine.impl.async.VirtualThreadAsyncTaskExecutor;
 import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
 import org.flowable.common.engine.impl.calendar.DueDateBusinessCalendar;
@@ -231,6 +234,7 @@ import org.flowable.common.engine.impl.cfg.BeansConfigurationHelper;
 import org.flowable.common.engine.impl.cfg.mail.MailServerInfo;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.SchemaManager;
+import org.flowable.common.engine.impl.el.ExpressionCompiler;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.el.FlowableAstFunctionCreator;
 import org.flowable.common.engine.impl.el.function.VariableBase64ExpressionFunction;
@@ -285,6 +289,8 @@ import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncRunnableExecution
 import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.asyncexecutor.PartitionedAsyncHistoryJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.notification.JobNotificationChannel;
 import org.flowable.job.service.impl.db.JobDbSchemaManager;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobZippedHandler;
@@ -323,6 +329,7 @@ import org.flowable.variable.service.impl.types.LongStringType;
 import org.flowable.variable.service.impl.types.LongType;
 import org.flowable.variable.service.impl.types.NullType;
 import org.flowable.variable.service.impl.types.SerializableType;
+import org.flowable.variable.service.impl.types.SerializableVariableChangeDetector;
 import org.flowable.variable.service.impl.types.ShortType;
 import org.flowable.variable.service.impl.types.StringType;
 import org.flowable.variable.service.impl.types.UUIDType;
@@ -404,6 +411,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected int caseDefinitionCacheLimit = -1;
     protected DeploymentCache<CaseDefinitionCacheEntry> caseDefinitionCache;
 
+    /**
+     * Whether an index of sentry on-parts is built when a case definition is deployed,
+     * so that plan item instances and criteria that can't be satisfied by a plan item lifecycle event are not evaluated for that event.
+     */
+    protected boolean sentryDependencyIndexEnabled;
+
     protected CmmnParser cmmnParser;
     protected List<CmmnParseHandler> preCmmnParseHandlers;
     protected List<CmmnParseHandler> postCmmnParseHandlers;
@@ -425,6 +438,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected boolean isExpressionCacheEnabled = true;
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
+    protected boolean isExpressionCompilationEnabled;
+    protected int expressionCompilationThreshold = 100;
 
     protected ScriptingEngines scriptingEngines;
     protected List<ResolverFactory> resolverFactories;
@@ -485,6 +500,11 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected VariableServiceConfiguration variableServiceConfiguration;
     protected InternalHistoryVariableManager internalHistoryVariableManager;
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
+
+    /**
+     * Decides whether tracked deserialized objects were changed without serializing them, see {@link SerializableVariableChangeDetector}.
+     */
+    protected SerializableVariableChangeDetector serializableVariableChangeDetector;
     /**
      * This flag determines whether variables of the type 'json' and 'longJson' will be tracked.
      * <p>
@@ -531,6 +551,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected FailedJobCommandFactory failedJobCommandFactory;
     protected InternalJobParentStateResolver internalJobParentStateResolver;
     protected List<String> enabledJobCategories;
+
+    /**
+     * Optional channel (for example based on PostgreSQL LISTEN/NOTIFY) through which async executors of other nodes are woken up
+     * when jobs are added that are not executed by the local async executor.
+     */
+    protected JobNotificationChannel jobNotificationChannel;
     protected String jobExecutionScope = JobServiceConfiguration.JOB_EXECUTION_SCOPE_CMMN;
     protected String historyJobExecutionScope = JobServiceConfiguration.JOB_EXECUTION_SCOPE_CMMN;
     
@@ -629,6 +655,18 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected boolean asyncExecutorAllowCoreThreadTimeout = true;
 
+    /**
+     * Whether jobs are executed on virtual threads by a {@link VirtualThreadAsyncTaskExecutor}, instead of on a thread pool.
+     * The pool size properties are not used then, the number of jobs executed at the same time is limited by {@link #asyncExecutorMaxConcurrentJobs}.
+     */
+    protected boolean asyncExecutorUseVirtualThreads;
+
+    /**
+     * The maximum number of jobs that are executed at the same time when {@link #asyncExecutorUseVirtualThreads} is enabled.
+     * Default value = -1, meaning the max number of active jdbc connections is used.
+     */
+    protected int asyncExecutorMaxConcurrentJobs = -1;
+
     /**
      * The thread factory that the async task executor should use.
      */
@@ -781,6 +819,20 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected int asyncHistoryExecutorThreadPoolQueueSize = 2048;
     protected BlockingQueue<Runnable> asyncHistoryExecutorThreadPoolQueue;
     protected long asyncHistoryExecutorSecondsToWaitOnShutdown = 60L;
+    protected boolean asyncHistoryExecutorUseVirtualThreads;
+    protected int asyncHistoryExecutorMaxConcurrentJobs = -1;
+
+    /**
+     * Whether history jobs are executed in lanes, one lane per thread, hashed by the case instance they belong to.
+     * History jobs of one case instance are then executed in the order in which they were created, see {@link PartitionedAsyncHistoryJobExecutor}.
+     */
+    protected boolean asyncHistoryExecutorPartitioningEnabled;
+
+    /**
+     * The number of lanes when {@link #asyncHistoryExecutorPartitioningEnabled} is enabled. Defaults to the number of available processors.
+     */
+    protected int asyncHistoryExecutorPartitionCount = -1;
+
     protected int asyncHistoryExecutorDefaultAsyncJobAcquireWaitTime = 10 * 1000;
     protected int asyncHistoryExecutorDefaultQueueSizeFullWaitTime = 5 * 1000;
     protected String asyncHistoryExecutorLockOwner;
@@ -794,6 +846,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected String historyCleaningTimeCycleConfig = "0 0 1 * * ?";
     protected int cleanInstancesEndedAfterNumberOfDays = 365;
     protected CmmnHistoryCleaningManager cmmnHistoryCleaningManager;
+    protected boolean enableHistoryCleaningBatch = false;
+    protected int historyCleaningBatchPartSize = 500;
+    protected int historyCleaningMaxInstancesPerSecond = 0;
     
     protected Map<String, HistoryJobHandler> historyJobHandlers;
     protected List<HistoryJobHandler> customHistoryJobHandlers;
@@ -1081,6 +1136,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
                 cmmnExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
                 cmmnExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
+
+            if (isExpressionCompilationEnabled) {
+                ExpressionCompiler expressionCompiler = new ExpressionCompiler();
+                expressionCompiler.setCompilationThreshold(expressionCompilationThreshold);
+                cmmnExpressionManager.setExpressionCompiler(expressionCompiler);
+            }
             
             expressionManager = cmmnExpressionManager;
         }
@@ -1274,11 +1335,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
     protected void initCaseDefinitionCache() {
         if (caseDefinitionCache == null) {
-            if (caseDefinitionCacheLimit <= 0) {
-                caseDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                caseDefinitionCache = new DefaultDeploymentCache<>(caseDefinitionCacheLimit);
-            }
+            caseDefinitionCache = createDeploymentCache(caseDefinitionCacheLimit);
         }
     }
 
@@ -1528,7 +1585,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             variableTypes.addType(JsonType.longJsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
             variableTypes.addType(new CmmnAggregatedVariableType(this));
             variableTypes.addType(new ByteArrayType());
-            variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
+            variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects, serializableVariableChangeDetector));
 
         } else {
             if (customPreVariableTypes != null) {
@@ -1707,6 +1764,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         jobHandlers.put(AsyncActivatePlanItemInstanceJobHandler.TYPE, new AsyncActivatePlanItemInstanceJobHandler());
         jobHandlers.put(AsyncInitializePlanModelJobHandler.TYPE, new AsyncInitializePlanModelJobHandler());
         jobHandlers.put(CmmnHistoryCleanupJobHandler.TYPE, new CmmnHistoryCleanupJobHandler());
+        jobHandlers.put(CmmnHistoryCleanupPartJobHandler.TYPE, new CmmnHistoryCleanupPartJobHandler());
         jobHandlers.put(ExternalWorkerTaskCompleteJobHandler.TYPE, new ExternalWorkerTaskCompleteJobHandler(this));
 
         // if we have custom job handlers, register them
@@ -1846,6 +1904,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             jobServiceConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingThreshold(asyncHistoryJsonGroupingThreshold);
+            if (asyncHistoryExecutorPartitioningEnabled) {
+                jobServiceConfiguration.setAsyncHistoryPartitionKeyProvider(new CaseInstanceHistoryPartitionKeyProvider());
+            }
             
             this.jobServiceConfiguration.setJobExecutionScope(this.jobExecutionScope);
             this.jobServiceConfiguration.setHistoryJobExecutionScope(this.historyJobExecutionScope);
@@ -1853,6 +1914,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             if (enabledJobCategories != null) {
                 this.jobServiceConfiguration.setEnabledJobCategories(enabledJobCategories);
             }
+
+            this.jobServiceConfiguration.setJobNotificationChannel(this.jobNotificationChannel);
         }
     }
 
@@ -1897,6 +1960,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     }
 
     protected void initAsyncTaskExecutor() {
+        if (this.asyncTaskExecutor == null && asyncExecutorUseVirtualThreads) {
+            this.asyncTaskExecutor = createVirtualThreadAsyncTaskExecutor(asyncExecutorMaxConcurrentJobs, asyncExecutorThreadPoolQueueSize,
+                    asyncExecutorSecondsToWaitOnShutdown, "flowable-async-job-executor-thread-%d");
+            this.shutdownAsyncTaskExecutor = true;
+        }
+
         if (this.asyncTaskExecutor == null) {
             DefaultAsyncTaskExecutor defaultAsyncTaskExecutor = new DefaultAsyncTaskExecutor();
 
@@ -1982,6 +2051,18 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     }
     
     protected void initAsyncHistoryTaskExecutor() {
+        if (this.asyncHistoryTaskExecutor == null && asyncHistoryExecutorPartitioningEnabled) {
+            this.asyncHistoryTaskExecutor = createPartitionedAsyncTaskExecutor(asyncHistoryExecutorPartitionCount, asyncHistoryExecutorThreadPoolQueueSize,
+                    asyncHistoryExecutorSecondsToWaitOnShutdown, "flowable-async-history-job-executor-lane-%d");
+            shutdownAsyncHistoryTaskExecutor = true;
+        }
+
+        if (this.asyncHistoryTaskExecutor == null && asyncHistoryExecutorUseVirtualThreads) {
+            this.asyncHistoryTaskExecutor = createVirtualThreadAsyncTaskExecutor(asyncHistoryExecutorMaxConcurrentJobs, asyncHistoryExecutorThreadPoolQueueSize,
+                    asyncHistoryExecutorSecondsToWaitOnShutdown, "flowable-async-history-job-executor-thread-%d");
+            shutdownAsyncHistoryTaskExecutor = true;
+        }
+
         if (this.asyncHistoryTaskExecutor == null) {
             DefaultAsyncTaskExecutor defaultAsyncTaskExecutor = new DefaultAsyncTaskExecutor();
 
@@ -2016,7 +2097,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             initAsyncHistoryTaskExecutor();
             
             if (asyncHistoryExecutor == null) {
-                DefaultAsyncHistoryJobExecutor defaultAsyncHistoryExecutor = new DefaultAsyncHistoryJobExecutor();
+                DefaultAsyncHistoryJobExecutor defaultAsyncHistoryExecutor = asyncHistoryExecutorPartitioningEnabled
+                        ? new PartitionedAsyncHistoryJobExecutor() : new DefaultAsyncHistoryJobExecutor();
     
                 // Message queue mode
                 defaultAsyncHistoryExecutor.setMessageQueueMode(asyncHistoryExecutorMessageQueueMode);
@@ -2472,6 +2554,20 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
     
+    public boolean isSentryDependencyIndexEnabled() {
+        return sentryDependencyIndexEnabled;
+    }
+
+    /**
+     * Enables the sentry dependency index for case definitions deployed (or loaded in the cache) after this is set.
+     * Plan item instances and criteria that can't be satisfied by the triggering plan item lifecycle event are skipped during evaluation,
+     * all others are evaluated as before.
+     */
+    public CmmnEngineConfiguration setSentryDependencyIndexEnabled(boolean sentryDependencyIndexEnabled) {
+        this.sentryDependencyIndexEnabled = sentryDependencyIndexEnabled;
+        return this;
+    }
+
     public boolean isDisableCmmnXmlValidation() {
         return disableCmmnXmlValidation;
     }
@@ -2764,6 +2860,31 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isExpressionCompilationEnabled() {
+        return isExpressionCompilationEnabled;
+    }
+
+    /**
+     * Enables the compilation of expressions that are evaluated often (see {@link #setExpressionCompilationThreshold(int)}).
+     * Compiled expressions have the same semantics as interpreted expressions.
+     */
+    public CmmnEngineConfiguration setExpressionCompilationEnabled(boolean isExpressionCompilationEnabled) {
+        this.isExpressionCompilationEnabled = isExpressionCompilationEnabled;
+        return this;
+    }
+
+    public int getExpressionCompilationThreshold() {
+        return expressionCompilationThreshold;
+    }
+
+    /**
+     * The number of evaluations after which an expression gets compiled, when expression compilation is enabled.
+     */
+    public CmmnEngineConfiguration setExpressionCompilationThreshold(int expressionCompilationThreshold) {
+        this.expressionCompilationThreshold = expressionCompilationThreshold;
+        return this;
+    }
+
     public DelegateExpressionFieldInjectionMode getDelegateExpressionFieldInjectionMode() {
         return delegateExpressionFieldInjectionMode;
     }
@@ -3053,6 +3174,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public SerializableVariableChangeDetector getSerializableVariableChangeDetector() {
+        return serializableVariableChangeDetector;
+    }
+
+    public CmmnEngineConfiguration setSerializableVariableChangeDetector(SerializableVariableChangeDetector serializableVariableChangeDetector) {
+        this.serializableVariableChangeDetector = serializableVariableChangeDetector;
+        return this;
+    }
+
     public boolean isJsonVariableTypeTrackObjects() {
         return jsonVariableTypeTrackObjects;
     }
@@ -3360,6 +3490,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncExecutorUseVirtualThreads() {
+        return asyncExecutorUseVirtualThreads;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorUseVirtualThreads(boolean asyncExecutorUseVirtualThreads) {
+        this.asyncExecutorUseVirtualThreads = asyncExecutorUseVirtualThreads;
+        return this;
+    }
+
+    public int getAsyncExecutorMaxConcurrentJobs() {
+        return asyncExecutorMaxConcurrentJobs;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorMaxConcurrentJobs(int asyncExecutorMaxConcurrentJobs) {
+        this.asyncExecutorMaxConcurrentJobs = asyncExecutorMaxConcurrentJobs;
+        return this;
+    }
+
     public ThreadFactory getAsyncExecutorThreadFactory() {
         return asyncExecutorThreadFactory;
     }
@@ -3678,6 +3826,42 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncHistoryExecutorUseVirtualThreads() {
+        return asyncHistoryExecutorUseVirtualThreads;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryExecutorUseVirtualThreads(boolean asyncHistoryExecutorUseVirtualThreads) {
+        this.asyncHistoryExecutorUseVirtualThreads = asyncHistoryExecutorUseVirtualThreads;
+        return this;
+    }
+
+    public int getAsyncHistoryExecutorMaxConcurrentJobs() {
+        return asyncHistoryExecutorMaxConcurrentJobs;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryExecutorMaxConcurrentJobs(int asyncHistoryExecutorMaxConcurrentJobs) {
+        this.asyncHistoryExecutorMaxConcurrentJobs = asyncHistoryExecutorMaxConcurrentJobs;
+        return this;
+    }
+
+    public boolean isAsyncHistoryExecutorPartitioningEnabled() {
+        return asyncHistoryExecutorPartitioningEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryExecutorPartitioningEnabled(boolean asyncHistoryExecutorPartitioningEnabled) {
+        this.asyncHistoryExecutorPartitioningEnabled = asyncHistoryExecutorPartitioningEnabled;
+        return this;
+    }
+
+    public int getAsyncHistoryExecutorPartitionCount() {
+        return asyncHistoryExecutorPartitionCount;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryExecutorPartitionCount(int asyncHistoryExecutorPartitionCount) {
+        this.asyncHistoryExecutorPartitionCount = asyncHistoryExecutorPartitionCount;
+        return this;
+    }
+
     public int getAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime() {
         return asyncHistoryExecutorDefaultAsyncJobAcquireWaitTime;
     }
@@ -3831,6 +4015,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
     
+    public JobNotificationChannel getJobNotificationChannel() {
+        return jobNotificationChannel;
+    }
+
+    public CmmnEngineConfiguration setJobNotificationChannel(JobNotificationChannel jobNotificationChannel) {
+        this.jobNotificationChannel = jobNotificationChannel;
+        return this;
+    }
+
     public CmmnEngineConfiguration addEnabledJobCategory(String jobCategory) {
         if (enabledJobCategories == null) {
             enabledJobCategories = new ArrayList<>();
@@ -4080,6 +4273,41 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableHistoryCleaningBatch() {
+        return enableHistoryCleaningBatch;
+    }
+
+    /**
+     * When enabled, the history cleanup job deletes the historic case instances in parts of {@link #getHistoryCleaningBatchPartSize()}
+     * instances, each part in its own job, instead of deleting all of them in one transaction.
+     */
+    public CmmnEngineConfiguration setEnableHistoryCleaningBatch(boolean enableHistoryCleaningBatch) {
+        this.enableHistoryCleaningBatch = enableHistoryCleaningBatch;
+        return this;
+    }
+
+    public int getHistoryCleaningBatchPartSize() {
+        return historyCleaningBatchPartSize;
+    }
+
+    public CmmnEngineConfiguration setHistoryCleaningBatchPartSize(int historyCleaningBatchPartSize) {
+        this.historyCleaningBatchPartSize = historyCleaningBatchPartSize;
+        return this;
+    }
+
+    public int getHistoryCleaningMaxInstancesPerSecond() {
+        return historyCleaningMaxInstancesPerSecond;
+    }
+
+    /**
+     * The maximum number of historic case instances the history cleanup job deletes per second when the parts are enabled.
+     * The job of the next part is scheduled as a timer to respect this rate. 0 (the default) means unlimited.
+     */
+    public CmmnEngineConfiguration setHistoryCleaningMaxInstancesPerSecond(int historyCleaningMaxInstancesPerSecond) {
+        this.historyCleaningMaxInstancesPerSecond = historyCleaningMaxInstancesPerSecond;
+        return this;
+    }
+
     public boolean isHandleCmmnEngineExecutorsAfterEngineCreate() {
         return handleCmmnEngineExecutorsAfterEngineCreate;
     }
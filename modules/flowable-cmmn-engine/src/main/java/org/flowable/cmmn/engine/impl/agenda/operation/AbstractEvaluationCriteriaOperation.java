@@ -28,6 +28,7 @@ import org.flowable.cmmn.converter.util.PlanItemUtil;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.agenda.PlanItemEvaluationResult;
 import org.flowable.cmmn.engine.impl.criteria.PlanItemLifeCycleEvent;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CountingPlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.EntityWithSentryPartInstances;
@@ -73,6 +74,10 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     /** only the last evaluation planned on the agenda operation will have this true. */
     protected boolean evaluateStagesAndCaseInstanceCompletion;
 
+    /** lazily resolved, null when the sentry dependency index is disabled or not available for the case definition. */
+    protected SentryDependencyIndex sentryDependencyIndex;
+    protected boolean sentryDependencyIndexResolved;
+
     public AbstractEvaluationCriteriaOperation(CommandContext commandContext, String caseInstanceId, CaseInstanceEntity caseInstanceEntity, PlanItemLifeCycleEvent planItemLifeCycleEvent) {
         super(commandContext, caseInstanceId, caseInstanceEntity);
         this.planItemLifeCycleEvent = planItemLifeCycleEvent;
@@ -233,11 +238,8 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
             }
         } else if (PlanItemInstanceState.ACTIVE.equals(state)) {
             // check, if the plan item can be ignored for further processing and if so, immediately return
-            if (planItem.getItemControl() != null && planItem.getItemControl().getParentCompletionRule() != null) {
-                ParentCompletionRule parentCompletionRule = planItem.getItemControl().getParentCompletionRule();
-                if (ParentCompletionRule.IGNORE.equals(parentCompletionRule.getType())) {
-                    return true;
-                }
+            if (isIgnoredForParentCompletion(planItem)) {
+                return true;
             }
 
             evaluationResult.increaseActiveChildren();
@@ -245,6 +247,14 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
         return false;
     }
 
+    protected boolean isIgnoredForParentCompletion(PlanItem planItem) {
+        if (planItem.getItemControl() != null && planItem.getItemControl().getParentCompletionRule() != null) {
+            ParentCompletionRule parentCompletionRule = planItem.getItemControl().getParentCompletionRule();
+            return ParentCompletionRule.IGNORE.equals(parentCompletionRule.getType());
+        }
+        return false;
+    }
+
     /**
      * Evaluates the entry/exit criteria for the given plan item instances
      * and plans new operations when its criteria are satisfied.
@@ -277,6 +287,14 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
             PlanItemInstanceEntity planItemInstanceEntity = planItemInstances.get(planItemInstanceIndex);
             String state = planItemInstanceEntity.getState();
 
+            // skip the plan item instances of which no criterion can be satisfied by the current lifecycle event
+            if (isPlanItemInstanceUnaffected(planItemInstanceEntity, state)) {
+                if (PlanItemInstanceState.ACTIVE.equals(state) && !isIgnoredForParentCompletion(planItemInstanceEntity.getPlanItem())) {
+                    evaluationResult.increaseActiveChildren();
+                }
+                continue;
+            }
+
             // check, if the plan item is in an evaluation state (e.g. available or waiting for repetition) to check for its activation
             if (PlanItemInstanceState.EVALUATE_ENTRY_CRITERIA_STATES.contains(state)) {
                 evaluateForActivation(planItemInstanceEntity, planItemInstanceContainer, evaluationResult);
@@ -512,8 +530,13 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
      * @return Returns the criterion that is satisfied. If none is satisfied, null is returned.
      */
     protected Criterion evaluateCriteria(EntityWithSentryPartInstances entityWithSentryPartInstances, List<Criterion> criteria) {
+        SentryDependencyIndex sentryDependencyIndex = getSentryDependencyIndex();
         for (Criterion criterion : criteria) {
 
+            if (sentryDependencyIndex != null && !isCriterionAffected(entityWithSentryPartInstances, criterion, sentryDependencyIndex)) {
+                continue;
+            }
+
             Sentry sentry = criterion.getSentry();
 
             // There can be zero or more on parts and zero or one if part.
@@ -628,6 +651,70 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
         return null;
     }
 
+    protected SentryDependencyIndex getSentryDependencyIndex() {
+        if (!sentryDependencyIndexResolved) {
+            if (caseInstanceEntity != null && CommandContextUtil.getCmmnEngineConfiguration(commandContext).isSentryDependencyIndexEnabled()) {
+                sentryDependencyIndex = CaseDefinitionUtil.getSentryDependencyIndex(caseInstanceEntity.getCaseDefinitionId());
+            }
+            sentryDependencyIndexResolved = true;
+        }
+        return sentryDependencyIndex;
+    }
+
+    /**
+     * @return true if, according to the sentry dependency index, the evaluation of the given plan item instance can't have any effect:
+     *          none of its entry and exit criteria can be satisfied by the current lifecycle event and it isn't a stage or an available plan item
+     *          without entry criteria. An active plan item instance still counts as an active child of its parent.
+     */
+    protected boolean isPlanItemInstanceUnaffected(PlanItemInstanceEntity planItemInstanceEntity, String state) {
+        SentryDependencyIndex sentryDependencyIndex = getSentryDependencyIndex();
+        if (sentryDependencyIndex == null || state == null) {
+            return false;
+        }
+
+        // Only the entry criteria of end states that wait for repetition are evaluated, there's nothing to skip for the others
+        boolean evaluateEntryCriteria = PlanItemInstanceState.EVALUATE_ENTRY_CRITERIA_STATES.contains(state);
+        if (!evaluateEntryCriteria && PlanItemInstanceState.END_STATES.contains(state)) {
+            return false;
+        }
+
+        PlanItem planItem = planItemInstanceEntity.getPlanItem();
+        if (evaluateEntryCriteria && planItem.getEntryCriteria().isEmpty()) {
+            return false;
+        }
+
+        if (sentryDependencyIndex.isAffectedBy(planItem, planItemLifeCycleEvent)) {
+            return false;
+        }
+        return !sentryDependencyIndex.hasMultipleOnPartCriteria(planItem) || !hasSatisfiedSentryParts(planItemInstanceEntity);
+    }
+
+    /**
+     * A criterion that isn't affected by the current lifecycle event according to the index can still be satisfied
+     * when its sentry has multiple on parts and some of them were satisfied before, hence the check on the sentry part instances.
+     */
+    protected boolean isCriterionAffected(EntityWithSentryPartInstances entityWithSentryPartInstances, Criterion criterion,
+            SentryDependencyIndex sentryDependencyIndex) {
+
+        if (sentryDependencyIndex.isAffectedBy(criterion, planItemLifeCycleEvent)) {
+            return true;
+        }
+        return criterion.getSentry().getOnParts().size() > 1 && hasSatisfiedSentryParts(entityWithSentryPartInstances);
+    }
+
+    protected boolean hasSatisfiedSentryParts(EntityWithSentryPartInstances entityWithSentryPartInstances) {
+        if (entityWithSentryPartInstances instanceof CountingPlanItemInstanceEntity) {
+            CountingPlanItemInstanceEntity countingPlanItemInstanceEntity = (CountingPlanItemInstanceEntity) entityWithSentryPartInstances;
+            if (countingPlanItemInstanceEntity.isCountEnabled() && countingPlanItemInstanceEntity.getSentryPartInstanceCount() > 0) {
+                return true;
+            }
+            return !entityWithSentryPartInstances.getSatisfiedSentryPartInstances().isEmpty();
+        }
+
+        // The sentry part instances of a case instance aren't counted, be conservative
+        return true;
+    }
+
     protected boolean evaluateAvailableCondition(CommandContext commandContext, PlanItemInstanceEntity planItemInstanceEntity) {
         PlanItem planItem = planItemInstanceEntity.getPlanItem();
         if (isEventListenerWithAvailableCondition(planItem)) {
@@ -0,0 +1,121 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.cmmn.api.history.HistoricCaseInstance;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.persistence.entity.HistoricCaseInstanceEntityManager;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.flowable.entitylink.api.history.HistoricEntityLinkService;
+import org.flowable.identitylink.service.HistoricIdentityLinkService;
+
+/**
+ * Deletes historic case instances and all their related historic data with set-based delete statements,
+ * without loading the historic entities. All instances, including their child case instances, need to be ended,
+ * otherwise nothing is deleted.
+ */
+public class BulkDeleteHistoricCaseInstancesCmd implements Command<Object>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected static final int MAX_IDS_PER_STATEMENT = 1000;
+
+    protected Collection<String> caseInstanceIds;
+
+    public BulkDeleteHistoricCaseInstancesCmd(Collection<String> caseInstanceIds) {
+        this.caseInstanceIds = caseInstanceIds;
+    }
+
+    @Override
+    public Object execute(CommandContext commandContext) {
+        if (caseInstanceIds == null) {
+            throw new FlowableIllegalArgumentException("caseInstanceIds is null");
+        }
+
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+        List<List<String>> chunks = CollectionUtil.partition(collectCaseInstanceIds(cmmnEngineConfiguration), MAX_IDS_PER_STATEMENT);
+        for (List<String> chunk : chunks) {
+            checkCaseInstancesEnded(cmmnEngineConfiguration, chunk);
+        }
+        for (List<String> chunk : chunks) {
+            deleteHistoricData(cmmnEngineConfiguration, chunk);
+        }
+
+        return null;
+    }
+
+    protected Set<String> collectCaseInstanceIds(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        HistoricCaseInstanceEntityManager historicCaseInstanceEntityManager = cmmnEngineConfiguration.getHistoricCaseInstanceEntityManager();
+        Set<String> allCaseInstanceIds = new LinkedHashSet<>(caseInstanceIds);
+
+        // Sub case instances are deleted together with their parent, level by level
+        List<String> parentIds = new ArrayList<>(allCaseInstanceIds);
+        while (!parentIds.isEmpty()) {
+            List<String> childIds = new ArrayList<>();
+            for (List<String> chunk : CollectionUtil.partition(parentIds, MAX_IDS_PER_STATEMENT)) {
+                for (String childId : historicCaseInstanceEntityManager.findHistoricCaseInstanceIdsByParentIds(chunk)) {
+                    if (allCaseInstanceIds.add(childId)) {
+                        childIds.add(childId);
+                    }
+                }
+            }
+            parentIds = childIds;
+        }
+
+        return allCaseInstanceIds;
+    }
+
+    protected void checkCaseInstancesEnded(CmmnEngineConfiguration cmmnEngineConfiguration, List<String> ids) {
+        List<HistoricCaseInstance> runningCaseInstances = cmmnEngineConfiguration.getCmmnHistoryService().createHistoricCaseInstanceQuery()
+                .caseInstanceIds(new HashSet<>(ids))
+                .unfinished()
+                .listPage(0, 1);
+        if (!runningCaseInstances.isEmpty()) {
+            throw new FlowableException("Case instance is still running, cannot delete historic case instance: " + runningCaseInstances.get(0).getId());
+        }
+    }
+
+    protected void deleteHistoricData(CmmnEngineConfiguration cmmnEngineConfiguration, List<String> ids) {
+        cmmnEngineConfiguration.getHistoricMilestoneInstanceEntityManager().bulkDeleteHistoricMilestoneInstancesByCaseInstanceIds(ids);
+        cmmnEngineConfiguration.getHistoricPlanItemInstanceEntityManager().bulkDeleteHistoricPlanItemInstancesByCaseInstanceIds(ids);
+
+        HistoricIdentityLinkService historicIdentityLinkService = cmmnEngineConfiguration.getIdentityLinkServiceConfiguration().getHistoricIdentityLinkService();
+        historicIdentityLinkService.bulkDeleteHistoricIdentityLinksForScopeIdsAndScopeType(ids, ScopeTypes.CMMN);
+        historicIdentityLinkService.bulkDeleteHistoricIdentityLinksForScopeIdsAndScopeType(ids, ScopeTypes.PLAN_ITEM);
+
+        if (cmmnEngineConfiguration.isEnableEntityLinks()) {
+            HistoricEntityLinkService historicEntityLinkService = cmmnEngineConfiguration.getEntityLinkServiceConfiguration().getHistoricEntityLinkService();
+            if (historicEntityLinkService != null) {
+                historicEntityLinkService.bulkDeleteHistoricEntityLinksForScopeTypeAndScopeIds(ScopeTypes.CMMN, ids);
+            }
+        }
+
+        cmmnEngineConfiguration.getVariableServiceConfiguration().getHistoricVariableService().bulkDeleteHistoricVariableInstancesByScopeIdsAndScopeType(ids, ScopeTypes.CMMN);
+        cmmnEngineConfiguration.getHistoricCaseInstanceEntityManager().bulkDeleteHistoricCaseInstancesByIds(ids);
+    }
+
+}
@@ -0,0 +1,185 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.api.runtime.CaseInstanceState;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.agenda.CmmnEngineAgenda;
+import org.flowable.cmmn.engine.impl.repository.CaseDefinitionUtil;
+import org.flowable.cmmn.engine.impl.runtime.CaseInstanceQueryImpl;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.CaseTask;
+import org.flowable.cmmn.model.ExternalWorkerServiceTask;
+import org.flowable.cmmn.model.HumanTask;
+import org.flowable.cmmn.model.PlanItemDefinition;
+import org.flowable.cmmn.model.ProcessTask;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.event.FlowableEventDispatcherImpl;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.flowable.identitylink.service.IdentityLinkService;
+import org.flowable.job.service.JobServiceConfiguration;
+
+/**
+ * Terminates multiple case instances in one transaction. Case instances for which nothing observes the termination
+ * (no event listeners, no lifecycle or task listeners, no history and no parent or child instances) are deleted with
+ * set-based delete statements per table, without loading their plan item instances. All other case instances are
+ * terminated through the agenda, as for a single case instance. Case instances that don't exist or are not active are ignored.
+ */
+public class BulkTerminateCaseInstancesCmd implements Command<Void>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected static final int MAX_IDS_PER_STATEMENT = 1000;
+
+    protected Collection<String> caseInstanceIds;
+
+    public BulkTerminateCaseInstancesCmd(Collection<String> caseInstanceIds) {
+        this.caseInstanceIds = caseInstanceIds;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (caseInstanceIds == null) {
+            throw new FlowableIllegalArgumentException("caseInstanceIds is null");
+        }
+
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+        boolean setBasedDeleteEnabled = cmmnEngineConfiguration.getHistoryLevel() == HistoryLevel.NONE && !hasLifecycleListeners(cmmnEngineConfiguration);
+        Map<String, Boolean> setBasedDeleteByCaseDefinitionId = new HashMap<>();
+        CmmnEngineAgenda agenda = CommandContextUtil.getAgenda(commandContext);
+
+        for (List<String> chunk : CollectionUtil.partition(new LinkedHashSet<>(caseInstanceIds), MAX_IDS_PER_STATEMENT)) {
+            List<CaseInstance> caseInstances = new CaseInstanceQueryImpl(commandContext, cmmnEngineConfiguration)
+                    .caseInstanceIds(new LinkedHashSet<>(chunk))
+                    .list();
+
+            List<String> setBasedCaseInstanceIds = new ArrayList<>();
+            for (CaseInstance caseInstance : caseInstances) {
+                if (!CaseInstanceState.ACTIVE.equals(caseInstance.getState())) {
+                    continue;
+                }
+
+                if (setBasedDeleteEnabled && isSetBasedDeletePossible(caseInstance, setBasedDeleteByCaseDefinitionId)) {
+                    setBasedCaseInstanceIds.add(caseInstance.getId());
+                } else {
+                    agenda.planManualTerminateCaseInstanceOperation(caseInstance.getId());
+                }
+            }
+
+            if (!setBasedCaseInstanceIds.isEmpty()) {
+                bulkDeleteRuntimeData(cmmnEngineConfiguration, setBasedCaseInstanceIds);
+            }
+        }
+
+        return null;
+    }
+
+    protected boolean hasLifecycleListeners(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        if (cmmnEngineConfiguration.getCaseInstanceLifecycleListeners() != null && !cmmnEngineConfiguration.getCaseInstanceLifecycleListeners().isEmpty()) {
+            return true;
+        }
+        if (cmmnEngineConfiguration.getPlanItemInstanceLifecycleListeners() != null && !cmmnEngineConfiguration.getPlanItemInstanceLifecycleListeners().isEmpty()) {
+            return true;
+        }
+
+        FlowableEventDispatcher eventDispatcher = cmmnEngineConfiguration.getEventDispatcher();
+        if (eventDispatcher == null || !eventDispatcher.isEnabled()) {
+            return false;
+        }
+
+        // A custom dispatcher can't tell whether anybody listens, so it always gets the entity events
+        if (!(eventDispatcher instanceof FlowableEventDispatcherImpl)) {
+            return true;
+        }
+        return ((FlowableEventDispatcherImpl) eventDispatcher).getEventSupport().hasListeners();
+    }
+
+    protected boolean isSetBasedDeletePossible(CaseInstance caseInstance, Map<String, Boolean> setBasedDeleteByCaseDefinitionId) {
+        // A parent case or process instance needs to be notified
+        if (caseInstance.getCallbackId() != null) {
+            return false;
+        }
+
+        String caseDefinitionId = caseInstance.getCaseDefinitionId();
+        Boolean setBasedDeletePossible = setBasedDeleteByCaseDefinitionId.get(caseDefinitionId);
+        if (setBasedDeletePossible == null) {
+            setBasedDeletePossible = !hasTerminationObservers(CaseDefinitionUtil.getCase(caseDefinitionId));
+            setBasedDeleteByCaseDefinitionId.put(caseDefinitionId, setBasedDeletePossible);
+        }
+        return setBasedDeletePossible;
+    }
+
+    protected boolean hasTerminationObservers(Case caze) {
+        if (!caze.getLifecycleListeners().isEmpty() || !caze.getPlanModel().getLifecycleListeners().isEmpty()) {
+            return true;
+        }
+
+        for (PlanItemDefinition planItemDefinition : caze.getPlanModel().findPlanItemDefinitionsOfType(PlanItemDefinition.class, true)) {
+            if (!planItemDefinition.getLifecycleListeners().isEmpty()) {
+                return true;
+            }
+
+            if (planItemDefinition instanceof HumanTask && !((HumanTask) planItemDefinition).getTaskListeners().isEmpty()) {
+                return true;
+            }
+
+            // Child instances and external workers need the agenda termination to be cleaned up
+            if (planItemDefinition instanceof CaseTask || planItemDefinition instanceof ProcessTask || planItemDefinition instanceof ExternalWorkerServiceTask) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    protected void bulkDeleteRuntimeData(CmmnEngineConfiguration cmmnEngineConfiguration, List<String> caseInstanceIds) {
+        // The deletes are flushed in the entity delete order, so rows are always deleted before the rows they reference
+        cmmnEngineConfiguration.getVariableServiceConfiguration().getVariableService().bulkDeleteVariableInstancesByScopeIdsAndScopeTypes(caseInstanceIds, ScopeTypes.CMMN_DEPENDENT);
+
+        IdentityLinkService identityLinkService = cmmnEngineConfiguration.getIdentityLinkServiceConfiguration().getIdentityLinkService();
+        identityLinkService.bulkDeleteIdentityLinksForScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.CMMN);
+        identityLinkService.bulkDeleteIdentityLinksForScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.PLAN_ITEM);
+
+        cmmnEngineConfiguration.getTaskServiceConfiguration().getTaskService().bulkDeleteTasksForScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.CMMN);
+
+        JobServiceConfiguration jobServiceConfiguration = cmmnEngineConfiguration.getJobServiceConfiguration();
+        jobServiceConfiguration.getJobService().bulkDeleteJobsForScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.CMMN);
+        jobServiceConfiguration.getTimerJobService().bulkDeleteTimerJobsForScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.CMMN);
+
+        cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionService().bulkDeleteEventSubscriptionsForScopeIdsAndType(caseInstanceIds, ScopeTypes.CMMN);
+        if (cmmnEngineConfiguration.isEnableEntityLinks()) {
+            cmmnEngineConfiguration.getEntityLinkServiceConfiguration().getEntityLinkService().bulkDeleteEntityLinksForRootScopeIdsAndType(caseInstanceIds, ScopeTypes.CMMN);
+        }
+
+        cmmnEngineConfiguration.getSentryPartInstanceEntityManager().bulkDeleteByCaseInstanceIds(caseInstanceIds);
+        cmmnEngineConfiguration.getMilestoneInstanceEntityManager().bulkDeleteByCaseInstanceIds(caseInstanceIds);
+        cmmnEngineConfiguration.getPlanItemInstanceEntityManager().bulkDeleteByCaseInstanceIds(caseInstanceIds);
+        cmmnEngineConfiguration.getCaseInstanceEntityManager().bulkDeleteCaseInstances(caseInstanceIds);
+    }
+
+}
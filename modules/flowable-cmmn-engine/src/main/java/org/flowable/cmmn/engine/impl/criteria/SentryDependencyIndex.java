@@ -0,0 +1,201 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.criteria;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.Criterion;
+import org.flowable.cmmn.model.PlanFragment;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.Sentry;
+import org.flowable.cmmn.model.SentryOnPart;
+import org.flowable.cmmn.model.Stage;
+
+/**
+ * An index of the criteria of a case model by the plan item lifecycle events their sentries listen to, built when the case definition is deployed.
+ *
+ * It is used during criteria evaluation to skip the criteria that can't become satisfied by the current evaluation:
+ * a criterion of which the sentry only has on parts (and no if part) can only be newly satisfied by a lifecycle event matching one of its on parts.
+ * Criteria with an if part depend on the case state and are always evaluated, as are criteria that are not part of this index.
+ *
+ * The same information is kept per plan item: a plan item (other than a stage) of which all entry and exit criteria only have on parts
+ * doesn't need to be evaluated at all for a lifecycle event that none of these on parts listen to.
+ */
+public class SentryDependencyIndex {
+
+    /**
+     * The criteria of which the sentry only consists of on parts, for these the on part events are indexed.
+     */
+    protected final Set<Criterion> onPartOnlyCriteria = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * The on part only criteria by the source plan item id and the standard event of their on parts.
+     */
+    protected final Map<String, Map<String, Set<Criterion>>> criteriaByOnPartEvent = new HashMap<>();
+
+    /**
+     * The ids of the plan items (other than stages) of which all entry and exit criteria only consist of on parts.
+     */
+    protected final Set<String> onPartOnlyPlanItemIds = new HashSet<>();
+
+    /**
+     * The ids of the on part only plan items with at least one criterion that has multiple on parts.
+     */
+    protected final Set<String> multipleOnPartPlanItemIds = new HashSet<>();
+
+    /**
+     * The ids of the on part only plan items by the source plan item id and the standard event of the on parts of their criteria.
+     */
+    protected final Map<String, Map<String, Set<String>>> planItemIdsByOnPartEvent = new HashMap<>();
+
+    public SentryDependencyIndex(Case caze) {
+        Stage planModel = caze.getPlanModel();
+        if (planModel != null) {
+            addCriteria(planModel.getExitCriteria());
+            addPlanFragment(planModel);
+        }
+    }
+
+    protected void addPlanFragment(PlanFragment planFragment) {
+        for (PlanItem planItem : planFragment.getPlanItems()) {
+            addCriteria(planItem.getEntryCriteria());
+            addCriteria(planItem.getExitCriteria());
+
+            if (planItem.getPlanItemDefinition() instanceof PlanFragment) {
+                addPlanFragment((PlanFragment) planItem.getPlanItemDefinition());
+            } else {
+                addPlanItem(planItem);
+            }
+        }
+    }
+
+    protected void addPlanItem(PlanItem planItem) {
+        List<Criterion> criteria = new ArrayList<>();
+        if (planItem.getEntryCriteria() != null) {
+            criteria.addAll(planItem.getEntryCriteria());
+        }
+        if (planItem.getExitCriteria() != null) {
+            criteria.addAll(planItem.getExitCriteria());
+        }
+
+        for (Criterion criterion : criteria) {
+            if (!onPartOnlyCriteria.contains(criterion)) {
+                return;
+            }
+        }
+
+        onPartOnlyPlanItemIds.add(planItem.getId());
+        for (Criterion criterion : criteria) {
+            List<SentryOnPart> onParts = criterion.getSentry().getOnParts();
+            if (onParts.size() > 1) {
+                multipleOnPartPlanItemIds.add(planItem.getId());
+            }
+
+            for (SentryOnPart sentryOnPart : onParts) {
+                planItemIdsByOnPartEvent
+                    .computeIfAbsent(sentryOnPart.getSourceRef(), sourceRef -> new HashMap<>())
+                    .computeIfAbsent(sentryOnPart.getStandardEvent(), standardEvent -> new HashSet<>())
+                    .add(planItem.getId());
+            }
+        }
+    }
+
+    protected void addCriteria(List<Criterion> criteria) {
+        if (criteria == null) {
+            return;
+        }
+
+        for (Criterion criterion : criteria) {
+            Sentry sentry = criterion.getSentry();
+            if (sentry == null || sentry.getSentryIfPart() != null || sentry.getOnParts().isEmpty()) {
+                continue;
+            }
+
+            onPartOnlyCriteria.add(criterion);
+            for (SentryOnPart sentryOnPart : sentry.getOnParts()) {
+                criteriaByOnPartEvent
+                    .computeIfAbsent(sentryOnPart.getSourceRef(), sourceRef -> new HashMap<>())
+                    .computeIfAbsent(sentryOnPart.getStandardEvent(), standardEvent -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(criterion);
+            }
+        }
+    }
+
+    /**
+     * @return false if the given criterion only has on parts and none of them matches the given lifecycle event (which can be null),
+     *          true otherwise. Note that a criterion with multiple on parts can still be satisfied by on parts that were satisfied before.
+     */
+    public boolean isAffectedBy(Criterion criterion, PlanItemLifeCycleEvent planItemLifeCycleEvent) {
+        if (!onPartOnlyCriteria.contains(criterion)) {
+            return true;
+        }
+
+        if (planItemLifeCycleEvent == null) {
+            return false;
+        }
+
+        Map<String, Set<Criterion>> criteriaByStandardEvent = criteriaByOnPartEvent.get(planItemLifeCycleEvent.getPlanItem().getId());
+        if (criteriaByStandardEvent == null) {
+            return false;
+        }
+        Set<Criterion> criteria = criteriaByStandardEvent.get(planItemLifeCycleEvent.getTransition());
+        return criteria != null && criteria.contains(criterion);
+    }
+
+    /**
+     * @return false if all entry and exit criteria of the given plan item only have on parts and none of them matches the given lifecycle event
+     *          (which can be null), true otherwise. Stages are always affected, as their child plan items need to be evaluated.
+     *          Note that a criterion with multiple on parts can still be satisfied by on parts that were satisfied before,
+     *          see {@link #hasMultipleOnPartCriteria(PlanItem)}.
+     */
+    public boolean isAffectedBy(PlanItem planItem, PlanItemLifeCycleEvent planItemLifeCycleEvent) {
+        if (!onPartOnlyPlanItemIds.contains(planItem.getId())) {
+            return true;
+        }
+
+        if (planItemLifeCycleEvent == null) {
+            return false;
+        }
+
+        Map<String, Set<String>> planItemIdsByStandardEvent = planItemIdsByOnPartEvent.get(planItemLifeCycleEvent.getPlanItem().getId());
+        if (planItemIdsByStandardEvent == null) {
+            return false;
+        }
+        Set<String> planItemIds = planItemIdsByStandardEvent.get(planItemLifeCycleEvent.getTransition());
+        return planItemIds != null && planItemIds.contains(planItem.getId());
+    }
+
+    /**
+     * @return true if the given plan item is an on part only plan item with at least one criterion that has multiple on parts
+     */
+    public boolean hasMultipleOnPartCriteria(PlanItem planItem) {
+        return multipleOnPartPlanItemIds.contains(planItem.getId());
+    }
+
+    public int getOnPartOnlyCriteriaCount() {
+        return onPartOnlyCriteria.size();
+    }
+
+    public int getOnPartOnlyPlanItemCount() {
+        return onPartOnlyPlanItemIds.size();
+    }
+
+}
@@ -62,6 +62,7 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         // executing them one per subscription. There is no overarching transaction.
         // The reason for this is that the handling of one event subscription
         // should not influence (i.e. roll back) the handling of another.
+        // Only when a batch of events is received, everything happens in the transaction of the batch (see eventInstancesReceived).
 
         Collection<CorrelationKey> correlationKeys = generateCorrelationKeys(eventInstance.getCorrelationParameterInstances());
         List<EventSubscription> eventSubscriptions = findEventSubscriptions(ScopeTypes.CMMN, eventInstance, correlationKeys);
@@ -110,7 +111,8 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
                         .caseInstanceReferenceType(ReferenceTypes.EVENT_CASE)
                         .count();
 
-                    if (caseInstanceCount > 0) {
+                    if (caseInstanceCount > 0
+                            || isUniqueReferenceIdUsedInBatch(eventSubscription.getScopeDefinitionId(), correlationKeyWithAllParameters.getValue())) {
                         // Returning, no new instance should be started
                         LOGGER.debug("Event received to start a new case instance, but a unique instance already exists.");
                         return;
@@ -948,6 +948,11 @@ public class HistoricCaseInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return involvedGroupIdentityLink;
     }
 
+    @Override
+    protected boolean isIncludeRelatedData() {
+        return includeCaseVariables;
+    }
+
     public boolean isIncludeCaseVariables() {
         return includeCaseVariables;
     }
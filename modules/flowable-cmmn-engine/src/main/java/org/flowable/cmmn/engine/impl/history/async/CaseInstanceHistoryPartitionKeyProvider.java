@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history.async;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.flowable.job.service.impl.history.async.AsyncHistoryPartitionKeyProvider;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Partitions async history jobs by the case instance the historic data belongs to.
+ */
+public class CaseInstanceHistoryPartitionKeyProvider implements AsyncHistoryPartitionKeyProvider {
+
+    /**
+     * The types of which the id is the case instance id itself.
+     */
+    protected static final Set<String> CASE_INSTANCE_TYPES = new HashSet<>(Arrays.asList(
+            CmmnAsyncHistoryConstants.TYPE_CASE_INSTANCE_START,
+            CmmnAsyncHistoryConstants.TYPE_CASE_INSTANCE_END,
+            CmmnAsyncHistoryConstants.TYPE_CASE_INSTANCE_REACTIVATE,
+            CmmnAsyncHistoryConstants.TYPE_UPDATE_CASE_INSTANCE_NAME,
+            CmmnAsyncHistoryConstants.TYPE_UPDATE_CASE_INSTANCE_BUSINESS_KEY,
+            CmmnAsyncHistoryConstants.TYPE_HISTORIC_CASE_INSTANCE_DELETED));
+
+    @Override
+    public String getPartitionKey(String type, ObjectNode historicalData) {
+        String caseInstanceId = getText(historicalData, CmmnAsyncHistoryConstants.FIELD_CASE_INSTANCE_ID);
+        if (caseInstanceId == null && CASE_INSTANCE_TYPES.contains(type)) {
+            caseInstanceId = getText(historicalData, CmmnAsyncHistoryConstants.FIELD_ID);
+        }
+        return caseInstanceId;
+    }
+
+    protected String getText(ObjectNode historicalData, String fieldName) {
+        JsonNode fieldNode = historicalData.get(fieldName);
+        return fieldNode != null && !fieldNode.isNull() ? fieldNode.asText() : null;
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.job;
 
+import org.flowable.cmmn.api.CmmnManagementService;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -32,7 +33,17 @@ public class CmmnHistoryCleanupJobHandler implements JobHandler {
     public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
         CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
 
-        cmmnEngineConfiguration.getCmmnHistoryCleaningManager().createHistoricCaseInstanceCleaningQuery().deleteWithRelatedData();
+        if (cmmnEngineConfiguration.isEnableHistoryCleaningBatch()) {
+            // The parts of a previous cleanup are still being deleted
+            CmmnManagementService managementService = cmmnEngineConfiguration.getCmmnManagementService();
+            if (managementService.createJobQuery().handlerType(CmmnHistoryCleanupPartJobHandler.TYPE).count() == 0
+                    && managementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupPartJobHandler.TYPE).count() == 0) {
+                CmmnHistoryCleanupPartJobHandler.scheduleJob(null, null, cmmnEngineConfiguration);
+            }
+
+        } else {
+            cmmnEngineConfiguration.getCmmnHistoryCleaningManager().createHistoricCaseInstanceCleaningQuery().deleteWithRelatedData();
+        }
     }
-    
+
 }
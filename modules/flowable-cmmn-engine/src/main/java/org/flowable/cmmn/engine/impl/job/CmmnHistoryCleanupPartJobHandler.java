@@ -0,0 +1,117 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.job;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.cmmn.api.history.HistoricCaseInstance;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.cmd.DeleteHistoricCaseInstancesCmd;
+import org.flowable.cmmn.engine.impl.cmd.DeleteRelatedDataOfRemovedHistoricCaseInstancesCmd;
+import org.flowable.cmmn.engine.impl.cmd.DeleteTaskAndPlanItemInstanceDataOfRemovedHistoricCaseInstancesCmd;
+import org.flowable.cmmn.engine.impl.history.HistoricCaseInstanceQueryImpl;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+/**
+ * Deletes one part of {@link CmmnEngineConfiguration#getHistoryCleaningBatchPartSize()} historic case instances of the cleaning query
+ * in the transaction of the job, and schedules a new job for the next part. When the number of deleted instances per second is limited,
+ * the next part is scheduled as a timer job, so no job thread waits between the parts.
+ * After the last part, a final job removes the related data of the deleted instances.
+ */
+public class CmmnHistoryCleanupPartJobHandler implements JobHandler {
+
+    public static final String TYPE = "cmmn-history-cleanup-part";
+
+    public static final String RELATED_DATA_CONFIGURATION = "relatedData";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+
+        if (RELATED_DATA_CONFIGURATION.equals(configuration)) {
+            new DeleteTaskAndPlanItemInstanceDataOfRemovedHistoricCaseInstancesCmd().execute(commandContext);
+            new DeleteRelatedDataOfRemovedHistoricCaseInstancesCmd().execute(commandContext);
+            return;
+        }
+
+        int partSize = cmmnEngineConfiguration.getHistoryCleaningBatchPartSize();
+        List<HistoricCaseInstance> historicCaseInstances = cmmnEngineConfiguration.getCmmnHistoryCleaningManager()
+                .createHistoricCaseInstanceCleaningQuery().listPage(0, partSize);
+        if (historicCaseInstances.isEmpty()) {
+            return;
+        }
+
+        Set<String> caseInstanceIds = new HashSet<>();
+        for (HistoricCaseInstance historicCaseInstance : historicCaseInstances) {
+            caseInstanceIds.add(historicCaseInstance.getId());
+        }
+        HistoricCaseInstanceQueryImpl partQuery = new HistoricCaseInstanceQueryImpl(cmmnEngineConfiguration.getCommandExecutor(), cmmnEngineConfiguration)
+                .caseInstanceIds(caseInstanceIds);
+        new DeleteHistoricCaseInstancesCmd(partQuery).execute(commandContext);
+
+        if (historicCaseInstances.size() == partSize) {
+            int maxInstancesPerSecond = cmmnEngineConfiguration.getHistoryCleaningMaxInstancesPerSecond();
+            Date duedate = null;
+            if (maxInstancesPerSecond > 0) {
+                duedate = new Date(cmmnEngineConfiguration.getClock().getCurrentTime().getTime() + (long) partSize * 1000L / maxInstancesPerSecond);
+            }
+            scheduleJob(null, duedate, cmmnEngineConfiguration);
+
+        } else {
+            scheduleJob(RELATED_DATA_CONFIGURATION, null, cmmnEngineConfiguration);
+        }
+    }
+
+    /**
+     * Schedules an async job, or a timer job when the due date is in the future.
+     */
+    public static void scheduleJob(String jobHandlerConfiguration, Date duedate, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        if (duedate != null && duedate.after(cmmnEngineConfiguration.getClock().getCurrentTime())) {
+            TimerJobService timerJobService = cmmnEngineConfiguration.getJobServiceConfiguration().getTimerJobService();
+            TimerJobEntity timerJob = timerJobService.createTimerJob();
+            timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+            timerJob.setRevision(1);
+            timerJob.setJobHandlerType(TYPE);
+            timerJob.setJobHandlerConfiguration(jobHandlerConfiguration);
+            timerJob.setScopeType(ScopeTypes.CMMN);
+            timerJob.setDuedate(duedate);
+            timerJobService.scheduleTimerJob(timerJob);
+
+        } else {
+            JobService jobService = cmmnEngineConfiguration.getJobServiceConfiguration().getJobService();
+            JobEntity job = jobService.createJob();
+            job.setJobHandlerType(TYPE);
+            job.setJobHandlerConfiguration(jobHandlerConfiguration);
+            job.setScopeType(ScopeTypes.CMMN);
+            jobService.createAsyncJob(job, false);
+            jobService.scheduleAsyncJob(job);
+        }
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -48,4 +49,6 @@ public interface CaseInstanceEntityManager extends EntityManager<CaseInstanceEnt
     void clearLockTime(String caseInstanceId);
 
     void clearAllLockTimes(String lockOwner);
+
+    void bulkDeleteCaseInstances(Collection<String> caseInstanceIds);
 }
@@ -14,6 +14,7 @@
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -252,6 +253,11 @@ public class CaseInstanceEntityManagerImpl
         dataManager.clearAllLockTimes(lockOwner);
     }
 
+    @Override
+    public void bulkDeleteCaseInstances(Collection<String> caseInstanceIds) {
+        dataManager.bulkDeleteCaseInstances(caseInstanceIds);
+    }
+
     @Override
     public void updateCaseInstanceBusinessKey(CaseInstanceEntity caseInstanceEntity, String businessKey) {
         if (businessKey != null) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
@@ -39,4 +40,8 @@ public interface HistoricCaseInstanceEntityManager extends EntityManager<Histori
     long countByCriteria(HistoricCaseInstanceQuery query);
     
     void deleteHistoricCaseInstances(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery);
+
+    List<String> findHistoricCaseInstanceIdsByParentIds(Collection<String> caseInstanceIds);
+
+    void bulkDeleteHistoricCaseInstancesByIds(Collection<String> caseInstanceIds);
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
@@ -69,4 +70,14 @@ public class HistoricCaseInstanceEntityManagerImpl
     public void deleteHistoricCaseInstances(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery) {
         dataManager.deleteHistoricCaseInstances(historicCaseInstanceQuery);
     }
+
+    @Override
+    public List<String> findHistoricCaseInstanceIdsByParentIds(Collection<String> caseInstanceIds) {
+        return dataManager.findHistoricCaseInstanceIdsByParentIds(caseInstanceIds);
+    }
+
+    @Override
+    public void bulkDeleteHistoricCaseInstancesByIds(Collection<String> caseInstanceIds) {
+        dataManager.bulkDeleteHistoricCaseInstancesByIds(caseInstanceIds);
+    }
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
@@ -30,4 +31,6 @@ public interface HistoricMilestoneInstanceEntityManager extends EntityManager<Hi
     long findHistoricMilestoneInstanceCountByQueryCriteria(HistoricMilestoneInstanceQuery query);
     
     void deleteHistoricMilestoneInstancesForNonExistingCaseInstances();
+
+    void bulkDeleteHistoricMilestoneInstancesByCaseInstanceIds(Collection<String> caseInstanceIds);
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
@@ -52,5 +53,9 @@ public class HistoricMilestoneInstanceEntityManagerImpl
     public void deleteHistoricMilestoneInstancesForNonExistingCaseInstances() {
         dataManager.deleteHistoricMilestoneInstancesForNonExistingCaseInstances();
     }
-    
+
+    @Override
+    public void bulkDeleteHistoricMilestoneInstancesByCaseInstanceIds(Collection<String> caseInstanceIds) {
+        dataManager.bulkDeleteHistoricMilestoneInstancesByCaseInstanceIds(caseInstanceIds);
+    }
 }
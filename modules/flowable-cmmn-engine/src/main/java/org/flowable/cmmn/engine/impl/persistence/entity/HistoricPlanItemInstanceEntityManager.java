@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricPlanItemInstance;
@@ -35,4 +36,6 @@ public interface HistoricPlanItemInstanceEntityManager extends EntityManager<His
     long countByCriteria(HistoricPlanItemInstanceQuery query);
 
     void deleteHistoricPlanItemInstancesForNonExistingCaseInstances();
+
+    void bulkDeleteHistoricPlanItemInstancesByCaseInstanceIds(Collection<String> caseInstanceIds);
 }
\ No newline at end of file
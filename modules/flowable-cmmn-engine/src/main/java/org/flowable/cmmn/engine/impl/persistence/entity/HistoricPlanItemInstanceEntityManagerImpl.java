@@ -13,6 +13,7 @@
 
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricPlanItemInstance;
@@ -63,4 +64,9 @@ public class HistoricPlanItemInstanceEntityManagerImpl
     public void deleteHistoricPlanItemInstancesForNonExistingCaseInstances() {
         dataManager.deleteHistoricPlanItemInstancesForNonExistingCaseInstances();
     }
+
+    @Override
+    public void bulkDeleteHistoricPlanItemInstancesByCaseInstanceIds(Collection<String> caseInstanceIds) {
+        dataManager.bulkDeleteHistoricPlanItemInstancesByCaseInstanceIds(caseInstanceIds);
+    }
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.runtime.MilestoneInstance;
@@ -33,4 +34,6 @@ public interface MilestoneInstanceEntityManager extends EntityManager<MilestoneI
     
     void deleteByCaseInstanceId(String caseInstanceId);
 
+    void bulkDeleteByCaseInstanceIds(Collection<String> caseInstanceIds);
+
 }
\ No newline at end of file
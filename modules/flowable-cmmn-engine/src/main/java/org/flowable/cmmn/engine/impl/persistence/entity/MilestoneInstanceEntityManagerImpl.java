@@ -13,6 +13,7 @@
 
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.runtime.MilestoneInstance;
@@ -57,5 +58,10 @@ public class MilestoneInstanceEntityManagerImpl
     public void deleteByCaseInstanceId(String caseInstanceId) {
         dataManager.deleteByCaseInstanceId(caseInstanceId);
     }
+
+    @Override
+    public void bulkDeleteByCaseInstanceIds(Collection<String> caseInstanceIds) {
+        dataManager.bulkDeleteByCaseInstanceIds(caseInstanceIds);
+    }
     
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricPlanItemInstance;
@@ -54,5 +55,7 @@ public interface PlanItemInstanceEntityManager extends EntityManager<PlanItemIns
 
     void deleteByCaseInstanceId(String caseInstanceId);
 
+    void bulkDeleteByCaseInstanceIds(Collection<String> caseInstanceIds);
+
     void updatePlanItemInstancesCaseDefinitionId(String caseInstanceId, String caseDefinitionId);
 }
@@ -14,6 +14,7 @@
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -376,6 +377,11 @@ public class PlanItemInstanceEntityManagerImpl
     public void deleteByCaseInstanceId(String caseInstanceId) {
         dataManager.deleteByCaseInstanceId(caseInstanceId);
     }
+
+    @Override
+    public void bulkDeleteByCaseInstanceIds(Collection<String> caseInstanceIds) {
+        dataManager.bulkDeleteByCaseInstanceIds(caseInstanceIds);
+    }
     
     @Override
     public PlanItemInstanceQuery createPlanItemInstanceQuery() {
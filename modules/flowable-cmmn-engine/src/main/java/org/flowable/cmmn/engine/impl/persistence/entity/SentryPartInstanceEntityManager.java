@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -28,5 +29,7 @@ public interface SentryPartInstanceEntityManager extends EntityManager<SentryPar
     List<SentryPartInstanceEntity> findSentryPartInstancesByPlanItemInstanceId(String planItemInstanceId);
     
     void deleteByCaseInstanceId(String caseInstanceId);
+
+    void bulkDeleteByCaseInstanceIds(Collection<String> caseInstanceIds);
     
 }
\ No newline at end of file
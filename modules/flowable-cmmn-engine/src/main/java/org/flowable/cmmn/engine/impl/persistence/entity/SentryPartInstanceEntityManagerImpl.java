@@ -13,6 +13,7 @@
 
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
@@ -50,4 +51,9 @@ public class SentryPartInstanceEntityManagerImpl
         dataManager.deleteByCaseInstanceId(caseInstanceId);
     }
 
+    @Override
+    public void bulkDeleteByCaseInstanceIds(Collection<String> caseInstanceIds) {
+        dataManager.bulkDeleteByCaseInstanceIds(caseInstanceIds);
+    }
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -45,4 +46,6 @@ public interface CaseInstanceDataManager extends DataManager<CaseInstanceEntity>
     void clearLockTime(String caseInstanceId);
 
     void clearAllLockTimes(String lockOwner);
+
+    void bulkDeleteCaseInstances(Collection<String> caseInstanceIds);
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
@@ -38,4 +39,8 @@ public interface HistoricCaseInstanceDataManager extends DataManager<HistoricCas
     void deleteByCaseDefinitionId(String caseDefinitionId);
     
     void deleteHistoricCaseInstances(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery);
+
+    List<String> findHistoricCaseInstanceIdsByParentIds(Collection<String> caseInstanceIds);
+
+    void bulkDeleteHistoricCaseInstancesByIds(Collection<String> caseInstanceIds);
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricPlanItemInstance;
@@ -36,4 +37,6 @@ public interface HistoricPlanItemInstanceDataManager extends DataManager<Histori
     void deleteByCaseDefinitionId(String caseDefinitionId);
 
     void deleteHistoricPlanItemInstancesForNonExistingCaseInstances();
+
+    void bulkDeleteHistoricPlanItemInstancesByCaseInstanceIds(Collection<String> caseInstanceIds);
 }
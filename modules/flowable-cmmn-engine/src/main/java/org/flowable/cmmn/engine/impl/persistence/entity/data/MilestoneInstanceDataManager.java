@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.runtime.MilestoneInstance;
@@ -32,4 +33,6 @@ public interface MilestoneInstanceDataManager extends DataManager<MilestoneInsta
     
     void deleteByCaseInstanceId(String caseInstanceId);
 
+    void bulkDeleteByCaseInstanceIds(Collection<String> caseInstanceIds);
+
 }
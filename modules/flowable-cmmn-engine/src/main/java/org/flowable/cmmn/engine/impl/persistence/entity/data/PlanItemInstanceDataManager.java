@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.runtime.PlanItemInstance;
@@ -41,5 +42,7 @@ public interface PlanItemInstanceDataManager extends DataManager<PlanItemInstanc
     void deleteByStageInstanceId(String stageInstanceId);
     
     void deleteByCaseInstanceId(String caseInstanceId);
+
+    void bulkDeleteByCaseInstanceIds(Collection<String> caseInstanceIds);
     
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntity;
@@ -29,5 +30,7 @@ public interface SentryPartInstanceDataManager extends DataManager<SentryPartIns
     List<SentryPartInstanceEntity> findSentryPartInstancesByPlanItemInstanceId(String planItemId);
     
     void deleteByCaseInstanceId(String caseInstanceId);
+
+    void bulkDeleteByCaseInstanceIds(Collection<String> caseInstanceIds);
     
 }
@@ -13,6 +13,7 @@
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -242,4 +243,11 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
         getDbSqlSession().update("clearAllCaseInstanceLockTimes", params);
     }
 
+    @Override
+    public void bulkDeleteCaseInstances(Collection<String> caseInstanceIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("caseInstanceIds", caseInstanceIds);
+        getDbSqlSession().delete("bulkDeleteCaseInstancesByIds", params, CaseInstanceEntityImpl.class);
+    }
+
 }
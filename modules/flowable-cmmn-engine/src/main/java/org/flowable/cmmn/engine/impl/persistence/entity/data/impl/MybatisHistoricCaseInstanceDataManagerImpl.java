@@ -12,8 +12,11 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.runtime.CaseInstance;
@@ -114,4 +117,19 @@ public class MybatisHistoricCaseInstanceDataManagerImpl extends AbstractCmmnData
     public void deleteHistoricCaseInstances(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery) {
         getDbSqlSession().delete("bulkDeleteHistoricCaseInstances", historicCaseInstanceQuery, getManagedEntityClass());
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findHistoricCaseInstanceIdsByParentIds(Collection<String> caseInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("caseInstanceIds", caseInstanceIds);
+        return getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore("selectHistoricCaseInstanceIdsByParentIds", parameters);
+    }
+
+    @Override
+    public void bulkDeleteHistoricCaseInstancesByIds(Collection<String> caseInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("caseInstanceIds", caseInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricCaseInstancesByIds", parameters, getManagedEntityClass());
+    }
 }
@@ -12,7 +12,10 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
@@ -56,5 +59,11 @@ public class MybatisHistoricMilestoneInstanceDataManager extends AbstractCmmnDat
     public void deleteHistoricMilestoneInstancesForNonExistingCaseInstances() {
         getDbSqlSession().delete("bulkDeleteHistoricMilestoneInstancesForNonExistingCaseInstances", null, getManagedEntityClass());
     }
-    
+
+    @Override
+    public void bulkDeleteHistoricMilestoneInstancesByCaseInstanceIds(Collection<String> caseInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("caseInstanceIds", caseInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricMilestoneInstancesByCaseInstanceIds", parameters, getManagedEntityClass());
+    }
 }
@@ -12,7 +12,10 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.api.history.HistoricPlanItemInstance;
 import org.flowable.cmmn.api.runtime.PlanItemInstance;
@@ -82,4 +85,11 @@ public class MybatisHistoricPlanItemInstanceDataManager extends AbstractCmmnData
     public HistoricPlanItemInstanceEntity create(PlanItemInstance planItemInstance) {
         return new HistoricPlanItemInstanceEntityImpl(planItemInstance);
     }
+
+    @Override
+    public void bulkDeleteHistoricPlanItemInstancesByCaseInstanceIds(Collection<String> caseInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("caseInstanceIds", caseInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricPlanItemInstancesByCaseInstanceIds", parameters, getManagedEntityClass());
+    }
 }
@@ -12,7 +12,10 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.api.runtime.MilestoneInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
@@ -65,6 +68,13 @@ public class MybatisMilestoneInstanceDataManager extends AbstractCmmnDataManager
     public void deleteByCaseInstanceId(String caseInstanceId) {
         bulkDelete("deleteMilestoneInstanceByCaseInstanceId", milestoneInstanceByCaseInstanceIdCachedEntityMatcher, caseInstanceId);
     }
+
+    @Override
+    public void bulkDeleteByCaseInstanceIds(Collection<String> caseInstanceIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("caseInstanceIds", caseInstanceIds);
+        getDbSqlSession().delete("bulkDeleteMilestoneInstancesByCaseInstanceIds", params, MilestoneInstanceEntityImpl.class);
+    }
     
     public static class MilestoneInstanceByCaseInstanceIdCachedEntityMatcher extends CachedEntityMatcherAdapter<MilestoneInstanceEntity> {
 
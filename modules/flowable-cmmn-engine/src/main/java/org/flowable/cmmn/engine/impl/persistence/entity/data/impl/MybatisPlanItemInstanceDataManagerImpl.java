@@ -13,6 +13,7 @@
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -138,6 +139,13 @@ public class MybatisPlanItemInstanceDataManagerImpl extends AbstractCmmnDataMana
     public void deleteByCaseInstanceId(String caseInstanceId) {
         bulkDelete("deletePlanItemInstancesByCaseInstanceId", planItemInstanceByCaseInstanceIdCachedEntityMatcher, caseInstanceId);
     }
+
+    @Override
+    public void bulkDeleteByCaseInstanceIds(Collection<String> caseInstanceIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("caseInstanceIds", caseInstanceIds);
+        getDbSqlSession().delete("bulkDeletePlanItemInstancesByCaseInstanceIds", params, PlanItemInstanceEntityImpl.class);
+    }
     
     public static class PlanItemInstanceByCaseInstanceIdCachedEntityMatcher extends CachedEntityMatcherAdapter<PlanItemInstanceEntity> {
 
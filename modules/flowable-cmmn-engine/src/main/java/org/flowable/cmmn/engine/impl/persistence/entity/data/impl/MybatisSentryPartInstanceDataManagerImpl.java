@@ -12,7 +12,10 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntity;
@@ -65,6 +68,13 @@ public class MybatisSentryPartInstanceDataManagerImpl extends AbstractCmmnDataMa
     public void deleteByCaseInstanceId(String caseInstanceId) {
         bulkDelete("deleteSentryPartInstancesByCaseInstanceId", sentryPartByCaseInstanceIdEntityMatched, caseInstanceId);
     }
+
+    @Override
+    public void bulkDeleteByCaseInstanceIds(Collection<String> caseInstanceIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("caseInstanceIds", caseInstanceIds);
+        getDbSqlSession().delete("bulkDeleteSentryPartInstancesByCaseInstanceIds", params, SentryPartInstanceEntityImpl.class);
+    }
     
     
     public static class SentryPartByCaseInstanceIdEntityMatcher extends CachedEntityMatcherAdapter<SentryPartInstanceEntity> {
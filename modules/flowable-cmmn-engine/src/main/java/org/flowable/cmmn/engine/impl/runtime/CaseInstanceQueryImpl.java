@@ -820,6 +820,11 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
         return involvedGroups;
     }
 
+    @Override
+    protected boolean isIncludeRelatedData() {
+        return includeCaseVariables;
+    }
+
     public boolean isIncludeCaseVariables() {
         return includeCaseVariables;
     }
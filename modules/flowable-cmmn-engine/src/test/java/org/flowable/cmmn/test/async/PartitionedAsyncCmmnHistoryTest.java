@@ -0,0 +1,189 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.cmmn.api.history.HistoricCaseInstance;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.history.async.CaseInstanceHistoryPartitionKeyProvider;
+import org.flowable.cmmn.engine.impl.history.async.CmmnAsyncHistoryConstants;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.test.impl.CustomCmmnConfigurationFlowableTestCase;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.service.impl.asyncexecutor.PartitionedAsyncHistoryJobExecutor;
+import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
+import org.flowable.job.service.impl.history.async.AsyncHistoryJobNotApplicableException;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPartitionKeyProvider;
+import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.junit.After;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class PartitionedAsyncCmmnHistoryTest extends CustomCmmnConfigurationFlowableTestCase {
+
+    @Override
+    protected String getEngineName() {
+        return "PartitionedAsyncCmmnHistoryTest";
+    }
+
+    @Override
+    protected void configureConfiguration(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        cmmnEngineConfiguration.setAsyncHistoryEnabled(true);
+        cmmnEngineConfiguration.setAsyncExecutorActivate(false);
+        cmmnEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+        cmmnEngineConfiguration.setAsyncHistoryJsonGroupingEnabled(true);
+        cmmnEngineConfiguration.setAsyncHistoryJsonGroupingThreshold(1);
+        cmmnEngineConfiguration.setAsyncHistoryExecutorPartitioningEnabled(true);
+        cmmnEngineConfiguration.setAsyncHistoryExecutorPartitionCount(4);
+        cmmnEngineConfiguration.setAsyncFailedJobWaitTime(100);
+        cmmnEngineConfiguration.setDefaultFailedJobWaitTime(100);
+        cmmnEngineConfiguration.setAsyncHistoryExecutorNumberOfRetries(10);
+        cmmnEngineConfiguration.setAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime(100);
+    }
+
+    @After
+    public void resetClock() {
+        cmmnEngineConfiguration.getClock().reset();
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/async/PartitionedAsyncCmmnHistoryTest.testMultiStepCaseInstances.cmmn")
+    public void testPartitionKeyIsCaseInstanceId() throws Exception {
+        assertThat(cmmnEngineConfiguration.getAsyncHistoryExecutor()).isInstanceOf(PartitionedAsyncHistoryJobExecutor.class);
+        assertThat(cmmnEngineConfiguration.getJobServiceConfiguration().getAsyncHistoryPartitionKeyProvider())
+                .isInstanceOf(CaseInstanceHistoryPartitionKeyProvider.class);
+
+        String caseInstanceId = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("multiStepCase").start().getId();
+        for (int i = 0; i < 3; i++) {
+            cmmnTaskService.complete(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstanceId).singleResult().getId());
+        }
+
+        // The partition key is stored in the handler configuration of every history job of the case instance
+        List<HistoryJob> historyJobs = cmmnManagementService.createHistoryJobQuery().list();
+        assertThat(historyJobs).hasSize(4);
+        assertThat(historyJobs)
+                .extracting(historyJob -> ((HistoryJobEntity) historyJob).getJobHandlerConfiguration())
+                .containsOnly(caseInstanceId);
+
+        AsyncHistoryPartitionKeyProvider partitionKeyProvider = cmmnEngineConfiguration.getJobServiceConfiguration().getAsyncHistoryPartitionKeyProvider();
+        ObjectMapper objectMapper = cmmnEngineConfiguration.getObjectMapper();
+        Set<String> types = new HashSet<>();
+        for (HistoryJob historyJob : historyJobs) {
+            for (JsonNode historyNode : objectMapper.readTree(cmmnManagementService.getHistoryJobHistoryJson(historyJob.getId()))) {
+                String type = historyNode.get(HistoryJsonTransformer.FIELD_NAME_TYPE).asText();
+                ObjectNode data = (ObjectNode) historyNode.get(HistoryJsonTransformer.FIELD_NAME_DATA);
+                if (CmmnAsyncHistoryConstants.TYPE_CASE_INSTANCE_START.equals(type) || CmmnAsyncHistoryConstants.TYPE_CASE_INSTANCE_END.equals(type)) {
+                    assertThat(partitionKeyProvider.getPartitionKey(type, data)).isEqualTo(caseInstanceId);
+                    types.add(type);
+                }
+            }
+        }
+        assertThat(types).containsExactlyInAnyOrder(CmmnAsyncHistoryConstants.TYPE_CASE_INSTANCE_START, CmmnAsyncHistoryConstants.TYPE_CASE_INSTANCE_END);
+
+        waitForAsyncHistoryExecutorToProcessAllJobs();
+        assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().finished().count()).isEqualTo(1);
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/async/PartitionedAsyncCmmnHistoryTest.testMultiStepCaseInstances.cmmn")
+    public void testMultiStepCaseInstances() {
+        AsyncHistoryJobHandler asyncHistoryJobHandler = (AsyncHistoryJobHandler) cmmnEngineConfiguration.getHistoryJobHandlers()
+                .get(CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
+        NotApplicableCountingHistoryJobHandler countingHistoryJobHandler = new NotApplicableCountingHistoryJobHandler(asyncHistoryJobHandler);
+        cmmnEngineConfiguration.addHistoryJobHandler(countingHistoryJobHandler);
+        try {
+            // Every step is done at a later time, so the history jobs of the steps are acquired in order
+            Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+            cmmnEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+            List<String> caseInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                caseInstanceIds.add(cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("multiStepCase").start().getId());
+            }
+
+            for (int step = 1; step <= 3; step++) {
+                cmmnEngineConfiguration.getClock().setCurrentTime(Date.from(now.plusSeconds(step)));
+                for (Task task : cmmnTaskService.createTaskQuery().caseDefinitionKey("multiStepCase").list()) {
+                    cmmnTaskService.setVariable(task.getId(), "step", step);
+                    cmmnTaskService.complete(task.getId());
+                }
+            }
+            // One history job for every start, variable update and task completion
+            assertThat(cmmnManagementService.createHistoryJobQuery().count()).isEqualTo(10 + 3 * 10 * 2);
+
+            waitForAsyncHistoryExecutorToProcessAllJobs();
+
+            assertThat(countingHistoryJobHandler.getNotApplicableCount()).isZero();
+            assertThat(cmmnManagementService.createHistoryJobQuery().count()).isZero();
+            assertThat(cmmnManagementService.createDeadLetterJobQuery().count()).isZero();
+
+            assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().finished().list())
+                    .extracting(HistoricCaseInstance::getId)
+                    .containsExactlyInAnyOrderElementsOf(caseInstanceIds);
+            assertThat(cmmnHistoryService.createHistoricTaskInstanceQuery().finished().list())
+                    .hasSize(30)
+                    .extracting(HistoricTaskInstance::getTaskDefinitionKey)
+                    .containsOnly("taskA", "taskB", "taskC");
+            assertThat(cmmnHistoryService.createHistoricVariableInstanceQuery().variableName("step").list())
+                    .hasSize(10)
+                    .allSatisfy(variable -> assertThat(variable.getValue()).isEqualTo(3));
+
+        } finally {
+            cmmnEngineConfiguration.addHistoryJobHandler(asyncHistoryJobHandler);
+        }
+    }
+
+    protected static class NotApplicableCountingHistoryJobHandler extends AsyncHistoryJobHandler {
+
+        protected AtomicInteger notApplicableCount = new AtomicInteger();
+
+        public NotApplicableCountingHistoryJobHandler(AsyncHistoryJobHandler asyncHistoryJobHandler) {
+            super(asyncHistoryJobHandler.getType());
+            setHistoryJsonTransformers(asyncHistoryJobHandler.getHistoryJsonTransformers());
+            setDefaultHistoryJsonTransformer(asyncHistoryJobHandler.getDefaultHistoryJsonTransformer());
+            setAsyncHistoryJsonGroupingEnabled(asyncHistoryJobHandler.isAsyncHistoryJsonGroupingEnabled());
+        }
+
+        @Override
+        protected void processHistoryJson(CommandContext commandContext, HistoryJobEntity job, JsonNode historyNode) {
+            try {
+                super.processHistoryJson(commandContext, job, historyNode);
+            } catch (AsyncHistoryJobNotApplicableException e) {
+                notApplicableCount.incrementAndGet();
+                throw e;
+            }
+        }
+
+        public int getNotApplicableCount() {
+            return notApplicableCount.get();
+        }
+    }
+
+}
@@ -16,6 +16,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
@@ -127,6 +129,30 @@ public class CmmnEventRegistryConsumerTest extends FlowableEventRegistryCmmnTest
         assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(gonzoCase.getId()).list()).hasSize(2);
     }
 
+    @Test
+    @CmmnDeployment
+    public void testGenericEventListenerWithEventBatch() {
+        CaseInstance kermitCase = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("singleCorrelationCase")
+                .variable("customerIdVar", "kermit")
+                .start();
+        CaseInstance gonzoCase = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("singleCorrelationCase")
+                .variable("customerIdVar", "gonzo")
+                .start();
+
+        // The second kermit event must not trigger the event listener again, as its subscription was deleted by the first one
+        inboundEventChannelAdapter.triggerTestEventBatch("kermit", "kermit", "fozzie", "gonzo");
+
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(kermitCase.getId()).list())
+                .extracting(Task::getName)
+                .containsExactlyInAnyOrder("A", "B");
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(gonzoCase.getId()).list())
+                .extracting(Task::getName)
+                .containsExactlyInAnyOrder("A", "B");
+        assertThat(cmmnRuntimeService.createEventSubscriptionQuery().scopeType(ScopeTypes.CMMN).count()).isZero();
+    }
+
     @Test
     @CmmnDeployment(resources = {
             "org/flowable/cmmn/test/eventregistry/CmmnEventRegistryConsumerTest.testGenericEventListenerNoCorrelation.cmmn",
@@ -414,7 +440,27 @@ public class CmmnEventRegistryConsumerTest extends FlowableEventRegistryCmmnTest
 
         public void triggerTestEvent(String customerId, String orderId) {
             ObjectMapper objectMapper = new ObjectMapper();
+            try {
+                eventRegistry.eventReceived(inboundChannelModel, objectMapper.writeValueAsString(createTestEvent(objectMapper, customerId, orderId)));
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        public void triggerTestEventBatch(String... customerIds) {
+            ObjectMapper objectMapper = new ObjectMapper();
+            List<ByteBuffer> events = new ArrayList<>();
+            try {
+                for (String customerId : customerIds) {
+                    events.add(ByteBuffer.wrap(objectMapper.writeValueAsBytes(createTestEvent(objectMapper, customerId, null))));
+                }
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+            eventRegistry.eventsReceived(inboundChannelModel, events);
+        }
 
+        protected ObjectNode createTestEvent(ObjectMapper objectMapper, String customerId, String orderId) {
             ObjectNode json = objectMapper.createObjectNode();
             json.put("type", "myEvent");
             if (customerId != null) {
@@ -426,11 +472,7 @@ public class CmmnEventRegistryConsumerTest extends FlowableEventRegistryCmmnTest
             }
             json.put("payload1", "Hello World");
             json.put("payload2", new Random().nextInt());
-            try {
-                eventRegistry.eventReceived(inboundChannelModel, objectMapper.writeValueAsString(json));
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException(e);
-            }
+            return json;
         }
 
     }
@@ -25,6 +25,7 @@ import org.flowable.cmmn.api.CmmnTaskService;
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupJobHandler;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupPartJobHandler;
 import org.flowable.cmmn.engine.test.CmmnConfigurationResource;
 import org.flowable.cmmn.engine.test.CmmnDeployment;
 import org.flowable.cmmn.engine.test.FlowableCmmnTest;
@@ -103,4 +104,69 @@ public class HistoricDataEngineDeleteTest {
             cmmnEngineConfiguration.resetClock();
         }
     }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/human-task-milestone-model.cmmn")
+    public void testHistoryCleanupInParts(CmmnEngineConfiguration cmmnEngineConfiguration, CmmnRuntimeService cmmnRuntimeService,
+            CmmnHistoryService cmmnHistoryService, CmmnTaskService cmmnTaskService, CmmnManagementService cmmnManagementService) {
+
+        try {
+            cmmnEngineConfiguration.setEnableHistoryCleaningBatch(true);
+            cmmnEngineConfiguration.setHistoryCleaningBatchPartSize(3);
+            Clock clock = cmmnEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            List<String> caseInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneTaskCase").start();
+                caseInstanceIds.add(caseInstance.getId());
+                cmmnRuntimeService.setVariable(caseInstance.getId(), "testVar", "testValue" + (i + 1));
+            }
+
+            if (cmmnEngineConfiguration.getHistoryLevel() != HistoryLevel.NONE) {
+
+                for (int i = 0; i < 10; i++) {
+                    Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstanceIds.get(i)).singleResult();
+                    cmmnTaskService.complete(task.getId());
+                }
+
+                cmmnManagementService.handleHistoryCleanupTimerJob();
+
+                Job executableJob = cmmnManagementService.moveTimerToExecutableJob(
+                        cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                cmmnManagementService.executeJob(executableJob.getId());
+
+                // The cleanup job only schedules the first part
+                assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().count()).isEqualTo(20);
+
+                // 4 parts and the removal of the related data
+                int executedJobs = 0;
+                Job partJob = cmmnManagementService.createJobQuery().handlerType(CmmnHistoryCleanupPartJobHandler.TYPE).singleResult();
+                while (partJob != null) {
+                    cmmnManagementService.executeJob(partJob.getId());
+                    executedJobs++;
+                    partJob = cmmnManagementService.createJobQuery().handlerType(CmmnHistoryCleanupPartJobHandler.TYPE).singleResult();
+                }
+                assertThat(executedJobs).isEqualTo(5);
+
+                assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().count()).isEqualTo(10);
+                assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().finished().count()).isZero();
+                assertThat(cmmnHistoryService.createHistoricTaskInstanceQuery().count()).isEqualTo(10);
+                for (int i = 0; i < 10; i++) {
+                    assertThat(cmmnHistoryService.createHistoricVariableInstanceQuery().caseInstanceId(caseInstanceIds.get(i)).count()).isZero();
+                    assertThat(cmmnHistoryService.createHistoricMilestoneInstanceQuery().milestoneInstanceCaseInstanceId(caseInstanceIds.get(i)).count()).isZero();
+                }
+
+                cmmnManagementService
+                        .deleteTimerJob(cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+            }
+
+        } finally {
+            cmmnEngineConfiguration.setEnableHistoryCleaningBatch(false);
+            cmmnEngineConfiguration.setHistoryCleaningBatchPartSize(500);
+            cmmnEngineConfiguration.resetClock();
+        }
+    }
 }
\ No newline at end of file
@@ -13,10 +13,12 @@
 package org.flowable.cmmn.test.history;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -24,6 +26,7 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.history.HistoricPlanItemInstance;
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.api.runtime.PlanItemInstance;
@@ -31,6 +34,7 @@ import org.flowable.cmmn.api.runtime.PlanItemInstanceState;
 import org.flowable.cmmn.engine.test.CmmnDeployment;
 import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
 import org.flowable.cmmn.engine.test.impl.CmmnHistoryTestHelper;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.junit.Test;
 
@@ -359,4 +363,48 @@ public class HistoryServiceTest extends FlowableCmmnTestCase {
             ).containsOnly(fixTime);
         }
     }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/one-human-task-model.cmmn")
+    public void testBulkDeleteHistoricCaseInstances() {
+        List<String> caseInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                    .caseDefinitionKey("oneTaskCase")
+                    .variable("var", "value" + i)
+                    .start();
+            caseInstanceIds.add(caseInstance.getId());
+        }
+
+        if (CmmnHistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, cmmnEngineConfiguration)) {
+            // Running case instances are rejected, nothing is deleted
+            assertThatThrownBy(() -> cmmnHistoryService.bulkDeleteHistoricCaseInstances(caseInstanceIds))
+                    .isInstanceOf(FlowableException.class)
+                    .hasMessageContaining("still running");
+            assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().count()).isEqualTo(3);
+
+            for (String caseInstanceId : caseInstanceIds) {
+                cmmnRuntimeService.terminateCaseInstance(caseInstanceId);
+            }
+
+            cmmnHistoryService.bulkDeleteHistoricCaseInstances(caseInstanceIds.subList(0, 2));
+
+            assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().list())
+                    .extracting(HistoricCaseInstance::getId)
+                    .containsExactly(caseInstanceIds.get(2));
+
+            for (String caseInstanceId : caseInstanceIds.subList(0, 2)) {
+                assertThat(cmmnHistoryService.createHistoricPlanItemInstanceQuery().planItemInstanceCaseInstanceId(caseInstanceId).count()).isZero();
+                assertThat(cmmnHistoryService.createHistoricVariableInstanceQuery().caseInstanceId(caseInstanceId).count()).isZero();
+                assertThat(cmmnHistoryService.getHistoricIdentityLinksForCaseInstance(caseInstanceId)).isEmpty();
+            }
+
+            String remainingCaseInstanceId = caseInstanceIds.get(2);
+            assertThat(cmmnHistoryService.createHistoricPlanItemInstanceQuery().planItemInstanceCaseInstanceId(remainingCaseInstanceId).count()).isEqualTo(1);
+            assertThat(cmmnHistoryService.createHistoricVariableInstanceQuery().caseInstanceId(remainingCaseInstanceId).count()).isEqualTo(1);
+
+            cmmnHistoryService.bulkDeleteHistoricCaseInstances(caseInstanceIds);
+            assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().count()).isZero();
+        }
+    }
 }
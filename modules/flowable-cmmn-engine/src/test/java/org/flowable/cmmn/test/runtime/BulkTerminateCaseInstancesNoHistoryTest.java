@@ -0,0 +1,156 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.test.impl.CustomCmmnConfigurationFlowableTestCase;
+import org.flowable.common.engine.api.delegate.event.AbstractFlowableEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEntityEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.identitylink.api.IdentityLink;
+import org.flowable.identitylink.api.IdentityLinkType;
+import org.flowable.task.api.Task;
+import org.junit.Test;
+
+public class BulkTerminateCaseInstancesNoHistoryTest extends CustomCmmnConfigurationFlowableTestCase {
+
+    @Override
+    protected String getEngineName() {
+        return "cmmnEngineWithoutHistory";
+    }
+
+    @Override
+    protected void configureConfiguration(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        // Case instances are only deleted with set-based statements when no history needs to be recorded
+        cmmnEngineConfiguration.setHistoryLevel(HistoryLevel.NONE);
+    }
+
+    @Test
+    @CmmnDeployment
+    public void testBulkTerminateCaseInstances() {
+        long byteArrayCount = cmmnManagementService.getTableCounts().get("ACT_GE_BYTEARRAY");
+
+        List<String> caseInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            caseInstanceIds.add(startCaseInstanceWithRuntimeData().getId());
+        }
+        CaseInstance otherCaseInstance = startCaseInstanceWithRuntimeData();
+        assertThat(cmmnManagementService.getTableCounts().get("ACT_GE_BYTEARRAY")).isEqualTo(byteArrayCount + 8);
+
+        List<String> idsToTerminate = new ArrayList<>(caseInstanceIds);
+        idsToTerminate.add("unknown");
+        cmmnRuntimeService.bulkTerminateCaseInstances(idsToTerminate);
+
+        assertThat(cmmnRuntimeService.createCaseInstanceQuery().list())
+                .extracting(CaseInstance::getId)
+                .containsExactly(otherCaseInstance.getId());
+        assertThat(cmmnRuntimeService.createPlanItemInstanceQuery().list())
+                .extracting(planItemInstance -> planItemInstance.getCaseInstanceId())
+                .containsOnly(otherCaseInstance.getId());
+        assertThat(cmmnTaskService.createTaskQuery().list())
+                .extracting(Task::getScopeId)
+                .containsOnly(otherCaseInstance.getId());
+        assertThat(cmmnManagementService.createTimerJobQuery().count()).isEqualTo(1);
+        assertThat(cmmnRuntimeService.getVariables(otherCaseInstance.getId())).hasSize(3);
+        assertThat(cmmnRuntimeService.getIdentityLinksForCaseInstance(otherCaseInstance.getId()))
+                .extracting(IdentityLink::getUserId)
+                .containsOnly("kermit", "gonzo");
+        assertThat(cmmnManagementService.getTableCounts().get("ACT_GE_BYTEARRAY")).isEqualTo(byteArrayCount + 2);
+
+        cmmnRuntimeService.bulkTerminateCaseInstances(Collections.singletonList(otherCaseInstance.getId()));
+
+        Map<String, Long> tableCounts = cmmnManagementService.getTableCounts();
+        assertThat(tableCounts.get("ACT_CMMN_RU_CASE_INST")).isZero();
+        assertThat(tableCounts.get("ACT_CMMN_RU_PLAN_ITEM_INST")).isZero();
+        assertThat(tableCounts.get("ACT_CMMN_RU_SENTRY_PART_INST")).isZero();
+        assertThat(tableCounts.get("ACT_CMMN_RU_MIL_INST")).isZero();
+        assertThat(tableCounts.get("ACT_RU_TASK")).isZero();
+        assertThat(tableCounts.get("ACT_RU_VARIABLE")).isZero();
+        assertThat(tableCounts.get("ACT_RU_IDENTITYLINK")).isZero();
+        assertThat(tableCounts.get("ACT_RU_TIMER_JOB")).isZero();
+        assertThat(tableCounts.get("ACT_GE_BYTEARRAY")).isEqualTo(byteArrayCount);
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/runtime/BulkTerminateCaseInstancesNoHistoryTest.testBulkTerminateCaseInstances.cmmn")
+    public void testBulkTerminateCaseInstancesWithEventListener() {
+        List<String> caseInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            caseInstanceIds.add(startCaseInstanceWithRuntimeData().getId());
+        }
+
+        EntityDeletedEventListener listener = new EntityDeletedEventListener();
+        cmmnEngineConfiguration.getEventDispatcher().addEventListener(listener, FlowableEngineEventType.ENTITY_DELETED);
+        try {
+            cmmnRuntimeService.bulkTerminateCaseInstances(caseInstanceIds);
+
+            // The event listener needs the case instances to be terminated through the agenda
+            assertThat(listener.deletedEntities)
+                    .filteredOn(entity -> entity instanceof CaseInstance)
+                    .extracting(entity -> ((CaseInstance) entity).getId())
+                    .containsExactlyInAnyOrderElementsOf(caseInstanceIds);
+        } finally {
+            cmmnEngineConfiguration.getEventDispatcher().removeEventListener(listener);
+        }
+
+        assertThat(cmmnRuntimeService.createCaseInstanceQuery().count()).isZero();
+        assertThat(cmmnManagementService.getTableCounts().get("ACT_RU_VARIABLE")).isZero();
+    }
+
+    protected CaseInstance startCaseInstanceWithRuntimeData() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("bulkTerminateCase")
+                .variable("stringVar", "test")
+                .variable("longStringVar", StringUtils.repeat("a", 5000))
+                .variable("serializableVar", new ArrayList<>(Arrays.asList("one", "two")))
+                .start();
+        cmmnRuntimeService.addUserIdentityLink(caseInstance.getId(), "kermit", IdentityLinkType.PARTICIPANT);
+
+        Task taskA = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).taskName("Task A").singleResult();
+        cmmnTaskService.complete(taskA.getId());
+
+        Task taskB = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).taskName("Task B").singleResult();
+        cmmnTaskService.addUserIdentityLink(taskB.getId(), "gonzo", IdentityLinkType.CANDIDATE);
+        cmmnTaskService.setVariableLocal(taskB.getId(), "taskVar", "test");
+        return caseInstance;
+    }
+
+    protected static class EntityDeletedEventListener extends AbstractFlowableEventListener {
+
+        protected List<Object> deletedEntities = new ArrayList<>();
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+            deletedEntities.add(((FlowableEntityEvent) event).getEntity());
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return true;
+        }
+    }
+
+}
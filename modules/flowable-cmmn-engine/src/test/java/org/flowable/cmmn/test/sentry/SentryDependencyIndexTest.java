@@ -0,0 +1,114 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.sentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.flowable.cmmn.api.repository.CaseDefinition;
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.impl.criteria.PlanItemLifeCycleEvent;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
+import org.flowable.cmmn.engine.impl.repository.CaseDefinitionUtil;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.PlanItemTransition;
+import org.flowable.task.api.Task;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SentryDependencyIndexTest extends FlowableCmmnTestCase {
+
+    @Before
+    public void enableSentryDependencyIndex() {
+        cmmnEngineConfiguration.setSentryDependencyIndexEnabled(true);
+        addDeploymentForAutoCleanup(cmmnRepositoryService.createDeployment()
+                .addClasspathResource("org/flowable/cmmn/test/sentry/SentryDependencyIndexTest.testSentryDependencyIndex.cmmn")
+                .deploy()
+                .getId());
+    }
+
+    @After
+    public void disableSentryDependencyIndex() {
+        cmmnEngineConfiguration.setSentryDependencyIndexEnabled(false);
+    }
+
+    @Test
+    public void testIndexIsBuiltOnDeploy() {
+        CaseDefinition caseDefinition = cmmnRepositoryService.createCaseDefinitionQuery().caseDefinitionKey("testSentryDependencyIndex").singleResult();
+        SentryDependencyIndex sentryDependencyIndex = cmmnEngineConfiguration.getCommandExecutor().execute(
+                commandContext -> CaseDefinitionUtil.getSentryDependencyIndex(caseDefinition.getId()));
+
+        // The entry criteria of D and E and the exit criterion of the plan model, F has an if part
+        assertThat(sentryDependencyIndex).isNotNull();
+        assertThat(sentryDependencyIndex.getOnPartOnlyCriteriaCount()).isEqualTo(3);
+
+        // All plan items except F, of which the entry criterion has an if part
+        assertThat(sentryDependencyIndex.getOnPartOnlyPlanItemCount()).isEqualTo(5);
+
+        Case caze = cmmnRepositoryService.getCmmnModel(caseDefinition.getId()).getPrimaryCase();
+        PlanItem planItemA = caze.getPlanModel().findPlanItemInPlanFragmentOrUpwards("planItemA");
+        PlanItem planItemB = caze.getPlanModel().findPlanItemInPlanFragmentOrUpwards("planItemB");
+        PlanItem planItemD = caze.getPlanModel().findPlanItemInPlanFragmentOrUpwards("planItemD");
+        PlanItem planItemE = caze.getPlanModel().findPlanItemInPlanFragmentOrUpwards("planItemE");
+        PlanItem planItemF = caze.getPlanModel().findPlanItemInPlanFragmentOrUpwards("planItemF");
+        PlanItemLifeCycleEvent completeA = new PlanItemLifeCycleEvent(planItemA, PlanItemTransition.COMPLETE);
+        PlanItemLifeCycleEvent completeB = new PlanItemLifeCycleEvent(planItemB, PlanItemTransition.COMPLETE);
+
+        assertThat(sentryDependencyIndex.isAffectedBy(planItemD, completeA)).isTrue();
+        assertThat(sentryDependencyIndex.isAffectedBy(planItemD, completeB)).isFalse();
+        assertThat(sentryDependencyIndex.isAffectedBy(planItemD, null)).isFalse();
+        assertThat(sentryDependencyIndex.isAffectedBy(planItemE, completeB)).isTrue();
+        assertThat(sentryDependencyIndex.isAffectedBy(planItemA, completeB)).isFalse();
+        assertThat(sentryDependencyIndex.isAffectedBy(planItemF, completeB)).isTrue();
+        assertThat(sentryDependencyIndex.isAffectedBy(planItemF, null)).isTrue();
+
+        assertThat(sentryDependencyIndex.hasMultipleOnPartCriteria(planItemD)).isFalse();
+        assertThat(sentryDependencyIndex.hasMultipleOnPartCriteria(planItemE)).isTrue();
+    }
+
+    @Test
+    public void testSentryDependencyIndex() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("testSentryDependencyIndex").start();
+        assertThat(getTaskNames(caseInstance)).containsExactly("A", "B", "C");
+
+        // Satisfies one of the two on parts of the entry criterion of E
+        cmmnTaskService.complete(getTask(caseInstance, "B").getId());
+        assertThat(getTaskNames(caseInstance)).containsExactly("A", "C");
+
+        // An evaluation without lifecycle event only satisfies the if part sentry
+        cmmnRuntimeService.setVariable(caseInstance.getId(), "goF", true);
+        assertThat(getTaskNames(caseInstance)).containsExactly("A", "C", "F");
+
+        // Satisfies the single on part of D and the remaining on part of E
+        cmmnTaskService.complete(getTask(caseInstance, "A").getId());
+        assertThat(getTaskNames(caseInstance)).containsExactly("C", "D", "E", "F");
+
+        cmmnTaskService.complete(getTask(caseInstance, "C").getId());
+        assertCaseInstanceEnded(caseInstance);
+    }
+
+    protected List<String> getTaskNames(CaseInstance caseInstance) {
+        return cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).orderByTaskName().asc().list()
+                .stream().map(Task::getName).collect(Collectors.toList());
+    }
+
+    protected Task getTask(CaseInstance caseInstance, String name) {
+        return cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).taskName(name).singleResult();
+    }
+
+}
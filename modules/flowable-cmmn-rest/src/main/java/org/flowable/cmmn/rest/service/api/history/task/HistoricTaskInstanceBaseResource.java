@@ -27,6 +27,7 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.rest.api.DataResponse;
+import org.flowable.common.rest.api.SearchAfterProperties;
 import org.flowable.task.api.history.HistoricTaskInstance;
 import org.flowable.task.api.history.HistoricTaskInstanceQuery;
 import org.flowable.task.service.impl.HistoricTaskInstanceQueryProperty;
@@ -62,6 +63,12 @@ public class HistoricTaskInstanceBaseResource {
         allowedSortProperties.put("startTime", HistoricTaskInstanceQueryProperty.START);
     }
 
+    private static SearchAfterProperties<HistoricTaskInstance> searchAfterProperties = new SearchAfterProperties<>(HistoricTaskInstance::getId)
+            .sortValue("taskInstanceId", HistoricTaskInstance::getId)
+            .sortValue("start", HistoricTaskInstance::getStartTime)
+            .sortValue("startTime", HistoricTaskInstance::getStartTime)
+            .sortValue("priority", HistoricTaskInstance::getPriority);
+
     @Autowired
     protected CmmnRestResponseFactory restResponseFactory;
 
@@ -247,7 +254,7 @@ public class HistoricTaskInstanceBaseResource {
         }
 
         return paginateList(allRequestParams, queryRequest, query, "taskInstanceId", allowedSortProperties,
-            restResponseFactory::createHistoricTaskInstanceResponseList);
+            searchAfterProperties, restResponseFactory::createHistoricTaskInstanceResponseList);
     }
     
     protected HistoricTaskInstance getHistoricTaskInstanceFromRequest(String taskId) {
@@ -15,6 +15,9 @@ package org.flowable.common.rest.api;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
 /**
  * @author Tijs Rademakers
  */
@@ -26,6 +29,8 @@ public class DataResponse<T> {
     String sort;
     String order;
     int size;
+    @JsonInclude(Include.NON_NULL)
+    String nextSearchAfter;
 
     public List<T> getData() {
         return data;
@@ -75,4 +80,15 @@ public class DataResponse<T> {
     public void setSize(int size) {
         this.size = size;
     }
+
+    /**
+     * @return the token to pass as search after to get the next page, null when there is no next page or when keyset pagination is not used.
+     */
+    public String getNextSearchAfter() {
+        return nextSearchAfter;
+    }
+
+    public void setNextSearchAfter(String nextSearchAfter) {
+        this.nextSearchAfter = nextSearchAfter;
+    }
 }
@@ -14,6 +14,7 @@ package org.flowable.common.rest.api;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.Query;
@@ -56,6 +57,25 @@ public interface PaginateListUtil {
      */
     static <RES, REQ> DataResponse<RES> paginateList(Map<String, String> requestParams, PaginateRequest paginateRequest, Query<?, REQ> query,
         String defaultSort, Map<String, QueryProperty> properties, ListProcessor<REQ, RES> listProcessor) {
+        return paginateList(requestParams, paginateRequest, query, defaultSort, properties, null, listProcessor);
+    }
+
+    /**
+     * Uses the pagination parameters form the request and makes sure to order the result and set all pagination attributes for the response to render.
+     * Supports keyset pagination with the 'searchAfter' parameter for the given search after properties.
+     *
+     * @param requestParams The request containing the pagination parameters
+     * @param paginateRequest The paginated request that can be used to get the parameters from
+     * @param query The query to get the paged list from
+     * @param defaultSort The default sort column (the rest attribute) that later will be mapped to an internal engine name
+     * @param properties The sort properties
+     * @param searchAfterProperties The sort properties that can be used for keyset pagination, null when keyset pagination is not supported
+     * @param listProcessor The processor that would convert the result elements of the query into the response elements
+     * @param <REQ> The type returned by the {@code query}
+     * @param <RES> The type of the response
+     */
+    static <RES, REQ> DataResponse<RES> paginateList(Map<String, String> requestParams, PaginateRequest paginateRequest, Query<?, REQ> query,
+        String defaultSort, Map<String, QueryProperty> properties, SearchAfterProperties<REQ> searchAfterProperties, ListProcessor<REQ, RES> listProcessor) {
         if (paginateRequest == null) {
             paginateRequest = new PaginateRequest();
         }
@@ -77,7 +97,11 @@ public interface PaginateListUtil {
             paginateRequest.setSort(requestParams.get("sort"));
         }
 
-        return paginateList(paginateRequest, query, defaultSort, properties, listProcessor);
+        if (paginateRequest.getSearchAfter() == null) {
+            paginateRequest.setSearchAfter(requestParams.get("searchAfter"));
+        }
+
+        return paginateList(paginateRequest, query, defaultSort, properties, searchAfterProperties, listProcessor);
     }
 
     /**
@@ -93,6 +117,26 @@ public interface PaginateListUtil {
      */
     static <RES, REQ> DataResponse<RES> paginateList(PaginateRequest paginateRequest, Query<?, REQ> query, String defaultSort,
         Map<String, QueryProperty> properties, ListProcessor<REQ, RES> listProcessor) {
+        return paginateList(paginateRequest, query, defaultSort, properties, null, listProcessor);
+    }
+
+    /**
+     * Uses the pagination attributes perform the querying and render the response.
+     * When the request has a search after value, keyset pagination is used instead of the start: the results after the row of the search after token
+     * are selected, and the response holds the token for the next page. The total is not calculated in that case, as counting is as expensive
+     * as the deep pages that keyset pagination avoids, it is set to -1.
+     *
+     * @param paginateRequest The paginated request that is used to get the pagination parameters from
+     * @param query The query to get the paged list from
+     * @param defaultSort The default sort column (the rest attribute) that later will be mapped to an internal engine name
+     * @param properties The sort properties
+     * @param searchAfterProperties The sort properties that can be used for keyset pagination, null when keyset pagination is not supported
+     * @param listProcessor The processor that would convert the result elements of the query into the response elements
+     * @param <REQ> The type returned by the {@code query}
+     * @param <RES> The type of the response
+     */
+    static <RES, REQ> DataResponse<RES> paginateList(PaginateRequest paginateRequest, Query<?, REQ> query, String defaultSort,
+        Map<String, QueryProperty> properties, SearchAfterProperties<REQ> searchAfterProperties, ListProcessor<REQ, RES> listProcessor) {
         // Use defaults for paging, if not set in the PaginationRequest, nor in the URL
         Integer start = paginateRequest.getStart();
         if (start == null || start < 0) {
@@ -114,20 +158,10 @@ public interface PaginateListUtil {
         }
 
         // Sort order
-        if (sort != null && properties != null && !properties.isEmpty()) {
-            QueryProperty queryProperty = properties.get(sort);
-            if (queryProperty == null) {
-                throw new FlowableIllegalArgumentException("Value for param 'sort' is not valid, '" + sort + "' is not a valid property");
-            }
+        orderQuery(query, sort, order, properties);
 
-            query.orderBy(queryProperty);
-            if ("asc".equals(order)) {
-                query.asc();
-            } else if ("desc".equals(order)) {
-                query.desc();
-            } else {
-                throw new FlowableIllegalArgumentException("Value for param 'order' is not valid : '" + order + "', must be 'asc' or 'desc'");
-            }
+        if (paginateRequest.getSearchAfter() != null) {
+            return searchAfterList(paginateRequest.getSearchAfter(), query, sort, order, size, searchAfterProperties, listProcessor);
         }
 
         DataResponse<RES> response = new DataResponse<>();
@@ -149,4 +183,85 @@ public interface PaginateListUtil {
         return response;
     }
 
+    /**
+     * Gets the page after the row of the search after token and renders the response, with the token for the next page when the page is full.
+     *
+     * @param searchAfter The search after token of the previous page, or an empty string for the first page
+     * @param query The ordered query to get the page from
+     * @param sort The sort column (the rest attribute) the query is ordered on
+     * @param order The sort order, 'asc' or 'desc'
+     * @param size The size of the page
+     * @param searchAfterProperties The sort properties that can be used for keyset pagination
+     * @param listProcessor The processor that would convert the result elements of the query into the response elements
+     * @param <REQ> The type returned by the {@code query}
+     * @param <RES> The type of the response
+     */
+    static <RES, REQ> DataResponse<RES> searchAfterList(String searchAfter, Query<?, REQ> query, String sort, String order, int size,
+        SearchAfterProperties<REQ> searchAfterProperties, ListProcessor<REQ, RES> listProcessor) {
+        if (searchAfterProperties == null) {
+            throw new FlowableIllegalArgumentException("Param 'searchAfter' is not supported for this resource");
+        }
+
+        Function<REQ, Object> sortValueProvider = searchAfterProperties.getSortValueProvider(sort);
+        if (sortValueProvider == null) {
+            throw new FlowableIllegalArgumentException("Value for param 'sort' is not valid with param 'searchAfter', '" + sort + "' can't be used for search after pagination");
+        }
+
+        if (searchAfter.isEmpty()) {
+            query.searchAfter();
+        } else {
+            SearchAfterToken token = SearchAfterToken.decode(searchAfter);
+            if (!sort.equals(token.getSort()) || !order.equals(token.getOrder())) {
+                throw new FlowableIllegalArgumentException("Value for param 'searchAfter' is not valid, the token was created for a different sort or order");
+            }
+            query.searchAfter(token.getValue(), token.getId());
+        }
+
+        List<REQ> results = query.listPage(0, size);
+
+        DataResponse<RES> response = new DataResponse<>();
+        response.setStart(0);
+        response.setSort(sort);
+        response.setOrder(order);
+        response.setTotal(-1);
+
+        if (size > 0 && results.size() == size) {
+            REQ lastResult = results.get(results.size() - 1);
+            response.setNextSearchAfter(new SearchAfterToken(sort, order, sortValueProvider.apply(lastResult),
+                searchAfterProperties.getIdProvider().apply(lastResult)).encode());
+        }
+
+        List<RES> list = listProcessor.processList(results);
+        response.setSize(list.size());
+        response.setData(list);
+
+        return response;
+    }
+
+    /**
+     * Orders the query on the query property of the given sort attribute.
+     *
+     * @param query The query to order
+     * @param sort The sort column (the rest attribute) that is mapped to an internal engine name
+     * @param order The sort order, 'asc' or 'desc'
+     * @param properties The sort properties
+     */
+    static void orderQuery(Query<?, ?> query, String sort, String order, Map<String, QueryProperty> properties) {
+        if (sort != null && properties != null && !properties.isEmpty()) {
+            QueryProperty queryProperty = properties.get(sort);
+            if (queryProperty == null) {
+                throw new FlowableIllegalArgumentException("Value for param 'sort' is not valid, '" + sort + "' is not a valid property");
+            }
+
+            query.orderBy(queryProperty);
+            if ("asc".equals(order)) {
+                query.asc();
+            } else if ("desc".equals(order)) {
+                query.desc();
+            } else {
+                throw new FlowableIllegalArgumentException("Value for param 'order' is not valid : '" + order + "', must be 'asc' or 'desc'");
+            }
+        }
+    }
+
 }
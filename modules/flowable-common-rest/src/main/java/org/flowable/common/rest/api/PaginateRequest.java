@@ -29,6 +29,8 @@ public class PaginateRequest {
 
     protected String order;
 
+    protected String searchAfter;
+
     public Integer getStart() {
         return start;
     }
@@ -60,4 +62,15 @@ public class PaginateRequest {
     public void setOrder(String order) {
         this.order = order;
     }
+
+    public String getSearchAfter() {
+        return searchAfter;
+    }
+
+    /**
+     * Switches to keyset pagination: an empty value selects the first page, the search after token of a response selects the next page.
+     */
+    public void setSearchAfter(String searchAfter) {
+        this.searchAfter = searchAfter;
+    }
 }
@@ -0,0 +1,47 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.rest.api;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Describes how a paginated list resource supports keyset ("search after") pagination: how the id and the sort values are read from a result.
+ * Only the sort properties registered here can be used with a search after token, which should be properties of which the value is never null.
+ *
+ * @param <T> The type returned by the query
+ */
+public class SearchAfterProperties<T> {
+
+    protected final Function<T, String> idProvider;
+    protected final Map<String, Function<T, Object>> sortValueProviders = new HashMap<>();
+
+    public SearchAfterProperties(Function<T, String> idProvider) {
+        this.idProvider = idProvider;
+    }
+
+    public SearchAfterProperties<T> sortValue(String sort, Function<T, Object> sortValueProvider) {
+        sortValueProviders.put(sort, sortValueProvider);
+        return this;
+    }
+
+    public Function<T, String> getIdProvider() {
+        return idProvider;
+    }
+
+    public Function<T, Object> getSortValueProvider(String sort) {
+        return sortValueProviders.get(sort);
+    }
+
+}
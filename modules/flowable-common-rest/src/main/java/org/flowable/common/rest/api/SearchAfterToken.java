@@ -0,0 +1,116 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.rest.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+
+/**
+ * The continuation token of keyset ("search after") pagination. It holds the sort, the order and the sort value and id
+ * of the last result of a page, and is passed to the client as an opaque, URL-safe string.
+ */
+public class SearchAfterToken {
+
+    protected static final String SEPARATOR = "\n";
+
+    protected final String sort;
+    protected final String order;
+    protected final String id;
+    protected final Object value;
+
+    public SearchAfterToken(String sort, String order, Object value, String id) {
+        this.sort = sort;
+        this.order = order;
+        this.value = value;
+        this.id = id;
+    }
+
+    public String encode() {
+        // The value comes last, as it is the only part that can contain the separator
+        String token = sort + SEPARATOR + order + SEPARATOR + id + SEPARATOR + encodeValue(value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchAfterToken decode(String encodedToken) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(encodedToken), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+        } catch (IllegalArgumentException e) {
+            throw new FlowableIllegalArgumentException("Value for param 'searchAfter' is not a valid token");
+        }
+
+        if (parts.length != 4 || parts[3].isEmpty()) {
+            throw new FlowableIllegalArgumentException("Value for param 'searchAfter' is not a valid token");
+        }
+        return new SearchAfterToken(parts[0], parts[1], decodeValue(parts[3]), parts[2]);
+    }
+
+    protected static String encodeValue(Object value) {
+        if (value == null) {
+            return "N";
+        } else if (value instanceof String) {
+            return "S" + value;
+        } else if (value instanceof Date) {
+            return "D" + ((Date) value).getTime();
+        } else if (value instanceof Integer) {
+            return "I" + value;
+        } else if (value instanceof Long) {
+            return "L" + value;
+        } else {
+            throw new FlowableIllegalArgumentException("Search after pagination does not support sort values of type " + value.getClass().getName());
+        }
+    }
+
+    protected static Object decodeValue(String encodedValue) {
+        String value = encodedValue.substring(1);
+        try {
+            switch (encodedValue.charAt(0)) {
+                case 'N':
+                    return null;
+                case 'S':
+                    return value;
+                case 'D':
+                    return new Date(Long.parseLong(value));
+                case 'I':
+                    return Integer.valueOf(value);
+                case 'L':
+                    return Long.valueOf(value);
+                default:
+                    throw new FlowableIllegalArgumentException("Value for param 'searchAfter' is not a valid token");
+            }
+
+        } catch (NumberFormatException e) {
+            throw new FlowableIllegalArgumentException("Value for param 'searchAfter' is not a valid token");
+        }
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public String getOrder() {
+        return order;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+}
@@ -0,0 +1,104 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.rest.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.Query;
+import org.flowable.common.engine.api.query.QueryProperty;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A util class that can be used to stream all the results of a query as a JSON array, without holding them in memory.
+ *
+ * The results are read with keyset ("search after") pagination: every batch is selected with its own query, after the last result of the previous batch.
+ * No database transaction or result set is kept open while a batch is processed and written to the response.
+ */
+public interface StreamListUtil {
+
+    int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * Orders the query and creates a response body that writes all the results of the query as a JSON array.
+     * The results are read and written in batches while the response body is written.
+     *
+     * @param requestParams The request containing the sort and order parameters
+     * @param paginateRequest The paginated request that can be used to get the sort parameters from, the start and size are ignored
+     * @param query The query to stream the results of
+     * @param defaultSort The default sort column (the rest attribute) that later will be mapped to an internal engine name
+     * @param properties The sort properties
+     * @param searchAfterProperties The sort properties that can be used for keyset pagination, only those can be used to stream the results
+     * @param listProcessor The processor that would convert the result elements of the query into the response elements.
+     *                      It is called while the response is written, it can't rely on the current request
+     * @param objectMapper The object mapper used to write the response elements
+     * @param <REQ> The type returned by the {@code query}
+     * @param <RES> The type of the response
+     */
+    static <RES, REQ> StreamingResponseBody streamList(Map<String, String> requestParams, PaginateRequest paginateRequest, Query<?, REQ> query,
+        String defaultSort, Map<String, QueryProperty> properties, SearchAfterProperties<REQ> searchAfterProperties, ListProcessor<REQ, RES> listProcessor,
+        ObjectMapper objectMapper) {
+
+        String sort = paginateRequest != null && paginateRequest.getSort() != null ? paginateRequest.getSort() : requestParams.get("sort");
+        if (sort == null) {
+            sort = defaultSort;
+        }
+        String order = paginateRequest != null && paginateRequest.getOrder() != null ? paginateRequest.getOrder() : requestParams.get("order");
+        if (order == null) {
+            order = "asc";
+        }
+        PaginateListUtil.orderQuery(query, sort, order, properties);
+
+        Function<REQ, Object> sortValueProvider = searchAfterProperties.getSortValueProvider(sort);
+        if (sortValueProvider == null) {
+            throw new FlowableIllegalArgumentException("Value for param 'sort' is not valid, '" + sort + "' can't be used to stream the results");
+        }
+
+        int batchSize = RequestUtil.getInteger(requestParams, "batchSize", DEFAULT_BATCH_SIZE);
+        if (batchSize <= 0) {
+            throw new FlowableIllegalArgumentException("Value for param 'batchSize' is not valid, it must be positive");
+        }
+
+        Function<REQ, String> idProvider = searchAfterProperties.getIdProvider();
+        return outputStream -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            generator.writeStartArray();
+            query.searchAfter();
+            List<REQ> batch = query.listPage(0, batchSize);
+            while (!batch.isEmpty()) {
+                for (RES response : listProcessor.processList(batch)) {
+                    generator.writeObject(response);
+                }
+                generator.flush();
+
+                if (batch.size() < batchSize) {
+                    break;
+                }
+
+                REQ lastResult = batch.get(batch.size() - 1);
+                query.searchAfter(sortValueProvider.apply(lastResult), idProvider.apply(lastResult));
+                batch = query.listPage(0, batchSize);
+            }
+            generator.writeEndArray();
+            generator.close();
+        };
+    }
+
+}
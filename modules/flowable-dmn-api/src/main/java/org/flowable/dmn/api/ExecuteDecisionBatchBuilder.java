@@ -0,0 +1,97 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+/**
+ * Helper for executing a decision (table) for many sets of input variables.
+ * <p>
+ * An instance can be obtained through {@link DmnDecisionService#createExecuteDecisionBatchBuilder()}.
+ * <p>
+ * The decision is resolved once, after which the rows are executed in batches, each batch in a single command.
+ * Unlike {@link ExecuteDecisionBuilder}, no historic decision execution is stored per row, unless a history sample rate is set.
+ * Decision services are not supported.
+ */
+public interface ExecuteDecisionBatchBuilder {
+
+    /**
+     * Set the key of the decision
+     **/
+    ExecuteDecisionBatchBuilder decisionKey(String decisionKey);
+
+    /**
+     * Set the parent deployment id
+     */
+    ExecuteDecisionBatchBuilder parentDeploymentId(String parentDeploymentId);
+
+    /**
+     * Set the tenantId
+     **/
+    ExecuteDecisionBatchBuilder tenantId(String tenantId);
+
+    /**
+     * allow to search for definition by key in the default tenant when tenant specific search fails
+     */
+    ExecuteDecisionBatchBuilder fallbackToDefaultTenant();
+
+    /**
+     * Set the number of rows that are executed in one command. Default is 500.
+     */
+    ExecuteDecisionBatchBuilder batchSize(int batchSize);
+
+    /**
+     * Execute the batches in parallel, using the common fork join pool. The results are still returned in the order of the rows.
+     *
+     * @see #parallel(Executor)
+     */
+    ExecuteDecisionBatchBuilder parallel();
+
+    /**
+     * Execute the batches in parallel, using the given executor. The results are still returned in the order of the rows.
+     * <p>
+     * The rows are read, and the batches submitted to the executor, by the thread consuming the returned stream.
+     * The rows are read ahead of the results that are consumed, but only up to {@link #maxConcurrentBatches(int)} batches:
+     * at most that many batches of rows and their results are held in memory at the same time.
+     */
+    ExecuteDecisionBatchBuilder parallel(Executor executor);
+
+    /**
+     * Set the maximum number of batches that are executed, or are waiting to be executed, at the same time when executing in parallel.
+     * Default is the number of available processors.
+     */
+    ExecuteDecisionBatchBuilder maxConcurrentBatches(int maxConcurrentBatches);
+
+    /**
+     * Store a historic decision execution (when history is enabled) for one in every given number of rows,
+     * starting with the first row. The default is 0, meaning that no history is stored.
+     */
+    ExecuteDecisionBatchBuilder historySampleRate(int historySampleRate);
+
+    /**
+     * Executes the decision for every map of input variables.
+     * The rows are consumed and executed when the returned stream is consumed.
+     *
+     * @return a Stream with the rule results of every row, in the order of the rows
+     */
+    Stream<List<Map<String, Object>>> execute(Stream<Map<String, Object>> variables);
+
+    /**
+     * @see #execute(Stream)
+     */
+    Stream<List<Map<String, Object>>> execute(Iterable<Map<String, Object>> variables);
+
+}
@@ -0,0 +1,268 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.flowable.common.engine.impl.el.VariableContainerELResolver;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+
+/**
+ * An index of the rules of a decision table, built when the decision is deployed.
+ *
+ * Input entries that are plain string literals are put in a hash index per input, input entries that compare with an integer literal
+ * (==, &lt;, &lt;=, &gt; and &gt;=) in a sorted index per input. All other entries, including the "-" wildcard, are not indexed.
+ * For the input values of an execution, the index returns the rules that can possibly match: the rules of which the indexed entries
+ * match the value and the rules without an indexed entry for that input. The candidate rules are then evaluated as usual,
+ * in the order of the table, so the result of the hit policy is the same as when all rules are evaluated.
+ *
+ * An input is only used for lookups when its input expression is a variable name and the value of the variable is a String
+ * (for the string literal entries) or a BigInteger or BigDecimal (for the number entries), for which the EL comparison semantics
+ * are the same as the ones of the index. For any other value, all rules are candidates.
+ */
+public class DecisionTableIndex {
+
+    protected static final Pattern VARIABLE_NAME_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+    protected static final Pattern STRING_ENTRY_PATTERN = Pattern.compile("(?:==\\s*)?(?:\"([^\"\\\\]*)\"|'([^'\\\\]*)')");
+    protected static final Pattern NUMBER_ENTRY_PATTERN = Pattern.compile("(==|<=|>=|<|>)?\\s*(-?[0-9]{1,18})");
+
+    protected static final Set<String> RESERVED_NAMES = new HashSet<>(Arrays.asList("and", "or", "not", "eq", "ne", "lt", "gt", "le", "ge",
+            "true", "false", "null", "instanceof", "empty", "div", "mod", VariableContainerELResolver.LOGGED_IN_USER_KEY));
+
+    protected final DecisionTable decisionTable;
+    protected final int ruleCount;
+    protected final List<InputIndex> inputIndexes = new ArrayList<>();
+
+    public DecisionTableIndex(DecisionTable decisionTable) {
+        this.decisionTable = decisionTable;
+        this.ruleCount = decisionTable.getRules().size();
+
+        Map<InputClause, InputIndex> inputIndexesByClause = new IdentityHashMap<>();
+        for (int ruleIndex = 0; ruleIndex < ruleCount; ruleIndex++) {
+            DecisionRule rule = decisionTable.getRules().get(ruleIndex);
+            for (RuleInputClauseContainer inputClauseContainer : rule.getInputEntries()) {
+                InputClause inputClause = inputClauseContainer.getInputClause();
+                if (inputClause == null || inputClause.getInputExpression() == null || inputClauseContainer.getInputEntry() == null) {
+                    continue;
+                }
+
+                String variableName = inputClause.getInputExpression().getText();
+                if (variableName == null || !VARIABLE_NAME_PATTERN.matcher(variableName).matches() || RESERVED_NAMES.contains(variableName)) {
+                    continue;
+                }
+
+                InputIndex inputIndex = inputIndexesByClause.get(inputClause);
+                if (inputIndex == null) {
+                    inputIndex = new InputIndex(variableName);
+                    inputIndexesByClause.put(inputClause, inputIndex);
+                }
+                inputIndex.addEntry(ruleIndex, inputClauseContainer.getInputEntry().getText());
+            }
+        }
+
+        for (InputIndex inputIndex : inputIndexesByClause.values()) {
+            if (inputIndex.hasIndexedEntries()) {
+                inputIndex.accumulateRanges();
+                inputIndexes.add(inputIndex);
+            }
+        }
+    }
+
+    /**
+     * @return the rules that can match the given input variables, in the order of the decision table.
+     */
+    public List<DecisionRule> getCandidateRules(Map<String, Object> variables) {
+        BitSet candidateRules = null;
+        for (InputIndex inputIndex : inputIndexes) {
+            if (variables == null || !variables.containsKey(inputIndex.variableName)) {
+                continue;
+            }
+
+            BitSet inputCandidateRules = inputIndex.getCandidateRules(variables.get(inputIndex.variableName), ruleCount);
+            if (inputCandidateRules != null) {
+                if (candidateRules == null) {
+                    candidateRules = inputCandidateRules;
+                } else {
+                    candidateRules.and(inputCandidateRules);
+                }
+            }
+        }
+
+        if (candidateRules == null) {
+            return decisionTable.getRules();
+        }
+
+        List<DecisionRule> rules = new ArrayList<>(candidateRules.cardinality());
+        for (int ruleIndex = candidateRules.nextSetBit(0); ruleIndex >= 0; ruleIndex = candidateRules.nextSetBit(ruleIndex + 1)) {
+            rules.add(decisionTable.getRules().get(ruleIndex));
+        }
+        return rules;
+    }
+
+    public DecisionTable getDecisionTable() {
+        return decisionTable;
+    }
+
+    /**
+     * @return the number of inputs for which at least one entry is indexed.
+     */
+    public int getIndexedInputCount() {
+        return inputIndexes.size();
+    }
+
+    protected static class InputIndex {
+
+        protected final String variableName;
+
+        protected final BitSet stringEntryRules = new BitSet();
+        protected final Map<String, BitSet> rulesByString = new HashMap<>();
+
+        protected final BitSet numberEntryRules = new BitSet();
+        protected final NavigableMap<BigDecimal, BitSet> equalRules = new TreeMap<>();
+        protected final NavigableMap<BigDecimal, BitSet> lessThanRules = new TreeMap<>();
+        protected final NavigableMap<BigDecimal, BitSet> lessOrEqualRules = new TreeMap<>();
+        protected final NavigableMap<BigDecimal, BitSet> greaterThanRules = new TreeMap<>();
+        protected final NavigableMap<BigDecimal, BitSet> greaterOrEqualRules = new TreeMap<>();
+
+        public InputIndex(String variableName) {
+            this.variableName = variableName;
+        }
+
+        protected void addEntry(int ruleIndex, String entryText) {
+            // entries referring to date functions are rewritten before evaluation, they are never indexed
+            if (entryText == null || entryText.contains("fn_")) {
+                return;
+            }
+
+            Matcher stringMatcher = STRING_ENTRY_PATTERN.matcher(entryText);
+            if (stringMatcher.matches()) {
+                String value = stringMatcher.group(1) != null ? stringMatcher.group(1) : stringMatcher.group(2);
+                stringEntryRules.set(ruleIndex);
+                rulesByString.computeIfAbsent(value, key -> new BitSet()).set(ruleIndex);
+                return;
+            }
+
+            Matcher numberMatcher = NUMBER_ENTRY_PATTERN.matcher(entryText);
+            if (numberMatcher.matches()) {
+                String operator = numberMatcher.group(1);
+                BigDecimal bound = new BigDecimal(numberMatcher.group(2));
+                numberEntryRules.set(ruleIndex);
+                getRangeRules(operator).computeIfAbsent(bound, key -> new BitSet()).set(ruleIndex);
+            }
+        }
+
+        protected NavigableMap<BigDecimal, BitSet> getRangeRules(String operator) {
+            if (operator == null || "==".equals(operator)) {
+                return equalRules;
+            } else if ("<".equals(operator)) {
+                return lessThanRules;
+            } else if ("<=".equals(operator)) {
+                return lessOrEqualRules;
+            } else if (">".equals(operator)) {
+                return greaterThanRules;
+            } else {
+                return greaterOrEqualRules;
+            }
+        }
+
+        protected boolean hasIndexedEntries() {
+            return !stringEntryRules.isEmpty() || !numberEntryRules.isEmpty();
+        }
+
+        /**
+         * Makes the bound maps cumulative, so a single floor or ceiling lookup returns all rules of which the bound matches a value:
+         * for the upper bounds (&lt; and &lt;=) a key maps to the rules with a bound of at least the key,
+         * for the lower bounds (&gt; and &gt;=) a key maps to the rules with a bound of at most the key.
+         */
+        protected void accumulateRanges() {
+            accumulate(lessThanRules.descendingMap());
+            accumulate(lessOrEqualRules.descendingMap());
+            accumulate(greaterThanRules);
+            accumulate(greaterOrEqualRules);
+        }
+
+        protected void accumulate(NavigableMap<BigDecimal, BitSet> rulesByBound) {
+            BitSet accumulatedRules = new BitSet();
+            for (BitSet rules : rulesByBound.values()) {
+                accumulatedRules.or(rules);
+                rules.or(accumulatedRules);
+            }
+        }
+
+        /**
+         * @return the rules that can match the given value for this input, or null when the value can't be looked up and all rules are candidates.
+         */
+        protected BitSet getCandidateRules(Object value, int ruleCount) {
+            if (value instanceof String) {
+                if (stringEntryRules.isEmpty()) {
+                    return null;
+                }
+
+                BitSet candidateRules = allRulesExcept(stringEntryRules, ruleCount);
+                orRules(candidateRules, rulesByString.get(value));
+                return candidateRules;
+
+            } else if (value instanceof BigInteger || value instanceof BigDecimal) {
+                if (numberEntryRules.isEmpty()) {
+                    return null;
+                }
+
+                BigDecimal number = value instanceof BigInteger ? new BigDecimal((BigInteger) value) : (BigDecimal) value;
+                BitSet candidateRules = allRulesExcept(numberEntryRules, ruleCount);
+                // equality uses compareTo, which matches at least the values for which the EL equality holds
+                orRules(candidateRules, equalRules.get(number));
+                orRules(candidateRules, getValue(lessThanRules.higherEntry(number)));
+                orRules(candidateRules, getValue(lessOrEqualRules.ceilingEntry(number)));
+                orRules(candidateRules, getValue(greaterThanRules.lowerEntry(number)));
+                orRules(candidateRules, getValue(greaterOrEqualRules.floorEntry(number)));
+                return candidateRules;
+            }
+
+            return null;
+        }
+
+        protected BitSet allRulesExcept(BitSet rules, int ruleCount) {
+            BitSet allRules = new BitSet(ruleCount);
+            allRules.set(0, ruleCount);
+            allRules.andNot(rules);
+            return allRules;
+        }
+
+        protected void orRules(BitSet candidateRules, BitSet rules) {
+            if (rules != null) {
+                candidateRules.or(rules);
+            }
+        }
+
+        protected BitSet getValue(Map.Entry<BigDecimal, BitSet> entry) {
+            return entry != null ? entry.getValue() : null;
+        }
+    }
+}
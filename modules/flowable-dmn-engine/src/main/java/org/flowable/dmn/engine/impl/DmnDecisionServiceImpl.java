@@ -12,23 +12,38 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.DecisionServiceExecutionAuditContainer;
 import org.flowable.dmn.api.DmnDecisionService;
+import org.flowable.dmn.api.ExecuteDecisionBatchBuilder;
 import org.flowable.dmn.api.ExecuteDecisionBuilder;
 import org.flowable.dmn.api.ExecuteDecisionContext;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.cmd.EvaluateDecisionCmd;
+import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionBatchCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionServiceCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionWithAuditTrailCmd;
 import org.flowable.dmn.engine.impl.cmd.PersistHistoricDecisionExecutionCmd;
+import org.flowable.dmn.engine.impl.cmd.ResolveDecisionCmd;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionService;
 import org.flowable.dmn.model.DmnElementReference;
@@ -51,6 +66,11 @@ public class DmnDecisionServiceImpl extends CommonEngineServiceImpl<DmnEngineCon
         return new ExecuteDecisionBuilderImpl(this);
     }
 
+    @Override
+    public ExecuteDecisionBatchBuilder createExecuteDecisionBatchBuilder() {
+        return new ExecuteDecisionBatchBuilderImpl(this);
+    }
+
     @Override
     public List<Map<String, Object>> executeDecision(ExecuteDecisionBuilder builder) {
         ExecuteDecisionContext executeDecisionContext = builder.buildExecuteDecisionContext();
@@ -190,6 +210,108 @@ public class DmnDecisionServiceImpl extends CommonEngineServiceImpl<DmnEngineCon
 
 
 
+    public Stream<List<Map<String, Object>>> executeDecisionBatch(ExecuteDecisionBatchBuilderImpl builder, Iterator<Map<String, Object>> rows) {
+        ExecuteDecisionContext executeDecisionContext = builder.buildExecuteDecisionContext();
+
+        // the decision is resolved once, the cached decision is used for all batches
+        Decision decision = commandExecutor.execute(new ResolveDecisionCmd(executeDecisionContext));
+
+        Iterator<ExecuteDecisionBatchCmd> batchCommands = new Iterator<ExecuteDecisionBatchCmd>() {
+
+            protected long rowIndex;
+
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public ExecuteDecisionBatchCmd next() {
+                if (!rows.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                List<Map<String, Object>> batchRows = new ArrayList<>(builder.getBatchSize());
+                while (rows.hasNext() && batchRows.size() < builder.getBatchSize()) {
+                    batchRows.add(rows.next());
+                }
+
+                ExecuteDecisionBatchCmd batchCommand = new ExecuteDecisionBatchCmd(decision, executeDecisionContext, batchRows,
+                        rowIndex, builder.getHistorySampleRate());
+                rowIndex += batchRows.size();
+                return batchCommand;
+            }
+        };
+
+        if (!builder.isParallel()) {
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batchCommands, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .map(batchCommand -> commandExecutor.execute(batchCommand))
+                    .flatMap(List::stream);
+        }
+
+        ParallelBatchResultIterator batchResults = new ParallelBatchResultIterator(batchCommands, builder.getParallelExecutor(), builder.getMaxConcurrentBatches());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batchResults, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .flatMap(List::stream)
+                .onClose(batchResults::cancel);
+    }
+
+    /**
+     * Submits the batch commands to the executor, keeping at most maxConcurrentBatches batches in flight,
+     * and returns their results in the order of the batches.
+     */
+    protected class ParallelBatchResultIterator implements Iterator<List<List<Map<String, Object>>>> {
+
+        protected final Iterator<ExecuteDecisionBatchCmd> batchCommands;
+        protected final Executor executor;
+        protected final int maxConcurrentBatches;
+        protected final Deque<CompletableFuture<List<List<Map<String, Object>>>>> batchResults = new ArrayDeque<>();
+
+        public ParallelBatchResultIterator(Iterator<ExecuteDecisionBatchCmd> batchCommands, Executor executor, int maxConcurrentBatches) {
+            this.batchCommands = batchCommands;
+            this.executor = executor;
+            this.maxConcurrentBatches = maxConcurrentBatches;
+        }
+
+        @Override
+        public boolean hasNext() {
+            submitBatches();
+            return !batchResults.isEmpty();
+        }
+
+        @Override
+        public List<List<Map<String, Object>>> next() {
+            submitBatches();
+            if (batchResults.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+
+            try {
+                return batchResults.poll().join();
+
+            } catch (CompletionException e) {
+                cancel();
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new FlowableException("Could not execute decision batch", e.getCause());
+            }
+        }
+
+        protected void submitBatches() {
+            while (batchResults.size() < maxConcurrentBatches && batchCommands.hasNext()) {
+                ExecuteDecisionBatchCmd batchCommand = batchCommands.next();
+                batchResults.add(CompletableFuture.supplyAsync(() -> commandExecutor.execute(batchCommand), executor));
+            }
+        }
+
+        public void cancel() {
+            for (CompletableFuture<List<List<Map<String, Object>>>> batchResult : batchResults) {
+                batchResult.cancel(false);
+            }
+            batchResults.clear();
+        }
+    }
+
     protected Map<String, List<Map<String, Object>>> composeEvaluateDecisionResult(ExecuteDecisionContext executeDecisionContext) {
         Map<String, List<Map<String, Object>>> result;
 
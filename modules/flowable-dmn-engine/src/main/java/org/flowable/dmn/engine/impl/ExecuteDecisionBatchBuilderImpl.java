@@ -0,0 +1,170 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.dmn.api.ExecuteDecisionBatchBuilder;
+import org.flowable.dmn.api.ExecuteDecisionContext;
+
+public class ExecuteDecisionBatchBuilderImpl implements ExecuteDecisionBatchBuilder {
+
+    protected DmnDecisionServiceImpl decisionService;
+
+    protected String decisionKey;
+    protected String parentDeploymentId;
+    protected String tenantId;
+    protected boolean fallbackToDefaultTenant;
+    protected int batchSize = 500;
+    protected boolean parallel;
+    protected Executor parallelExecutor;
+    protected int maxConcurrentBatches = Runtime.getRuntime().availableProcessors();
+    protected int historySampleRate;
+
+    public ExecuteDecisionBatchBuilderImpl(DmnDecisionServiceImpl decisionService) {
+        this.decisionService = decisionService;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder decisionKey(String decisionKey) {
+        this.decisionKey = decisionKey;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder parentDeploymentId(String parentDeploymentId) {
+        this.parentDeploymentId = parentDeploymentId;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder tenantId(String tenantId) {
+        this.tenantId = tenantId;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder fallbackToDefaultTenant() {
+        this.fallbackToDefaultTenant = true;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder batchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new FlowableIllegalArgumentException("batchSize must be at least 1");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder parallel(Executor executor) {
+        if (executor == null) {
+            throw new FlowableIllegalArgumentException("executor is null");
+        }
+        this.parallel = true;
+        this.parallelExecutor = executor;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder maxConcurrentBatches(int maxConcurrentBatches) {
+        if (maxConcurrentBatches < 1) {
+            throw new FlowableIllegalArgumentException("maxConcurrentBatches must be at least 1");
+        }
+        this.maxConcurrentBatches = maxConcurrentBatches;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder historySampleRate(int historySampleRate) {
+        if (historySampleRate < 0) {
+            throw new FlowableIllegalArgumentException("historySampleRate can't be negative");
+        }
+        this.historySampleRate = historySampleRate;
+        return this;
+    }
+
+    @Override
+    public Stream<List<Map<String, Object>>> execute(Stream<Map<String, Object>> variables) {
+        if (variables == null) {
+            throw new FlowableIllegalArgumentException("variables is null");
+        }
+        return decisionService.executeDecisionBatch(this, variables.iterator());
+    }
+
+    @Override
+    public Stream<List<Map<String, Object>>> execute(Iterable<Map<String, Object>> variables) {
+        if (variables == null) {
+            throw new FlowableIllegalArgumentException("variables is null");
+        }
+        return decisionService.executeDecisionBatch(this, variables.iterator());
+    }
+
+    public String getDecisionKey() {
+        return decisionKey;
+    }
+
+    public String getParentDeploymentId() {
+        return parentDeploymentId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public boolean isFallbackToDefaultTenant() {
+        return fallbackToDefaultTenant;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public Executor getParallelExecutor() {
+        return parallelExecutor;
+    }
+
+    public int getMaxConcurrentBatches() {
+        return maxConcurrentBatches;
+    }
+
+    public int getHistorySampleRate() {
+        return historySampleRate;
+    }
+
+    public ExecuteDecisionContext buildExecuteDecisionContext() {
+        ExecuteDecisionContext executeDecisionContext = new ExecuteDecisionContext();
+        executeDecisionContext.setDecisionKey(decisionKey);
+        executeDecisionContext.setParentDeploymentId(parentDeploymentId);
+        executeDecisionContext.setTenantId(tenantId);
+        executeDecisionContext.setFallbackToDefaultTenant(fallbackToDefaultTenant);
+
+        return executeDecisionContext;
+    }
+}
@@ -18,6 +18,7 @@ import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.ExecuteDecisionContext;
@@ -31,6 +32,8 @@ import org.flowable.dmn.engine.impl.hitpolicy.ComposeDecisionResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ComposeRuleResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ContinueEvaluatingBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.EvaluateRuleValidityBehavior;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
+import org.flowable.dmn.engine.impl.util.DecisionUtil;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionRule;
 import org.flowable.dmn.model.DecisionTable;
@@ -86,7 +89,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             sanityCheckDecisionTable(currentDecisionTable);
 
             // evaluate decision table
-            evaluateDecisionTable(currentDecisionTable, executionContext);
+            evaluateDecisionTable(currentDecisionTable, getDecisionTableIndex(decision, currentDecisionTable, executeDecisionInfo), executionContext);
 
         } catch (FlowableException fe) {
             LOGGER.error("decision table execution sanity check failed", fe);
@@ -102,6 +105,13 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
     }
 
     protected void evaluateDecisionTable(DecisionTable decisionTable, ELExecutionContext executionContext) {
+        evaluateDecisionTable(decisionTable, null, executionContext);
+    }
+
+    /**
+     * Evaluates the decision table, when an index is given only the rules that can match the input values are evaluated.
+     */
+    protected void evaluateDecisionTable(DecisionTable decisionTable, DecisionTableIndex decisionTableIndex, ELExecutionContext executionContext) {
         if (decisionTable == null || decisionTable.getRules().isEmpty()) {
             throw new IllegalArgumentException("no rules present in table");
         }
@@ -116,7 +126,12 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             // evaluate rule conditions
             Map<Integer, List<RuleOutputClauseContainer>> validRuleOutputEntries = new HashMap<>();
 
-            for (DecisionRule rule : decisionTable.getRules()) {
+            List<DecisionRule> rules = decisionTableIndex != null ? decisionTableIndex.getCandidateRules(executionContext.getStackVariables()) : decisionTable.getRules();
+            if (decisionTableIndex != null) {
+                LOGGER.debug("Evaluating {} of {} rules of table {}", rules.size(), decisionTable.getRules().size(), decisionTable.getId());
+            }
+
+            for (DecisionRule rule : rules) {
                 boolean ruleResult = executeRule(rule, executionContext);
 
                 if (ruleResult) {
@@ -158,6 +173,20 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         LOGGER.debug("End table evaluation: {}", decisionTable.getId());
     }
 
+    protected DecisionTableIndex getDecisionTableIndex(Decision decision, DecisionTable decisionTable, ExecuteDecisionContext executeDecisionInfo) {
+        if (Context.getCommandContext() == null || executeDecisionInfo.getDecisionId() == null
+                || !CommandContextUtil.getDmnEngineConfiguration().isDecisionTableIndexEnabled()) {
+            return null;
+        }
+
+        DecisionTableIndex decisionTableIndex = DecisionUtil.getDecisionTableIndexFromCache(executeDecisionInfo.getDecisionId(), decision.getId());
+        // only use an index that was built for this decision table instance
+        if (decisionTableIndex != null && decisionTableIndex.getDecisionTable() == decisionTable) {
+            return decisionTableIndex;
+        }
+        return null;
+    }
+
     protected boolean executeRule(DecisionRule rule, ELExecutionContext executionContext) {
         if (rule == null) {
             throw new FlowableException("rule cannot be null");
@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.ExecuteDecisionContext;
+import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
+import org.flowable.dmn.model.Decision;
+
+/**
+ * Executes a resolved decision (table) for a batch of rows of input variables, see {@link ResolveDecisionCmd}.
+ * A historic decision execution is only stored for the sampled rows.
+ */
+public class ExecuteDecisionBatchCmd implements Command<List<List<Map<String, Object>>>> {
+
+    protected Decision decision;
+    protected ExecuteDecisionContext resolvedExecuteDecisionContext;
+    protected List<Map<String, Object>> rows;
+    protected long firstRowIndex;
+    protected int historySampleRate;
+
+    /**
+     * @param firstRowIndex the index of the first row of this batch in all rows, used for the history sampling
+     */
+    public ExecuteDecisionBatchCmd(Decision decision, ExecuteDecisionContext resolvedExecuteDecisionContext, List<Map<String, Object>> rows,
+            long firstRowIndex, int historySampleRate) {
+
+        this.decision = decision;
+        this.resolvedExecuteDecisionContext = resolvedExecuteDecisionContext;
+        this.rows = rows;
+        this.firstRowIndex = firstRowIndex;
+        this.historySampleRate = historySampleRate;
+    }
+
+    @Override
+    public List<List<Map<String, Object>>> execute(CommandContext commandContext) {
+        RuleEngineExecutor ruleEngineExecutor = CommandContextUtil.getDmnEngineConfiguration(commandContext).getRuleEngineExecutor();
+
+        List<List<Map<String, Object>>> results = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            ExecuteDecisionContext executeDecisionContext = createRowExecuteDecisionContext(rows.get(i));
+            DecisionExecutionAuditContainer decisionExecution = ruleEngineExecutor.execute(decision, executeDecisionContext);
+            executeDecisionContext.setDecisionExecution(decisionExecution);
+
+            results.add(decisionExecution.getDecisionResult());
+
+            if (isSampled(firstRowIndex + i)) {
+                new PersistHistoricDecisionExecutionCmd(executeDecisionContext).execute(commandContext);
+            }
+        }
+
+        return results;
+    }
+
+    protected ExecuteDecisionContext createRowExecuteDecisionContext(Map<String, Object> variables) {
+        ExecuteDecisionContext executeDecisionContext = new ExecuteDecisionContext();
+        executeDecisionContext.setDecisionKey(resolvedExecuteDecisionContext.getDecisionKey());
+        executeDecisionContext.setDecisionId(resolvedExecuteDecisionContext.getDecisionId());
+        executeDecisionContext.setDecisionVersion(resolvedExecuteDecisionContext.getDecisionVersion());
+        executeDecisionContext.setDeploymentId(resolvedExecuteDecisionContext.getDeploymentId());
+        executeDecisionContext.setParentDeploymentId(resolvedExecuteDecisionContext.getParentDeploymentId());
+        executeDecisionContext.setTenantId(resolvedExecuteDecisionContext.getTenantId());
+        executeDecisionContext.setDmnElement(decision);
+
+        // the variables are transformed during the execution, which shouldn't affect the given rows
+        executeDecisionContext.setVariables(variables != null ? new HashMap<>(variables) : new HashMap<>());
+        return executeDecisionContext;
+    }
+
+    protected boolean isSampled(long rowIndex) {
+        return historySampleRate > 0 && rowIndex % historySampleRate == 0;
+    }
+
+}
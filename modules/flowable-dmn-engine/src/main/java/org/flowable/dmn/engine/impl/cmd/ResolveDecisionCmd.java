@@ -0,0 +1,51 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.cmd;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.dmn.api.ExecuteDecisionContext;
+import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.DmnDefinition;
+
+/**
+ * Resolves the decision (table) for the key, parent deployment and tenant of the given context, without executing it.
+ * The id, version and deployment id of the resolved decision are set on the context.
+ */
+public class ResolveDecisionCmd extends AbstractExecuteDecisionCmd implements Command<Decision> {
+
+    private static final long serialVersionUID = 1L;
+
+    public ResolveDecisionCmd(ExecuteDecisionContext executeDecisionContext) {
+        super(executeDecisionContext);
+    }
+
+    @Override
+    public Decision execute(CommandContext commandContext) {
+        if (executeDecisionContext.getDecisionKey() == null) {
+            throw new FlowableIllegalArgumentException("decisionKey is null");
+        }
+
+        DmnDefinition definition = resolveDefinition();
+        Decision decision = definition.getDecisionById(executeDecisionContext.getDecisionKey());
+        if (decision == null || !(decision.getExpression() instanceof DecisionTable)) {
+            throw new FlowableIllegalArgumentException("no decision table with id: '" + executeDecisionContext.getDecisionKey() + "' found in definition");
+        }
+
+        executeDecisionContext.setDmnElement(decision);
+        return decision;
+    }
+
+}
@@ -12,14 +12,20 @@
  */
 package org.flowable.dmn.engine.impl.deployer;
 
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.DecisionTableIndex;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionService;
+import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.DmnDefinition;
 
 /**
@@ -34,6 +40,7 @@ public class CachingAndArtifactsManager {
         final DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
         DeploymentCache<DecisionCacheEntry> decisionCache = dmnEngineConfiguration.getDeploymentManager().getDecisionCache();
         DmnDeploymentEntity deployment = parsedDeployment.getDeployment();
+        Map<DmnDefinition, Map<String, DecisionTableIndex>> decisionTableIndexes = new IdentityHashMap<>();
 
         for (DecisionEntity decisionEntity : parsedDeployment.getAllDecisions()) {
             DmnDefinition dmnDefinition = parsedDeployment.getDmnDefinitionForDecision(decisionEntity);
@@ -47,10 +54,24 @@ public class CachingAndArtifactsManager {
                 cacheEntry = new DecisionCacheEntry(decisionEntity, dmnDefinition, decision);
             }
 
+            if (dmnEngineConfiguration.isDecisionTableIndexEnabled()) {
+                cacheEntry.setDecisionTableIndexes(decisionTableIndexes.computeIfAbsent(dmnDefinition, this::createDecisionTableIndexes));
+            }
+
             decisionCache.add(decisionEntity.getId(), cacheEntry);
 
             // Add to deployment for further usage
             deployment.addDeployedArtifact(decisionEntity);
         }
     }
+
+    protected Map<String, DecisionTableIndex> createDecisionTableIndexes(DmnDefinition dmnDefinition) {
+        Map<String, DecisionTableIndex> decisionTableIndexes = new HashMap<>();
+        for (Decision decision : dmnDefinition.getDecisions()) {
+            if (decision.getExpression() instanceof DecisionTable) {
+                decisionTableIndexes.put(decision.getId(), new DecisionTableIndex((DecisionTable) decision.getExpression()));
+            }
+        }
+        return decisionTableIndexes;
+    }
 }
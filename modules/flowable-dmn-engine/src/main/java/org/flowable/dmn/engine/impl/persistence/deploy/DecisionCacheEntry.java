@@ -13,7 +13,9 @@
 package org.flowable.dmn.engine.impl.persistence.deploy;
 
 import java.io.Serializable;
+import java.util.Map;
 
+import org.flowable.dmn.engine.impl.DecisionTableIndex;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionEntity;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionService;
@@ -31,6 +33,7 @@ public class DecisionCacheEntry implements Serializable {
     protected DmnDefinition dmnDefinition;
     protected DecisionService decisionService;
     protected Decision decision;
+    protected Map<String, DecisionTableIndex> decisionTableIndexes;
 
     public DecisionCacheEntry(DecisionEntity decisionEntity, DmnDefinition dmnDefinition, DecisionService decisionService) {
         this.decisionEntity = decisionEntity;
@@ -72,4 +75,19 @@ public class DecisionCacheEntry implements Serializable {
     public void setDecision(Decision decision) {
         this.decision = decision;
     }
+
+    public Map<String, DecisionTableIndex> getDecisionTableIndexes() {
+        return decisionTableIndexes;
+    }
+
+    public void setDecisionTableIndexes(Map<String, DecisionTableIndex> decisionTableIndexes) {
+        this.decisionTableIndexes = decisionTableIndexes;
+    }
+
+    /**
+     * @return the index of the decision table of the decision with the given id in the definition, or null if there is none.
+     */
+    public DecisionTableIndex getDecisionTableIndex(String decisionKey) {
+        return decisionTableIndexes != null ? decisionTableIndexes.get(decisionKey) : null;
+    }
 }
@@ -14,6 +14,7 @@ package org.flowable.dmn.engine.impl.util;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.dmn.engine.impl.DecisionTableIndex;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionEntity;
@@ -64,6 +65,18 @@ public class DecisionUtil {
         return null;
     }
 
+    /**
+     * @return the index of the decision table of the decision with the given key, in the definition of the decision (service)
+     *          with the given id, when it was built at deployment time and the definition is in the cache. Null otherwise.
+     */
+    public static DecisionTableIndex getDecisionTableIndexFromCache(String definitionId, String decisionKey) {
+        DecisionCacheEntry cacheEntry = CommandContextUtil.getDmnEngineConfiguration().getDefinitionCache().get(definitionId);
+        if (cacheEntry != null) {
+            return cacheEntry.getDecisionTableIndex(decisionKey);
+        }
+        return null;
+    }
+
     public static DecisionEntity getDecisionTableFromDatabase(String decisionTableId) {
         DecisionEntityManager decisionTableEntityManager = CommandContextUtil.getDmnEngineConfiguration().getDecisionEntityManager();
         DecisionEntity decisionTable = decisionTableEntityManager.findById(decisionTableId);
@@ -0,0 +1,124 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDeployment;
+import org.flowable.dmn.engine.test.AbstractFlowableDmnTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DecisionTableIndexTest extends AbstractFlowableDmnTest {
+
+    protected DmnDeployment deployment;
+
+    @Before
+    public void createDeployment() {
+        dmnEngineConfiguration.setDecisionTableIndexEnabled(true);
+        deployment = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/dmn/engine/test/runtime/DecisionTableIndexTest.tariffs.dmn")
+                .deploy();
+    }
+
+    @After
+    public void cleanUpDeployment() {
+        dmnEngineConfiguration.setDecisionTableIndexEnabled(false);
+        repositoryService.deleteDeployment(deployment.getId());
+    }
+
+    @Test
+    public void collectHitPolicy() {
+        assertThat(executeTariffs("collectTariffs", "gold", 17)).containsExactly("A", "F", "Z");
+        assertThat(executeTariffs("collectTariffs", "gold", 18)).containsExactly("B", "F", "Z");
+        assertThat(executeTariffs("collectTariffs", "gold", 65L)).containsExactly("B", "D", "Z");
+        assertThat(executeTariffs("collectTariffs", "gold", 17.5)).containsExactly("A", "F", "Z");
+        assertThat(executeTariffs("collectTariffs", "silver", 80)).containsExactly("C", "Z");
+        assertThat(executeTariffs("collectTariffs", "bronze", 71)).containsExactly("E", "Z");
+        assertThat(executeTariffs("collectTariffs", "bronze", 70)).containsExactly("Z");
+        assertThat(executeTariffs("collectTariffs", "other", 65)).containsExactly("D", "Z");
+    }
+
+    @Test
+    public void firstHitPolicy() {
+        assertThat(executeTariffs("firstTariff", "gold", 17)).containsExactly("A");
+        assertThat(executeTariffs("firstTariff", "gold", 18)).containsExactly("B");
+        assertThat(executeTariffs("firstTariff", "silver", 80)).containsExactly("C");
+        assertThat(executeTariffs("firstTariff", "other", 65)).containsExactly("D");
+        assertThat(executeTariffs("firstTariff", "bronze", 70)).containsExactly("Z");
+    }
+
+    @Test
+    public void onlyCandidateRulesAreEvaluated() {
+        DecisionExecutionAuditContainer auditContainer = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("collectTariffs")
+                .variable("customerType", "bronze")
+                .variable("age", 70)
+                .executeWithAuditTrail();
+
+        assertThat(auditContainer.isFailed()).isFalse();
+        assertThat(auditContainer.getRuleExecutions()).containsOnlyKeys(7);
+
+        dmnEngineConfiguration.setDecisionTableIndexEnabled(false);
+        auditContainer = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("collectTariffs")
+                .variable("customerType", "bronze")
+                .variable("age", 70)
+                .executeWithAuditTrail();
+
+        assertThat(auditContainer.getRuleExecutions()).hasSize(7);
+    }
+
+    @Test
+    public void valuesThatCanNotBeLookedUpEvaluateAllRules() {
+        DecisionExecutionAuditContainer auditContainer = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("collectTariffs")
+                .variable("customerType", "gold")
+                .variable("age", "17")
+                .executeWithAuditTrail();
+
+        assertThat(auditContainer.getRuleExecutions()).containsKeys(1, 2, 6, 7);
+    }
+
+    protected List<Object> executeTariffs(String decisionKey, String customerType, Object age) {
+        List<Map<String, Object>> result = ruleService.createExecuteDecisionBuilder()
+                .decisionKey(decisionKey)
+                .variable("customerType", customerType)
+                .variable("age", age)
+                .execute();
+
+        List<Object> tariffs = result.stream().map(ruleResult -> ruleResult.get("tariff")).collect(Collectors.toList());
+
+        // the same result without index
+        dmnEngineConfiguration.setDecisionTableIndexEnabled(false);
+        try {
+            List<Map<String, Object>> resultWithoutIndex = ruleService.createExecuteDecisionBuilder()
+                    .decisionKey(decisionKey)
+                    .variable("customerType", customerType)
+                    .variable("age", age)
+                    .execute();
+            assertThat(resultWithoutIndex).isEqualTo(result);
+        } finally {
+            dmnEngineConfiguration.setDecisionTableIndexEnabled(true);
+        }
+
+        return tariffs;
+    }
+
+}
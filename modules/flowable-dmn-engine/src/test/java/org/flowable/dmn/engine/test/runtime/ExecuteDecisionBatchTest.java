@@ -0,0 +1,140 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.dmn.engine.impl.test.PluggableFlowableDmnTestCase;
+import org.flowable.dmn.engine.test.DmnDeployment;
+
+public class ExecuteDecisionBatchTest extends PluggableFlowableDmnTestCase {
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/ExecuteDecisionBatchTest.dmn")
+    public void testExecuteDecisionBatch() {
+        List<List<Map<String, Object>>> results = ruleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("batchDecision")
+                .batchSize(7)
+                .execute(createRows(40))
+                .collect(Collectors.toList());
+
+        assertThat(results).hasSize(40);
+        for (int i = 0; i < 40; i++) {
+            assertThat(results.get(i)).as("row %d", i).isEqualTo(executeDecision(i));
+        }
+
+        assertThat(results.get(5)).extracting("outputVariable1").containsExactly("OUTPUT1", "OUTPUT2", "OUTPUT3");
+        assertThat(results.get(25)).extracting("outputVariable1").containsExactly("OUTPUT3");
+        assertThat(results.get(35)).isEmpty();
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/ExecuteDecisionBatchTest.dmn")
+    public void testExecuteDecisionBatchInParallel() {
+        List<List<Map<String, Object>>> results = ruleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("batchDecision")
+                .batchSize(3)
+                .parallel()
+                .execute(createRows(40).stream())
+                .collect(Collectors.toList());
+
+        assertThat(results).hasSize(40);
+        for (int i = 0; i < 40; i++) {
+            assertThat(results.get(i)).as("row %d", i).isEqualTo(executeDecision(i));
+        }
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/ExecuteDecisionBatchTest.dmn")
+    public void testExecuteDecisionBatchInParallelWithExecutor() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            AtomicInteger rowsRead = new AtomicInteger();
+            Iterable<Map<String, Object>> rows = () -> createRows(40).stream().peek(row -> rowsRead.incrementAndGet()).iterator();
+
+            Iterator<List<Map<String, Object>>> results = ruleService.createExecuteDecisionBatchBuilder()
+                    .decisionKey("batchDecision")
+                    .batchSize(3)
+                    .parallel(executor)
+                    .maxConcurrentBatches(2)
+                    .execute(rows)
+                    .iterator();
+
+            // Only the batches in flight are read ahead of the consumed results
+            assertThat(results.next()).isEqualTo(executeDecision(0));
+            assertThat(rowsRead.get()).isLessThanOrEqualTo(3 * 3);
+
+            List<List<Map<String, Object>>> remainingResults = new ArrayList<>();
+            results.forEachRemaining(remainingResults::add);
+            assertThat(remainingResults).hasSize(39);
+            for (int i = 1; i < 40; i++) {
+                assertThat(remainingResults.get(i - 1)).as("row %d", i).isEqualTo(executeDecision(i));
+            }
+            assertThat(rowsRead.get()).isEqualTo(40);
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/ExecuteDecisionBatchTest.dmn")
+    public void testHistorySampling() {
+        long count = ruleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("batchDecision")
+                .execute(createRows(40))
+                .count();
+        assertThat(count).isEqualTo(40);
+        assertThat(historyService.createHistoricDecisionExecutionQuery().deploymentId(deploymentIdFromDeploymentAnnotation).count()).isZero();
+
+        ruleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("batchDecision")
+                .batchSize(6)
+                .historySampleRate(10)
+                .execute(createRows(40))
+                .forEach(result -> { });
+        assertThat(historyService.createHistoricDecisionExecutionQuery().deploymentId(deploymentIdFromDeploymentAnnotation).count()).isEqualTo(4);
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/ExecuteDecisionBatchTest.dmn")
+    public void testUnknownDecision() {
+        assertThatThrownBy(() -> ruleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("unknownDecision")
+                .execute(Stream.of(Collections.singletonMap("inputVariable1", 1))))
+                .isInstanceOf(FlowableObjectNotFoundException.class);
+    }
+
+    protected List<Map<String, Object>> createRows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Collections.<String, Object>singletonMap("inputVariable1", i))
+                .collect(Collectors.toList());
+    }
+
+    protected List<Map<String, Object>> executeDecision(int inputVariable1) {
+        return ruleService.createExecuteDecisionBuilder()
+                .decisionKey("batchDecision")
+                .variable("inputVariable1", inputVariable1)
+                .executeDecision();
+    }
+
+}
@@ -14,6 +14,9 @@
 package org.flowable.common.engine.api.query;
 
 import java.util.List;
+import java.util.function.Consumer;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 
 /**
  * Describes basic methods for querying.
@@ -61,4 +64,49 @@ public interface Query<T extends Query<?, ?>, U extends Object> {
      * Executes the query and get a list of entities as the result.
      */
     List<U> listPage(int firstResult, int maxResults);
+
+    /**
+     * Switches the query to keyset ("search after") pagination and selects the first page.
+     * The results are ordered on the given order property and on the id, so that the next page can be selected with {@link #searchAfter(Object, String)}
+     * using the values of the last result. Contrary to {@link #listPage(int, int)} with an increasing first result, the cost of a page stays the same
+     * no matter how deep the page is.
+     *
+     * Only supported by some queries, and only when ordering on at most one property that can't be null.
+     *
+     * @throws org.flowable.common.engine.api.FlowableIllegalArgumentException when the query does not support keyset pagination.
+     */
+    default T searchAfter() {
+        throw new FlowableIllegalArgumentException("Search after pagination is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Switches the query to keyset ("search after") pagination and selects the results that come after the result with the given values.
+     * Use {@link #listPage(int, int)} with a first result of 0 to get the page.
+     *
+     * @param sortValue the value of the order property of the last result of the previous page, ignored when the results are only ordered on the id
+     * @param id the id of the last result of the previous page
+     * @see #searchAfter()
+     */
+    default T searchAfter(Object sortValue, String id) {
+        throw new FlowableIllegalArgumentException("Search after pagination is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Executes the query and passes the results to the consumer in batches of at most the given size.
+     * Contrary to {@link #list()}, the complete result is never held in memory, which makes this suitable for processing very large results.
+     *
+     * The default implementation fetches the batches with {@link #listPage(int, int)}.
+     * Engine queries read all results with a single select instead, see the implementation for the details.
+     */
+    default void forEach(int batchSize, Consumer<List<U>> batchConsumer) {
+        int firstResult = 0;
+        List<U> batch;
+        do {
+            batch = listPage(firstResult, batchSize);
+            if (!batch.isEmpty()) {
+                batchConsumer.accept(batch);
+            }
+            firstResult += batchSize;
+        } while (batch.size() == batchSize);
+    }
 }
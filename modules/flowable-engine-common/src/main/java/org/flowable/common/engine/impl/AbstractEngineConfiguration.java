@@ -53,6 +53,8 @@ import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
 import org.flowable.common.engine.api.engine.EngineLifecycleListener;
 import org.flowable.common.engine.impl.agenda.AgendaOperationRunner;
+import org.flowable.common.engine.impl.async.PartitionedAsyncTaskExecutor;
+import org.flowable.common.engine.impl.async.VirtualThreadAsyncTaskExecutor;
 import org.flowable.common.engine.impl.cfg.CommandExecutorImpl;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.cfg.TransactionContextFactory;
@@ -81,10 +83,13 @@ import org.flowable.common.engine.impl.lock.LockManagerImpl;
 import org.flowable.common.engine.impl.logging.LoggingListener;
 import org.flowable.common.engine.impl.logging.LoggingSession;
 import org.flowable.common.engine.impl.logging.LoggingSessionFactory;
-import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
-import org.flowable.common.engine.impl.persistence.cache.EntityCache;
-import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.cache.EntityCacheSessionFactory;
+import org.flowable.common.engine.impl.persistence.cache.IndexedEntityCache;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheWeigher;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManagerImpl;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
@@ -212,6 +217,14 @@ public abstract class AbstractEngineConfiguration {
      */
     protected int maxNrOfStatementsInBulkInsert = 100;
 
+    /**
+     * If set to true, updates and deletes of entities are grouped per statement and executed as JDBC batches when flushing,
+     * instead of one statement per entity. The optimistic locking checks are kept by verifying the update count of every row,
+     * hence this requires a JDBC driver that reports the update counts of a batch (which is the case for all supported databases
+     * when using a recent driver). Default false.
+     */
+    protected boolean isBatchedFlushEnabled;
+
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 55; // currently Execution has most params (35). 2000 / 35 = 57.
 
     protected String mybatisMappingFile;
@@ -225,6 +238,18 @@ public abstract class AbstractEngineConfiguration {
 
     // SESSION FACTORIES ///////////////////////////////////////////////
     protected List<SessionFactory> customSessionFactories;
+
+    /**
+     * If set to true, an {@link IndexedEntityCache} is used as the entity cache of a command, which resolves lookups by interface in constant time
+     * and keeps statistics that can be reported with the {@link org.flowable.common.engine.impl.interceptor.EntityCacheStatisticsInterceptor}.
+     */
+    protected boolean useIndexedEntityCache;
+
+    /**
+     * If set to true, entities implementing {@link org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity} track their own changes
+     * and no 'persistent state' snapshot is taken when they are loaded. Only the entities marked as dirty are updated when the session is flushed.
+     */
+    protected boolean useEntityDirtyTracking;
     protected Map<Class<?>, SessionFactory> sessionFactories;
 
     protected boolean enableEventDispatcher = true;
@@ -333,6 +358,18 @@ public abstract class AbstractEngineConfiguration {
     protected List<EngineDeployer> customPreDeployers;
     protected List<EngineDeployer> customPostDeployers;
     protected List<EngineDeployer> deployers;
+
+    /**
+     * If set to true, the definition caches that are not explicitly set are created as {@link ConcurrentDeploymentCache}, which does not lock on reads.
+     * The configured cache limits are used for the maximum number of entries.
+     */
+    protected boolean useConcurrentDeploymentCache;
+
+    /**
+     * Definitions that are not accessed during the given time are removed from the definition caches.
+     * Only applicable when {@link #useConcurrentDeploymentCache} is true. Disabled by default (-1).
+     */
+    protected long deploymentCacheExpireAfterAccessMillis = -1;
     
     // CONFIGURATORS ////////////////////////////////////////////////////////////
 
@@ -669,6 +706,26 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    // Deployment caches ///////////////////////////////////////////////////////
+
+    protected <T> DeploymentCache<T> createDeploymentCache(int limit) {
+        return createDeploymentCache(limit, -1, null);
+    }
+
+    protected <T> DeploymentCache<T> createDeploymentCache(int limit, long maxWeight, DeploymentCacheWeigher<T> weigher) {
+        if (useConcurrentDeploymentCache) {
+            ConcurrentDeploymentCache<T> deploymentCache = new ConcurrentDeploymentCache<>(limit, maxWeight, weigher);
+            deploymentCache.setExpireAfterAccessMillis(deploymentCacheExpireAfterAccessMillis);
+            return deploymentCache;
+
+        } else if (limit <= 0) {
+            return new DefaultDeploymentCache<>();
+
+        } else {
+            return new DefaultDeploymentCache<>(limit);
+        }
+    }
+
     // Data managers ///////////////////////////////////////////////////////////
 
     public void initDataManagers() {
@@ -717,7 +774,7 @@ public abstract class AbstractEngineConfiguration {
                 initDbSqlSessionFactory();
             }
 
-            addSessionFactory(new GenericManagerFactory(EntityCache.class, EntityCacheImpl.class));
+            addSessionFactory(createEntityCacheSessionFactory());
             
             if (isLoggingSessionEnabled()) {
                 if (!sessionFactories.containsKey(LoggingSession.class)) {
@@ -743,6 +800,43 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    /**
+     * Creates and starts a {@link VirtualThreadAsyncTaskExecutor}. When no max number of concurrent tasks is given,
+     * the max number of active jdbc connections is used, as every job execution needs a connection.
+     */
+    protected VirtualThreadAsyncTaskExecutor createVirtualThreadAsyncTaskExecutor(int maxConcurrentTasks, int queueSize,
+            long secondsToWaitOnShutdown, String threadPoolNamingPattern) {
+
+        VirtualThreadAsyncTaskExecutor virtualThreadAsyncTaskExecutor = new VirtualThreadAsyncTaskExecutor();
+        virtualThreadAsyncTaskExecutor.setMaxConcurrentTasks(maxConcurrentTasks > 0 ? maxConcurrentTasks : jdbcMaxActiveConnections);
+        virtualThreadAsyncTaskExecutor.setQueueSize(queueSize);
+        virtualThreadAsyncTaskExecutor.setSecondsToWaitOnShutdown(secondsToWaitOnShutdown);
+        virtualThreadAsyncTaskExecutor.setThreadPoolNamingPattern(threadPoolNamingPattern);
+        virtualThreadAsyncTaskExecutor.start();
+        return virtualThreadAsyncTaskExecutor;
+    }
+
+    /**
+     * Creates and starts a {@link PartitionedAsyncTaskExecutor}. When no partition count is given, the number of available processors is used.
+     * The given queue size is divided over the lanes.
+     */
+    protected PartitionedAsyncTaskExecutor createPartitionedAsyncTaskExecutor(int partitionCount, int queueSize,
+            long secondsToWaitOnShutdown, String threadPoolNamingPattern) {
+
+        PartitionedAsyncTaskExecutor partitionedAsyncTaskExecutor = new PartitionedAsyncTaskExecutor();
+        int lanes = partitionCount > 0 ? partitionCount : Runtime.getRuntime().availableProcessors();
+        partitionedAsyncTaskExecutor.setPartitionCount(lanes);
+        partitionedAsyncTaskExecutor.setQueueSize(Math.max(1, queueSize / lanes));
+        partitionedAsyncTaskExecutor.setSecondsToWaitOnShutdown(secondsToWaitOnShutdown);
+        partitionedAsyncTaskExecutor.setThreadPoolNamingPattern(threadPoolNamingPattern);
+        partitionedAsyncTaskExecutor.start();
+        return partitionedAsyncTaskExecutor;
+    }
+
+    protected SessionFactory createEntityCacheSessionFactory() {
+        return new EntityCacheSessionFactory(useIndexedEntityCache, useEntityDirtyTracking);
+    }
+
     public void initDbSqlSessionFactory() {
         if (dbSqlSessionFactory == null) {
             dbSqlSessionFactory = createDbSqlSessionFactory();
@@ -755,6 +849,7 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setBatchedFlushEnabled(isBatchedFlushEnabled);
 
         initDbSqlSessionFactoryEntitySettings();
 
@@ -1486,6 +1581,51 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isBatchedFlushEnabled() {
+        return isBatchedFlushEnabled;
+    }
+
+    public AbstractEngineConfiguration setBatchedFlushEnabled(boolean isBatchedFlushEnabled) {
+        this.isBatchedFlushEnabled = isBatchedFlushEnabled;
+        return this;
+    }
+
+    public boolean isUseIndexedEntityCache() {
+        return useIndexedEntityCache;
+    }
+
+    public AbstractEngineConfiguration setUseIndexedEntityCache(boolean useIndexedEntityCache) {
+        this.useIndexedEntityCache = useIndexedEntityCache;
+        return this;
+    }
+
+    public boolean isUseEntityDirtyTracking() {
+        return useEntityDirtyTracking;
+    }
+
+    public AbstractEngineConfiguration setUseEntityDirtyTracking(boolean useEntityDirtyTracking) {
+        this.useEntityDirtyTracking = useEntityDirtyTracking;
+        return this;
+    }
+
+    public boolean isUseConcurrentDeploymentCache() {
+        return useConcurrentDeploymentCache;
+    }
+
+    public AbstractEngineConfiguration setUseConcurrentDeploymentCache(boolean useConcurrentDeploymentCache) {
+        this.useConcurrentDeploymentCache = useConcurrentDeploymentCache;
+        return this;
+    }
+
+    public long getDeploymentCacheExpireAfterAccessMillis() {
+        return deploymentCacheExpireAfterAccessMillis;
+    }
+
+    public AbstractEngineConfiguration setDeploymentCacheExpireAfterAccessMillis(long deploymentCacheExpireAfterAccessMillis) {
+        this.deploymentCacheExpireAfterAccessMillis = deploymentCacheExpireAfterAccessMillis;
+        return this;
+    }
+
     public Set<Class<?>> getCustomMybatisMappers() {
         return customMybatisMappers;
     }
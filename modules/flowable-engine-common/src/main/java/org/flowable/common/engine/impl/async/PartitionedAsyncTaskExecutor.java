@@ -0,0 +1,209 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.async;
+
+import static org.flowable.common.engine.impl.util.ExceptionUtil.sneakyThrow;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link AsyncTaskExecutor} that spreads tasks over a fixed number of lanes, each lane executing its tasks on one single thread.
+ *
+ * Tasks that are executed with the same partition key (see {@link #execute(Object, Runnable)}) always end up in the same lane,
+ * which means they are executed one after the other, in the order in which they were handed to this executor.
+ * Tasks in different lanes are executed in parallel. Tasks without a partition key are distributed over the lanes in a round-robin fashion.
+ *
+ * Every lane has its own bounded queue of {@link #getQueueSize() queue size} tasks. When the queue of a lane is full,
+ * new tasks for that lane are rejected, like with the {@link DefaultAsyncTaskExecutor}.
+ */
+public class PartitionedAsyncTaskExecutor implements AsyncTaskExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartitionedAsyncTaskExecutor.class);
+
+    /**
+     * The single threaded executors, one per lane.
+     */
+    protected ThreadPoolExecutor[] lanes;
+
+    protected final AtomicInteger nextLane = new AtomicInteger();
+
+    // Configuration properties
+
+    /**
+     * The number of lanes, and thus the number of threads used for task execution.
+     */
+    protected int partitionCount = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The size of the queue of each lane
+     */
+    protected int queueSize = 256;
+
+    /**
+     * The time (in seconds) that is waited to gracefully shut down the lanes
+     */
+    protected long secondsToWaitOnShutdown = 60L;
+
+    protected String threadPoolNamingPattern = "flowable-partitioned-async-executor-thread-%d";
+
+    protected ThreadFactory threadFactory;
+
+    /**
+     * Executes the given task in the lane of the given partition key, after all tasks that were executed earlier with an equal key.
+     *
+     * @param partitionKey the key determining the lane, can be null
+     * @param task the {@link Runnable} task to execute
+     * @throws java.util.concurrent.RejectedExecutionException if the queue of the lane is full
+     */
+    public void execute(Object partitionKey, Runnable task) {
+        getLane(partitionKey).execute(task);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        execute(null, task);
+    }
+
+    @Override
+    public CompletableFuture<?> submit(Runnable task) {
+        return CompletableFuture.runAsync(task, getLane(null));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return task.call();
+            } catch (Exception exception) {
+                sneakyThrow(exception);
+                return null;
+            }
+        }, getLane(null));
+    }
+
+    public void start() {
+        if (lanes == null) {
+            if (threadFactory == null) {
+                threadFactory = new BasicThreadFactory.Builder().namingPattern(threadPoolNamingPattern).build();
+            }
+
+            LOGGER.info("Creating {} lanes with a queue size of {} and naming pattern {}", partitionCount, queueSize, threadPoolNamingPattern);
+            ThreadPoolExecutor[] newLanes = new ThreadPoolExecutor[partitionCount];
+            for (int i = 0; i < partitionCount; i++) {
+                newLanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize), threadFactory);
+            }
+            this.lanes = newLanes;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (lanes != null) {
+            for (ThreadPoolExecutor lane : lanes) {
+                lane.shutdown();
+            }
+
+            // Waits for the configured time to finish all currently executing tasks, over all lanes
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(secondsToWaitOnShutdown);
+            try {
+                for (ThreadPoolExecutor lane : lanes) {
+                    if (!lane.awaitTermination(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                        LOGGER.warn("Timeout during shutdown of partitioned async executor. The current running tasks could not end within {} seconds after shutdown operation.",
+                                secondsToWaitOnShutdown);
+                        break;
+                    }
+                }
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while shutting down the partitioned async executor. ", e);
+                Thread.currentThread().interrupt();
+            }
+
+            lanes = null;
+        }
+    }
+
+    protected ThreadPoolExecutor getLane(Object partitionKey) {
+        return lanes[getLaneIndex(partitionKey)];
+    }
+
+    protected int getLaneIndex(Object partitionKey) {
+        if (partitionKey == null) {
+            return Math.floorMod(nextLane.getAndIncrement(), lanes.length);
+        }
+
+        // Spread the higher bits, as ids often only differ in their last characters
+        int hash = partitionKey.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    @Override
+    public int getRemainingCapacity() {
+        int remainingCapacity = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            remainingCapacity += lane.getQueue().remainingCapacity();
+        }
+        return remainingCapacity;
+    }
+
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    public void setPartitionCount(int partitionCount) {
+        this.partitionCount = partitionCount;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public long getSecondsToWaitOnShutdown() {
+        return secondsToWaitOnShutdown;
+    }
+
+    public void setSecondsToWaitOnShutdown(long secondsToWaitOnShutdown) {
+        this.secondsToWaitOnShutdown = secondsToWaitOnShutdown;
+    }
+
+    public String getThreadPoolNamingPattern() {
+        return threadPoolNamingPattern;
+    }
+
+    public void setThreadPoolNamingPattern(String threadPoolNamingPattern) {
+        this.threadPoolNamingPattern = threadPoolNamingPattern;
+    }
+
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+}
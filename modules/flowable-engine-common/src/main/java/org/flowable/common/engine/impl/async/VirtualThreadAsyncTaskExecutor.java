@@ -0,0 +1,216 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.async;
+
+import static org.flowable.common.engine.impl.util.ExceptionUtil.sneakyThrow;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link AsyncTaskExecutor} that runs every task on its own virtual thread, instead of on a bounded pool of platform threads.
+ *
+ * Tasks that block (for example on http calls, JMS sends or scripts) don't hold on to a scarce platform thread this way.
+ * The number of tasks executing at the same time is limited by a semaphore, which should typically be sized to the database connection pool,
+ * as every job execution needs a connection. Tasks waiting for a permit count against the {@link #getQueueSize() queue size},
+ * once the queue is full new tasks are rejected, like with the {@link DefaultAsyncTaskExecutor}.
+ *
+ * Virtual threads are only available on Java 21 and later. On older runtimes a warning is logged and the tasks run on a fixed pool
+ * of {@link #getMaxConcurrentTasks() max concurrent tasks} platform threads, with a queue of {@link #getQueueSize() queue size}.
+ */
+public class VirtualThreadAsyncTaskExecutor implements AsyncTaskExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadAsyncTaskExecutor.class);
+
+    /**
+     * The executor service used for task execution.
+     */
+    protected ExecutorService executorService;
+
+    /**
+     * Limits the number of tasks that are executing at the same time.
+     */
+    protected Semaphore concurrencyLimit;
+
+    /**
+     * The number of tasks that are executing or waiting for a permit.
+     */
+    protected final AtomicInteger pendingTasks = new AtomicInteger();
+
+    // Configuration properties
+
+    /**
+     * The maximum number of tasks that are executed at the same time.
+     */
+    protected int maxConcurrentTasks = 16;
+
+    /**
+     * The maximum number of tasks that wait for a permit before new tasks are rejected.
+     */
+    protected int queueSize = 2048;
+
+    /**
+     * The time (in seconds) that is waited to gracefully shut down the executor.
+     */
+    protected long secondsToWaitOnShutdown = 60L;
+
+    /**
+     * The naming pattern of the threads, only used when virtual threads are not available.
+     */
+    protected String threadPoolNamingPattern = "flowable-async-job-executor-thread-%d";
+
+    @Override
+    public void execute(Runnable task) {
+        if (executorService == null) {
+            throw new RejectedExecutionException("Executor is not started");
+        }
+
+        if (pendingTasks.incrementAndGet() > maxConcurrentTasks + queueSize) {
+            pendingTasks.decrementAndGet();
+            throw new RejectedExecutionException("No capacity left to execute task " + task);
+        }
+
+        try {
+            executorService.execute(() -> executeWithPermit(task));
+        } catch (RuntimeException e) {
+            pendingTasks.decrementAndGet();
+            throw e;
+        }
+    }
+
+    protected void executeWithPermit(Runnable task) {
+        try {
+            concurrencyLimit.acquire();
+            try {
+                task.run();
+            } finally {
+                concurrencyLimit.release();
+            }
+
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while waiting to execute task {}", task);
+            Thread.currentThread().interrupt();
+
+        } finally {
+            pendingTasks.decrementAndGet();
+        }
+    }
+
+    @Override
+    public CompletableFuture<?> submit(Runnable task) {
+        return CompletableFuture.runAsync(task, this::execute);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return task.call();
+            } catch (Exception exception) {
+                sneakyThrow(exception);
+                return null;
+            }
+        }, this::execute);
+    }
+
+    public void start() {
+        if (executorService == null) {
+            this.concurrencyLimit = new Semaphore(maxConcurrentTasks, true);
+            this.executorService = initializeExecutor();
+        }
+    }
+
+    protected ExecutorService initializeExecutor() {
+        try {
+            Method newVirtualThreadPerTaskExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            LOGGER.info("Creating virtual thread executor with {} concurrent tasks and queue size {}", maxConcurrentTasks, queueSize);
+            return (ExecutorService) newVirtualThreadPerTaskExecutor.invoke(null);
+
+        } catch (ReflectiveOperationException e) {
+            LOGGER.warn("Virtual threads are not supported by this Java runtime, creating a pool of {} platform threads with queue size {}",
+                    maxConcurrentTasks, queueSize);
+            return new ThreadPoolExecutor(maxConcurrentTasks, maxConcurrentTasks, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize),
+                    new BasicThreadFactory.Builder().namingPattern(threadPoolNamingPattern).build());
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (executorService != null) {
+            executorService.shutdown();
+
+            try {
+                if (!executorService.awaitTermination(secondsToWaitOnShutdown, TimeUnit.SECONDS)) {
+                    LOGGER.warn("Timeout during shutdown of virtual thread executor. The current running tasks could not end within {} seconds after shutdown operation.",
+                            secondsToWaitOnShutdown);
+                }
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while shutting down the virtual thread executor. ", e);
+                Thread.currentThread().interrupt();
+            }
+
+            executorService = null;
+        }
+    }
+
+    @Override
+    public int getRemainingCapacity() {
+        return Math.max(0, maxConcurrentTasks + queueSize - pendingTasks.get());
+    }
+
+    public int getMaxConcurrentTasks() {
+        return maxConcurrentTasks;
+    }
+
+    public void setMaxConcurrentTasks(int maxConcurrentTasks) {
+        this.maxConcurrentTasks = maxConcurrentTasks;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public long getSecondsToWaitOnShutdown() {
+        return secondsToWaitOnShutdown;
+    }
+
+    public void setSecondsToWaitOnShutdown(long secondsToWaitOnShutdown) {
+        this.secondsToWaitOnShutdown = secondsToWaitOnShutdown;
+    }
+
+    public String getThreadPoolNamingPattern() {
+        return threadPoolNamingPattern;
+    }
+
+    public void setThreadPoolNamingPattern(String threadPoolNamingPattern) {
+        this.threadPoolNamingPattern = threadPoolNamingPattern;
+    }
+}
@@ -26,8 +26,10 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityImpl;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 
 /**
  * @author Joram Barrez
@@ -335,6 +337,18 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
         });
     }
     
+    /**
+     * Registers bulk deletes of the byte arrays with the given ids, without revision check. The deletes are executed in the
+     * entity delete order, so the owning rows that reference the byte arrays can be bulk deleted in the same flush.
+     */
+    protected void bulkDeleteByteArraysNoRevisionCheck(Collection<String> byteArrayIds) {
+        for (List<String> byteArrayIdsPart : CollectionUtil.partition(byteArrayIds, MAX_ENTRIES_IN_CLAUSE)) {
+            Map<String, Object> parameters = new HashMap<>();
+            parameters.put("byteArrayIds", byteArrayIdsPart);
+            getDbSqlSession().delete("bulkDeleteByteArraysNoRevisionCheck", parameters, ByteArrayEntityImpl.class);
+        }
+    }
+
     protected boolean isEntityInserted(DbSqlSession dbSqlSession, String entityLogicalName, String entityId) {
         Class<?> executionEntityClass = dbSqlSession.getDbSqlSessionFactory().getLogicalNameToClassMapping().get(entityLogicalName);
         return executionEntityClass != null && dbSqlSession.isEntityInserted(executionEntityClass, entityId);
@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.apache.ibatis.exceptions.ExceptionFactory;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.ErrorContext;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.transaction.Transaction;
+
+/**
+ * Groups update and delete statements of a {@link DbSqlSession} flush into JDBC batches.
+ *
+ * A dedicated MyBatis {@link ExecutorType#BATCH} executor is created on top of the connection of the session.
+ * The executor never commits, rolls back or closes that connection: the transaction stays owned by the {@link DbSqlSession}.
+ */
+public class BatchedFlushExecutor {
+
+    protected SqlSession sqlSession;
+    protected Configuration configuration;
+    protected Executor executor;
+
+    public BatchedFlushExecutor(SqlSession sqlSession) {
+        this.sqlSession = sqlSession;
+        this.configuration = sqlSession.getConfiguration();
+        this.executor = configuration.newExecutor(new SharedConnectionTransaction(sqlSession), ExecutorType.BATCH);
+    }
+
+    /**
+     * Adds the statement to the current batch. Consecutive calls with the same statement end up in the same JDBC batch.
+     */
+    public void add(String statement, Object parameter) {
+        try {
+            executor.update(configuration.getMappedStatement(statement), parameter);
+        } catch (Exception e) {
+            throw ExceptionFactory.wrapException("Error adding statement to batch. Cause: " + e, e);
+        } finally {
+            ErrorContext.instance().reset();
+        }
+    }
+
+    /**
+     * Executes all pending batches. The returned results contain, per statement, the parameter objects in the order they were added
+     * and the update counts reported by the JDBC driver for each of them.
+     */
+    public List<BatchResult> flush() {
+        try {
+            List<BatchResult> batchResults = executor.flushStatements();
+
+            // The regular session could have cached results that are now stale
+            sqlSession.clearCache();
+
+            return batchResults;
+        } catch (Exception e) {
+            throw ExceptionFactory.wrapException("Error flushing batch statements. Cause: " + e, e);
+        } finally {
+            ErrorContext.instance().reset();
+        }
+    }
+
+    public void close() {
+        executor.close(false);
+    }
+
+    /**
+     * Exposes the connection of the wrapped {@link SqlSession} without taking over its transaction handling.
+     */
+    protected static class SharedConnectionTransaction implements Transaction {
+
+        protected SqlSession sqlSession;
+
+        public SharedConnectionTransaction(SqlSession sqlSession) {
+            this.sqlSession = sqlSession;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return sqlSession.getConnection();
+        }
+
+        @Override
+        public void commit() throws SQLException {
+            // Transaction is owned by the wrapped session
+        }
+
+        @Override
+        public void rollback() throws SQLException {
+            // Transaction is owned by the wrapped session
+        }
+
+        @Override
+        public void close() throws SQLException {
+            // Connection is owned by the wrapped session
+        }
+
+        @Override
+        public Integer getTimeout() throws SQLException {
+            return null;
+        }
+    }
+
+}
@@ -14,6 +14,7 @@
 package org.flowable.common.engine.impl.db;
 
 import java.sql.Connection;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -23,7 +24,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
+import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.session.SqlSession;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -236,7 +239,7 @@ public class DbSqlSession implements Session {
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public List queryWithRawParameter(String statement, CacheAwareQuery parameter, Class entityClass, boolean cacheLoadAndStore) {
-        if (parameter.getId() != null && !parameter.getId().isEmpty()) {
+        if (parameter.getId() != null && !parameter.getId().isEmpty() && getResultConsumer(parameter) == null) {
             Object entity = entityCache.findInCache(entityClass, parameter.getId());
             if (entity != null) {
                 List resultList = new ArrayList<>();
@@ -252,7 +255,7 @@ public class DbSqlSession implements Session {
     
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public List queryWithRawParameterNoCacheLoadAndStore(String statement, CacheAwareQuery parameter, Class entityClass) {
-        if (parameter.getId() != null && !parameter.getId().isEmpty()) {
+        if (parameter.getId() != null && !parameter.getId().isEmpty() && getResultConsumer(parameter) == null) {
             Object entity = entityCache.findInCache(entityClass, parameter.getId());
             if (entity != null) {
                 List resultList = new ArrayList<>();
@@ -262,12 +265,20 @@ public class DbSqlSession implements Session {
         }
         
         statement = dbSqlSessionFactory.mapStatement(statement);
+        Consumer<Object> resultConsumer = getResultConsumer(parameter);
+        if (resultConsumer != null) {
+            return selectWithResultConsumer(statement, parameter, resultConsumer);
+        }
         return sqlSession.selectList(statement, parameter);
     }
         
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public List selectListWithRawParameter(String statement, Object parameter, boolean useCache) {
         statement = dbSqlSessionFactory.mapStatement(statement);
+        Consumer<Object> resultConsumer = getResultConsumer(parameter);
+        if (resultConsumer != null) {
+            return selectWithResultConsumer(statement, parameter, resultConsumer);
+        }
         List loadedObjects = sqlSession.selectList(statement, parameter);
         if (useCache) {
             return cacheLoadOrStore(loadedObjects, parameter);
@@ -276,6 +287,36 @@ public class DbSqlSession implements Session {
         }
     }
     
+    /**
+     * Passes the rows of the select to the result consumer while they are read, without keeping them in a list
+     * or in the entity cache. An empty list is returned, as all results went to the consumer.
+     */
+    @SuppressWarnings("rawtypes")
+    protected List selectWithResultConsumer(String statement, Object parameter, Consumer<Object> resultConsumer) {
+        try {
+            sqlSession.select(statement, parameter, resultContext -> resultConsumer.accept(resultContext.getResultObject()));
+        } finally {
+            // MyBatis caches the (empty) result list of a select with a result handler in the local session cache
+            sqlSession.clearCache();
+        }
+        return new ArrayList<>();
+    }
+
+    protected Consumer<Object> getResultConsumer(Object parameter) {
+        if (parameter instanceof ListQueryParameterObject) {
+            ListQueryParameterObject listQueryParameterObject = (ListQueryParameterObject) parameter;
+            if (listQueryParameterObject.getResultConsumer() != null) {
+                return listQueryParameterObject.getResultConsumer();
+            }
+
+            // The query can be wrapped, e.g. when selecting a page
+            if (listQueryParameterObject.getParameter() instanceof ListQueryParameterObject) {
+                return ((ListQueryParameterObject) listQueryParameterObject.getParameter()).getResultConsumer();
+            }
+        }
+        return null;
+    }
+
     public Object selectOne(String statement, Object parameter) {
         statement = dbSqlSessionFactory.mapStatement(statement);
         Object result = sqlSession.selectOne(statement, parameter);
@@ -562,6 +603,11 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdates() {
+        if (dbSqlSessionFactory.isBatchedFlushEnabled() && updatedObjects.size() > 1) {
+            flushBatchedUpdates();
+            return;
+        }
+
         for (Entity updatedObject : updatedObjects) {
             String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
             updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
@@ -586,6 +632,84 @@ public class DbSqlSession implements Session {
         updatedObjects.clear();
     }
 
+    /**
+     * Groups the updates per update statement and executes each group as one JDBC batch.
+     * The update count of every row is verified afterwards, which keeps the optimistic locking checks of the regular flush.
+     */
+    protected void flushBatchedUpdates() {
+        Map<String, List<Entity>> updatedObjectsPerStatement = new LinkedHashMap<>();
+        for (Entity updatedObject : updatedObjects) {
+            String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+            updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+
+            if (updateStatement == null) {
+                throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+            }
+
+            updatedObjectsPerStatement.computeIfAbsent(updateStatement, key -> new ArrayList<>()).add(updatedObject);
+        }
+
+        BatchedFlushExecutor batchedFlushExecutor = createBatchedFlushExecutor();
+        try {
+            for (Map.Entry<String, List<Entity>> entry : updatedObjectsPerStatement.entrySet()) {
+                for (Entity updatedObject : entry.getValue()) {
+                    LOGGER.debug("updating (batched): {}", updatedObject);
+                    batchedFlushExecutor.add(entry.getKey(), updatedObject);
+                }
+            }
+
+            verifyBatchResults(batchedFlushExecutor.flush(), false);
+
+        } finally {
+            batchedFlushExecutor.close();
+        }
+
+        for (Entity updatedObject : updatedObjects) {
+            // See https://activiti.atlassian.net/browse/ACT-1290
+            if (updatedObject instanceof HasRevision) {
+                ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+            }
+        }
+        updatedObjects.clear();
+    }
+
+    /**
+     * Checks the update count of every row in the batch results.
+     *
+     * Some JDBC drivers (e.g. older Oracle drivers) report {@link Statement#SUCCESS_NO_INFO} instead of the update count of a batched statement.
+     * Concurrent updates can't be detected then, so the batched flush is disabled on the session factory and the transaction is rolled back
+     * with an optimistic locking exception. A retry of the transaction uses the regular flush, which checks every statement.
+     *
+     * @param onlyRevisionedEntities when true, only a row for an entity implementing {@link HasRevision} is considered
+     *                               to be an optimistic locking failure when no record was affected.
+     */
+    protected void verifyBatchResults(List<BatchResult> batchResults, boolean onlyRevisionedEntities) {
+        for (BatchResult batchResult : batchResults) {
+            int[] updateCounts = batchResult.getUpdateCounts();
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            for (int i = 0; i < updateCounts.length; i++) {
+                Object parameterObject = parameterObjects.get(i);
+                if (onlyRevisionedEntities && !(parameterObject instanceof HasRevision)) {
+                    continue;
+                }
+
+                if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                    LOGGER.warn("The JDBC driver doesn't report the update counts of batched statements, disabling the batched flush");
+                    dbSqlSessionFactory.setBatchedFlushEnabled(false);
+                    throw new FlowableOptimisticLockingException("Could not verify that " + parameterObject
+                            + " was not updated by another transaction concurrently, the JDBC driver doesn't report the update counts of batched statements");
+
+                } else if (updateCounts[i] == 0) {
+                    throw new FlowableOptimisticLockingException(parameterObject + " was updated by another transaction concurrently");
+                }
+            }
+        }
+    }
+
+    protected BatchedFlushExecutor createBatchedFlushExecutor() {
+        return new BatchedFlushExecutor(sqlSession);
+    }
+
     protected void flushDeletes() {
 
         if (deletedObjects.size() == 0 && bulkDeleteOperations.size() == 0) {
@@ -628,6 +752,11 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        if (dbSqlSessionFactory.isBatchedFlushEnabled() && entitiesToDelete.size() > 1) {
+            flushBatchedDeleteEntities(entityClass, entitiesToDelete);
+            return;
+        }
+
         for (Entity entity : entitiesToDelete) {
             String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
             deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
@@ -648,6 +777,33 @@ public class DbSqlSession implements Session {
         }
     }
 
+    /**
+     * Executes the deletes of one entity class as one JDBC batch.
+     * The batch is executed immediately, so the deletion order between entity classes and the bulk delete operations is kept.
+     */
+    protected void flushBatchedDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        BatchedFlushExecutor batchedFlushExecutor = createBatchedFlushExecutor();
+        try {
+            for (Entity entity : entitiesToDelete) {
+                String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
+                deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
+                if (deleteStatement == null) {
+                    throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
+                }
+
+                LOGGER.debug("deleting (batched): {}", entity);
+                batchedFlushExecutor.add(deleteStatement, entity);
+            }
+
+            // It only makes sense to check for optimistic locking exceptions
+            // for objects that actually have a revision
+            verifyBatchResults(batchedFlushExecutor.flush(), true);
+
+        } finally {
+            batchedFlushExecutor.close();
+        }
+    }
+
     @Override
     public void close() {
         sqlSession.close();
@@ -15,6 +15,7 @@ package org.flowable.common.engine.impl.db;
 
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.api.query.Query.NullHandlingOnOrder;
 import org.flowable.common.engine.api.query.QueryProperty;
@@ -34,6 +35,8 @@ public class ListQueryParameterObject {
     public static final String SORTORDER_ASC = "asc";
     public static final String SORTORDER_DESC = "desc";
 
+    protected static final String ID_COLUMN = "RES.ID_";
+
     protected int firstResult = -1;
     protected int maxResults = -1;
     protected Object parameter;
@@ -44,6 +47,16 @@ public class ListQueryParameterObject {
     protected NullHandlingOnOrder nullHandlingOnOrder;
     protected ResultType resultType;
     protected String databaseType;
+
+    // When set, the rows of a select are passed one by one to this consumer instead of being collected in a list
+    protected transient Consumer<Object> resultConsumer;
+
+    // Keyset pagination: when enabled, only the rows after the row with the given sort value and id are selected
+    protected boolean searchAfter;
+    protected Object searchAfterValue;
+    protected String searchAfterId;
+    // Only used together with keyset pagination on the id: when set, the rows after the id up to this id are selected
+    protected String searchUntilId;
     
     public ListQueryParameterObject() {
         
@@ -178,6 +191,10 @@ public class ListQueryParameterObject {
 
     public String getOrderByColumns() {
         if (orderByColumns != null) {
+            if (searchAfter && !orderByColumnMap.containsKey(ID_COLUMN)) {
+                // The id makes the order unique, which is needed to continue after a row
+                return orderByColumns + ", " + ID_COLUMN + " " + (isSearchAfterAscending() ? SORTORDER_ASC : SORTORDER_DESC);
+            }
             return orderByColumns;
         } else {
             return "RES.ID_ asc";
@@ -204,4 +221,55 @@ public class ListQueryParameterObject {
         this.nullHandlingColumn = nullHandlingColumn;
     }
     
+    public Consumer<Object> getResultConsumer() {
+        return resultConsumer;
+    }
+
+    public void setResultConsumer(Consumer<Object> resultConsumer) {
+        this.resultConsumer = resultConsumer;
+    }
+    
+    public boolean isSearchAfter() {
+        return searchAfter;
+    }
+
+    public Object getSearchAfterValue() {
+        return searchAfterValue;
+    }
+
+    public String getSearchAfterId() {
+        return searchAfterId;
+    }
+
+    public String getSearchUntilId() {
+        return searchUntilId;
+    }
+
+    public void setSearchUntilId(String searchUntilId) {
+        this.searchUntilId = searchUntilId;
+    }
+
+    /**
+     * @return the column the rows are ordered on before the id, or null when the rows are only ordered on the id.
+     */
+    public String getSearchAfterColumn() {
+        if (orderByColumnMap.isEmpty()) {
+            return null;
+        }
+        String column = orderByColumnMap.keySet().iterator().next();
+        return ID_COLUMN.equals(column) ? null : column;
+    }
+
+    public boolean isSearchAfterAscending() {
+        return orderByColumnMap.isEmpty() || orderByColumnMap.values().iterator().next();
+    }
+
+    public String getSearchAfterOperator() {
+        return isSearchAfterAscending() ? ">" : "<";
+    }
+
+    public String getSearchUntilOperator() {
+        return isSearchAfterAscending() ? "<=" : ">=";
+    }
+
 }
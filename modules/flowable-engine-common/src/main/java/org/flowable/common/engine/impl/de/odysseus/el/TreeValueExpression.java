@@ -212,6 +212,20 @@ public final class TreeValueExpression extends ValueExpression {
 		return "TreeValueExpression(" + expr + ")";
 	}
 
+	/**
+	 * Answer the root node of the parse tree.
+	 */
+	public ExpressionNode getRoot() {
+		return node;
+	}
+
+	/**
+	 * Answer the function, variable and type converter bindings of this expression.
+	 */
+	public Bindings getBindings() {
+		return bindings;
+	}
+
 	/**
 	 * Print the parse tree.
 	 * @param writer
@@ -31,6 +31,10 @@ public class AstDot extends AstProperty {
 		this.property = property;
 	}
 
+	public String getPropertyName() {
+		return property;
+	}
+
 	@Override
 	protected String getProperty(Bindings bindings, ELContext context) throws ELException {
 		return property;
@@ -0,0 +1,134 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import org.flowable.common.engine.impl.de.odysseus.el.TreeValueExpression;
+import org.flowable.common.engine.impl.el.ExpressionCompiler.CompiledNode;
+import org.flowable.common.engine.impl.javax.el.ELContext;
+import org.flowable.common.engine.impl.javax.el.ValueExpression;
+import org.flowable.common.engine.impl.javax.el.ValueReference;
+
+/**
+ * A {@link ValueExpression} that is interpreted by the wrapped {@link TreeValueExpression} until it has been evaluated
+ * a number of times, after which {@link #getValue(ELContext)} uses the expression compiled by the {@link ExpressionCompiler}.
+ *
+ * All other operations are delegated to the wrapped expression.
+ */
+public class CompiledValueExpression extends ValueExpression {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final TreeValueExpression delegate;
+    protected final transient ExpressionCompiler expressionCompiler;
+    protected final int compilationThreshold;
+
+    // Not synchronized: a lost update only delays the compilation, and compiling twice results in an equivalent node
+    protected transient int evaluationCount;
+    protected transient volatile CompiledNode compiledNode;
+
+    public CompiledValueExpression(ExpressionCompiler expressionCompiler, TreeValueExpression delegate, int compilationThreshold) {
+        this.expressionCompiler = expressionCompiler;
+        this.delegate = delegate;
+        this.compilationThreshold = compilationThreshold;
+    }
+
+    @Override
+    public Object getValue(ELContext context) {
+        CompiledNode node = compiledNode;
+        if (node == null) {
+            node = compileIfHot();
+            if (node == null) {
+                return delegate.getValue(context);
+            }
+        }
+
+        Object value = node.eval(context);
+        Class<?> expectedType = delegate.getExpectedType();
+        if (expectedType != null) {
+            value = delegate.getBindings().convert(value, expectedType);
+        }
+        return value;
+    }
+
+    protected CompiledNode compileIfHot() {
+        if (expressionCompiler == null || evaluationCount++ < compilationThreshold) {
+            return null;
+        }
+
+        CompiledNode node = expressionCompiler.compileTree(delegate);
+        compiledNode = node;
+        return node;
+    }
+
+    public boolean isCompiled() {
+        return compiledNode != null;
+    }
+
+    public TreeValueExpression getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public Class<?> getExpectedType() {
+        return delegate.getExpectedType();
+    }
+
+    @Override
+    public Class<?> getType(ELContext context) {
+        return delegate.getType(context);
+    }
+
+    @Override
+    public boolean isReadOnly(ELContext context) {
+        return delegate.isReadOnly(context);
+    }
+
+    @Override
+    public void setValue(ELContext context, Object value) {
+        delegate.setValue(context, value);
+    }
+
+    @Override
+    public ValueReference getValueReference(ELContext context) {
+        return delegate.getValueReference(context);
+    }
+
+    @Override
+    public String getExpressionString() {
+        return delegate.getExpressionString();
+    }
+
+    @Override
+    public boolean isLiteralText() {
+        return delegate.isLiteralText();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof CompiledValueExpression) {
+            return delegate.equals(((CompiledValueExpression) obj).delegate);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledValueExpression(" + delegate.getExpressionString() + ")";
+    }
+
+}
@@ -55,6 +55,8 @@ public class DefaultExpressionManager implements ExpressionManager {
     
     protected DeploymentCache<Expression> expressionCache;
     protected int expressionTextLengthCacheLimit = -1;
+
+    protected ExpressionCompiler expressionCompiler;
     
     protected List<ELResolver> preDefaultResolvers;
     protected List<ELResolver> postDefaultResolvers;
@@ -86,6 +88,9 @@ public class DefaultExpressionManager implements ExpressionManager {
         String expressionText = text.trim();
         
         ValueExpression valueExpression = expressionFactory.createValueExpression(parsingElContext, expressionText, Object.class);
+        if (expressionCompiler != null) {
+            valueExpression = expressionCompiler.compile(valueExpression);
+        }
         Expression expression = createJuelExpression(text, valueExpression);
         
         if (isCacheEnabled(text)) {
@@ -235,6 +240,17 @@ public class DefaultExpressionManager implements ExpressionManager {
         this.expressionTextLengthCacheLimit = expressionTextLengthCacheLimit;
     }
 
+    public ExpressionCompiler getExpressionCompiler() {
+        return expressionCompiler;
+    }
+
+    /**
+     * Sets the compiler used for expressions that are evaluated often. When not set, all expressions are interpreted.
+     */
+    public void setExpressionCompiler(ExpressionCompiler expressionCompiler) {
+        this.expressionCompiler = expressionCompiler;
+    }
+
     public void addPreDefaultResolver(ELResolver elResolver) {
         if (this.preDefaultResolvers == null) {
             this.preDefaultResolvers = new ArrayList<>();
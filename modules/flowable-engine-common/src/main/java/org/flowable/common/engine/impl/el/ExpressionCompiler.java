@@ -0,0 +1,304 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import org.flowable.common.engine.impl.de.odysseus.el.TreeValueExpression;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.BooleanOperations;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.LocalMessages;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.NumberOperations;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Bindings;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Node;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstBinary;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstBoolean;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstChoice;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstDot;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstEval;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstIdentifier;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstMethod;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNested;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNode;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNull;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNumber;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstParameters;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstString;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstText;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstUnary;
+import org.flowable.common.engine.impl.javax.el.ELContext;
+import org.flowable.common.engine.impl.javax.el.MethodNotFoundException;
+import org.flowable.common.engine.impl.javax.el.PropertyNotFoundException;
+import org.flowable.common.engine.impl.javax.el.ValueExpression;
+
+/**
+ * Compiles the parse tree of a JUEL expression into a tree of {@link CompiledNode} closures.
+ *
+ * The compiled form evaluates with exactly the same semantics as the interpreted parse tree:
+ * identifiers, properties and method calls are still resolved through the {@link ELContext#getELResolver() ELResolver}
+ * of the context and operators use the same conversion rules. What is saved is the generic tree walk:
+ * operators are bound once, literals are converted once and sub-expressions without identifiers are folded into constants.
+ *
+ * Nodes that are not supported (e.g. functions, bracket access or composite text) are evaluated through the parse tree,
+ * so every expression can be compiled.
+ *
+ * Expressions are only compiled after they have been evaluated {@link #getCompilationThreshold()} times,
+ * as compiling expressions that are evaluated only a few times is not worth it.
+ */
+public class ExpressionCompiler {
+
+    protected int compilationThreshold = 100;
+
+    /**
+     * Returns a value expression that compiles the given expression once it is hot, or the given expression when it can't be compiled.
+     */
+    public ValueExpression compile(ValueExpression valueExpression) {
+        if (valueExpression instanceof TreeValueExpression && !valueExpression.isLiteralText()) {
+            return new CompiledValueExpression(this, (TreeValueExpression) valueExpression, compilationThreshold);
+        }
+        return valueExpression;
+    }
+
+    public CompiledNode compileTree(TreeValueExpression valueExpression) {
+        return compileNode(valueExpression.getRoot(), valueExpression.getBindings());
+    }
+
+    protected CompiledNode compileNode(Node node, Bindings bindings) {
+        Class<?> nodeClass = node.getClass();
+        if (nodeClass == AstEval.class || nodeClass == AstNested.class) {
+            return compileNode(node.getChild(0), bindings);
+
+        } else if (nodeClass == AstBoolean.class || nodeClass == AstNumber.class || nodeClass == AstString.class
+                || nodeClass == AstNull.class || nodeClass == AstText.class) {
+            return new ConstantNode(((AstNode) node).eval(bindings, null));
+
+        } else if (nodeClass == AstIdentifier.class) {
+            return compileIdentifier((AstIdentifier) node, bindings);
+
+        } else if (nodeClass == AstDot.class) {
+            return compileDot((AstDot) node, bindings);
+
+        } else if (nodeClass == AstMethod.class && node.getChild(0).getClass() == AstDot.class) {
+            return compileMethod((AstMethod) node, bindings);
+
+        } else if (nodeClass == AstBinary.class) {
+            return compileBinary((AstBinary) node, bindings);
+
+        } else if (nodeClass == AstUnary.class) {
+            return compileUnary((AstUnary) node, bindings);
+
+        } else if (nodeClass == AstChoice.class) {
+            return compileChoice(node, bindings);
+
+        }
+
+        return interpret(node, bindings);
+    }
+
+    protected CompiledNode compileIdentifier(AstIdentifier identifier, Bindings bindings) {
+        if (bindings.isVariableBound(identifier.getIndex())) {
+            return interpret(identifier, bindings);
+        }
+
+        String name = identifier.getName();
+        return context -> {
+            context.setPropertyResolved(false);
+            Object result = context.getELResolver().getValue(context, null, name);
+            if (!context.isPropertyResolved()) {
+                throw new PropertyNotFoundException(LocalMessages.get("error.identifier.property.notfound", name));
+            }
+            return result;
+        };
+    }
+
+    protected CompiledNode compileDot(AstDot dot, Bindings bindings) {
+        CompiledNode prefix = compileNode(dot.getChild(0), bindings);
+        String property = dot.getPropertyName();
+        if (property == null) {
+            return interpret(dot, bindings);
+        }
+
+        return context -> {
+            Object base = prefix.eval(context);
+            if (base == null) {
+                return null;
+            }
+            context.setPropertyResolved(false);
+            Object result = context.getELResolver().getValue(context, base, property);
+            if (!context.isPropertyResolved()) {
+                throw new PropertyNotFoundException(LocalMessages.get("error.property.property.notfound", property, base));
+            }
+            return result;
+        };
+    }
+
+    protected CompiledNode compileMethod(AstMethod method, Bindings bindings) {
+        AstDot property = (AstDot) method.getChild(0);
+        if (property.getPropertyName() == null) {
+            return interpret(method, bindings);
+        }
+
+        CompiledNode prefix = compileNode(property.getChild(0), bindings);
+        String name = property.getPropertyName();
+        AstParameters parameters = (AstParameters) method.getChild(1);
+        CompiledNode[] compiledParameters = new CompiledNode[parameters.getCardinality()];
+        for (int i = 0; i < compiledParameters.length; i++) {
+            compiledParameters[i] = compileNode(parameters.getChild(i), bindings);
+        }
+
+        return context -> {
+            Object base = prefix.eval(context);
+            if (base == null) {
+                return null;
+            }
+            Object[] parameterValues = new Object[compiledParameters.length];
+            for (int i = 0; i < compiledParameters.length; i++) {
+                parameterValues[i] = compiledParameters[i].eval(context);
+            }
+            context.setPropertyResolved(false);
+            Object result = context.getELResolver().invoke(context, base, name, null, parameterValues);
+            if (!context.isPropertyResolved()) {
+                throw new MethodNotFoundException(LocalMessages.get("error.property.method.notfound", name, base.getClass()));
+            }
+            return result;
+        };
+    }
+
+    protected CompiledNode compileBinary(AstBinary binary, Bindings bindings) {
+        CompiledNode left = compileNode(binary.getChild(0), bindings);
+        CompiledNode right = compileNode(binary.getChild(1), bindings);
+        return foldConstants(compileOperator(binary, bindings, left, right), left, right);
+    }
+
+    protected CompiledNode compileOperator(AstBinary binary, Bindings bindings, CompiledNode left, CompiledNode right) {
+        AstBinary.Operator operator = binary.getOperator();
+        if (operator == AstBinary.AND) {
+            return context -> {
+                Boolean l = bindings.convert(left.eval(context), Boolean.class);
+                return Boolean.TRUE.equals(l) ? bindings.convert(right.eval(context), Boolean.class) : Boolean.FALSE;
+            };
+        } else if (operator == AstBinary.OR) {
+            return context -> {
+                Boolean l = bindings.convert(left.eval(context), Boolean.class);
+                return Boolean.TRUE.equals(l) ? Boolean.TRUE : bindings.convert(right.eval(context), Boolean.class);
+            };
+        } else if (operator == AstBinary.EQ) {
+            return context -> BooleanOperations.eq(bindings, left.eval(context), right.eval(context));
+        } else if (operator == AstBinary.NE) {
+            return context -> BooleanOperations.ne(bindings, left.eval(context), right.eval(context));
+        } else if (operator == AstBinary.LT) {
+            return context -> BooleanOperations.lt(bindings, left.eval(context), right.eval(context));
+        } else if (operator == AstBinary.LE) {
+            return context -> BooleanOperations.le(bindings, left.eval(context), right.eval(context));
+        } else if (operator == AstBinary.GT) {
+            return context -> BooleanOperations.gt(bindings, left.eval(context), right.eval(context));
+        } else if (operator == AstBinary.GE) {
+            return context -> BooleanOperations.ge(bindings, left.eval(context), right.eval(context));
+        } else if (operator == AstBinary.ADD) {
+            return context -> NumberOperations.add(bindings, left.eval(context), right.eval(context));
+        } else if (operator == AstBinary.SUB) {
+            return context -> NumberOperations.sub(bindings, left.eval(context), right.eval(context));
+        } else if (operator == AstBinary.MUL) {
+            return context -> NumberOperations.mul(bindings, left.eval(context), right.eval(context));
+        } else if (operator == AstBinary.DIV) {
+            return context -> NumberOperations.div(bindings, left.eval(context), right.eval(context));
+        } else if (operator == AstBinary.MOD) {
+            return context -> NumberOperations.mod(bindings, left.eval(context), right.eval(context));
+        }
+
+        return interpret(binary, bindings);
+    }
+
+    protected CompiledNode compileUnary(AstUnary unary, Bindings bindings) {
+        CompiledNode child = compileNode(unary.getChild(0), bindings);
+        return foldConstants(compileOperator(unary, bindings, child), child);
+    }
+
+    protected CompiledNode compileOperator(AstUnary unary, Bindings bindings, CompiledNode child) {
+        AstUnary.Operator operator = unary.getOperator();
+        if (operator == AstUnary.NOT) {
+            return context -> !bindings.convert(child.eval(context), Boolean.class);
+        } else if (operator == AstUnary.EMPTY) {
+            return context -> BooleanOperations.empty(bindings, child.eval(context));
+        } else if (operator == AstUnary.NEG) {
+            return context -> NumberOperations.neg(bindings, child.eval(context));
+        }
+
+        return interpret(unary, bindings);
+    }
+
+    protected CompiledNode compileChoice(Node choice, Bindings bindings) {
+        CompiledNode question = compileNode(choice.getChild(0), bindings);
+        CompiledNode yes = compileNode(choice.getChild(1), bindings);
+        CompiledNode no = compileNode(choice.getChild(2), bindings);
+        return foldConstants(context -> {
+            Boolean value = bindings.convert(question.eval(context), Boolean.class);
+            return value.booleanValue() ? yes.eval(context) : no.eval(context);
+        }, question, yes, no);
+    }
+
+    /**
+     * Replaces an operator node by its value when all its operands are constants.
+     * When the evaluation fails, the failure is left for evaluation time, as it would be without compilation.
+     */
+    protected CompiledNode foldConstants(CompiledNode compiledNode, CompiledNode... operands) {
+        for (CompiledNode operand : operands) {
+            if (!(operand instanceof ConstantNode)) {
+                return compiledNode;
+            }
+        }
+
+        try {
+            return new ConstantNode(compiledNode.eval(null));
+        } catch (RuntimeException e) {
+            return compiledNode;
+        }
+    }
+
+    protected CompiledNode interpret(Node node, Bindings bindings) {
+        AstNode astNode = (AstNode) node;
+        return context -> astNode.eval(bindings, context);
+    }
+
+    public int getCompilationThreshold() {
+        return compilationThreshold;
+    }
+
+    /**
+     * Sets the number of evaluations after which an expression is compiled. With 0 expressions are compiled on their first evaluation.
+     */
+    public void setCompilationThreshold(int compilationThreshold) {
+        this.compilationThreshold = compilationThreshold;
+    }
+
+    /**
+     * A compiled node of an expression.
+     */
+    @FunctionalInterface
+    public interface CompiledNode {
+
+        Object eval(ELContext context);
+    }
+
+    protected static class ConstantNode implements CompiledNode {
+
+        protected final Object value;
+
+        public ConstantNode(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            return value;
+        }
+    }
+
+}
@@ -103,4 +103,8 @@ public class JuelExpression implements Expression {
         return expressionText;
     }
 
+    public ValueExpression getValueExpression() {
+        return valueExpression;
+    }
+
 }
@@ -84,6 +84,19 @@ public class FlowableEventSupport {
         }
     }
 
+    public boolean hasListeners() {
+        if (!eventListeners.isEmpty()) {
+            return true;
+        }
+
+        for (List<FlowableEventListener> listeners : typedListeners.values()) {
+            if (!listeners.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public void dispatchEvent(FlowableEvent event) {
         if (event == null) {
             throw new FlowableIllegalArgumentException("Event cannot be null.");
@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.interceptor;
+
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.EntityCacheStatistics;
+import org.flowable.common.engine.impl.persistence.cache.IndexedEntityCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reports the {@link EntityCacheStatistics} of every command that used an {@link IndexedEntityCache}.
+ * By default, the statistics are logged on debug level. Override {@link #report(Command, EntityCacheStatistics)} to send them elsewhere.
+ *
+ * This interceptor needs a {@link CommandContext}, hence it should be added as a custom post command interceptor.
+ */
+public class EntityCacheStatisticsInterceptor extends AbstractCommandInterceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EntityCacheStatisticsInterceptor.class);
+
+    @Override
+    public <T> T execute(CommandConfig config, Command<T> command, CommandExecutor commandExecutor) {
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext == null || commandContext.isReused()) {
+            // Statistics are only reported for the command that owns the command context
+            return next.execute(config, command, commandExecutor);
+        }
+
+        try {
+
+            return next.execute(config, command, commandExecutor);
+
+        } finally {
+            Session entityCache = commandContext.getSessions().get(EntityCache.class);
+            if (entityCache instanceof IndexedEntityCache) {
+                report(command, ((IndexedEntityCache) entityCache).getStatistics());
+            }
+        }
+    }
+
+    protected void report(Command<?> command, EntityCacheStatistics statistics) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Entity cache statistics for {}: {}", command.getClass().getSimpleName(), statistics);
+        }
+    }
+
+}
@@ -14,6 +14,7 @@ package org.flowable.common.engine.impl.persistence.cache;
 
 import java.util.HashMap;
 
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
 /**
@@ -32,9 +33,28 @@ public class CachedEntity {
      */
     protected Object originalPersistentState;
 
+    /**
+     * True when the {@link DirtyTrackingEntity#isDirty()} flag of the entity is used instead of the 'persistent state' comparison.
+     */
+    protected boolean dirtyTracked;
+
     public CachedEntity(Entity entity, boolean storeState) {
+        this(entity, storeState, false);
+    }
+
+    public CachedEntity(Entity entity, boolean storeState, boolean useDirtyTracking) {
         this.entity = entity;
-        if (storeState) {
+        if (useDirtyTracking && entity instanceof DirtyTrackingEntity) {
+            this.dirtyTracked = true;
+            DirtyTrackingEntity dirtyTrackingEntity = (DirtyTrackingEntity) entity;
+            if (storeState) {
+                // The setters called while the entity was loaded have marked it as dirty
+                dirtyTrackingEntity.clearDirty();
+            } else {
+                dirtyTrackingEntity.markDirty();
+            }
+
+        } else if (storeState) {
             this.originalPersistentState = entity.getPersistentState();
             entity.setOriginalPersistentState(originalPersistentState);
         } else if (entity.getOriginalPersistentState() == null){
@@ -58,7 +78,15 @@ public class CachedEntity {
         this.originalPersistentState = originalPersistentState;
     }
 
+    public boolean isDirtyTracked() {
+        return dirtyTracked;
+    }
+
     public boolean hasChanged() {
+        if (dirtyTracked) {
+            return ((DirtyTrackingEntity) entity).isDirty();
+        }
+
         Object currentPersistentState = entity.getPersistentState();
         return currentPersistentState != null && !entity.getPersistentState().equals(originalPersistentState)
                 || currentPersistentState == null && originalPersistentState != null;
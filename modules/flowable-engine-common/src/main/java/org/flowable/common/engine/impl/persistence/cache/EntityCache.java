@@ -53,6 +53,14 @@ public interface EntityCache extends Session {
      */
     <T> List<T> findInCache(Class<T> entityClass);
 
+    /**
+     * Returns all cached {@link Entity} instances of a given type as a read-only view, which avoids copying them into a new list when the implementation supports it.
+     * The view must not be used anymore when entities are put in the cache or removed from the cache.
+     */
+    default <T> Collection<T> findInCacheAsView(Class<T> entityClass) {
+        return findInCache(entityClass);
+    }
+
     /**
      * Returns all {@link CachedEntity} instances for the given type. The difference with {@link #findInCache(Class)} is that here the whole {@link CachedEntity} is returned, which gives access to the
      * persistent state at the moment of putting it in the cache.
@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
 /**
@@ -28,6 +29,12 @@ public class EntityCacheImpl implements EntityCache {
 
     protected Map<Class<?>, Map<String, CachedEntity>> cachedObjects = new HashMap<>();
 
+    /**
+     * When enabled, no persistent state snapshot is taken for entities implementing {@link DirtyTrackingEntity}:
+     * their own dirty flag is used to determine whether they need to be updated.
+     */
+    protected boolean dirtyTrackingEnabled;
+
     @Override
     public CachedEntity put(Entity entity, boolean storeState) {
         Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
@@ -35,11 +42,15 @@ public class EntityCacheImpl implements EntityCache {
             classCache = new HashMap<>();
             cachedObjects.put(entity.getClass(), classCache);
         }
-        CachedEntity cachedObject = new CachedEntity(entity, storeState);
+        CachedEntity cachedObject = createCachedEntity(entity, storeState);
         classCache.put(entity.getId(), cachedObject);
         return cachedObject;
     }
 
+    protected CachedEntity createCachedEntity(Entity entity, boolean storeState) {
+        return new CachedEntity(entity, storeState, dirtyTrackingEnabled);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> T findInCache(Class<T> entityClass, String id) {
@@ -122,4 +133,12 @@ public class EntityCacheImpl implements EntityCache {
     public void flush() {
 
     }
+
+    public boolean isDirtyTrackingEnabled() {
+        return dirtyTrackingEnabled;
+    }
+
+    public void setDirtyTrackingEnabled(boolean dirtyTrackingEnabled) {
+        this.dirtyTrackingEnabled = dirtyTrackingEnabled;
+    }
 }
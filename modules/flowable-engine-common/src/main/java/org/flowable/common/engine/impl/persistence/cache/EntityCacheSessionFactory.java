@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.Session;
+import org.flowable.common.engine.impl.interceptor.SessionFactory;
+
+/**
+ * Creates the {@link EntityCache} of a command, either a plain {@link EntityCacheImpl} or an {@link IndexedEntityCache},
+ * optionally with dirty tracking enabled.
+ */
+public class EntityCacheSessionFactory implements SessionFactory {
+
+    protected boolean useIndexedEntityCache;
+    protected boolean dirtyTrackingEnabled;
+
+    public EntityCacheSessionFactory(boolean useIndexedEntityCache, boolean dirtyTrackingEnabled) {
+        this.useIndexedEntityCache = useIndexedEntityCache;
+        this.dirtyTrackingEnabled = dirtyTrackingEnabled;
+    }
+
+    @Override
+    public Class<?> getSessionType() {
+        return EntityCache.class;
+    }
+
+    @Override
+    public Session openSession(CommandContext commandContext) {
+        EntityCacheImpl entityCache = useIndexedEntityCache ? new IndexedEntityCache() : new EntityCacheImpl();
+        entityCache.setDirtyTrackingEnabled(dirtyTrackingEnabled);
+        return entityCache;
+    }
+
+    public boolean isUseIndexedEntityCache() {
+        return useIndexedEntityCache;
+    }
+
+    public void setUseIndexedEntityCache(boolean useIndexedEntityCache) {
+        this.useIndexedEntityCache = useIndexedEntityCache;
+    }
+
+    public boolean isDirtyTrackingEnabled() {
+        return dirtyTrackingEnabled;
+    }
+
+    public void setDirtyTrackingEnabled(boolean dirtyTrackingEnabled) {
+        this.dirtyTrackingEnabled = dirtyTrackingEnabled;
+    }
+}
@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+/**
+ * Counters of an {@link IndexedEntityCache} for the {@link org.flowable.common.engine.impl.interceptor.CommandContext} it belongs to.
+ */
+public class EntityCacheStatistics {
+
+    protected long entitiesCached;
+    protected long hits;
+    protected long misses;
+    protected long snapshotBytes;
+
+    public EntityCacheStatistics(long entitiesCached, long hits, long misses, long snapshotBytes) {
+        this.entitiesCached = entitiesCached;
+        this.hits = hits;
+        this.misses = misses;
+        this.snapshotBytes = snapshotBytes;
+    }
+
+    /**
+     * The number of entities that were put in the cache.
+     */
+    public long getEntitiesCached() {
+        return entitiesCached;
+    }
+
+    /**
+     * The number of lookups by id that found an entity in the cache.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * The number of lookups by id that did not find an entity in the cache.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * An estimation of the memory used by the persistent state snapshots that are kept to detect updates.
+     */
+    public long getSnapshotBytes() {
+        return snapshotBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "EntityCacheStatistics[entitiesCached=" + entitiesCached + ", hits=" + hits + ", misses=" + misses + ", snapshotBytes=" + snapshotBytes + "]";
+    }
+
+}
@@ -0,0 +1,209 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * An {@link EntityCache} that resolves lookups by interface or superclass in constant time.
+ *
+ * When entities of a class are cached for the first time, the cache of that class is registered for the class itself
+ * and for all its superclasses and interfaces. The type hierarchy of a class is calculated only once and shared between all caches.
+ *
+ * The cache also counts the entities put in the cache and the hits and misses of lookups by id, see {@link #getStatistics()}.
+ */
+public class IndexedEntityCache extends EntityCacheImpl {
+
+    protected static final Map<Class<?>, Set<Class<?>>> SUPER_TYPES = new ConcurrentHashMap<>();
+
+    protected Map<Class<?>, Map<String, CachedEntity>> classCacheIndex = new HashMap<>();
+
+    protected long entitiesCached;
+    protected long hits;
+    protected long misses;
+
+    @Override
+    public CachedEntity put(Entity entity, boolean storeState) {
+        Class<? extends Entity> entityClass = entity.getClass();
+        Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
+        if (classCache == null) {
+            classCache = new HashMap<>();
+            cachedObjects.put(entityClass, classCache);
+            indexClassCache(entityClass, classCache);
+        }
+        CachedEntity cachedObject = createCachedEntity(entity, storeState);
+        classCache.put(entity.getId(), cachedObject);
+        entitiesCached++;
+        return cachedObject;
+    }
+
+    protected void indexClassCache(Class<?> entityClass, Map<String, CachedEntity> classCache) {
+        // An exact match always wins over a match through a superclass or interface
+        classCacheIndex.put(entityClass, classCache);
+        for (Class<?> superType : getSuperTypes(entityClass)) {
+            classCacheIndex.putIfAbsent(superType, classCache);
+        }
+    }
+
+    protected Set<Class<?>> getSuperTypes(Class<?> entityClass) {
+        return SUPER_TYPES.computeIfAbsent(entityClass, clazz -> {
+            Set<Class<?>> superTypes = new LinkedHashSet<>();
+            collectSuperTypes(clazz, superTypes);
+            superTypes.remove(clazz);
+            superTypes.remove(Object.class);
+            return Collections.unmodifiableSet(superTypes);
+        });
+    }
+
+    protected void collectSuperTypes(Class<?> clazz, Set<Class<?>> superTypes) {
+        if (clazz == null || !superTypes.add(clazz)) {
+            return;
+        }
+        collectSuperTypes(clazz.getSuperclass(), superTypes);
+        for (Class<?> interfaceClass : clazz.getInterfaces()) {
+            collectSuperTypes(interfaceClass, superTypes);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T findInCache(Class<T> entityClass, String id) {
+        Map<String, CachedEntity> classCache = classCacheIndex.get(entityClass);
+        if (classCache != null) {
+            CachedEntity cachedObject = classCache.get(id);
+            if (cachedObject != null) {
+                hits++;
+                return (T) cachedObject.getEntity();
+            }
+        }
+
+        misses++;
+        return null;
+    }
+
+    @Override
+    protected Map<String, CachedEntity> findClassCacheByCheckingSubclasses(Class<?> entityClass) {
+        return classCacheIndex.get(entityClass);
+    }
+
+    @Override
+    public <T> List<T> findInCache(Class<T> entityClass) {
+        Map<String, CachedEntity> classCache = classCacheIndex.get(entityClass);
+        if (classCache != null) {
+            return super.findInCache(entityClass);
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public <T> Collection<T> findInCacheAsView(Class<T> entityClass) {
+        Map<String, CachedEntity> classCache = classCacheIndex.get(entityClass);
+        if (classCache == null) {
+            return Collections.emptyList();
+        }
+        return new CachedEntityView<>(classCache.values());
+    }
+
+    /**
+     * @return the counters of this cache, including an estimation of the memory used by the stored persistent state snapshots.
+     */
+    public EntityCacheStatistics getStatistics() {
+        long snapshotBytes = 0L;
+        for (Map<String, CachedEntity> classCache : cachedObjects.values()) {
+            for (CachedEntity cachedEntity : classCache.values()) {
+                snapshotBytes += estimateSize(cachedEntity.getOriginalPersistentState());
+            }
+        }
+        return new EntityCacheStatistics(entitiesCached, hits, misses, snapshotBytes);
+    }
+
+    /**
+     * Rough estimation of the retained size of a persistent state, based on the usual memory layout of a 64-bit JVM.
+     */
+    protected long estimateSize(Object value) {
+        if (value == null) {
+            return 0L;
+        } else if (value instanceof Map) {
+            long size = 48L;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += 32L + estimateSize(entry.getKey()) + estimateSize(entry.getValue());
+            }
+            return size;
+        } else if (value instanceof String) {
+            return 40L + ((String) value).length();
+        } else if (value instanceof byte[]) {
+            return 16L + ((byte[]) value).length;
+        } else {
+            return 16L;
+        }
+    }
+
+    public long getEntitiesCached() {
+        return entitiesCached;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Read-only view on the entities of a class cache, without copying them.
+     */
+    protected static class CachedEntityView<T> extends AbstractCollection<T> {
+
+        protected Collection<CachedEntity> cachedEntities;
+
+        public CachedEntityView(Collection<CachedEntity> cachedEntities) {
+            this.cachedEntities = cachedEntities;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            Iterator<CachedEntity> iterator = cachedEntities.iterator();
+            return new Iterator<T>() {
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public T next() {
+                    return (T) iterator.next().getEntity();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return cachedEntities.size();
+        }
+    }
+
+}
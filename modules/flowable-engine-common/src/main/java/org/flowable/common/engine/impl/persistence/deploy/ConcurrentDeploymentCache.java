@@ -0,0 +1,358 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deployment cache that does not lock on reads.
+ *
+ * Eviction uses the CLOCK (second chance) algorithm: a read only marks an entry as referenced,
+ * and when the cache is over its limits, entries that were not referenced since the last sweep are evicted.
+ * Limits can be set on the number of entries, on the total weight of the entries (see {@link DeploymentCacheWeigher})
+ * and on the time since the last access of an entry. Without any limit, everything is kept in memory.
+ *
+ * Expired entries are not returned by any of the read methods. They are removed from the memory when they are read
+ * and by a sweep over all entries, which is done on an add at most once per expiration time.
+ *
+ * Hits, misses and evictions are counted and can be used for monitoring.
+ */
+public class ConcurrentDeploymentCache<T> implements DeploymentCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentDeploymentCache.class);
+
+    protected final ConcurrentMap<String, CacheEntry<T>> cache = new ConcurrentHashMap<>();
+    protected final Queue<CacheEntry<T>> clock = new ConcurrentLinkedQueue<>();
+    protected final AtomicInteger clockSize = new AtomicInteger();
+    protected final ReentrantLock evictionLock = new ReentrantLock();
+
+    protected int limit;
+    protected long maxWeight;
+    protected DeploymentCacheWeigher<T> weigher;
+    protected long expireAfterAccessNanos;
+    protected volatile long nextExpirySweepTime;
+
+    protected final AtomicLong totalWeight = new AtomicLong();
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final LongAdder evictionCount = new LongAdder();
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+        this(-1);
+    }
+
+    /**
+     * Cache which has a hard limit: no more elements will be cached than the limit.
+     */
+    public ConcurrentDeploymentCache(int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Cache which evicts elements when the total weight, as calculated by the weigher, exceeds the max weight.
+     */
+    public ConcurrentDeploymentCache(int limit, long maxWeight, DeploymentCacheWeigher<T> weigher) {
+        this.limit = limit;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    @Override
+    public T get(String id) {
+        CacheEntry<T> entry = cache.get(id);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+
+        if (expireAfterAccessNanos > 0) {
+            long now = nanoTime();
+            if (isExpired(entry, now)) {
+                if (removeEntry(entry)) {
+                    evictionCount.increment();
+                    LOGGER.trace("Cache entry {} expired", id);
+                }
+                missCount.increment();
+                return null;
+            }
+            entry.lastAccessTime = now;
+        }
+
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        hitCount.increment();
+        return entry.value;
+    }
+
+    @Override
+    public boolean contains(String id) {
+        CacheEntry<T> entry = cache.get(id);
+        return entry != null && (expireAfterAccessNanos <= 0 || !isExpired(entry, nanoTime()));
+    }
+
+    @Override
+    public void add(String id, T object) {
+        int weight = weigher != null ? Math.max(1, weigher.weigh(id, object)) : 1;
+        long now = nanoTime();
+        CacheEntry<T> entry = new CacheEntry<>(id, object, weight, now);
+        // A new entry is about to be used, it should not be the first one to be evicted by the sweep it triggers
+        entry.referenced = true;
+
+        CacheEntry<T> oldEntry = cache.put(id, entry);
+        totalWeight.addAndGet(weight);
+        if (oldEntry != null) {
+            // A replaced entry stays in the clock until it is polled or the clock is compacted
+            totalWeight.addAndGet(-oldEntry.weight);
+        }
+
+        if (expireAfterAccessNanos > 0 && now - nextExpirySweepTime >= 0) {
+            evictExpired(now);
+        }
+
+        if (isLimited()) {
+            clock.offer(entry);
+            clockSize.incrementAndGet();
+            evictIfNeeded();
+            compactClockIfNeeded();
+        }
+    }
+
+    @Override
+    public void remove(String id) {
+        CacheEntry<T> entry = cache.get(id);
+        if (entry != null) {
+            removeEntry(entry);
+        }
+    }
+
+    protected boolean removeEntry(CacheEntry<T> entry) {
+        if (cache.remove(entry.key, entry)) {
+            // A removed entry stays in the clock until it is polled or the clock is compacted
+            totalWeight.addAndGet(-entry.weight);
+            return true;
+        }
+        return false;
+    }
+
+    protected boolean isExpired(CacheEntry<T> entry, long now) {
+        return now - entry.lastAccessTime > expireAfterAccessNanos;
+    }
+
+    protected long nanoTime() {
+        return System.nanoTime();
+    }
+
+    protected boolean isLimited() {
+        return limit > 0 || maxWeight > 0;
+    }
+
+    protected boolean isOverLimit() {
+        return (limit > 0 && cache.size() > limit) || (maxWeight > 0 && totalWeight.get() > maxWeight);
+    }
+
+    protected void evictIfNeeded() {
+        if (!isOverLimit()) {
+            return;
+        }
+
+        evictionLock.lock();
+        try {
+            // Every entry gets at most one second chance per sweep, so the loop always ends
+            int maxSecondChances = cache.size();
+            while (isOverLimit()) {
+                CacheEntry<T> entry = clock.poll();
+                if (entry == null) {
+                    break;
+                }
+                clockSize.decrementAndGet();
+
+                if (cache.get(entry.key) != entry) {
+                    continue; // Removed or replaced concurrently
+                }
+
+                if (entry.referenced && maxSecondChances-- > 0) {
+                    entry.referenced = false;
+                    clock.offer(entry);
+                    clockSize.incrementAndGet();
+
+                } else if (cache.remove(entry.key, entry)) {
+                    totalWeight.addAndGet(-entry.weight);
+                    evictionCount.increment();
+                    LOGGER.trace("Cache limit is reached, {} will be evicted", entry.key);
+
+                }
+            }
+
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    protected void evictExpired(long now) {
+        if (!evictionLock.tryLock()) {
+            return; // Another thread is already evicting
+        }
+
+        try {
+            nextExpirySweepTime = now + expireAfterAccessNanos;
+            for (CacheEntry<T> entry : cache.values()) {
+                if (isExpired(entry, now) && removeEntry(entry)) {
+                    evictionCount.increment();
+                    LOGGER.trace("Cache entry {} expired", entry.key);
+                }
+            }
+
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removed and replaced entries are not taken out of the clock directly, as that is a linear operation.
+     * Instead, they are dropped once the clock holds twice as many entries as the cache.
+     */
+    protected void compactClockIfNeeded() {
+        if (clockSize.get() <= 2 * cache.size() + 16 || !evictionLock.tryLock()) {
+            return;
+        }
+
+        try {
+            Iterator<CacheEntry<T>> iterator = clock.iterator();
+            while (iterator.hasNext()) {
+                CacheEntry<T> entry = iterator.next();
+                if (cache.get(entry.key) != entry) {
+                    iterator.remove();
+                    clockSize.decrementAndGet();
+                }
+            }
+
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+        evictionLock.lock();
+        try {
+            clock.clear();
+            clockSize.set(0);
+        } finally {
+            evictionLock.unlock();
+        }
+        totalWeight.set(0L);
+    }
+
+    @Override
+    public Collection<T> getAll() {
+        long now = nanoTime();
+        List<T> values = new ArrayList<>(cache.size());
+        for (CacheEntry<T> entry : cache.values()) {
+            if (expireAfterAccessNanos <= 0 || !isExpired(entry, now)) {
+                values.add(entry.value);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public int size() {
+        if (expireAfterAccessNanos <= 0) {
+            return cache.size();
+        }
+
+        long now = nanoTime();
+        int size = 0;
+        for (CacheEntry<T> entry : cache.values()) {
+            if (!isExpired(entry, now)) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public long getTotalWeight() {
+        return totalWeight.get();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public DeploymentCacheWeigher<T> getWeigher() {
+        return weigher;
+    }
+
+    public long getExpireAfterAccessMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(expireAfterAccessNanos);
+    }
+
+    /**
+     * Entries that are not accessed during the given time are removed from the cache. A value of zero or lower disables expiration.
+     */
+    public void setExpireAfterAccessMillis(long expireAfterAccessMillis) {
+        this.expireAfterAccessNanos = expireAfterAccessMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(expireAfterAccessMillis) : 0L;
+        this.nextExpirySweepTime = nanoTime() + expireAfterAccessNanos;
+    }
+
+    protected static class CacheEntry<T> {
+
+        protected final String key;
+        protected final T value;
+        protected final int weight;
+        protected volatile boolean referenced;
+        protected volatile long lastAccessTime;
+
+        public CacheEntry(String key, T value, int weight, long lastAccessTime) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.lastAccessTime = lastAccessTime;
+        }
+    }
+
+}
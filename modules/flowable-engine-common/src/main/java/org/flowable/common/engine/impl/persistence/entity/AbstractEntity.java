@@ -30,6 +30,11 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     
     protected Object originalPersistentState;
 
+    /**
+     * Only used by subclasses implementing {@link DirtyTrackingEntity}.
+     */
+    protected boolean isDirty;
+
     @Override
     public String getId() {
         return id;
@@ -94,4 +99,16 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     public void setOriginalPersistentState(Object persistentState) {
         this.originalPersistentState = persistentState;
     }
+
+    public boolean isDirty() {
+        return isDirty;
+    }
+
+    public void markDirty() {
+        this.isDirty = true;
+    }
+
+    public void clearDirty() {
+        this.isDirty = false;
+    }
 }
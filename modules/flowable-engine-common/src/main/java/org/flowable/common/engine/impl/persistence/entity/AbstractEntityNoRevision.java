@@ -27,6 +27,11 @@ public abstract class AbstractEntityNoRevision implements Entity {
     
     protected Object originalPersistentState;
 
+    /**
+     * Only used by subclasses implementing {@link DirtyTrackingEntity}.
+     */
+    protected boolean isDirty;
+
     @Override
     public String getId() {
         return id;
@@ -76,4 +81,16 @@ public abstract class AbstractEntityNoRevision implements Entity {
     public void setOriginalPersistentState(Object persistentState) {
         this.originalPersistentState = persistentState;
     }
+
+    public boolean isDirty() {
+        return isDirty;
+    }
+
+    public void markDirty() {
+        this.isDirty = true;
+    }
+
+    public void clearDirty() {
+        this.isDirty = false;
+    }
 }
@@ -0,0 +1,30 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.entity;
+
+/**
+ * An {@link Entity} that keeps track of its own changes, by marking itself as dirty in the setters of its persistent properties.
+ *
+ * When dirty tracking is enabled on the engine configuration, no 'persistent state' snapshot is taken when such an entity is loaded,
+ * and the entity is only updated at flush time when it is dirty.
+ * Entities for which the original persistent state is needed (for example to detect changes of a specific property) should not implement this interface.
+ */
+public interface DirtyTrackingEntity extends Entity {
+
+    boolean isDirty();
+
+    void markDirty();
+
+    void clearDirty();
+
+}
@@ -13,7 +13,9 @@
 package org.flowable.common.engine.impl.query;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -91,10 +93,61 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return (T) this;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public T searchAfter() {
+        if (!isSearchAfterSupported()) {
+            throw new FlowableIllegalArgumentException("Search after pagination is not supported by " + getClass().getName());
+        }
+        this.searchAfter = true;
+        this.searchAfterValue = null;
+        this.searchAfterId = null;
+        return (T) this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T searchAfter(Object sortValue, String id) {
+        if (id == null) {
+            throw new FlowableIllegalArgumentException("id is null");
+        }
+        searchAfter();
+        this.searchAfterValue = sortValue;
+        this.searchAfterId = id;
+        return (T) this;
+    }
+
+    /**
+     * Queries that support keyset pagination include the search after criteria of the common mapping in their where clause.
+     */
+    protected boolean isSearchAfterSupported() {
+        return false;
+    }
+
+    /**
+     * Queries that include related data, such as variables, in their results fetch that data with more than one select,
+     * so they can't pass their results to a consumer while they are read.
+     */
+    protected boolean isIncludeRelatedData() {
+        return false;
+    }
+
     protected void checkQueryOk() {
         if (orderProperty != null) {
             throw new FlowableIllegalArgumentException("Invalid query: call asc() or desc() after using orderByXX()");
         }
+        if (searchAfter) {
+            if (orderByColumns != null && (orderByColumnMap.size() != 1 || !orderByColumns.equals(
+                    orderByColumnMap.keySet().iterator().next() + " " + (isSearchAfterAscending() ? SORTORDER_ASC : SORTORDER_DESC)))) {
+                throw new FlowableIllegalArgumentException("Invalid query: search after pagination only supports ordering on one property, without null handling");
+            }
+            if (searchAfterId != null && searchAfterValue == null && getSearchAfterColumn() != null) {
+                throw new FlowableIllegalArgumentException("Invalid query: the sort value to search after is required when ordering on " + getSearchAfterColumn());
+            }
+            if (searchUntilId != null && getSearchAfterColumn() != null) {
+                throw new FlowableIllegalArgumentException("Invalid query: search until an id is only supported when ordering on the id");
+            }
+        }
     }
 
     @Override
@@ -135,6 +188,57 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return executeList(Context.getCommandContext());
     }
 
+    /**
+     * Executes the query in one command, in which the results are read from the database with one select
+     * and passed to the consumer while they are read. The results are not stored in the entity cache and are not
+     * post-processed as for {@link #list()}, e.g. no localization is applied. Queries that include variables are not supported.
+     * Note that the JDBC driver determines how many rows are fetched from the database at once,
+     * for some drivers the default fetch size of MyBatis needs to be configured to avoid that all rows are fetched upfront.
+     */
+    @Override
+    public void forEach(int batchSize, Consumer<List<U>> batchConsumer) {
+        if (batchSize <= 0) {
+            throw new FlowableIllegalArgumentException("The batch size must be positive");
+        }
+
+        if (commandExecutor != null) {
+            commandExecutor.execute(commandContext -> {
+                executeForEach(commandContext, batchSize, batchConsumer);
+                return null;
+            });
+        } else {
+            executeForEach(Context.getCommandContext(), batchSize, batchConsumer);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void executeForEach(CommandContext commandContext, int batchSize, Consumer<List<U>> batchConsumer) {
+        if (isIncludeRelatedData()) {
+            throw new FlowableIllegalArgumentException("Invalid query: forEach is not supported for queries that include variables or identity links");
+        }
+        checkQueryOk();
+        this.resultType = ResultType.LIST;
+
+        List<U> batch = new ArrayList<>(batchSize);
+        this.resultConsumer = result -> {
+            batch.add((U) result);
+            if (batch.size() >= batchSize) {
+                batchConsumer.accept(new ArrayList<>(batch));
+                batch.clear();
+            }
+        };
+
+        try {
+            executeList(commandContext);
+        } finally {
+            this.resultConsumer = null;
+        }
+
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(batch);
+        }
+    }
+
     @Override
     public long count() {
         this.resultType = ResultType.COUNT;
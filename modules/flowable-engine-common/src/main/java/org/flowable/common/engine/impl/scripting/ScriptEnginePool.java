@@ -0,0 +1,171 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.scripting;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded pool of {@link ScriptEngine} instances of one language, for engines that are not thread-safe.
+ *
+ * An engine is used by one thread at a time: it is borrowed for an evaluation and returned afterwards,
+ * at which point its engine scope bindings are replaced by new, empty bindings.
+ * Engines are created on demand, up to the maximum size. When all engines are in use, borrowers wait
+ * for an engine to be returned, up to the max wait time.
+ */
+public class ScriptEnginePool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScriptEnginePool.class);
+
+    protected final String language;
+    protected final Supplier<ScriptEngine> scriptEngineSupplier;
+    protected final int maxSize;
+    protected final long maxWaitMillis;
+
+    protected final Semaphore permits;
+    protected final Queue<ScriptEngine> idleEngines = new ConcurrentLinkedQueue<>();
+    protected final AtomicInteger size = new AtomicInteger();
+
+    protected final LongAdder borrowCount = new LongAdder();
+    protected final LongAdder waitCount = new LongAdder();
+    protected final LongAdder timeoutCount = new LongAdder();
+    protected final LongAdder totalWaitTimeNanos = new LongAdder();
+
+    public ScriptEnginePool(String language, Supplier<ScriptEngine> scriptEngineSupplier, int maxSize, long maxWaitMillis) {
+        this.language = language;
+        this.scriptEngineSupplier = scriptEngineSupplier;
+        this.maxSize = maxSize;
+        this.maxWaitMillis = maxWaitMillis;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    public ScriptEngine borrowEngine() {
+        borrowCount.increment();
+        if (!permits.tryAcquire()) {
+            waitForEngine();
+        }
+
+        ScriptEngine scriptEngine = idleEngines.poll();
+        if (scriptEngine == null) {
+            try {
+                scriptEngine = scriptEngineSupplier.get();
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+
+            if (scriptEngine == null) {
+                permits.release();
+                throw new FlowableException("Can't find scripting engine for '" + language + "'");
+            }
+            size.incrementAndGet();
+        }
+        return scriptEngine;
+    }
+
+    protected void waitForEngine() {
+        waitCount.increment();
+        long start = System.nanoTime();
+        try {
+            boolean acquired = permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+            totalWaitTimeNanos.add(System.nanoTime() - start);
+            if (!acquired) {
+                timeoutCount.increment();
+                throw new FlowableException("No scripting engine for '" + language + "' became available within " + maxWaitMillis
+                        + " ms, all " + maxSize + " engines are in use");
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while waiting for a scripting engine for '" + language + "'", e);
+        }
+    }
+
+    public void returnEngine(ScriptEngine scriptEngine) {
+        try {
+            resetEngine(scriptEngine);
+            idleEngines.offer(scriptEngine);
+
+        } catch (RuntimeException e) {
+            // The engine is not reused when it can't be reset, a new one is created when needed
+            LOGGER.warn("Could not reset scripting engine for '{}', discarding it", language, e);
+            size.decrementAndGet();
+
+        } finally {
+            permits.release();
+        }
+    }
+
+    protected void resetEngine(ScriptEngine scriptEngine) {
+        scriptEngine.setBindings(scriptEngine.createBindings(), ScriptContext.ENGINE_SCOPE);
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    /**
+     * @return the number of engines created by this pool, both in use and idle.
+     */
+    public int getSize() {
+        return size.get();
+    }
+
+    public int getActiveCount() {
+        return maxSize - permits.availablePermits();
+    }
+
+    public int getIdleCount() {
+        return idleEngines.size();
+    }
+
+    public long getBorrowCount() {
+        return borrowCount.sum();
+    }
+
+    /**
+     * @return the number of times an engine was requested while all engines were in use.
+     */
+    public long getWaitCount() {
+        return waitCount.sum();
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+
+    public long getTotalWaitTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalWaitTimeNanos.sum());
+    }
+
+}
@@ -15,8 +15,12 @@ package org.flowable.common.engine.impl.scripting;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -25,6 +29,7 @@ import javax.script.ScriptException;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.variable.api.delegate.VariableScope;
 
 /**
@@ -43,6 +48,16 @@ public class ScriptingEngines {
     protected boolean cacheScriptingEngines = true;
     protected Map<String, ScriptEngine> cachedEngines;
 
+    protected boolean cacheCompiledScripts = true;
+    protected int compiledScriptCacheLimit = 1000;
+    protected volatile ConcurrentDeploymentCache<CompiledScript> compiledScriptCache;
+
+    protected boolean poolScriptEngines = false;
+    protected int defaultScriptEnginePoolSize = 10;
+    protected Map<String, Integer> scriptEnginePoolSizes = new HashMap<>();
+    protected long scriptEnginePoolMaxWaitMillis = 30000L;
+    protected ConcurrentMap<String, ScriptEnginePool> scriptEnginePools = new ConcurrentHashMap<>();
+
     public ScriptingEngines(ScriptBindingsFactory scriptBindingsFactory) {
         this(new ScriptEngineManager());
         this.scriptBindingsFactory = scriptBindingsFactory;
@@ -83,12 +98,33 @@ public class ScriptingEngines {
     }
 
     protected Object evaluate(String script, String language, Bindings bindings) {
-        ScriptEngine scriptEngine = getEngineByName(language);
-        return evaluate(scriptEngine, script, bindings);
+        ScriptEnginePool scriptEnginePool = scriptEnginePools.get(language);
+        if (scriptEnginePool == null) {
+            ScriptEngine scriptEngine = getEngineByName(language);
+            if (!isScriptEnginePoolEnabled(scriptEngine, language)) {
+                return evaluate(scriptEngine, language, script, bindings);
+            }
+            scriptEnginePool = scriptEnginePools.computeIfAbsent(language, this::createScriptEnginePool);
+        }
+
+        ScriptEngine scriptEngine = scriptEnginePool.borrowEngine();
+        try {
+            return evaluate(scriptEngine, language, script, bindings);
+        } finally {
+            scriptEnginePool.returnEngine(scriptEngine);
+        }
     }
 
     protected Object evaluate(ScriptEngine scriptEngine, String script, Bindings bindings) {
+        return evaluate(scriptEngine, null, script, bindings);
+    }
+
+    protected Object evaluate(ScriptEngine scriptEngine, String language, String script, Bindings bindings) {
         try {
+            CompiledScript compiledScript = getCompiledScript(scriptEngine, language, script);
+            if (compiledScript != null) {
+                return compiledScript.eval(bindings);
+            }
             return scriptEngine.eval(script, bindings);
         } catch (ScriptException e) {
             Throwable rootCause = ExceptionUtils.getRootCause(e);
@@ -99,6 +135,134 @@ public class ScriptingEngines {
         }
     }
 
+    /**
+     * Returns the cached compiled script, compiling the script when it is not cached yet.
+     * Returns null when compiled scripts can't be cached for the script engine, in which case the script text is evaluated.
+     */
+    protected CompiledScript getCompiledScript(ScriptEngine scriptEngine, String language, String script) throws ScriptException {
+        if (language == null || !isCompiledScriptCacheEnabled(scriptEngine, language)) {
+            return null;
+        }
+
+        ConcurrentDeploymentCache<CompiledScript> cache = getCompiledScriptCache();
+        String cacheKey = language + ':' + script;
+        CompiledScript compiledScript = cache.get(cacheKey);
+        if (compiledScript == null) {
+            // Concurrent callers might compile the same script, the last one is kept in the cache
+            compiledScript = ((Compilable) scriptEngine).compile(script);
+            cache.add(cacheKey, compiledScript);
+        }
+        return compiledScript;
+    }
+
+    /**
+     * Compiled scripts are only cached for engines that are cached themselves, as only those engines are safe to use by multiple threads.
+     * The JUEL script engine binds the script variables when compiling, so its compiled scripts can't be reused.
+     */
+    protected boolean isCompiledScriptCacheEnabled(ScriptEngine scriptEngine, String language) {
+        return cacheCompiledScripts
+                && scriptEngine instanceof Compilable
+                && !DEFAULT_SCRIPTING_LANGUAGE.equals(language)
+                && cachedEngines.get(language) == scriptEngine;
+    }
+
+    public ConcurrentDeploymentCache<CompiledScript> getCompiledScriptCache() {
+        if (compiledScriptCache == null) {
+            synchronized (this) {
+                if (compiledScriptCache == null) {
+                    compiledScriptCache = new ConcurrentDeploymentCache<>(compiledScriptCacheLimit);
+                }
+            }
+        }
+        return compiledScriptCache;
+    }
+
+    public void setCompiledScriptCache(ConcurrentDeploymentCache<CompiledScript> compiledScriptCache) {
+        this.compiledScriptCache = compiledScriptCache;
+    }
+
+    public boolean isCacheCompiledScripts() {
+        return cacheCompiledScripts;
+    }
+
+    public void setCacheCompiledScripts(boolean cacheCompiledScripts) {
+        this.cacheCompiledScripts = cacheCompiledScripts;
+    }
+
+    public int getCompiledScriptCacheLimit() {
+        return compiledScriptCacheLimit;
+    }
+
+    /**
+     * Sets the maximum number of compiled scripts that are cached. Needs to be set before the first script is evaluated.
+     */
+    public void setCompiledScriptCacheLimit(int compiledScriptCacheLimit) {
+        this.compiledScriptCacheLimit = compiledScriptCacheLimit;
+    }
+
+    /**
+     * When pooling is enabled, engines that are not cached, because they are not safe to use by multiple threads, are pooled instead of created for every evaluation.
+     */
+    protected boolean isScriptEnginePoolEnabled(ScriptEngine scriptEngine, String language) {
+        return poolScriptEngines && cacheScriptingEngines && cachedEngines.get(language) != scriptEngine;
+    }
+
+    protected ScriptEnginePool createScriptEnginePool(String language) {
+        int poolSize = scriptEnginePoolSizes.getOrDefault(language, defaultScriptEnginePoolSize);
+        return new ScriptEnginePool(language, () -> scriptEngineManager.getEngineByName(language), poolSize, scriptEnginePoolMaxWaitMillis);
+    }
+
+    /**
+     * @return the pool of the language, or null when the engines of the language are not pooled (yet).
+     */
+    public ScriptEnginePool getScriptEnginePool(String language) {
+        return scriptEnginePools.get(language);
+    }
+
+    public Map<String, ScriptEnginePool> getScriptEnginePools() {
+        return scriptEnginePools;
+    }
+
+    public boolean isPoolScriptEngines() {
+        return poolScriptEngines;
+    }
+
+    /**
+     * Enables pooling of the engines of languages that are not safe to use by multiple threads. Disabled by default, in which case
+     * a new engine is created for every evaluation of such a language. When enabled, an evaluation waits at most
+     * {@link #getScriptEnginePoolMaxWaitMillis()} for a free engine once all engines of the pool are in use.
+     */
+    public void setPoolScriptEngines(boolean poolScriptEngines) {
+        this.poolScriptEngines = poolScriptEngines;
+    }
+
+    public int getDefaultScriptEnginePoolSize() {
+        return defaultScriptEnginePoolSize;
+    }
+
+    public void setDefaultScriptEnginePoolSize(int defaultScriptEnginePoolSize) {
+        this.defaultScriptEnginePoolSize = defaultScriptEnginePoolSize;
+    }
+
+    public Map<String, Integer> getScriptEnginePoolSizes() {
+        return scriptEnginePoolSizes;
+    }
+
+    /**
+     * Sets the maximum number of pooled engines per language. Languages without a size use the default pool size.
+     */
+    public void setScriptEnginePoolSizes(Map<String, Integer> scriptEnginePoolSizes) {
+        this.scriptEnginePoolSizes = scriptEnginePoolSizes;
+    }
+
+    public long getScriptEnginePoolMaxWaitMillis() {
+        return scriptEnginePoolMaxWaitMillis;
+    }
+
+    public void setScriptEnginePoolMaxWaitMillis(long scriptEnginePoolMaxWaitMillis) {
+        this.scriptEnginePoolMaxWaitMillis = scriptEnginePoolMaxWaitMillis;
+    }
+
     protected ScriptEngine getEngineByName(String language) {
         ScriptEngine scriptEngine = null;
 
@@ -12,8 +12,10 @@
  */
 package org.flowable.common.engine.impl.util;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -67,4 +69,30 @@ public class CollectionUtil {
         return !isEmpty(collection);
     }
 
+    /**
+     * Helper method that splits a collection into lists of at most the given size, in iteration order.
+     * 
+     * Typically used to keep the number of elements in an SQL IN clause below the maximum that the database supports (1000 for Oracle).
+     */
+    public static <T> List<List<T>> partition(Collection<T> values, int partitionSize) {
+        if (partitionSize <= 0) {
+            throw new FlowableIllegalArgumentException("The partition size should be larger than 0");
+        }
+
+        List<List<T>> partitions = new ArrayList<>();
+        List<T> partition = new ArrayList<>(Math.min(values.size(), partitionSize));
+        for (T value : values) {
+            if (partition.size() == partitionSize) {
+                partitions.add(partition);
+                partition = new ArrayList<>(partitionSize);
+            }
+            partition.add(value);
+        }
+
+        if (!partition.isEmpty()) {
+            partitions.add(partition);
+        }
+        return partitions;
+    }
+
 }
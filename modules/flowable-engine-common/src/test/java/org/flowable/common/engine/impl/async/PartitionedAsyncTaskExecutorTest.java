@@ -0,0 +1,120 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PartitionedAsyncTaskExecutorTest {
+
+    protected PartitionedAsyncTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new PartitionedAsyncTaskExecutor();
+        executor.setPartitionCount(4);
+        executor.setQueueSize(100);
+        executor.setSecondsToWaitOnShutdown(5);
+        executor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void tasksWithSameKeyAreExecutedInOrderOnOneThread() throws Exception {
+        List<Integer> executionOrder = Collections.synchronizedList(new ArrayList<>());
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(50);
+
+        for (int i = 0; i < 50; i++) {
+            int index = i;
+            executor.execute("processInstance1", () -> {
+                executionOrder.add(index);
+                threadNames.add(Thread.currentThread().getName());
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executionOrder).isSorted().hasSize(50);
+        assertThat(threadNames).hasSize(1);
+    }
+
+    @Test
+    void tasksWithDifferentKeysAreExecutedInParallel() throws Exception {
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Runnable task = () -> {
+            running.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        // Keys of which the hash ends up in a different lane
+        executor.execute(0, task);
+        executor.execute(1, task);
+
+        assertThat(running.await(10, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+
+    @Test
+    void laneQueueIsLimited() throws Exception {
+        executor.shutdown();
+        executor = new PartitionedAsyncTaskExecutor();
+        executor.setPartitionCount(2);
+        executor.setQueueSize(1);
+        executor.start();
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        assertThat(executor.getRemainingCapacity()).isEqualTo(2);
+
+        executor.execute("key", () -> {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        executor.execute("key", () -> { });
+        assertThat(executor.getRemainingCapacity()).isEqualTo(1);
+        assertThatThrownBy(() -> executor.execute("key", () -> { })).isInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+    }
+
+}
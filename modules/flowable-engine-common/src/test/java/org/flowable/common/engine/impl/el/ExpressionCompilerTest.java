@@ -0,0 +1,186 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExpressionCompilerTest {
+
+    protected DefaultExpressionManager interpretingExpressionManager;
+    protected DefaultExpressionManager compilingExpressionManager;
+    protected VariableContainerWrapper variableContainer;
+
+    @BeforeEach
+    void setUp() {
+        Map<Object, Object> beans = new HashMap<>();
+        beans.put("bean", new TestBean("bean"));
+
+        interpretingExpressionManager = new DefaultExpressionManager(beans);
+        compilingExpressionManager = new DefaultExpressionManager(beans);
+        ExpressionCompiler expressionCompiler = new ExpressionCompiler();
+        expressionCompiler.setCompilationThreshold(0);
+        compilingExpressionManager.setExpressionCompiler(expressionCompiler);
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("intVar", 42);
+        variables.put("longVar", 42L);
+        variables.put("doubleVar", 1.5d);
+        variables.put("decimalVar", new BigDecimal("10.25"));
+        variables.put("stringVar", "flowable");
+        variables.put("numericStringVar", "7");
+        variables.put("booleanVar", true);
+        variables.put("nullVar", null);
+        variables.put("listVar", Arrays.asList("a", "b"));
+        variables.put("emptyListVar", Collections.emptyList());
+        variables.put("mapVar", Collections.singletonMap("key", "value"));
+        variables.put("beanVar", new TestBean("variable"));
+        variableContainer = new VariableContainerWrapper(variables);
+    }
+
+    @Test
+    void compiledExpressionsEvaluateLikeInterpretedExpressions() {
+        List<String> expressions = Arrays.asList(
+                "${intVar}",
+                "${intVar == 42}",
+                "${intVar == longVar}",
+                "${intVar != 41}",
+                "${intVar > 10 && stringVar == 'flowable'}",
+                "${intVar < 10 || booleanVar}",
+                "${intVar >= 42.0}",
+                "${doubleVar <= 1}",
+                "${decimalVar > doubleVar}",
+                "${numericStringVar == 7}",
+                "${numericStringVar + 1}",
+                "${intVar + longVar * 2 - 1}",
+                "${intVar / 5}",
+                "${intVar % 5}",
+                "${-intVar}",
+                "${!booleanVar}",
+                "${not booleanVar and true}",
+                "${empty nullVar}",
+                "${empty emptyListVar}",
+                "${empty stringVar}",
+                "${nullVar == null}",
+                "${nullVar.property}",
+                "${booleanVar ? 'yes' : 'no'}",
+                "${(intVar + 1) * 2}",
+                "${1 + 2 * 3}",
+                "${'a' == 'a' && intVar == 42}",
+                "${mapVar.key}",
+                "${mapVar['key']}",
+                "${listVar[1]}",
+                "${beanVar.name}",
+                "${beanVar.nested.name}",
+                "${beanVar.concat('a', intVar)}",
+                "${beanVar.getName()}",
+                "${nullVar.getName()}",
+                "${bean.name}",
+                "${bean.nested.concat(stringVar, 1)}",
+                "Hello ${stringVar}!",
+                "${stringVar}${intVar}",
+                "plain text",
+                "${unknownVar}",
+                "${beanVar.unknownProperty}",
+                "${beanVar.unknownMethod()}",
+                "${stringVar > intVar}",
+                "${1 / 0}",
+                "${intVar == 42 ? beanVar.nested : nullVar}"
+        );
+
+        for (String expressionText : expressions) {
+            Object interpreted = evaluate(interpretingExpressionManager, expressionText);
+            Object compiled = evaluate(compilingExpressionManager, expressionText);
+            assertThat(compiled)
+                    .as(expressionText)
+                    .isEqualTo(interpreted);
+        }
+    }
+
+    @Test
+    void expressionIsCompiledAfterThreshold() {
+        compilingExpressionManager.getExpressionCompiler().setCompilationThreshold(3);
+
+        JuelExpression expression = (JuelExpression) compilingExpressionManager.createExpression("${intVar > 10}");
+        CompiledValueExpression valueExpression = (CompiledValueExpression) expression.getValueExpression();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(expression.getValue(variableContainer)).isEqualTo(true);
+            assertThat(valueExpression.isCompiled()).isFalse();
+        }
+
+        assertThat(expression.getValue(variableContainer)).isEqualTo(true);
+        assertThat(valueExpression.isCompiled()).isTrue();
+    }
+
+    @Test
+    void literalTextIsNotCompiled() {
+        JuelExpression expression = (JuelExpression) compilingExpressionManager.createExpression("plain text");
+
+        assertThat(expression.getValueExpression()).isNotInstanceOf(CompiledValueExpression.class);
+        assertThat(expression.getValue(variableContainer)).isEqualTo("plain text");
+    }
+
+    protected Object evaluate(DefaultExpressionManager expressionManager, String expressionText) {
+        Expression expression = expressionManager.createExpression(expressionText);
+        Throwable failure = catchThrowable(() -> expression.getValue(variableContainer));
+        if (failure != null) {
+            Throwable cause = failure.getCause() != null ? failure.getCause() : failure;
+            return failure.getClass().getName() + ": " + failure.getMessage() + " / " + cause.getClass().getName() + ": " + cause.getMessage();
+        }
+        return expression.getValue(variableContainer);
+    }
+
+    public static class TestBean {
+
+        protected final String name;
+
+        public TestBean(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public TestBean getNested() {
+            return new TestBean(name + "-nested");
+        }
+
+        public String concat(String value, int count) {
+            return name + "-" + value + "-" + count;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof TestBean && ((TestBean) obj).name.equals(name);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntity;
+import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityImpl;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityImpl;
+import org.junit.jupiter.api.Test;
+
+class IndexedEntityCacheTest {
+
+    @Test
+    void findInCacheByInterface() {
+        IndexedEntityCache entityCache = new IndexedEntityCache();
+        PropertyEntityImpl property = createProperty("next.dbid", "1");
+        entityCache.put(property, true);
+
+        assertThat(entityCache.findInCache(PropertyEntityImpl.class, "next.dbid")).isSameAs(property);
+        assertThat(entityCache.findInCache(PropertyEntity.class, "next.dbid")).isSameAs(property);
+        assertThat(entityCache.findInCache(Entity.class, "next.dbid")).isSameAs(property);
+        assertThat(entityCache.findInCache(PropertyEntity.class, "unknown")).isNull();
+        assertThat(entityCache.findInCache(ByteArrayEntity.class, "next.dbid")).isNull();
+
+        assertThat(entityCache.findInCache(PropertyEntity.class)).containsExactly(property);
+        assertThat(entityCache.findInCache(ByteArrayEntity.class)).isEmpty();
+    }
+
+    @Test
+    void findInCacheAsView() {
+        IndexedEntityCache entityCache = new IndexedEntityCache();
+        PropertyEntityImpl property1 = createProperty("property1", "value1");
+        PropertyEntityImpl property2 = createProperty("property2", "value2");
+        entityCache.put(property1, true);
+        entityCache.put(property2, false);
+
+        assertThat(entityCache.findInCacheAsView(PropertyEntity.class)).containsExactlyInAnyOrder(property1, property2);
+        assertThat(entityCache.findInCacheAsView(ByteArrayEntity.class)).isEmpty();
+    }
+
+    @Test
+    void statistics() {
+        IndexedEntityCache entityCache = new IndexedEntityCache();
+        entityCache.put(createProperty("property1", "value1"), true);
+        ByteArrayEntityImpl byteArray = new ByteArrayEntityImpl();
+        byteArray.setId("byteArray1");
+        byteArray.setBytes(new byte[100]);
+        entityCache.put(byteArray, true);
+
+        entityCache.findInCache(PropertyEntity.class, "property1");
+        entityCache.findInCache(ByteArrayEntity.class, "byteArray1");
+        entityCache.findInCache(ByteArrayEntity.class, "byteArray2");
+
+        EntityCacheStatistics statistics = entityCache.getStatistics();
+        assertThat(statistics.getEntitiesCached()).isEqualTo(2);
+        assertThat(statistics.getHits()).isEqualTo(2);
+        assertThat(statistics.getMisses()).isEqualTo(1);
+        assertThat(statistics.getSnapshotBytes()).isPositive();
+    }
+
+    protected PropertyEntityImpl createProperty(String name, String value) {
+        PropertyEntityImpl property = new PropertyEntityImpl();
+        property.setName(name);
+        property.setValue(value);
+        return property;
+    }
+
+}
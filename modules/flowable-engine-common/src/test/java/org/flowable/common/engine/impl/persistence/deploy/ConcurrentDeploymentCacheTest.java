@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentDeploymentCacheTest {
+
+    @Test
+    void expiredEntriesAreNotVisible() {
+        TestClockDeploymentCache cache = new TestClockDeploymentCache(-1);
+        cache.setExpireAfterAccessMillis(1000);
+        cache.add("a", "valueA");
+        cache.add("b", "valueB");
+
+        cache.advanceMillis(600);
+        assertThat(cache.get("a")).isEqualTo("valueA");
+
+        cache.advanceMillis(600);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getAll()).containsExactly("valueA");
+        assertThat(cache.contains("b")).isFalse();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredEntriesAreSweptOnAdd() {
+        TestClockDeploymentCache cache = new TestClockDeploymentCache(-1);
+        cache.setExpireAfterAccessMillis(1000);
+        for (int i = 0; i < 10; i++) {
+            cache.add("key" + i, "value" + i);
+        }
+        assertThat(cache.cache).hasSize(10);
+
+        cache.advanceMillis(1500);
+        cache.add("new", "newValue");
+
+        assertThat(cache.cache).containsOnlyKeys("new");
+        assertThat(cache.getEvictionCount()).isEqualTo(10);
+        assertThat(cache.getTotalWeight()).isEqualTo(1);
+    }
+
+    @Test
+    void replacedEntriesAreDroppedFromClock() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(5);
+        for (int i = 0; i < 1000; i++) {
+            cache.add("key" + (i % 3), "value" + i);
+        }
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.getTotalWeight()).isEqualTo(3);
+        assertThat(cache.clock.size()).isLessThanOrEqualTo(2 * 3 + 17);
+        assertThat(cache.clockSize.get()).isEqualTo(cache.clock.size());
+    }
+
+    @Test
+    void limitEvictsUnreferencedEntries() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(2);
+        cache.add("a", "valueA");
+        cache.add("b", "valueB");
+        cache.add("c", "valueC");
+        assertThat(cache.contains("a")).isFalse();
+        assertThat(cache.contains("b")).isTrue();
+        assertThat(cache.contains("c")).isTrue();
+
+        cache.get("b");
+        cache.add("d", "valueD");
+        assertThat(cache.contains("b")).isTrue();
+        assertThat(cache.contains("c")).isFalse();
+        assertThat(cache.contains("d")).isTrue();
+        assertThat(cache.getEvictionCount()).isEqualTo(2);
+    }
+
+    static class TestClockDeploymentCache extends ConcurrentDeploymentCache<String> {
+
+        protected long now = 0L;
+
+        TestClockDeploymentCache(int limit) {
+            super(limit);
+        }
+
+        void advanceMillis(long millis) {
+            now += TimeUnit.MILLISECONDS.toNanos(millis);
+        }
+
+        @Override
+        protected long nanoTime() {
+            return now;
+        }
+    }
+
+}
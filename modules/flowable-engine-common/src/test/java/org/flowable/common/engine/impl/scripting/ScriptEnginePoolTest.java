@@ -0,0 +1,116 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.scripting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.Reader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.script.AbstractScriptEngine;
+import javax.script.Bindings;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineFactory;
+import javax.script.SimpleBindings;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.junit.jupiter.api.Test;
+
+class ScriptEnginePoolTest {
+
+    protected AtomicInteger createdEngines = new AtomicInteger();
+
+    @Test
+    void enginesAreReusedWithResetBindings() {
+        ScriptEnginePool pool = createPool(2, 1000);
+
+        ScriptEngine scriptEngine = pool.borrowEngine();
+        scriptEngine.put("leftover", "value");
+        pool.returnEngine(scriptEngine);
+
+        ScriptEngine reusedScriptEngine = pool.borrowEngine();
+        assertThat(reusedScriptEngine).isSameAs(scriptEngine);
+        assertThat(reusedScriptEngine.get("leftover")).isNull();
+        pool.returnEngine(reusedScriptEngine);
+
+        assertThat(createdEngines).hasValue(1);
+        assertThat(pool.getSize()).isEqualTo(1);
+        assertThat(pool.getIdleCount()).isEqualTo(1);
+        assertThat(pool.getActiveCount()).isZero();
+        assertThat(pool.getBorrowCount()).isEqualTo(2);
+        assertThat(pool.getWaitCount()).isZero();
+    }
+
+    @Test
+    void borrowWaitsForReturnedEngineWhenSaturated() throws Exception {
+        ScriptEnginePool pool = createPool(1, 5000);
+
+        ScriptEngine scriptEngine = pool.borrowEngine();
+        CompletableFuture<ScriptEngine> waitingBorrow = CompletableFuture.supplyAsync(pool::borrowEngine);
+
+        Thread.sleep(50);
+        assertThat(waitingBorrow).isNotDone();
+
+        pool.returnEngine(scriptEngine);
+        assertThat(waitingBorrow.get(5, TimeUnit.SECONDS)).isSameAs(scriptEngine);
+        assertThat(pool.getWaitCount()).isEqualTo(1);
+        assertThat(createdEngines).hasValue(1);
+    }
+
+    @Test
+    void borrowFailsAfterMaxWait() {
+        ScriptEnginePool pool = createPool(1, 10);
+
+        pool.borrowEngine();
+        assertThatThrownBy(pool::borrowEngine)
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("all 1 engines are in use");
+        assertThat(pool.getTimeoutCount()).isEqualTo(1);
+        assertThat(pool.getActiveCount()).isEqualTo(1);
+    }
+
+    protected ScriptEnginePool createPool(int maxSize, long maxWaitMillis) {
+        return new ScriptEnginePool("test", () -> {
+            createdEngines.incrementAndGet();
+            return new TestScriptEngine();
+        }, maxSize, maxWaitMillis);
+    }
+
+    protected static class TestScriptEngine extends AbstractScriptEngine {
+
+        @Override
+        public Object eval(String script, ScriptContext context) {
+            return context.getAttribute(script);
+        }
+
+        @Override
+        public Object eval(Reader reader, ScriptContext context) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Bindings createBindings() {
+            return new SimpleBindings();
+        }
+
+        @Override
+        public ScriptEngineFactory getFactory() {
+            return null;
+        }
+    }
+
+}
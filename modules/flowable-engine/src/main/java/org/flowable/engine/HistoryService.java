@@ -14,8 +14,10 @@
 
 package org.flowable.engine;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricActivityInstanceQuery;
 import org.flowable.engine.history.HistoricDetail;
@@ -95,6 +97,17 @@ public interface HistoryService {
      * Deletes historic process instance. All historic activities, historic task and historic details (variable updates, form properties) are deleted as well.
      */
     void deleteHistoricProcessInstance(String processInstanceId);
+
+    /**
+     * Deletes the given historic process instances, including their sub process instances, together with all their related historic data.
+     * In contrast to {@link #deleteHistoricProcessInstance(String)}, the historic entities are not loaded but removed with
+     * set-based delete statements, which makes this the preferred way to remove large amounts of historic process instances.
+     * Ids of historic process instances that don't exist are ignored.
+     * 
+     * @throws FlowableException
+     *             when one of the process instances, or one of their sub process instances, is still running. Nothing is deleted in that case.
+     */
+    void bulkDeleteHistoricProcessInstances(Collection<String> processInstanceIds);
     
     /**
      * Deletes historic task and activity data for removed process instances
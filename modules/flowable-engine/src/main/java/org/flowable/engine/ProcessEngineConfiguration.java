@@ -154,6 +154,9 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
     protected String historyCleaningTimeCycleConfig = "0 0 1 * * ?";
     protected int cleanInstancesEndedAfterNumberOfDays = 365;
     protected HistoryCleaningManager historyCleaningManager;
+    protected boolean enableHistoryCleaningBatch = false;
+    protected int historyCleaningBatchPartSize = 500;
+    protected int historyCleaningMaxInstancesPerSecond = 0;
 
 
     /** postprocessor for a task builder */
@@ -823,6 +826,42 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
         return this;
     }
 
+    public boolean isEnableHistoryCleaningBatch() {
+        return enableHistoryCleaningBatch;
+    }
+
+    /**
+     * When enabled, the history cleanup job doesn't delete the historic process instances itself, but starts a batch
+     * that deletes them in parts of {@link #getHistoryCleaningBatchPartSize()} instances. Every part is deleted in its own
+     * async job and transaction, so the parts are executed in parallel by the async executor.
+     */
+    public ProcessEngineConfiguration setEnableHistoryCleaningBatch(boolean enableHistoryCleaningBatch) {
+        this.enableHistoryCleaningBatch = enableHistoryCleaningBatch;
+        return this;
+    }
+
+    public int getHistoryCleaningBatchPartSize() {
+        return historyCleaningBatchPartSize;
+    }
+
+    public ProcessEngineConfiguration setHistoryCleaningBatchPartSize(int historyCleaningBatchPartSize) {
+        this.historyCleaningBatchPartSize = historyCleaningBatchPartSize;
+        return this;
+    }
+
+    public int getHistoryCleaningMaxInstancesPerSecond() {
+        return historyCleaningMaxInstancesPerSecond;
+    }
+
+    /**
+     * The maximum number of historic process instances the history cleanup batch deletes per second.
+     * The batch parts are scheduled as timer jobs spread out in time to respect this rate. 0 (the default) means unlimited.
+     */
+    public ProcessEngineConfiguration setHistoryCleaningMaxInstancesPerSecond(int historyCleaningMaxInstancesPerSecond) {
+        this.historyCleaningMaxInstancesPerSecond = historyCleaningMaxInstancesPerSecond;
+        return this;
+    }
+
     public boolean isAlwaysUseArraysForDmnMultiHitPolicies() {
         return alwaysUseArraysForDmnMultiHitPolicies;
     }
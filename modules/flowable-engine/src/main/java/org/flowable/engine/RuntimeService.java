@@ -330,6 +330,19 @@ public interface RuntimeService {
      */
     void deleteProcessInstance(String processInstanceId, String deleteReason);
 
+    /**
+     * Deletes the given runtime process instances in one transaction. Process instances for which the deletion is not observed
+     * (no event listeners, no execution or task listeners, no call activities and no history recorded for the process definition)
+     * are deleted with set-based statements. All other process instances are deleted as with {@link #deleteProcessInstance(String, String)},
+     * so listeners are notified and history is recorded. Ids of process instances that don't exist (anymore) are ignored.
+     *
+     * @param processInstanceIds
+     *     ids of the process instances to delete, cannot be null.
+     * @param deleteReason
+     *     reason for deleting, can be null.
+     */
+    void bulkDeleteProcessInstances(Collection<String> processInstanceIds, String deleteReason);
+
     /**
      * Finds the activity ids for all executions that are waiting in activities. This is a list because a single activity can be active multiple times.
      *
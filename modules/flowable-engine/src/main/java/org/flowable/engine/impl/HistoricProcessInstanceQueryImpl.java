@@ -871,10 +871,19 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         }
     }
 
+    @Override
+    protected boolean isSearchAfterSupported() {
+        return true;
+    }
+
     @Override
     protected void checkQueryOk() {
         super.checkQueryOk();
 
+        if (searchAfter && includeProcessVariables) {
+            throw new FlowableIllegalArgumentException("Invalid query: search after pagination is not supported when including process variables");
+        }
+
         if (includeProcessVariables) {
             this.orderBy(HistoricProcessInstanceQueryProperty.INCLUDED_VARIABLE_TIME).asc();
         }
@@ -1038,6 +1047,11 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return notDeleted;
     }
 
+    @Override
+    protected boolean isIncludeRelatedData() {
+        return includeProcessVariables;
+    }
+
     public boolean isIncludeProcessVariables() {
         return includeProcessVariables;
     }
@@ -1031,6 +1031,11 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return deploymentIds;
     }
 
+    @Override
+    protected boolean isIncludeRelatedData() {
+        return includeProcessVariables;
+    }
+
     public boolean isIncludeProcessVariables() {
         return includeProcessVariables;
     }
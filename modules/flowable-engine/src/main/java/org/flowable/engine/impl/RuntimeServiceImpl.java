@@ -34,6 +34,7 @@ import org.flowable.engine.impl.cmd.AddEventConsumerCommand;
 import org.flowable.engine.impl.cmd.AddEventListenerCommand;
 import org.flowable.engine.impl.cmd.AddIdentityLinkForProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.AddMultiInstanceExecutionCmd;
+import org.flowable.engine.impl.cmd.BulkDeleteProcessInstancesCmd;
 import org.flowable.engine.impl.cmd.ChangeActivityStateCmd;
 import org.flowable.engine.impl.cmd.CompleteAdhocSubProcessCmd;
 import org.flowable.engine.impl.cmd.DeleteIdentityLinkForProcessInstanceCmd;
@@ -186,6 +187,11 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         commandExecutor.execute(new DeleteProcessInstanceCmd(processInstanceId, deleteReason));
     }
 
+    @Override
+    public void bulkDeleteProcessInstances(Collection<String> processInstanceIds, String deleteReason) {
+        commandExecutor.execute(new BulkDeleteProcessInstancesCmd(processInstanceIds, deleteReason));
+    }
+
     @Override
     public ExecutionQuery createExecutionQuery() {
         return new ExecutionQueryImpl(commandExecutor, configuration);
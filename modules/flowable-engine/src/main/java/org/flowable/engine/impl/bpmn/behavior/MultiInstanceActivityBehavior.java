@@ -254,6 +254,13 @@ public abstract class MultiInstanceActivityBehavior extends FlowNodeActivityBeha
         ExecutionEntity parentExecution = multiInstanceRootExecution.getParent();
         
         ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager();
+
+        // The variables of the multi instance root and of all its child executions are needed for deleting them
+        List<ExecutionEntity> executionsToDelete = new ArrayList<>();
+        executionsToDelete.add(multiInstanceRootExecution);
+        executionsToDelete.addAll(executionEntityManager.collectChildren(multiInstanceRootExecution));
+        executionEntityManager.prefetchVariableInstances(executionsToDelete);
+
         Collection<String> executionIdsNotToSendCancelledEventsFor = execution.isMultiInstanceRoot() ? null : Collections.singletonList(execution.getId());
         executionEntityManager.deleteChildExecutions(multiInstanceRootExecution, null, executionIdsNotToSendCancelledEventsFor, DELETE_REASON_END, true, flowElement);
         executionEntityManager.deleteRelatedDataForExecution(multiInstanceRootExecution, DELETE_REASON_END);
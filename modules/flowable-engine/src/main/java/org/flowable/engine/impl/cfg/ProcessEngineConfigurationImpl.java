@@ -52,6 +52,7 @@ import org.flowable.common.engine.impl.HasVariableTypes;
 import org.flowable.common.engine.impl.ScriptingEngineAwareEngineConfiguration;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskInvoker;
+import org.flowable.common.engine.impl.async.VirtualThreadAsyncTaskExecutor;
 import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
 import org.flowable.common.engine.impl.calendar.DueDateBusinessCalendar;
@@ -61,6 +62,7 @@ import org.flowable.common.engine.impl.callback.RuntimeInstanceStateChangeCallba
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.SchemaManager;
+import org.flowable.common.engine.impl.el.ExpressionCompiler;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.el.FlowableAstFunctionCreator;
 import org.flowable.common.engine.impl.el.function.VariableBase64ExpressionFunction;
@@ -87,9 +89,6 @@ import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
 import org.flowable.common.engine.impl.logging.LoggingSession;
 import org.flowable.common.engine.impl.logging.LoggingSessionFactory;
-import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
-import org.flowable.common.engine.impl.persistence.cache.EntityCache;
-import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
@@ -236,6 +235,7 @@ import org.flowable.engine.impl.history.DefaultHistoryVariableManager;
 import org.flowable.engine.impl.history.HistoryManager;
 import org.flowable.engine.impl.history.async.AsyncHistoryManager;
 import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.impl.history.async.ProcessInstanceHistoryPartitionKeyProvider;
 import org.flowable.engine.impl.history.async.json.transformer.ActivityEndHistoryJsonTransformer;
 import org.flowable.engine.impl.history.async.json.transformer.ActivityFullHistoryJsonTransformer;
 import org.flowable.engine.impl.history.async.json.transformer.ActivityStartHistoryJsonTransformer;
@@ -276,6 +276,9 @@ import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
 import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
 import org.flowable.engine.impl.jobexecutor.ExternalWorkerTaskCompleteJobHandler;
+import org.flowable.engine.impl.jobexecutor.HistoryCleanupBatchPartCreationJobHandler;
+import org.flowable.engine.impl.jobexecutor.HistoryCleanupBatchPartJobHandler;
+import org.flowable.engine.impl.jobexecutor.HistoryCleanupBatchStatusJobHandler;
 import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceActivityCompletionJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationJobHandler;
@@ -287,6 +290,7 @@ import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationManagerImpl;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntryWeigher;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCacheObject;
 import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntityManager;
@@ -386,6 +390,8 @@ import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncRunnableExecution
 import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.asyncexecutor.PartitionedAsyncHistoryJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.notification.JobNotificationChannel;
 import org.flowable.job.service.impl.db.JobDbSchemaManager;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobZippedHandler;
@@ -432,6 +438,7 @@ import org.flowable.variable.service.impl.types.LongStringType;
 import org.flowable.variable.service.impl.types.LongType;
 import org.flowable.variable.service.impl.types.NullType;
 import org.flowable.variable.service.impl.types.SerializableType;
+import org.flowable.variable.service.impl.types.SerializableVariableChangeDetector;
 import org.flowable.variable.service.impl.types.ShortType;
 import org.flowable.variable.service.impl.types.StringType;
 import org.flowable.variable.service.impl.types.UUIDType;
@@ -558,9 +565,22 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int processDefinitionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
+    /**
+     * Maximum total number of flow elements of the process definitions in the process definition cache.
+     * Only used when {@link #useConcurrentDeploymentCache} is true. By default, no limit.
+     */
+    protected long processDefinitionCacheMaxWeight = -1;
+
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionInfoCacheObject> processDefinitionInfoCache;
 
+    /**
+     * Time in milliseconds during which a process definition info cache entry is used without checking its revision in the database.
+     * Changes saved through this engine are picked up immediately, changes made by other engines are picked up after at most this interval.
+     * By default (0), the revision is checked on every access.
+     */
+    protected long processDefinitionInfoCacheRevisionCheckInterval;
+
     protected int knowledgeBaseCacheLimit = -1;
     protected DeploymentCache<Object> knowledgeBaseCache;
 
@@ -643,6 +663,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean asyncExecutorAllowCoreThreadTimeout = true;
 
+    /**
+     * Whether jobs are executed on virtual threads by a {@link VirtualThreadAsyncTaskExecutor}, instead of on a thread pool.
+     * The pool size properties are not used then, the number of jobs executed at the same time is limited by {@link #asyncExecutorMaxConcurrentJobs}.
+     */
+    protected boolean asyncExecutorUseVirtualThreads;
+
+    /**
+     * The maximum number of jobs that are executed at the same time when {@link #asyncExecutorUseVirtualThreads} is enabled.
+     * Default value = -1, meaning the max number of active jdbc connections is used.
+     */
+    protected int asyncExecutorMaxConcurrentJobs = -1;
+
     /**
      * The thread factory that the async task executor should use.
      */
@@ -777,6 +809,20 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int asyncHistoryExecutorThreadPoolQueueSize = 2048;
     protected BlockingQueue<Runnable> asyncHistoryExecutorThreadPoolQueue;
     protected long asyncHistoryExecutorSecondsToWaitOnShutdown = 60L;
+    protected boolean asyncHistoryExecutorUseVirtualThreads;
+    protected int asyncHistoryExecutorMaxConcurrentJobs = -1;
+
+    /**
+     * Whether history jobs are executed in lanes, one lane per thread, hashed by the process instance they belong to.
+     * History jobs of one process instance are then executed in the order in which they were created, see {@link PartitionedAsyncHistoryJobExecutor}.
+     */
+    protected boolean asyncHistoryExecutorPartitioningEnabled;
+
+    /**
+     * The number of lanes when {@link #asyncHistoryExecutorPartitioningEnabled} is enabled. Defaults to the number of available processors.
+     */
+    protected int asyncHistoryExecutorPartitionCount = -1;
+
     protected int asyncHistoryExecutorDefaultAsyncJobAcquireWaitTime = 10 * 1000;
     protected int asyncHistoryExecutorDefaultQueueSizeFullWaitTime = 5 * 1000;
     protected String asyncHistoryExecutorLockOwner;
@@ -787,6 +833,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean isAsyncHistoryExecutorResetExpiredJobsEnabled = true;
 
     protected List<String> enabledJobCategories;
+
+    /**
+     * Optional channel (for example based on PostgreSQL LISTEN/NOTIFY) through which async executors of other nodes are woken up
+     * when jobs are added that are not executed by the local async executor.
+     */
+    protected JobNotificationChannel jobNotificationChannel;
     protected String jobExecutionScope;
     protected String historyJobExecutionScope;
     
@@ -856,6 +908,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
 
+    /**
+     * Decides whether tracked deserialized objects were changed without serializing them, see {@link SerializableVariableChangeDetector}.
+     */
+    protected SerializableVariableChangeDetector serializableVariableChangeDetector;
+
     /**
      * This flag determines whether variables of the type 'json' and 'longJson' will be tracked.
      * <p>
@@ -885,6 +942,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean isExpressionCacheEnabled = true;
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
+    protected boolean isExpressionCompilationEnabled;
+    protected int expressionCompilationThreshold = 100;
 
     protected BusinessCalendarManager businessCalendarManager;
 
@@ -1441,7 +1500,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 addSessionFactory(new AgendaSessionFactory(agendaFactory));
             }
 
-            addSessionFactory(new GenericManagerFactory(EntityCache.class, EntityCacheImpl.class));
+            addSessionFactory(createEntityCacheSessionFactory());
 
             commandContextFactory.setSessionFactories(sessionFactories);
 
@@ -1703,6 +1762,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             jobServiceConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingThreshold(asyncHistoryJsonGroupingThreshold);
+            if (asyncHistoryExecutorPartitioningEnabled) {
+                jobServiceConfiguration.setAsyncHistoryPartitionKeyProvider(new ProcessInstanceHistoryPartitionKeyProvider());
+            }
 
             // set the job processors
             this.jobServiceConfiguration.setJobProcessors(this.jobProcessors);
@@ -1714,6 +1776,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             if (enabledJobCategories != null) {
                 this.jobServiceConfiguration.setEnabledJobCategories(enabledJobCategories);
             }
+
+            this.jobServiceConfiguration.setJobNotificationChannel(this.jobNotificationChannel);
         }
     }
 
@@ -1818,11 +1882,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionCache() {
         if (processDefinitionCache == null) {
-            if (processDefinitionCacheLimit <= 0) {
-                processDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                processDefinitionCache = new DefaultDeploymentCache<>(processDefinitionCacheLimit);
-            }
+            processDefinitionCache = createDeploymentCache(processDefinitionCacheLimit, processDefinitionCacheMaxWeight, new ProcessDefinitionCacheEntryWeigher());
         }
     }
 
@@ -1833,26 +1893,22 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             } else {
                 processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor, processDefinitionInfoCacheLimit);
             }
+
+            if (processDefinitionInfoCacheRevisionCheckInterval > 0) {
+                ((ProcessDefinitionInfoCache) processDefinitionInfoCache).setRevisionCheckInterval(processDefinitionInfoCacheRevisionCheckInterval);
+            }
         }
     }
 
     public void initAppResourceCache() {
         if (appResourceCache == null) {
-            if (appResourceCacheLimit <= 0) {
-                appResourceCache = new DefaultDeploymentCache<>();
-            } else {
-                appResourceCache = new DefaultDeploymentCache<>(appResourceCacheLimit);
-            }
+            appResourceCache = createDeploymentCache(appResourceCacheLimit);
         }
     }
 
     public void initKnowledgeBaseCache() {
         if (knowledgeBaseCache == null) {
-            if (knowledgeBaseCacheLimit <= 0) {
-                knowledgeBaseCache = new DefaultDeploymentCache<>();
-            } else {
-                knowledgeBaseCache = new DefaultDeploymentCache<>(knowledgeBaseCacheLimit);
-            }
+            knowledgeBaseCache = createDeploymentCache(knowledgeBaseCacheLimit);
         }
     }
 
@@ -2117,6 +2173,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         BpmnHistoryCleanupJobHandler bpmnHistoryCleanupJobHandler = new BpmnHistoryCleanupJobHandler();
         jobHandlers.put(bpmnHistoryCleanupJobHandler.getType(), bpmnHistoryCleanupJobHandler);
 
+        HistoryCleanupBatchPartCreationJobHandler historyCleanupBatchPartCreationJobHandler = new HistoryCleanupBatchPartCreationJobHandler();
+        jobHandlers.put(historyCleanupBatchPartCreationJobHandler.getType(), historyCleanupBatchPartCreationJobHandler);
+
+        HistoryCleanupBatchPartJobHandler historyCleanupBatchPartJobHandler = new HistoryCleanupBatchPartJobHandler();
+        jobHandlers.put(historyCleanupBatchPartJobHandler.getType(), historyCleanupBatchPartJobHandler);
+
+        HistoryCleanupBatchStatusJobHandler historyCleanupBatchStatusJobHandler = new HistoryCleanupBatchStatusJobHandler();
+        jobHandlers.put(historyCleanupBatchStatusJobHandler.getType(), historyCleanupBatchStatusJobHandler);
+
         ProcessInstanceMigrationJobHandler processInstanceMigrationJobHandler = new ProcessInstanceMigrationJobHandler();
         jobHandlers.put(processInstanceMigrationJobHandler.getType(), processInstanceMigrationJobHandler);
         
@@ -2208,6 +2273,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     // /////////////////////////////////////////////////////////////
 
     protected void initAsyncTaskExecutor() {
+        if (this.asyncTaskExecutor == null && asyncExecutorUseVirtualThreads) {
+            this.asyncTaskExecutor = createVirtualThreadAsyncTaskExecutor(asyncExecutorMaxConcurrentJobs, asyncExecutorThreadPoolQueueSize,
+                    asyncExecutorSecondsToWaitOnShutdown, "flowable-async-job-executor-thread-%d");
+            this.shutdownAsyncTaskExecutor = true;
+        }
+
         if (this.asyncTaskExecutor == null) {
             DefaultAsyncTaskExecutor defaultAsyncTaskExecutor = new DefaultAsyncTaskExecutor();
 
@@ -2297,6 +2368,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     }
 
     protected void initAsyncHistoryTaskExecutor() {
+        if (this.asyncHistoryTaskExecutor == null && asyncHistoryExecutorPartitioningEnabled) {
+            this.asyncHistoryTaskExecutor = createPartitionedAsyncTaskExecutor(asyncHistoryExecutorPartitionCount, asyncHistoryExecutorThreadPoolQueueSize,
+                    asyncHistoryExecutorSecondsToWaitOnShutdown, "flowable-async-history-job-executor-lane-%d");
+            shutdownAsyncHistoryTaskExecutor = true;
+        }
+
+        if (this.asyncHistoryTaskExecutor == null && asyncHistoryExecutorUseVirtualThreads) {
+            this.asyncHistoryTaskExecutor = createVirtualThreadAsyncTaskExecutor(asyncHistoryExecutorMaxConcurrentJobs, asyncHistoryExecutorThreadPoolQueueSize,
+                    asyncHistoryExecutorSecondsToWaitOnShutdown, "flowable-async-history-job-executor-thread-%d");
+            shutdownAsyncHistoryTaskExecutor = true;
+        }
+
         if (this.asyncHistoryTaskExecutor == null) {
             DefaultAsyncTaskExecutor defaultAsyncTaskExecutor = new DefaultAsyncTaskExecutor();
 
@@ -2331,7 +2414,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             initAsyncHistoryTaskExecutor();
 
             if (asyncHistoryExecutor == null) {
-                DefaultAsyncHistoryJobExecutor defaultAsyncHistoryExecutor = new DefaultAsyncHistoryJobExecutor();
+                DefaultAsyncHistoryJobExecutor defaultAsyncHistoryExecutor = asyncHistoryExecutorPartitioningEnabled
+                        ? new PartitionedAsyncHistoryJobExecutor() : new DefaultAsyncHistoryJobExecutor();
 
                 // Message queue mode
                 defaultAsyncHistoryExecutor.setMessageQueueMode(asyncHistoryExecutorMessageQueueMode);
@@ -2484,7 +2568,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             variableTypes.addType(new ParallelMultiInstanceLoopVariableType(this));
             variableTypes.addType(new BpmnAggregatedVariableType(this));
             variableTypes.addType(new ByteArrayType());
-            variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
+            variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects, serializableVariableChangeDetector));
 
         } else {
             if (customPreVariableTypes != null) {
@@ -2565,6 +2649,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 processExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
 
+            if (isExpressionCompilationEnabled) {
+                ExpressionCompiler expressionCompiler = new ExpressionCompiler();
+                expressionCompiler.setCompilationThreshold(expressionCompilationThreshold);
+                processExpressionManager.setExpressionCompiler(expressionCompiler);
+            }
+
             if (preDefaultELResolvers != null) {
                 preDefaultELResolvers.forEach(processExpressionManager::addPreDefaultResolver);
             }
@@ -3336,6 +3426,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
 
+    public SerializableVariableChangeDetector getSerializableVariableChangeDetector() {
+        return serializableVariableChangeDetector;
+    }
+
+    public ProcessEngineConfigurationImpl setSerializableVariableChangeDetector(SerializableVariableChangeDetector serializableVariableChangeDetector) {
+        this.serializableVariableChangeDetector = serializableVariableChangeDetector;
+        return this;
+    }
+
     public boolean isJsonVariableTypeTrackObjects() {
         return jsonVariableTypeTrackObjects;
     }
@@ -3446,6 +3545,31 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isExpressionCompilationEnabled() {
+        return isExpressionCompilationEnabled;
+    }
+
+    /**
+     * Enables the compilation of expressions that are evaluated often (see {@link #setExpressionCompilationThreshold(int)}).
+     * Compiled expressions have the same semantics as interpreted expressions.
+     */
+    public ProcessEngineConfigurationImpl setExpressionCompilationEnabled(boolean isExpressionCompilationEnabled) {
+        this.isExpressionCompilationEnabled = isExpressionCompilationEnabled;
+        return this;
+    }
+
+    public int getExpressionCompilationThreshold() {
+        return expressionCompilationThreshold;
+    }
+
+    /**
+     * The number of evaluations after which an expression gets compiled, when expression compilation is enabled.
+     */
+    public ProcessEngineConfigurationImpl setExpressionCompilationThreshold(int expressionCompilationThreshold) {
+        this.expressionCompilationThreshold = expressionCompilationThreshold;
+        return this;
+    }
+
     public BusinessCalendarManager getBusinessCalendarManager() {
         return businessCalendarManager;
     }
@@ -3869,6 +3993,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public long getProcessDefinitionCacheMaxWeight() {
+        return processDefinitionCacheMaxWeight;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheMaxWeight(long processDefinitionCacheMaxWeight) {
+        this.processDefinitionCacheMaxWeight = processDefinitionCacheMaxWeight;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -3887,6 +4020,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return processDefinitionInfoCache;
     }
 
+    public long getProcessDefinitionInfoCacheRevisionCheckInterval() {
+        return processDefinitionInfoCacheRevisionCheckInterval;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionInfoCacheRevisionCheckInterval(long processDefinitionInfoCacheRevisionCheckInterval) {
+        this.processDefinitionInfoCacheRevisionCheckInterval = processDefinitionInfoCacheRevisionCheckInterval;
+        return this;
+    }
+
     public int getKnowledgeBaseCacheLimit() {
         return knowledgeBaseCacheLimit;
     }
@@ -4844,6 +4986,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorUseVirtualThreads() {
+        return asyncExecutorUseVirtualThreads;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorUseVirtualThreads(boolean asyncExecutorUseVirtualThreads) {
+        this.asyncExecutorUseVirtualThreads = asyncExecutorUseVirtualThreads;
+        return this;
+    }
+
+    public int getAsyncExecutorMaxConcurrentJobs() {
+        return asyncExecutorMaxConcurrentJobs;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorMaxConcurrentJobs(int asyncExecutorMaxConcurrentJobs) {
+        this.asyncExecutorMaxConcurrentJobs = asyncExecutorMaxConcurrentJobs;
+        return this;
+    }
+
     public ThreadFactory getAsyncExecutorThreadFactory() {
         return asyncExecutorThreadFactory;
     }
@@ -4997,6 +5157,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
     
+    public JobNotificationChannel getJobNotificationChannel() {
+        return jobNotificationChannel;
+    }
+
+    public ProcessEngineConfigurationImpl setJobNotificationChannel(JobNotificationChannel jobNotificationChannel) {
+        this.jobNotificationChannel = jobNotificationChannel;
+        return this;
+    }
+
     public ProcessEngineConfigurationImpl addEnabledJobCategory(String jobCategory) {
         if (enabledJobCategories == null) {
             enabledJobCategories = new ArrayList<>();
@@ -5078,6 +5247,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncHistoryExecutorUseVirtualThreads() {
+        return asyncHistoryExecutorUseVirtualThreads;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorUseVirtualThreads(boolean asyncHistoryExecutorUseVirtualThreads) {
+        this.asyncHistoryExecutorUseVirtualThreads = asyncHistoryExecutorUseVirtualThreads;
+        return this;
+    }
+
+    public int getAsyncHistoryExecutorMaxConcurrentJobs() {
+        return asyncHistoryExecutorMaxConcurrentJobs;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorMaxConcurrentJobs(int asyncHistoryExecutorMaxConcurrentJobs) {
+        this.asyncHistoryExecutorMaxConcurrentJobs = asyncHistoryExecutorMaxConcurrentJobs;
+        return this;
+    }
+
+    public boolean isAsyncHistoryExecutorPartitioningEnabled() {
+        return asyncHistoryExecutorPartitioningEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorPartitioningEnabled(boolean asyncHistoryExecutorPartitioningEnabled) {
+        this.asyncHistoryExecutorPartitioningEnabled = asyncHistoryExecutorPartitioningEnabled;
+        return this;
+    }
+
+    public int getAsyncHistoryExecutorPartitionCount() {
+        return asyncHistoryExecutorPartitionCount;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorPartitionCount(int asyncHistoryExecutorPartitionCount) {
+        this.asyncHistoryExecutorPartitionCount = asyncHistoryExecutorPartitionCount;
+        return this;
+    }
+
     public int getAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime() {
         return asyncHistoryExecutorDefaultAsyncJobAcquireWaitTime;
     }
@@ -0,0 +1,127 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.entitylink.api.history.HistoricEntityLinkService;
+import org.flowable.task.service.HistoricTaskService;
+
+/**
+ * Deletes historic process instances and all their related historic data with set-based delete statements,
+ * without loading the historic entities. All instances, including their sub process instances, need to be ended,
+ * otherwise nothing is deleted. The ids are processed in chunks to stay within the maximum number
+ * of elements that databases (e.g. Oracle) allow in an IN clause.
+ */
+public class BulkDeleteHistoricProcessInstancesCmd implements Command<Object>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected static final int MAX_IDS_PER_STATEMENT = 1000;
+
+    protected Collection<String> processInstanceIds;
+
+    public BulkDeleteHistoricProcessInstancesCmd(Collection<String> processInstanceIds) {
+        this.processInstanceIds = processInstanceIds;
+    }
+
+    @Override
+    public Object execute(CommandContext commandContext) {
+        if (processInstanceIds == null) {
+            throw new FlowableIllegalArgumentException("processInstanceIds is null");
+        }
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        List<List<String>> chunks = CollectionUtil.partition(collectProcessInstanceIds(processEngineConfiguration), MAX_IDS_PER_STATEMENT);
+        for (List<String> chunk : chunks) {
+            checkProcessInstancesEnded(processEngineConfiguration, chunk);
+        }
+        for (List<String> chunk : chunks) {
+            deleteHistoricData(processEngineConfiguration, chunk);
+        }
+
+        return null;
+    }
+
+    protected Set<String> collectProcessInstanceIds(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        HistoricProcessInstanceEntityManager historicProcessInstanceEntityManager = processEngineConfiguration.getHistoricProcessInstanceEntityManager();
+        Set<String> allProcessInstanceIds = new LinkedHashSet<>(processInstanceIds);
+
+        // Sub process instances are deleted together with their parent, level by level
+        List<String> superProcessInstanceIds = new ArrayList<>(allProcessInstanceIds);
+        while (!superProcessInstanceIds.isEmpty()) {
+            List<String> subProcessInstanceIds = new ArrayList<>();
+            for (List<String> chunk : CollectionUtil.partition(superProcessInstanceIds, MAX_IDS_PER_STATEMENT)) {
+                for (String subProcessInstanceId : historicProcessInstanceEntityManager.findHistoricProcessInstanceIdsBySuperProcessInstanceIds(chunk)) {
+                    if (allProcessInstanceIds.add(subProcessInstanceId)) {
+                        subProcessInstanceIds.add(subProcessInstanceId);
+                    }
+                }
+            }
+            superProcessInstanceIds = subProcessInstanceIds;
+        }
+
+        return allProcessInstanceIds;
+    }
+
+    protected void checkProcessInstancesEnded(ProcessEngineConfigurationImpl processEngineConfiguration, List<String> ids) {
+        List<HistoricProcessInstance> runningProcessInstances = processEngineConfiguration.getHistoryService().createHistoricProcessInstanceQuery()
+                .processInstanceIds(new HashSet<>(ids))
+                .unfinished()
+                .listPage(0, 1);
+        if (!runningProcessInstances.isEmpty()) {
+            throw new FlowableException("Process instance is still running, cannot delete historic process instance: " + runningProcessInstances.get(0).getId());
+        }
+    }
+
+    protected void deleteHistoricData(ProcessEngineConfigurationImpl processEngineConfiguration, List<String> ids) {
+        // The statements are executed in the entity delete order when the session is flushed,
+        // so data that is found through the historic tasks is deleted before the tasks themselves
+        processEngineConfiguration.getHistoricDetailEntityManager().bulkDeleteHistoricDetailsByProcessInstanceIds(ids);
+        processEngineConfiguration.getVariableServiceConfiguration().getHistoricVariableService().bulkDeleteHistoricVariableInstancesByProcessInstanceIds(ids);
+        processEngineConfiguration.getHistoricActivityInstanceEntityManager().bulkDeleteHistoricActivityInstancesByProcessInstanceIds(ids);
+        processEngineConfiguration.getIdentityLinkServiceConfiguration().getHistoricIdentityLinkService().bulkDeleteHistoricIdentityLinksForProcessInstanceIds(ids);
+
+        HistoricTaskService historicTaskService = processEngineConfiguration.getTaskServiceConfiguration().getHistoricTaskService();
+        historicTaskService.bulkDeleteHistoricTaskLogEntriesForProcessInstanceIds(ids);
+        historicTaskService.bulkDeleteHistoricTaskInstancesForProcessInstanceIds(ids);
+
+        if (processEngineConfiguration.isEnableEntityLinks()) {
+            HistoricEntityLinkService historicEntityLinkService = processEngineConfiguration.getEntityLinkServiceConfiguration().getHistoricEntityLinkService();
+            if (historicEntityLinkService != null) {
+                historicEntityLinkService.bulkDeleteHistoricEntityLinksForScopeTypeAndScopeIds(ScopeTypes.BPMN, ids);
+            }
+        }
+
+        processEngineConfiguration.getCommentEntityManager().bulkDeleteCommentsByProcessInstanceIds(ids);
+        processEngineConfiguration.getAttachmentEntityManager().bulkDeleteAttachmentsByProcessInstanceIds(ids);
+        processEngineConfiguration.getHistoricProcessInstanceEntityManager().bulkDeleteHistoricProcessInstancesByIds(ids);
+    }
+
+}
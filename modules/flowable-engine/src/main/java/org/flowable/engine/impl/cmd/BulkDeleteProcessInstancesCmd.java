@@ -0,0 +1,200 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.bpmn.model.Activity;
+import org.flowable.bpmn.model.CallActivity;
+import org.flowable.bpmn.model.CaseServiceTask;
+import org.flowable.bpmn.model.ExternalWorkerServiceTask;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.MultiInstanceLoopCharacteristics;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.UserTask;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.event.FlowableEventDispatcherImpl;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
+import org.flowable.engine.impl.ProcessInstanceQueryImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+
+/**
+ * Deletes multiple runtime process instances in one transaction. Process instances for which nothing observes the
+ * deletion (no event listeners, no execution or task listeners, no history and no parent or child instances) are
+ * deleted with set-based delete statements per table, without loading their executions. All other process instances
+ * are deleted through their entities, as with a single process instance delete. Ids of process instances that
+ * don't exist (anymore) are ignored.
+ */
+public class BulkDeleteProcessInstancesCmd implements Command<Void>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected static final int MAX_IDS_PER_STATEMENT = 1000;
+
+    protected Collection<String> processInstanceIds;
+    protected String deleteReason;
+
+    public BulkDeleteProcessInstancesCmd(Collection<String> processInstanceIds, String deleteReason) {
+        this.processInstanceIds = processInstanceIds;
+        this.deleteReason = deleteReason;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (processInstanceIds == null) {
+            throw new FlowableIllegalArgumentException("processInstanceIds is null");
+        }
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        boolean eventListenersRegistered = hasEventListeners(processEngineConfiguration);
+        Map<String, Boolean> setBasedDeleteByProcessDefinitionId = new HashMap<>();
+
+        for (List<String> chunk : CollectionUtil.partition(new LinkedHashSet<>(processInstanceIds), MAX_IDS_PER_STATEMENT)) {
+            List<ProcessInstance> processInstances = new ProcessInstanceQueryImpl(commandContext, processEngineConfiguration)
+                    .processInstanceIds(new LinkedHashSet<>(chunk))
+                    .list();
+
+            List<String> setBasedProcessInstanceIds = new ArrayList<>();
+            List<String> entityProcessInstanceIds = new ArrayList<>();
+            for (ProcessInstance processInstance : processInstances) {
+                if (!eventListenersRegistered && isSetBasedDeletePossible(commandContext, processEngineConfiguration,
+                        (ExecutionEntity) processInstance, setBasedDeleteByProcessDefinitionId)) {
+                    setBasedProcessInstanceIds.add(processInstance.getId());
+                } else {
+                    entityProcessInstanceIds.add(processInstance.getId());
+                }
+            }
+
+            if (!setBasedProcessInstanceIds.isEmpty()) {
+                bulkDeleteRuntimeData(processEngineConfiguration, setBasedProcessInstanceIds);
+            }
+
+            for (String processInstanceId : entityProcessInstanceIds) {
+                deleteProcessInstance(commandContext, processEngineConfiguration, processInstanceId);
+            }
+        }
+
+        return null;
+    }
+
+    protected boolean hasEventListeners(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
+        if (eventDispatcher == null || !eventDispatcher.isEnabled()) {
+            return false;
+        }
+
+        // A custom dispatcher can't tell whether anybody listens, so it always gets the entity events
+        if (!(eventDispatcher instanceof FlowableEventDispatcherImpl)) {
+            return true;
+        }
+        return ((FlowableEventDispatcherImpl) eventDispatcher).getEventSupport().hasListeners();
+    }
+
+    protected boolean isSetBasedDeletePossible(CommandContext commandContext, ProcessEngineConfigurationImpl processEngineConfiguration,
+            ExecutionEntity processInstance, Map<String, Boolean> setBasedDeleteByProcessDefinitionId) {
+
+        // Parent and child process or case instances need to be notified
+        if (processInstance.getSuperExecutionId() != null || processInstance.getCallbackId() != null) {
+            return false;
+        }
+
+        String processDefinitionId = processInstance.getProcessDefinitionId();
+        Boolean setBasedDeletePossible = setBasedDeleteByProcessDefinitionId.get(processDefinitionId);
+        if (setBasedDeletePossible == null) {
+            setBasedDeletePossible = !Flowable5Util.isFlowable5ProcessDefinitionId(commandContext, processDefinitionId)
+                    && !processEngineConfiguration.getHistoryManager().isHistoryEnabled(processDefinitionId)
+                    && !hasDeleteObservers(ProcessDefinitionUtil.getProcess(processDefinitionId));
+            setBasedDeleteByProcessDefinitionId.put(processDefinitionId, setBasedDeletePossible);
+        }
+        return setBasedDeletePossible;
+    }
+
+    protected boolean hasDeleteObservers(Process process) {
+        if (!process.getEventListeners().isEmpty() || !process.getExecutionListeners().isEmpty()) {
+            return true;
+        }
+
+        for (FlowElement flowElement : process.findFlowElementsOfType(FlowElement.class, true)) {
+            if (!flowElement.getExecutionListeners().isEmpty()) {
+                return true;
+            }
+
+            if (flowElement instanceof UserTask && !((UserTask) flowElement).getTaskListeners().isEmpty()) {
+                return true;
+            }
+
+            // Child instances and external workers need the entity delete to be cleaned up
+            if (flowElement instanceof CallActivity || flowElement instanceof CaseServiceTask || flowElement instanceof ExternalWorkerServiceTask) {
+                return true;
+            }
+
+            if (flowElement instanceof Activity) {
+                MultiInstanceLoopCharacteristics loopCharacteristics = ((Activity) flowElement).getLoopCharacteristics();
+                if (loopCharacteristics != null && loopCharacteristics.getAggregations() != null) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    protected void bulkDeleteRuntimeData(ProcessEngineConfigurationImpl processEngineConfiguration, List<String> processInstanceIds) {
+        // The deletes are flushed in the entity delete order, so rows are always deleted before the rows they reference
+        processEngineConfiguration.getVariableServiceConfiguration().getVariableService().bulkDeleteVariableInstancesByProcessInstanceIds(processInstanceIds);
+        processEngineConfiguration.getIdentityLinkServiceConfiguration().getIdentityLinkService().bulkDeleteIdentityLinksForProcessInstanceIds(processInstanceIds);
+        processEngineConfiguration.getTaskServiceConfiguration().getTaskService().bulkDeleteTasksForProcessInstanceIds(processInstanceIds);
+        processEngineConfiguration.getJobServiceConfiguration().getJobService().bulkDeleteJobsForProcessInstanceIds(processInstanceIds);
+        processEngineConfiguration.getJobServiceConfiguration().getTimerJobService().bulkDeleteTimerJobsForProcessInstanceIds(processInstanceIds);
+        processEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionService().bulkDeleteEventSubscriptionsForProcessInstanceIds(processInstanceIds);
+        if (processEngineConfiguration.isEnableEntityLinks()) {
+            processEngineConfiguration.getEntityLinkServiceConfiguration().getEntityLinkService().bulkDeleteEntityLinksForRootScopeIdsAndType(processInstanceIds, ScopeTypes.BPMN);
+        }
+        processEngineConfiguration.getActivityInstanceEntityManager().bulkDeleteActivityInstancesByProcessInstanceIds(processInstanceIds);
+        processEngineConfiguration.getExecutionEntityManager().bulkDeleteExecutionsByProcessInstanceIds(processInstanceIds);
+    }
+
+    protected void deleteProcessInstance(CommandContext commandContext, ProcessEngineConfigurationImpl processEngineConfiguration, String processInstanceId) {
+        ExecutionEntityManager executionEntityManager = processEngineConfiguration.getExecutionEntityManager();
+        ExecutionEntity processInstanceEntity = executionEntityManager.findById(processInstanceId);
+        // Sub process instances are deleted together with their parent, so they can already be gone
+        if (processInstanceEntity == null || processInstanceEntity.isDeleted()) {
+            return;
+        }
+
+        if (Flowable5Util.isFlowable5ProcessDefinitionId(commandContext, processInstanceEntity.getProcessDefinitionId())) {
+            Flowable5CompatibilityHandler compatibilityHandler = Flowable5Util.getFlowable5CompatibilityHandler();
+            compatibilityHandler.deleteProcessInstance(processInstanceId, deleteReason);
+        } else {
+            executionEntityManager.deleteProcessInstance(processInstanceEntity.getProcessInstanceId(), deleteReason, false);
+        }
+    }
+
+}
@@ -16,8 +16,14 @@ import java.io.Serializable;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCacheObject;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -65,6 +71,14 @@ public class SaveProcessDefinitionInfoCmd implements Command<Void>, Serializable
             throw new FlowableException("Unable to serialize info node " + infoNode, e);
         }
 
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        DeploymentCache<ProcessDefinitionInfoCacheObject> processDefinitionInfoCache = processEngineConfiguration.getProcessDefinitionInfoCache();
+        if (processEngineConfiguration.getProcessDefinitionInfoCacheRevisionCheckInterval() > 0 && processDefinitionInfoCache instanceof ProcessDefinitionInfoCache) {
+            // The revision is only incremented when the transaction commits, checking it earlier would keep the old info in the cache
+            Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED,
+                    transactionCommandContext -> ((ProcessDefinitionInfoCache) processDefinitionInfoCache).expireRevisionCheck(processDefinitionId));
+        }
+
         return null;
     }
 
@@ -0,0 +1,219 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.db;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.db.IdBlock;
+import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link DbIdGenerator} that does not synchronize on id generation.
+ *
+ * Ids are handed out from an atomic counter on the current block. When the remaining ids of the current block drop below
+ * the low-water mark, the next block is fetched on a background thread, so callers normally never wait for the database.
+ * The size of the next block adapts to the observed id consumption rate: it is sized to last roughly
+ * {@link #getTargetBlockDurationMillis()}, bounded by the {@link #getIdBlockSize()} and {@link #getMaxIdBlockSize()}.
+ *
+ * Like with the {@link DbIdGenerator}, ids of a block that are not used (for example when the engine shuts down) are lost.
+ */
+public class PrefetchingDbIdGenerator extends DbIdGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrefetchingDbIdGenerator.class);
+
+    protected static final IdRange EXHAUSTED_RANGE = new IdRange(0, -1, -1);
+
+    protected int maxIdBlockSize = 100000;
+    protected long targetBlockDurationMillis = 60000L;
+    protected int lowWaterMarkPercentage = 25;
+
+    protected Executor prefetchExecutor;
+
+    protected volatile IdRange currentRange = EXHAUSTED_RANGE;
+    protected final AtomicReference<CompletableFuture<IdRange>> nextRange = new AtomicReference<>();
+
+    // Only accessed by the thread that schedules the next prefetch
+    protected int lastBlockSize;
+    protected long lastFetchTime;
+
+    @Override
+    public String getNextId() {
+        while (true) {
+            IdRange range = currentRange;
+            long id = range.nextId.getAndIncrement();
+            if (id <= range.lastId) {
+                if (id == range.prefetchThreshold) {
+                    // Exactly one caller crosses the threshold
+                    prefetchNextRange();
+                }
+                return Long.toString(id);
+            }
+
+            switchToNextRange(range);
+        }
+    }
+
+    @Override
+    protected void getNewBlock() {
+        switchToNextRange(currentRange);
+    }
+
+    protected void switchToNextRange(IdRange exhaustedRange) {
+        CompletableFuture<IdRange> nextRangeFuture = prefetchNextRange();
+
+        IdRange range;
+        try {
+            range = nextRangeFuture.join();
+        } catch (CompletionException e) {
+            nextRange.compareAndSet(nextRangeFuture, null); // Allow the next caller to try again
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new FlowableException("Could not fetch a new id block", cause);
+        }
+
+        // Only the caller that removes the future owns the range, which guarantees a block is never used twice
+        if (currentRange == exhaustedRange && nextRange.compareAndSet(nextRangeFuture, null)) {
+            currentRange = range;
+
+        } else if (currentRange == exhaustedRange) {
+            Thread.yield(); // Another caller is installing the new range
+
+        }
+    }
+
+    protected CompletableFuture<IdRange> prefetchNextRange() {
+        while (true) {
+            CompletableFuture<IdRange> future = nextRange.get();
+            if (future != null) {
+                return future;
+            }
+
+            CompletableFuture<IdRange> newFuture = new CompletableFuture<>();
+            if (nextRange.compareAndSet(null, newFuture)) {
+                int blockSize = determineNextBlockSize();
+                Runnable fetchBlock = () -> {
+                    try {
+                        newFuture.complete(fetchRange(blockSize));
+                    } catch (Throwable t) {
+                        newFuture.completeExceptionally(t);
+                    }
+                };
+
+                try {
+                    getPrefetchExecutor().execute(fetchBlock);
+                } catch (RejectedExecutionException e) {
+                    LOGGER.debug("Prefetching of id block rejected, fetching on the calling thread", e);
+                    fetchBlock.run();
+                }
+                return newFuture;
+            }
+        }
+    }
+
+    protected IdRange fetchRange(int blockSize) {
+        IdBlock idBlock = commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(blockSize));
+        LOGGER.debug("Fetched id block {} - {}", idBlock.getNextId(), idBlock.getLastId());
+        int lowWaterMark = (int) ((long) blockSize * lowWaterMarkPercentage / 100);
+        return new IdRange(idBlock.getNextId(), idBlock.getLastId(), idBlock.getLastId() - lowWaterMark);
+    }
+
+    /**
+     * Sizes the next block so it lasts about {@link #targetBlockDurationMillis}, based on how fast the previous block was consumed.
+     */
+    protected int determineNextBlockSize() {
+        long now = System.currentTimeMillis();
+        int blockSize = idBlockSize;
+        if (lastFetchTime > 0 && lastBlockSize > 0) {
+            long elapsed = Math.max(1L, now - lastFetchTime);
+            long size = lastBlockSize * targetBlockDurationMillis / elapsed;
+            blockSize = (int) Math.max(idBlockSize, Math.min(maxIdBlockSize, size));
+        }
+
+        lastFetchTime = now;
+        lastBlockSize = blockSize;
+        return blockSize;
+    }
+
+    protected Executor getPrefetchExecutor() {
+        if (prefetchExecutor == null) {
+            synchronized (this) {
+                if (prefetchExecutor == null) {
+                    prefetchExecutor = createDefaultPrefetchExecutor();
+                }
+            }
+        }
+        return prefetchExecutor;
+    }
+
+    protected ExecutorService createDefaultPrefetchExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "flowable-id-block-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public int getMaxIdBlockSize() {
+        return maxIdBlockSize;
+    }
+
+    public void setMaxIdBlockSize(int maxIdBlockSize) {
+        this.maxIdBlockSize = maxIdBlockSize;
+    }
+
+    public long getTargetBlockDurationMillis() {
+        return targetBlockDurationMillis;
+    }
+
+    public void setTargetBlockDurationMillis(long targetBlockDurationMillis) {
+        this.targetBlockDurationMillis = targetBlockDurationMillis;
+    }
+
+    public int getLowWaterMarkPercentage() {
+        return lowWaterMarkPercentage;
+    }
+
+    public void setLowWaterMarkPercentage(int lowWaterMarkPercentage) {
+        this.lowWaterMarkPercentage = lowWaterMarkPercentage;
+    }
+
+    public void setPrefetchExecutor(Executor prefetchExecutor) {
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    protected static class IdRange {
+
+        protected final AtomicLong nextId;
+        protected final long lastId;
+        protected final long prefetchThreshold;
+
+        public IdRange(long nextId, long lastId, long prefetchThreshold) {
+            this.nextId = new AtomicLong(nextId);
+            this.lastId = lastId;
+            this.prefetchThreshold = prefetchThreshold;
+        }
+    }
+
+}
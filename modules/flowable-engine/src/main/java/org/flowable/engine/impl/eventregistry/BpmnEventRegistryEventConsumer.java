@@ -63,6 +63,7 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         // executing them one per subscription. There is no overarching transaction.
         // The reason for this is that the handling of one event subscription
         // should not influence (i.e. roll back) the handling of another.
+        // Only when a batch of events is received, everything happens in the transaction of the batch (see eventInstancesReceived).
 
         Collection<CorrelationKey> correlationKeys = generateCorrelationKeys(eventInstance.getCorrelationParameterInstances());
         List<EventSubscription> eventSubscriptions = findEventSubscriptions(ScopeTypes.BPMN, eventInstance, correlationKeys);
@@ -109,7 +110,8 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
                         .processInstanceReferenceType(ReferenceTypes.EVENT_PROCESS)
                         .count();
 
-                    if (processInstanceCount > 0) {
+                    if (processInstanceCount > 0
+                            || isUniqueReferenceIdUsedInBatch(eventSubscription.getProcessDefinitionId(), correlationKeyWithAllParameters.getValue())) {
                         // Returning, no new instance should be started
                         LOGGER.debug("Event received to start a new process instance, but a unique instance already exists.");
                         return;
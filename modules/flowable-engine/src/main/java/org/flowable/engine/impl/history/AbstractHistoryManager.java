@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.history;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -264,7 +265,7 @@ public abstract class AbstractHistoryManager extends AbstractManager implements
     }
 
     protected HistoricActivityInstanceEntity getHistoricActivityInstanceFromCache(String executionId, String activityId, boolean endTimeMustBeNull) {
-        List<HistoricActivityInstanceEntity> cachedHistoricActivityInstances = getEntityCache().findInCache(HistoricActivityInstanceEntity.class);
+        Collection<HistoricActivityInstanceEntity> cachedHistoricActivityInstances = getEntityCache().findInCacheAsView(HistoricActivityInstanceEntity.class);
         for (HistoricActivityInstanceEntity cachedHistoricActivityInstance : cachedHistoricActivityInstances) {
             if (activityId != null
                             && activityId.equals(cachedHistoricActivityInstance.getActivityId())
@@ -0,0 +1,31 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import org.flowable.job.service.impl.history.async.AsyncHistoryPartitionKeyProvider;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Partitions async history jobs by the process instance the historic data belongs to.
+ */
+public class ProcessInstanceHistoryPartitionKeyProvider implements AsyncHistoryPartitionKeyProvider {
+
+    @Override
+    public String getPartitionKey(String type, ObjectNode historicalData) {
+        JsonNode processInstanceIdNode = historicalData.get(HistoryJsonConstants.PROCESS_INSTANCE_ID);
+        return processInstanceIdNode != null && !processInstanceIdNode.isNull() ? processInstanceIdNode.asText() : null;
+    }
+
+}
@@ -0,0 +1,173 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.calendar.BusinessCalendar;
+import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Base class for the job handlers of the {@link Batch#HISTORIC_PROCESS_DELETE_TYPE} batch, which deletes the historic process instances
+ * selected by the history cleaning query in parts.
+ *
+ * A part covers the historic process instances with an id after the scope id of the batch part, up to and including its sub scope id.
+ */
+public abstract class AbstractHistoryCleanupBatchJobHandler implements JobHandler {
+
+    public static final String STATUS_IN_PROGRESS = "inProgress";
+    public static final String STATUS_WAITING = "waiting";
+    public static final String STATUS_COMPLETED = "completed";
+    public static final String RESULT_SUCCESS = "success";
+    public static final String RESULT_FAIL = "fail";
+
+    public static final String BATCH_RESULT_STATUS_LABEL = "resultStatus";
+    public static final String BATCH_RESULT_MESSAGE_LABEL = "resultMessage";
+    public static final String BATCH_RESULT_DELETED_INSTANCES_LABEL = "deletedInstances";
+
+    public static final String BATCH_DOCUMENT_PART_SIZE_LABEL = "partSize";
+    public static final String BATCH_DOCUMENT_MAX_INSTANCES_PER_SECOND_LABEL = "maxInstancesPerSecond";
+    public static final String BATCH_DOCUMENT_ALL_PARTS_CREATED_LABEL = "allPartsCreated";
+    public static final String BATCH_DOCUMENT_PROGRESS_LABEL = "progress";
+
+    protected static final String CFG_LABEL_BATCH_ID = "batchId";
+    protected static final String CFG_LABEL_BATCH_PART_ID = "batchPartId";
+    protected static final String CFG_LABEL_AFTER_ID = "afterId";
+    protected static final String CFG_LABEL_PART_INDEX = "partIndex";
+
+    /**
+     * Selects the ids of the history cleaning query in id order, for the historic process instances with an id after the given id,
+     * or from the first one when the given id is null, up to and including the given until id when it is not null.
+     * Only the ids are read, the historic process instances aren't loaded.
+     */
+    protected List<String> findCleaningProcessInstanceIds(String afterId, String untilId, int maxResults,
+            ProcessEngineConfigurationImpl processEngineConfiguration) {
+
+        HistoricProcessInstanceQueryImpl query = (HistoricProcessInstanceQueryImpl) processEngineConfiguration.getHistoryCleaningManager()
+                .createHistoricProcessInstanceCleaningQuery();
+        if (afterId != null) {
+            query.searchAfter(null, afterId);
+        } else {
+            query.searchAfter();
+        }
+        query.setSearchUntilId(untilId);
+        query.setFirstResult(0);
+        query.setMaxResults(maxResults);
+        return processEngineConfiguration.getHistoricProcessInstanceEntityManager().findHistoricProcessInstanceIdsByQueryCriteria(query);
+    }
+
+    protected ObjectNode readHandlerCfg(String handlerCfg, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        return readJson(handlerCfg, processEngineConfiguration);
+    }
+
+    protected ObjectNode readBatchDocument(Batch batch, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        return readJson(batch.getBatchDocumentJson(processEngineConfiguration.getEngineCfgKey()), processEngineConfiguration);
+    }
+
+    protected Batch updateBatchDocument(Batch batch, ObjectNode batchDocument, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        ((BatchEntity) batch).setBatchDocumentJson(batchDocument.toString(), processEngineConfiguration.getEngineCfgKey());
+        return batch;
+    }
+
+    protected ObjectNode readJson(String json, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        try {
+            return (ObjectNode) processEngineConfiguration.getObjectMapper().readTree(json);
+        } catch (IOException | ClassCastException e) {
+            throw new FlowableException("Could not read history cleanup batch json " + json, e);
+        }
+    }
+
+    protected static String getText(JsonNode node, String label) {
+        JsonNode value = node.get(label);
+        return value != null && !value.isNull() ? value.asText() : null;
+    }
+
+    public static String getHandlerCfgForBatchId(String batchId, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        ObjectNode handlerCfg = processEngineConfiguration.getObjectMapper().createObjectNode();
+        handlerCfg.put(CFG_LABEL_BATCH_ID, batchId);
+        return handlerCfg.toString();
+    }
+
+    public static String getHandlerCfgForBatchPartId(String batchPartId, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        ObjectNode handlerCfg = processEngineConfiguration.getObjectMapper().createObjectNode();
+        handlerCfg.put(CFG_LABEL_BATCH_PART_ID, batchPartId);
+        return handlerCfg.toString();
+    }
+
+    /**
+     * Schedules an async job, or a timer job when the due date is in the future.
+     */
+    protected static void scheduleJob(String jobHandlerType, String jobHandlerConfiguration, Date duedate, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        if (duedate != null && duedate.after(processEngineConfiguration.getClock().getCurrentTime())) {
+            TimerJobService timerJobService = processEngineConfiguration.getJobServiceConfiguration().getTimerJobService();
+            TimerJobEntity timerJob = timerJobService.createTimerJob();
+            timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+            timerJob.setRevision(1);
+            timerJob.setJobHandlerType(jobHandlerType);
+            timerJob.setJobHandlerConfiguration(jobHandlerConfiguration);
+            timerJob.setDuedate(duedate);
+            timerJobService.scheduleTimerJob(timerJob);
+
+        } else {
+            JobService jobService = processEngineConfiguration.getJobServiceConfiguration().getJobService();
+            JobEntity job = jobService.createJob();
+            job.setJobHandlerType(jobHandlerType);
+            job.setJobHandlerConfiguration(jobHandlerConfiguration);
+            jobService.createAsyncJob(job, false);
+            jobService.scheduleAsyncJob(job);
+        }
+    }
+
+    protected static void scheduleStatusJob(Batch batch, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        TimerJobService timerJobService = processEngineConfiguration.getJobServiceConfiguration().getTimerJobService();
+        TimerJobEntity timerJob = timerJobService.createTimerJob();
+        timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+        timerJob.setRevision(1);
+        timerJob.setJobHandlerType(HistoryCleanupBatchStatusJobHandler.TYPE);
+        timerJob.setJobHandlerConfiguration(getHandlerCfgForBatchId(batch.getId(), processEngineConfiguration));
+
+        BusinessCalendar businessCalendar = processEngineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
+        timerJob.setDuedate(businessCalendar.resolveDuedate(processEngineConfiguration.getBatchStatusTimeCycleConfig()));
+        timerJob.setRepeat(processEngineConfiguration.getBatchStatusTimeCycleConfig());
+
+        timerJobService.scheduleTimerJob(timerJob);
+    }
+
+    /**
+     * The time at which the part with the given index may start, so that the batch doesn't delete more than the configured maximum
+     * number of instances per second. Returns null when the rate isn't limited.
+     */
+    protected static Date getPartDuedate(Batch batch, int partIndex, int partSize, int maxInstancesPerSecond) {
+        if (maxInstancesPerSecond <= 0) {
+            return null;
+        }
+        long delay = (long) partIndex * partSize * 1000L / maxInstancesPerSecond;
+        return new Date(batch.getCreateTime().getTime() + delay);
+    }
+
+}
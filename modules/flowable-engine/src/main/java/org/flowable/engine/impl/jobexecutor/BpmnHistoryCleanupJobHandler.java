@@ -12,15 +12,23 @@
  */
 package org.flowable.engine.impl.jobexecutor;
 
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchService;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.job.service.JobHandler;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 public class BpmnHistoryCleanupJobHandler implements JobHandler {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(BpmnHistoryCleanupJobHandler.class);
+
     public static final String TYPE = "bpmn-history-cleanup";
 
     @Override
@@ -32,7 +40,37 @@ public class BpmnHistoryCleanupJobHandler implements JobHandler {
     public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
 
-        processEngineConfiguration.getHistoryCleaningManager().createHistoricProcessInstanceCleaningQuery().deleteWithRelatedData();
+        if (processEngineConfiguration.isEnableHistoryCleaningBatch()) {
+            startHistoryCleanupBatch(processEngineConfiguration);
+        } else {
+            processEngineConfiguration.getHistoryCleaningManager().createHistoricProcessInstanceCleaningQuery().deleteWithRelatedData();
+        }
+    }
+
+    protected void startHistoryCleanupBatch(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        long runningBatches = processEngineConfiguration.getManagementService().createBatchQuery()
+                .batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE)
+                .status(AbstractHistoryCleanupBatchJobHandler.STATUS_IN_PROGRESS)
+                .count();
+        if (runningBatches > 0) {
+            LOGGER.info("History cleanup batch is still in progress, not starting a new one");
+            return;
+        }
+
+        ObjectNode batchDocument = processEngineConfiguration.getObjectMapper().createObjectNode();
+        batchDocument.put(AbstractHistoryCleanupBatchJobHandler.BATCH_DOCUMENT_PART_SIZE_LABEL, processEngineConfiguration.getHistoryCleaningBatchPartSize());
+        batchDocument.put(AbstractHistoryCleanupBatchJobHandler.BATCH_DOCUMENT_MAX_INSTANCES_PER_SECOND_LABEL,
+                processEngineConfiguration.getHistoryCleaningMaxInstancesPerSecond());
+
+        BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+        Batch batch = batchService.createBatchBuilder().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE)
+                .status(AbstractHistoryCleanupBatchJobHandler.STATUS_IN_PROGRESS)
+                .batchDocumentJson(batchDocument.toString())
+                .create();
+
+        AbstractHistoryCleanupBatchJobHandler.scheduleJob(HistoryCleanupBatchPartCreationJobHandler.TYPE,
+                AbstractHistoryCleanupBatchJobHandler.getHandlerCfgForBatchId(batch.getId(), processEngineConfiguration), null, processEngineConfiguration);
+        AbstractHistoryCleanupBatchJobHandler.scheduleStatusJob(batch, processEngineConfiguration);
     }
-    
+
 }
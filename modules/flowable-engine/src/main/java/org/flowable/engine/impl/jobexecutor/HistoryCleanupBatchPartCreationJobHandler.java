@@ -0,0 +1,100 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Creates the parts of a history cleanup batch by paging through the ids of the history cleaning query ordered by id.
+ * Every execution creates at most {@link #MAX_PARTS_PER_JOB} parts, after which it schedules itself again to continue
+ * after the last created part. When the rate is limited, the next execution is due together with the last created part,
+ * so parts aren't created far ahead of their deletion.
+ */
+public class HistoryCleanupBatchPartCreationJobHandler extends AbstractHistoryCleanupBatchJobHandler {
+
+    public static final String TYPE = "bpmn-history-cleanup-batch-part-creation";
+
+    protected static final int MAX_PARTS_PER_JOB = 20;
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+
+        ObjectNode handlerCfg = readHandlerCfg(configuration, processEngineConfiguration);
+        Batch batch = batchService.getBatch(getText(handlerCfg, CFG_LABEL_BATCH_ID));
+        if (batch == null) {
+            return;
+        }
+
+        ObjectNode batchDocument = readBatchDocument(batch, processEngineConfiguration);
+        int partSize = batchDocument.path(BATCH_DOCUMENT_PART_SIZE_LABEL).asInt();
+        int maxInstancesPerSecond = batchDocument.path(BATCH_DOCUMENT_MAX_INSTANCES_PER_SECOND_LABEL).asInt();
+
+        String afterId = getText(handlerCfg, CFG_LABEL_AFTER_ID);
+        int partIndex = handlerCfg.path(CFG_LABEL_PART_INDEX).asInt();
+        Date partDuedate = null;
+        for (int i = 0; i < MAX_PARTS_PER_JOB; i++) {
+            List<String> processInstanceIds = findCleaningProcessInstanceIds(afterId, null, partSize, processEngineConfiguration);
+            if (processInstanceIds.isEmpty()) {
+                completePartCreation(batch, batchDocument, processEngineConfiguration);
+                return;
+            }
+
+            String lastId = processInstanceIds.get(processInstanceIds.size() - 1);
+            BatchPart batchPart = batchService.createBatchPart(batch, STATUS_WAITING, afterId, lastId, ScopeTypes.BPMN);
+            partDuedate = getPartDuedate(batch, partIndex, partSize, maxInstancesPerSecond);
+            scheduleJob(HistoryCleanupBatchPartJobHandler.TYPE, getHandlerCfgForBatchPartId(batchPart.getId(), processEngineConfiguration),
+                    partDuedate, processEngineConfiguration);
+
+            partIndex++;
+            afterId = lastId;
+
+            if (processInstanceIds.size() < partSize) {
+                completePartCreation(batch, batchDocument, processEngineConfiguration);
+                return;
+            }
+        }
+
+        ObjectNode nextHandlerCfg = processEngineConfiguration.getObjectMapper().createObjectNode();
+        nextHandlerCfg.put(CFG_LABEL_BATCH_ID, batch.getId());
+        nextHandlerCfg.put(CFG_LABEL_AFTER_ID, afterId);
+        nextHandlerCfg.put(CFG_LABEL_PART_INDEX, partIndex);
+        scheduleJob(TYPE, nextHandlerCfg.toString(), partDuedate, processEngineConfiguration);
+    }
+
+    protected void completePartCreation(Batch batch, ObjectNode batchDocument, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+        batchDocument.put(BATCH_DOCUMENT_ALL_PARTS_CREATED_LABEL, true);
+        batchService.updateBatch(updateBatchDocument(batch, batchDocument, processEngineConfiguration));
+    }
+
+}
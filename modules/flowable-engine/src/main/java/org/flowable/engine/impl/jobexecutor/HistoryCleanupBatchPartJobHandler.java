@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.List;
+
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.BulkDeleteHistoricProcessInstancesCmd;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Deletes the historic process instances of one history cleanup batch part, with all their related data.
+ * The ids of the history cleaning query are selected again, so only instances that are still eligible for cleaning are deleted.
+ * All instances of the part are deleted with set-based delete statements in the transaction of the job.
+ * When an instance can't be deleted, e.g. because one of its sub process instances is still running, nothing of the part is deleted and the part fails.
+ */
+public class HistoryCleanupBatchPartJobHandler extends AbstractHistoryCleanupBatchJobHandler {
+
+    public static final String TYPE = "bpmn-history-cleanup-batch-part";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+
+        String batchPartId = getText(readHandlerCfg(configuration, processEngineConfiguration), CFG_LABEL_BATCH_PART_ID);
+        BatchPart batchPart = batchService.getBatchPart(batchPartId);
+        if (batchPart == null || batchPart.getCompleteTime() != null) {
+            return;
+        }
+
+        ObjectNode batchDocument = readBatchDocument(batchService.getBatch(batchPart.getBatchId()), processEngineConfiguration);
+        int partSize = batchDocument.path(BATCH_DOCUMENT_PART_SIZE_LABEL).asInt();
+
+        List<String> processInstanceIds = findCleaningProcessInstanceIds(batchPart.getScopeId(), batchPart.getSubScopeId(), partSize,
+                processEngineConfiguration);
+
+        int deletedInstances = 0;
+        String exceptionMessage = null;
+        try {
+            // All checks are done before any delete statement is added to the session, so a failed part leaves nothing to flush
+            new BulkDeleteHistoricProcessInstancesCmd(processInstanceIds).execute(commandContext);
+            deletedInstances = processInstanceIds.size();
+
+        } catch (FlowableException e) {
+            exceptionMessage = e.getMessage();
+        }
+
+        ObjectNode result = processEngineConfiguration.getObjectMapper().createObjectNode();
+        result.put(BATCH_RESULT_DELETED_INSTANCES_LABEL, deletedInstances);
+        if (exceptionMessage == null) {
+            result.put(BATCH_RESULT_STATUS_LABEL, RESULT_SUCCESS);
+            batchService.completeBatchPart(batchPartId, RESULT_SUCCESS, result.toString());
+
+        } else {
+            result.put(BATCH_RESULT_STATUS_LABEL, RESULT_FAIL);
+            result.put(BATCH_RESULT_MESSAGE_LABEL, exceptionMessage);
+            batchService.completeBatchPart(batchPartId, RESULT_FAIL, result.toString());
+        }
+    }
+
+}
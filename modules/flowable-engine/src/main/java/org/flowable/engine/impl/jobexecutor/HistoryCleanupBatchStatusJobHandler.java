@@ -0,0 +1,115 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Repeating job that stores the progress of a history cleanup batch in the batch document, and completes the batch
+ * when all parts are created and completed.
+ *
+ * While the batch is running, the number of deleted instances is estimated from the completed parts, so the result documents
+ * of the parts only have to be read once, when the batch completes.
+ */
+public class HistoryCleanupBatchStatusJobHandler extends AbstractHistoryCleanupBatchJobHandler {
+
+    public static final String TYPE = "bpmn-history-cleanup-batch-status";
+
+    public static final String PROGRESS_PARTS_LABEL = "parts";
+    public static final String PROGRESS_COMPLETED_PARTS_LABEL = "completedParts";
+    public static final String PROGRESS_FAILED_PARTS_LABEL = "failedParts";
+    public static final String PROGRESS_DELETED_INSTANCES_LABEL = "deletedInstances";
+    public static final String PROGRESS_INSTANCES_PER_SECOND_LABEL = "instancesPerSecond";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+
+        Batch batch = batchService.getBatch(getText(readHandlerCfg(configuration, processEngineConfiguration), CFG_LABEL_BATCH_ID));
+        if (batch == null) {
+            job.setRepeat(null);
+            return;
+        }
+
+        ObjectNode batchDocument = readBatchDocument(batch, processEngineConfiguration);
+        int partSize = batchDocument.path(BATCH_DOCUMENT_PART_SIZE_LABEL).asInt();
+        boolean allPartsCreated = batchDocument.path(BATCH_DOCUMENT_ALL_PARTS_CREATED_LABEL).asBoolean();
+
+        List<BatchPart> batchParts = batchService.findBatchPartsByBatchId(batch.getId());
+        int completedBatchParts = 0;
+        int failedBatchParts = 0;
+        for (BatchPart batchPart : batchParts) {
+            if (batchPart.getCompleteTime() != null) {
+                completedBatchParts++;
+
+                if (RESULT_FAIL.equals(batchPart.getStatus())) {
+                    failedBatchParts++;
+                }
+            }
+        }
+
+        boolean completed = allPartsCreated && completedBatchParts == batchParts.size();
+        long deletedInstances;
+        if (completed) {
+            deletedInstances = 0;
+            for (BatchPart batchPart : batchParts) {
+                String resultJson = batchPart.getResultDocumentJson(processEngineConfiguration.getEngineCfgKey());
+                if (resultJson != null) {
+                    deletedInstances += readJson(resultJson, processEngineConfiguration).path(BATCH_RESULT_DELETED_INSTANCES_LABEL).asLong();
+                }
+            }
+        } else {
+            deletedInstances = (long) (completedBatchParts - failedBatchParts) * partSize;
+        }
+
+        Date now = processEngineConfiguration.getClock().getCurrentTime();
+        double elapsedSeconds = Math.max(1L, now.getTime() - batch.getCreateTime().getTime()) / 1000.0;
+
+        ObjectNode progress = batchDocument.putObject(BATCH_DOCUMENT_PROGRESS_LABEL);
+        progress.put(PROGRESS_PARTS_LABEL, batchParts.size());
+        progress.put(PROGRESS_COMPLETED_PARTS_LABEL, completedBatchParts);
+        progress.put(PROGRESS_FAILED_PARTS_LABEL, failedBatchParts);
+        progress.put(PROGRESS_DELETED_INSTANCES_LABEL, deletedInstances);
+        progress.put(PROGRESS_INSTANCES_PER_SECOND_LABEL, Math.round(deletedInstances / elapsedSeconds));
+        updateBatchDocument(batch, batchDocument, processEngineConfiguration);
+
+        if (completed) {
+            BatchEntity batchEntity = (BatchEntity) batch;
+            batchEntity.setStatus(STATUS_COMPLETED);
+            batchEntity.setCompleteTime(now);
+            job.setRepeat(null);
+        }
+
+        batchService.updateBatch(batch);
+    }
+
+}
@@ -45,6 +45,12 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
     protected Map<String, ProcessDefinitionInfoCacheObject> cache;
     protected CommandExecutor commandExecutor;
 
+    /**
+     * Time in milliseconds during which a cached entry is used without checking its revision in the database.
+     * By default (0), the revision is checked on every access.
+     */
+    protected long revisionCheckInterval;
+
     /** Cache with no limit */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor) {
         this.commandExecutor = commandExecutor;
@@ -126,13 +132,22 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
         ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
         ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
 
-        ProcessDefinitionInfoCacheObject cacheObject = null;
-        if (cache.containsKey(processDefinitionId)) {
-            cacheObject = cache.get(processDefinitionId);
+        long now = CommandContextUtil.getProcessEngineConfiguration(commandContext).getClock().getCurrentTime().getTime();
+
+        ProcessDefinitionInfoCacheObject cacheObject = cache.get(processDefinitionId);
+        if (cacheObject != null) {
+            if (revisionCheckInterval > 0 && now - cacheObject.getLastRevisionCheckTime() < revisionCheckInterval) {
+                return cacheObject;
+            }
+
         } else {
             cacheObject = new ProcessDefinitionInfoCacheObject();
             cacheObject.setRevision(0);
             cacheObject.setInfoNode(objectMapper.createObjectNode());
+            if (revisionCheckInterval > 0) {
+                // Needs to be cached, otherwise the next access would query the database again
+                cache.put(processDefinitionId, cacheObject);
+            }
         }
 
         ProcessDefinitionInfoEntity infoEntity = infoEntityManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
@@ -152,7 +167,27 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
             cacheObject.setInfoNode(objectMapper.createObjectNode());
         }
 
+        cacheObject.setLastRevisionCheckTime(now);
         return cacheObject;
     }
 
+    /**
+     * Makes the next access to the given process definition info check the revision in the database again,
+     * for example because it was changed by this engine.
+     */
+    public void expireRevisionCheck(String processDefinitionId) {
+        ProcessDefinitionInfoCacheObject cacheObject = cache.get(processDefinitionId);
+        if (cacheObject != null) {
+            cacheObject.setLastRevisionCheckTime(0);
+        }
+    }
+
+    public long getRevisionCheckInterval() {
+        return revisionCheckInterval;
+    }
+
+    public void setRevisionCheckInterval(long revisionCheckInterval) {
+        this.revisionCheckInterval = revisionCheckInterval;
+    }
+
 }
@@ -26,6 +26,7 @@ public class ProcessDefinitionInfoCacheObject implements Serializable {
     protected String id;
     protected int revision;
     protected ObjectNode infoNode;
+    protected long lastRevisionCheckTime;
 
     public String getId() {
         return id;
@@ -50,4 +51,12 @@ public class ProcessDefinitionInfoCacheObject implements Serializable {
     public void setInfoNode(ObjectNode infoNode) {
         this.infoNode = infoNode;
     }
+
+    public long getLastRevisionCheckTime() {
+        return lastRevisionCheckTime;
+    }
+
+    public void setLastRevisionCheckTime(long lastRevisionCheckTime) {
+        this.lastRevisionCheckTime = lastRevisionCheckTime;
+    }
 }
\ No newline at end of file
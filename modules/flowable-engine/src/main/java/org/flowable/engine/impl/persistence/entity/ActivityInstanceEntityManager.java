@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +46,8 @@ public interface ActivityInstanceEntityManager extends EntityManager<ActivityIns
 
     void deleteActivityInstancesByProcessInstanceId(String processInstanceId);
 
+    void bulkDeleteActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
     /**
      * Record Activity end, if activity event logging is enabled.
      *
@@ -15,6 +15,7 @@ package org.flowable.engine.impl.persistence.entity;
 
 import static org.flowable.engine.impl.util.CommandContextUtil.getEntityCache;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -74,6 +75,11 @@ public class ActivityInstanceEntityManagerImpl
         dataManager.deleteActivityInstancesByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public void bulkDeleteActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.bulkDeleteActivityInstancesByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     public long findActivityInstanceCountByQueryCriteria(ActivityInstanceQueryImpl historicActivityInstanceQuery) {
         return dataManager.findActivityInstanceCountByQueryCriteria(historicActivityInstanceQuery);
@@ -367,7 +373,7 @@ public class ActivityInstanceEntityManagerImpl
     }
 
     protected ActivityInstanceEntity getActivityInstanceFromCache(String executionId, String activityId, boolean endTimeMustBeNull) {
-        List<ActivityInstanceEntity> cachedActivityInstances = getEntityCache().findInCache(ActivityInstanceEntity.class);
+        Collection<ActivityInstanceEntity> cachedActivityInstances = getEntityCache().findInCacheAsView(ActivityInstanceEntity.class);
         for (ActivityInstanceEntity cachedActivityInstance : cachedActivityInstances) {
             if (activityId != null
                 && activityId.equals(cachedActivityInstance.getActivityId())
@@ -383,7 +389,7 @@ public class ActivityInstanceEntityManagerImpl
     
     protected int getTransactionOrderFromCache(String processInstanceId) {
         int transactionOrder = 1;
-        List<ActivityInstanceEntity> cachedActivityInstances = getEntityCache().findInCache(ActivityInstanceEntity.class);
+        Collection<ActivityInstanceEntity> cachedActivityInstances = getEntityCache().findInCacheAsView(ActivityInstanceEntity.class);
         for (ActivityInstanceEntity cachedActivityInstance : cachedActivityInstances) {
             if (processInstanceId.equals(cachedActivityInstance.getProcessInstanceId())) {
                 
@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.api.FlowableException;
@@ -102,4 +103,8 @@ public class AttachmentEntityManagerImpl
         return engineConfiguration.getByteArrayEntityManager();
     }
 
+    @Override
+    public void bulkDeleteAttachmentsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.bulkDeleteAttachmentsByProcessInstanceIds(processInstanceIds);
+    }
 }
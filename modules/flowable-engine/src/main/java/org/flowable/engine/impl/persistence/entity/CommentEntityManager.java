@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -45,4 +46,5 @@ public interface CommentEntityManager extends EntityManager<CommentEntity> {
 
     Event findEvent(String commentId);
 
+    void bulkDeleteCommentsByProcessInstanceIds(Collection<String> processInstanceIds);
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.api.FlowableException;
@@ -190,4 +191,8 @@ public class CommentEntityManagerImpl
         return engineConfiguration.getHistoryManager();
     }
 
+    @Override
+    public void bulkDeleteCommentsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.bulkDeleteCommentsByProcessInstanceIds(processInstanceIds);
+    }
 }
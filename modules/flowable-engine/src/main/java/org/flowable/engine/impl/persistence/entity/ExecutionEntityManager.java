@@ -79,6 +79,12 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
      */
     List<ExecutionEntity> collectChildren(ExecutionEntity executionEntity);
 
+    /**
+     * Fetches the local variable instances of the given executions, for which they were not fetched yet, in bulk
+     * instead of with one query per execution when they are first accessed.
+     */
+    void prefetchVariableInstances(Collection<ExecutionEntity> executionEntities);
+
     ExecutionEntity findFirstScope(ExecutionEntity executionEntity);
 
     ExecutionEntity findFirstMultiInstanceRoot(ExecutionEntity executionEntity);
@@ -91,6 +97,12 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     void deleteProcessInstance(String processInstanceId, String deleteReason, boolean cascade);
 
+    /**
+     * Deletes all executions of the given process instances with set based statements. No listeners are invoked and no history is recorded,
+     * so the related runtime data needs to be deleted separately before the flush.
+     */
+    void bulkDeleteExecutionsByProcessInstanceIds(Collection<String> processInstanceIds);
+
     void deleteProcessInstanceExecutionEntity(String processInstanceId, String currentFlowElementId,
             String deleteReason, boolean cascade, boolean cancel, boolean fireEvents);
 
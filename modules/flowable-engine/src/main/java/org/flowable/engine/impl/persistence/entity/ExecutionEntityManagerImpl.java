@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -74,6 +75,7 @@ import org.flowable.job.service.impl.persistence.entity.ExternalWorkerJobEntity;
 import org.flowable.job.service.impl.persistence.entity.ExternalWorkerJobEntityManager;
 import org.flowable.variable.api.persistence.entity.VariableInstance;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -433,6 +435,11 @@ public class ExecutionEntityManagerImpl
         }
     }
 
+    @Override
+    public void bulkDeleteExecutionsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.bulkDeleteExecutionsByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     public void deleteProcessInstance(String processInstanceId, String deleteReason, boolean cascade) {
         ExecutionEntity processInstanceExecution = findById(processInstanceId);
@@ -638,6 +645,10 @@ public class ExecutionEntityManagerImpl
         // the leafs of this tree must be deleted first before the parents elements.
 
         List<ExecutionEntity> childExecutions = collectChildren(executionEntity, executionIdsNotToDelete);
+
+        // The variables of each deleted child execution are needed when deleting its related data
+        prefetchVariableInstances(childExecutions);
+
         for (int i = childExecutions.size() - 1; i >= 0; i--) {
             ExecutionEntity childExecutionEntity = childExecutions.get(i);
             if (!childExecutionEntity.isEnded()) {
@@ -701,6 +712,42 @@ public class ExecutionEntityManagerImpl
         }
     }
 
+    @Override
+    public void prefetchVariableInstances(Collection<ExecutionEntity> executionEntities) {
+        Map<String, VariableScopeImpl> executionsToPrefetch = new LinkedHashMap<>();
+        for (ExecutionEntity executionEntity : executionEntities) {
+            if (executionEntity.isEnded() || !(executionEntity instanceof VariableScopeImpl)
+                    || ((VariableScopeImpl) executionEntity).isVariableInstancesInitialized()) {
+                continue;
+            }
+
+            // No need to fetch anything when it is known that the execution has no variables
+            if (CountingEntityUtil.isExecutionRelatedEntityCountEnabled(executionEntity)
+                    && ((CountingExecutionEntity) executionEntity).getVariableCount() == 0) {
+                continue;
+            }
+
+            executionsToPrefetch.put(executionEntity.getId(), (VariableScopeImpl) executionEntity);
+        }
+
+        // A single execution is fetched in the same way as when its variables are accessed
+        if (executionsToPrefetch.size() < 2) {
+            return;
+        }
+
+        Map<String, List<VariableInstanceEntity>> variableInstancesByExecutionId = new HashMap<>();
+        List<VariableInstanceEntity> variableInstances = engineConfiguration.getVariableServiceConfiguration().getVariableService()
+                .findVariableInstancesByExecutionIds(executionsToPrefetch.keySet());
+        for (VariableInstanceEntity variableInstance : variableInstances) {
+            variableInstancesByExecutionId.computeIfAbsent(variableInstance.getExecutionId(), executionId -> new ArrayList<>()).add(variableInstance);
+        }
+
+        for (Map.Entry<String, VariableScopeImpl> entry : executionsToPrefetch.entrySet()) {
+            entry.getValue().internalSetPrefetchedVariableInstances(
+                    variableInstancesByExecutionId.getOrDefault(entry.getKey(), Collections.emptyList()));
+        }
+    }
+
     protected void dispatchExecutionCancelled(ExecutionEntity execution, FlowElement cancelActivity) {
 
         ExecutionEntityManager executionEntityManager = engineConfiguration.getExecutionEntityManager();
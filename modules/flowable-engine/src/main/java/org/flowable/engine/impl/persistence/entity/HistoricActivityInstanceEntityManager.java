@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -46,4 +47,6 @@ public interface HistoricActivityInstanceEntityManager extends EntityManager<His
     void deleteHistoricActivityInstances(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
 
     void deleteHistoricActivityInstancesForNonExistingProcessInstances();
+
+    void bulkDeleteHistoricActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -97,4 +98,8 @@ public class HistoricActivityInstanceEntityManagerImpl
         return engineConfiguration.getHistoryManager();
     }
 
+    @Override
+    public void bulkDeleteHistoricActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.bulkDeleteHistoricActivityInstancesByProcessInstanceIds(processInstanceIds);
+    }
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -45,4 +46,6 @@ public interface HistoricDetailEntityManager extends EntityManager<HistoricDetai
     void deleteHistoricDetailsByProcessInstanceId(String historicProcessInstanceId);
 
     void deleteHistoricDetailForNonExistingProcessInstances();
+
+    void bulkDeleteHistoricDetailsByProcessInstanceIds(Collection<String> processInstanceIds);
 }
\ No newline at end of file
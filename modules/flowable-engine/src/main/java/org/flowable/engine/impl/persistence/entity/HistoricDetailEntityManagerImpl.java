@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -153,4 +154,8 @@ public class HistoricDetailEntityManagerImpl
         return engineConfiguration.getHistoryManager();
     }
 
+    @Override
+    public void bulkDeleteHistoricDetailsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.bulkDeleteHistoricDetailsByProcessInstanceIds(processInstanceIds);
+    }
 }
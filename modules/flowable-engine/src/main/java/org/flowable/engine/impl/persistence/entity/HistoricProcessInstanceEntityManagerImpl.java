@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -57,6 +58,15 @@ public class HistoricProcessInstanceEntityManagerImpl
         return Collections.EMPTY_LIST;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findHistoricProcessInstanceIdsByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
+        if (getHistoryManager().isHistoryEnabled()) {
+            return dataManager.findHistoricProcessInstanceIdsByQueryCriteria(historicProcessInstanceQuery);
+        }
+        return Collections.EMPTY_LIST;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
@@ -95,4 +105,13 @@ public class HistoricProcessInstanceEntityManagerImpl
         return engineConfiguration.getHistoryManager();
     }
 
+    @Override
+    public List<String> findHistoricProcessInstanceIdsBySuperProcessInstanceIds(Collection<String> superProcessInstanceIds) {
+        return dataManager.findHistoricProcessInstanceIdsBySuperProcessInstanceIds(superProcessInstanceIds);
+    }
+
+    @Override
+    public void bulkDeleteHistoricProcessInstancesByIds(Collection<String> processInstanceIds) {
+        dataManager.bulkDeleteHistoricProcessInstancesByIds(processInstanceIds);
+    }
 }
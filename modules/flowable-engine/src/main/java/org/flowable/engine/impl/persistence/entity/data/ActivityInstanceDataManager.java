@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -35,6 +36,8 @@ public interface ActivityInstanceDataManager extends DataManager<ActivityInstanc
 
     void deleteActivityInstancesByProcessInstanceId(String processInstanceId);
 
+    void bulkDeleteActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
     long findActivityInstanceCountByQueryCriteria(ActivityInstanceQueryImpl activityInstanceQuery);
 
     List<ActivityInstance> findActivityInstancesByQueryCriteria(ActivityInstanceQueryImpl activityInstanceQuery);
@@ -65,6 +65,8 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
 
     void updateExecutionTenantIdForDeployment(String deploymentId, String newTenantId);
 
+    void bulkDeleteExecutionsByProcessInstanceIds(Collection<String> processInstanceIds);
+
     void updateAllExecutionRelatedEntityCountFlags(boolean newValue);
 
     void updateProcessInstanceLockTime(String processInstanceId, Date lockDate, String lockOwner, Date expirationTime);
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -47,4 +48,6 @@ public interface HistoricActivityInstanceDataManager extends DataManager<Histori
     void deleteHistoricActivityInstances(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
 
     void deleteHistoricActivityInstancesForNonExistingProcessInstances();
+
+    void bulkDeleteHistoricActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
 }
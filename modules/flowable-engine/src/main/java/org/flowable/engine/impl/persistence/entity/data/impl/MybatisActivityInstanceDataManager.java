@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -93,6 +94,13 @@ public class MybatisActivityInstanceDataManager extends AbstractProcessDataManag
         }
     }
 
+    @Override
+    public void bulkDeleteActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("processInstanceIds", processInstanceIds);
+        getDbSqlSession().delete("bulkDeleteActivityInstancesByProcessInstanceIds", params, ActivityInstanceEntityImpl.class);
+    }
+
     @Override
     public long findActivityInstanceCountByQueryCriteria(ActivityInstanceQueryImpl activityInstanceQuery) {
         return (Long) getDbSqlSession().selectOne("selectActivityInstanceCountByQueryCriteria", activityInstanceQuery);
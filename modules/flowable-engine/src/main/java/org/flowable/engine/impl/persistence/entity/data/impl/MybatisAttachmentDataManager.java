@@ -12,7 +12,10 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntity;
@@ -51,4 +54,12 @@ public class MybatisAttachmentDataManager extends AbstractProcessDataManager<Att
         return getDbSqlSession().selectList("selectAttachmentsByTaskId", taskId);
     }
 
+    @Override
+    public void bulkDeleteAttachmentsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("processInstanceIds", processInstanceIds);
+        // The content byte arrays are selected through the attachments, so they need to be deleted first
+        getDbSqlSession().delete("bulkDeleteAttachmentContentByProcessInstanceIds", parameters, AttachmentEntityImpl.class);
+        getDbSqlSession().delete("bulkDeleteAttachmentsByProcessInstanceIds", parameters, AttachmentEntityImpl.class);
+    }
 }
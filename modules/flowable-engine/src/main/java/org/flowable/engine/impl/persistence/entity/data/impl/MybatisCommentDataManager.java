@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -111,4 +112,10 @@ public class MybatisCommentDataManager extends AbstractProcessDataManager<Commen
         return findById(commentId);
     }
 
+    @Override
+    public void bulkDeleteCommentsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("processInstanceIds", processInstanceIds);
+        getDbSqlSession().delete("bulkDeleteCommentsByProcessInstanceIds", parameters, CommentEntityImpl.class);
+    }
 }
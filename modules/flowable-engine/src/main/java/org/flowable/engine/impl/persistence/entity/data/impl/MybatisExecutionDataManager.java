@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.engine.impl.ExecutionQueryImpl;
@@ -316,6 +317,19 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         getDbSqlSession().update("updateExecutionTenantIdForDeployment", params);
     }
 
+    @Override
+    public void bulkDeleteExecutionsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("processInstanceIds", processInstanceIds);
+
+        // The parent and super execution references are cleared first, so the child executions can be deleted regardless of their nesting.
+        // The process instance executions are deleted last, as all other executions reference them.
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        dbSqlSession.update("clearExecutionParentReferencesByProcessInstanceIds", params);
+        dbSqlSession.delete("bulkDeleteChildExecutionsByProcessInstanceIds", params, ExecutionEntityImpl.class);
+        dbSqlSession.delete("bulkDeleteProcessInstanceExecutionsByIds", params, ExecutionEntityImpl.class);
+    }
+
     @Override
     public void updateProcessInstanceLockTime(String processInstanceId, Date lockDate, String lockOwner, Date expirationTime) {
         HashMap<String, Object> params = new HashMap<>();
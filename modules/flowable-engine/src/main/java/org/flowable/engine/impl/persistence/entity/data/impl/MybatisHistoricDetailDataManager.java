@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -102,4 +104,13 @@ public class MybatisHistoricDetailDataManager extends AbstractProcessDataManager
     public void deleteHistoricDetailForNonExistingProcessInstances() {
         getDbSqlSession().delete("bulkDeleteHistoricDetailForNonExistingProcessInstances", null, HistoricDetailEntity.class);
     }
+
+    @Override
+    public void bulkDeleteHistoricDetailsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("processInstanceIds", processInstanceIds);
+        // The byte arrays are selected through the details, so they need to be deleted first
+        getDbSqlSession().delete("bulkDeleteBytesForHistoricDetailsByProcessInstanceIds", parameters, HistoricDetailEntityImpl.class);
+        getDbSqlSession().delete("bulkDeleteHistoricDetailsByProcessInstanceIds", parameters, HistoricDetailEntityImpl.class);
+    }
 }
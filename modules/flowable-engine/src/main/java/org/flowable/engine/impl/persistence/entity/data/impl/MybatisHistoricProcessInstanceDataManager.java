@@ -12,7 +12,9 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -72,6 +74,12 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractProcessDa
         return getDbSqlSession().selectList("selectHistoricProcessInstancesByQueryCriteria", historicProcessInstanceQuery, getManagedEntityClass());
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findHistoricProcessInstanceIdsByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
+        return getDbSqlSession().selectListNoCacheLoadAndStore("selectHistoricProcessInstanceIdsByQueryCriteria", historicProcessInstanceQuery);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
@@ -125,4 +133,18 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractProcessDa
         getDbSqlSession().delete("bulkDeleteHistoricProcessInstances", historicProcessInstanceQuery, HistoricProcessInstanceEntityImpl.class);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findHistoricProcessInstanceIdsBySuperProcessInstanceIds(Collection<String> superProcessInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("superProcessInstanceIds", superProcessInstanceIds);
+        return getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore("selectHistoricProcessInstanceIdsBySuperProcessInstanceIds", parameters);
+    }
+
+    @Override
+    public void bulkDeleteHistoricProcessInstancesByIds(Collection<String> processInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("processInstanceIds", processInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricProcessInstancesByIds", parameters, HistoricProcessInstanceEntityImpl.class);
+    }
 }
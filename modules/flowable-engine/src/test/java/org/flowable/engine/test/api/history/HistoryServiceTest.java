@@ -27,6 +27,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.history.DeleteReason;
@@ -35,6 +36,7 @@ import org.flowable.engine.history.HistoricProcessInstanceQuery;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Comment;
 import org.flowable.engine.test.Deployment;
 import org.flowable.engine.test.api.runtime.ProcessInstanceQueryTest;
 import org.flowable.identitylink.api.IdentityLinkType;
@@ -290,6 +292,57 @@ public class HistoryServiceTest extends PluggableFlowableTestCase {
         assertThat(processInstanceQuery.count()).isZero();
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testBulkDeleteHistoricProcessInstances() {
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", CollectionUtil.singletonMap("var", "value" + i));
+            runtimeService.addUserIdentityLink(processInstance.getId(), "kermit", IdentityLinkType.PARTICIPANT);
+            taskService.addComment(null, processInstance.getId(), "comment " + i);
+            processInstanceIds.add(processInstance.getId());
+        }
+
+        HistoryTestHelper.waitForJobExecutorToProcessAllHistoryJobs(processEngineConfiguration, managementService, 7000, 200);
+
+        // Running process instances are rejected, nothing is deleted
+        assertThatThrownBy(() -> historyService.bulkDeleteHistoricProcessInstances(processInstanceIds))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("still running");
+        assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(3);
+
+        for (String processInstanceId : processInstanceIds) {
+            runtimeService.deleteProcessInstance(processInstanceId, "delete");
+        }
+
+        HistoryTestHelper.waitForJobExecutorToProcessAllHistoryJobs(processEngineConfiguration, managementService, 7000, 200);
+
+        historyService.bulkDeleteHistoricProcessInstances(processInstanceIds.subList(0, 2));
+
+        assertThat(historyService.createHistoricProcessInstanceQuery().list())
+                .extracting(HistoricProcessInstance::getId)
+                .containsExactly(processInstanceIds.get(2));
+
+        for (String processInstanceId : processInstanceIds.subList(0, 2)) {
+            assertThat(historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).count()).isZero();
+            assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceId).count()).isZero();
+            assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).count()).isZero();
+            assertThat(historyService.getHistoricIdentityLinksForProcessInstance(processInstanceId)).isEmpty();
+            assertThat(taskService.getProcessInstanceComments(processInstanceId)).isEmpty();
+        }
+
+        String remainingProcessInstanceId = processInstanceIds.get(2);
+        assertThat(historyService.createHistoricTaskInstanceQuery().processInstanceId(remainingProcessInstanceId).count()).isEqualTo(1);
+        assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(remainingProcessInstanceId).count()).isEqualTo(1);
+        assertThat(historyService.getHistoricIdentityLinksForProcessInstance(remainingProcessInstanceId)).isNotEmpty();
+        assertThat(taskService.getProcessInstanceComments(remainingProcessInstanceId))
+                .extracting(Comment::getFullMessage)
+                .contains("comment 2");
+
+        historyService.bulkDeleteHistoricProcessInstances(processInstanceIds);
+        assertThat(historyService.createHistoricProcessInstanceQuery().count()).isZero();
+    }
+
     @Test
     @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml", "org/flowable/engine/test/api/runtime/oneTaskProcess2.bpmn20.xml" })
     public void testHistoricProcessInstanceQueryByDeploymentId() {
@@ -97,6 +97,41 @@ public class ProcessInstanceQueryTest extends PluggableFlowableTestCase {
         assertThat(query.list()).hasSize(PROCESS_DEPLOY_COUNT);
     }
 
+    @Test
+    public void testQueryForEach() {
+        List<List<ProcessInstance>> batches = new ArrayList<>();
+        runtimeService.createProcessInstanceQuery().orderByProcessInstanceId().asc().forEach(2, batches::add);
+        assertThat(batches)
+                .extracting(List::size)
+                .containsExactly(2, 2, 1);
+        assertThat(batches.stream().flatMap(List::stream).map(ProcessInstance::getId))
+                .containsExactlyElementsOf(runtimeService.createProcessInstanceQuery().orderByProcessInstanceId().asc().list()
+                        .stream().map(ProcessInstance::getId).collect(Collectors.toList()));
+
+        List<ProcessInstance> processInstances = new ArrayList<>();
+        runtimeService.createProcessInstanceQuery().processDefinitionKey(PROCESS_DEFINITION_KEY).orderByProcessInstanceId().desc()
+                .forEach(10, processInstances::addAll);
+        assertThat(processInstances)
+                .extracting(ProcessInstance::getId)
+                .containsExactlyElementsOf(runtimeService.createProcessInstanceQuery().processDefinitionKey(PROCESS_DEFINITION_KEY)
+                        .orderByProcessInstanceId().desc().list().stream().map(ProcessInstance::getId).collect(Collectors.toList()));
+        assertThat(processInstances).hasSize(4);
+
+        processInstances.clear();
+        runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceIds.get(0)).forEach(10, processInstances::addAll);
+        assertThat(processInstances)
+                .extracting(ProcessInstance::getId)
+                .containsExactly(processInstanceIds.get(0));
+
+        processInstances.clear();
+        runtimeService.createProcessInstanceQuery().processDefinitionKey("unknown").forEach(10, processInstances::addAll);
+        assertThat(processInstances).isEmpty();
+
+        assertThatThrownBy(() -> runtimeService.createProcessInstanceQuery().includeProcessVariables().forEach(10, processInstances::addAll))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("forEach is not supported");
+    }
+
     @Test
     public void testQueryNoSpecificsSingleResult() {
         ProcessInstanceQuery query = runtimeService.createProcessInstanceQuery();
@@ -21,10 +21,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -3006,6 +3010,51 @@ public class TaskQueryTest extends PluggableFlowableTestCase {
         // tasks
     }
 
+    @Test
+    public void testQuerySearchAfter() {
+        List<Task> tasks = searchAfterAll(() -> taskService.createTaskQuery().orderByTaskCreateTime().desc(), Task::getCreateTime, 5);
+        assertThat(tasks).extracting(Task::getId).containsExactlyInAnyOrderElementsOf(taskIds);
+        assertThat(tasks).extracting(Task::getCreateTime).isSortedAccordingTo(Comparator.reverseOrder());
+
+        // 6 tasks have the same priority, the id is used to continue after the last task of a page
+        tasks = searchAfterAll(() -> taskService.createTaskQuery().orderByTaskPriority().asc(), Task::getPriority, 4);
+        assertThat(tasks).extracting(Task::getId).containsExactlyInAnyOrderElementsOf(taskIds);
+        assertThat(tasks).extracting(Task::getPriority).isSorted();
+
+        tasks = searchAfterAll(() -> taskService.createTaskQuery(), null, 5);
+        assertThat(tasks).extracting(Task::getId).containsExactlyElementsOf(taskIds.stream().sorted().collect(Collectors.toList()));
+
+        tasks = searchAfterAll(() -> taskService.createTaskQuery().taskCandidateUser("kermit").orderByTaskCreateTime().asc(), Task::getCreateTime, 3);
+        assertThat(tasks).hasSize(11);
+    }
+
+    @Test
+    public void testQuerySearchAfterInvalidUsage() {
+        assertThatThrownBy(() -> taskService.createTaskQuery().orderByTaskPriority().asc().orderByTaskName().asc().searchAfter().list())
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("only supports ordering on one property");
+
+        assertThatThrownBy(() -> taskService.createTaskQuery().orderByTaskPriority().asc().searchAfter(null, taskIds.get(0)).list())
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("the sort value to search after is required");
+
+        assertThatThrownBy(() -> taskService.createTaskQuery().includeTaskLocalVariables().searchAfter().list())
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("not supported when including variables");
+    }
+
+    protected List<Task> searchAfterAll(Supplier<TaskQuery> querySupplier, Function<Task, Object> sortValueProvider, int pageSize) {
+        List<Task> tasks = new ArrayList<>();
+        List<Task> page = querySupplier.get().searchAfter().listPage(0, pageSize);
+        while (!page.isEmpty()) {
+            tasks.addAll(page);
+            Task lastTask = page.get(page.size() - 1);
+            Object sortValue = sortValueProvider != null ? sortValueProvider.apply(lastTask) : null;
+            page = querySupplier.get().searchAfter(sortValue, lastTask.getId()).listPage(0, pageSize);
+        }
+        return tasks;
+    }
+
     @Test
     public void testQuerySorting() {
         assertThat(taskService.createTaskQuery().orderByTaskId().asc().list()).hasSize(12);
@@ -0,0 +1,93 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.flowable.variable.api.types.VariableTypes;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.types.BinaryJsonType;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+class BinaryJsonVariableTest extends PluggableFlowableTestCase {
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    void testStoreAndUpdateBinaryJsonVariable() {
+        VariableTypes variableTypes = processEngineConfiguration.getVariableTypes();
+        BinaryJsonType binaryJsonType = new BinaryJsonType(objectMapper, true, 256);
+        variableTypes.addType(binaryJsonType, 0);
+        try {
+            ObjectNode customer = objectMapper.createObjectNode();
+            customer.put("name", "Kermit");
+            ArrayNode orders = customer.putArray("orders");
+            for (int i = 0; i < 100; i++) {
+                orders.addObject()
+                        .put("orderId", i)
+                        .put("status", "delivered");
+            }
+            String jsonText = customer.toString();
+
+            ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                    .processDefinitionKey("oneTaskProcess")
+                    .variable("customer", customer)
+                    .start();
+
+            VariableInstance variableInstance = runtimeService.getVariableInstance(processInstance.getId(), "customer");
+            assertThat(variableInstance.getTypeName()).isEqualTo(BinaryJsonType.TYPE_NAME);
+            assertThat(variableInstance.getValue()).isEqualTo(customer);
+
+            // The encoded value is above the compression threshold
+            byte[] storedBytes = managementService.executeCommand(commandContext -> ((VariableInstanceEntity) runtimeService
+                    .getVariableInstance(processInstance.getId(), "customer")).getBytes());
+            assertThat(storedBytes.length).isLessThan(jsonText.length() / 4);
+
+            // Modifications of the deserialized value are detected
+            managementService.executeCommand(commandContext -> {
+                ObjectNode value = (ObjectNode) runtimeService.getVariable(processInstance.getId(), "customer");
+                value.put("name", "Gonzo");
+                return null;
+            });
+            JsonNode updatedValue = (JsonNode) runtimeService.getVariable(processInstance.getId(), "customer");
+            assertThat(updatedValue.path("name").asText()).isEqualTo("Gonzo");
+            assertThat(updatedValue.path("orders")).hasSize(100);
+
+            // Small values are stored uncompressed
+            runtimeService.setVariable(processInstance.getId(), "small", objectMapper.createObjectNode().put("name", "Fozzie"));
+            assertThat(runtimeService.getVariableInstance(processInstance.getId(), "small").getTypeName()).isEqualTo(BinaryJsonType.TYPE_NAME);
+            assertThat(runtimeService.getVariable(processInstance.getId(), "small")).isEqualTo(objectMapper.createObjectNode().put("name", "Fozzie"));
+
+            runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+                historyService.deleteHistoricProcessInstance(processInstance.getId());
+            }
+
+        } finally {
+            variableTypes.removeType(binaryJsonType);
+        }
+    }
+
+}
@@ -30,6 +30,8 @@ import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.api.persistence.entity.VariableInstance;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.types.SerializableType;
+import org.flowable.variable.service.impl.types.SerializableVariableChangeDetector;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -142,6 +144,43 @@ public class SerializableVariableTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    void testChangeDetectorSkipsUnchangedObjects() {
+        SerializableType serializableType = (SerializableType) processEngineConfiguration.getVariableTypes().getVariableType(SerializableType.TYPE_NAME);
+        SerializableVariableChangeDetector originalChangeDetector = serializableType.getChangeDetector();
+        serializableType.setChangeDetector(value -> value instanceof TestVersionedSerializableVariable ? ((TestVersionedSerializableVariable) value).getVersion() : null);
+        try {
+            ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                    .processDefinitionKey("oneTaskProcess")
+                    .variable("var", new TestVersionedSerializableVariable(10))
+                    .start();
+
+            // The version is not changed, so the change is not detected
+            managementService.executeCommand(commandContext -> {
+                TestVersionedSerializableVariable variable = (TestVersionedSerializableVariable) runtimeService.getVariable(processInstance.getId(), "var");
+                variable.setNumber(20);
+                return null;
+            });
+            assertThat(runtimeService.getVariable(processInstance.getId(), "var", TestVersionedSerializableVariable.class))
+                    .extracting(TestSerializableVariable::getNumber)
+                    .isEqualTo(10);
+
+            managementService.executeCommand(commandContext -> {
+                TestVersionedSerializableVariable variable = (TestVersionedSerializableVariable) runtimeService.getVariable(processInstance.getId(), "var");
+                variable.setNumber(30);
+                variable.incrementVersion();
+                return null;
+            });
+            assertThat(runtimeService.getVariable(processInstance.getId(), "var", TestVersionedSerializableVariable.class))
+                    .extracting(TestSerializableVariable::getNumber)
+                    .isEqualTo(30);
+
+        } finally {
+            serializableType.setChangeDetector(originalChangeDetector);
+        }
+    }
+
     public static class TestUpdateSerializableVariableDelegate implements JavaDelegate {
 
         @Override
@@ -171,4 +210,23 @@ public class SerializableVariableTest extends PluggableFlowableTestCase {
 
     }
 
+    public static class TestVersionedSerializableVariable extends TestSerializableVariable {
+
+        private static final long serialVersionUID = 1L;
+        private int version;
+
+        public TestVersionedSerializableVariable(int number) {
+            super(number);
+        }
+
+        public int getVersion() {
+            return version;
+        }
+
+        public void incrementVersion() {
+            version++;
+        }
+
+    }
+
 }
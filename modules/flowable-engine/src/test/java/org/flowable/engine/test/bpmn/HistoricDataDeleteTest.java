@@ -19,11 +19,16 @@ import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.List;
 
+import org.flowable.batch.api.Batch;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.engine.history.HistoricActivityInstanceQuery;
 import org.flowable.engine.history.HistoricProcessInstanceQuery;
+import org.flowable.engine.impl.jobexecutor.AbstractHistoryCleanupBatchJobHandler;
 import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
+import org.flowable.engine.impl.jobexecutor.HistoryCleanupBatchPartCreationJobHandler;
+import org.flowable.engine.impl.jobexecutor.HistoryCleanupBatchPartJobHandler;
+import org.flowable.engine.impl.jobexecutor.HistoryCleanupBatchStatusJobHandler;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -32,6 +37,8 @@ import org.flowable.job.api.Job;
 import org.flowable.task.api.Task;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 public class HistoricDataDeleteTest extends PluggableFlowableTestCase {
 
     @Test
@@ -294,4 +301,89 @@ public class HistoricDataDeleteTest extends PluggableFlowableTestCase {
             processEngineConfiguration.resetClock();
         }
     }
+
+    @Test
+    @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
+    public void testHistoryCleanupBatch() throws Exception {
+        try {
+            processEngineConfiguration.setEnableHistoryCleaning(true);
+            processEngineConfiguration.setEnableHistoryCleaningBatch(true);
+            processEngineConfiguration.setHistoryCleaningBatchPartSize(3);
+            Clock clock = processEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            List<String> processInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("startToEnd");
+                processInstanceIds.add(processInstance.getId());
+                runtimeService.setVariable(processInstance.getId(), "testVar", "testValue" + (i + 1));
+            }
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+
+                for (int i = 0; i < 10; i++) {
+                    Task task = taskService.createTaskQuery().processInstanceId(processInstanceIds.get(i)).singleResult();
+                    taskService.complete(task.getId());
+                }
+
+                if (processEngineConfiguration.isAsyncHistoryEnabled()) {
+                    waitForHistoryJobExecutorToProcessAllJobs(7000, 300);
+                }
+
+                managementService.handleHistoryCleanupTimerJob();
+
+                Job executableJob = managementService.moveTimerToExecutableJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                managementService.executeJob(executableJob.getId());
+
+                // The cleanup job only starts the batch
+                assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(20);
+                Batch batch = managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE).singleResult();
+                assertThat(batch.getStatus()).isEqualTo(AbstractHistoryCleanupBatchJobHandler.STATUS_IN_PROGRESS);
+
+                managementService.executeJob(managementService.createJobQuery().handlerType(HistoryCleanupBatchPartCreationJobHandler.TYPE).singleResult().getId());
+
+                List<Job> partJobs = managementService.createJobQuery().handlerType(HistoryCleanupBatchPartJobHandler.TYPE).list();
+                assertThat(partJobs).hasSize(4);
+                for (Job partJob : partJobs) {
+                    managementService.executeJob(partJob.getId());
+                }
+
+                if (processEngineConfiguration.isAsyncHistoryEnabled()) {
+                    waitForHistoryJobExecutorToProcessAllJobs(7000, 300);
+                }
+
+                assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(10);
+                assertThat(historyService.createHistoricProcessInstanceQuery().finished().count()).isZero();
+                for (int i = 0; i < 10; i++) {
+                    assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceIds.get(i)).count()).isZero();
+                    assertThat(historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceIds.get(i)).count()).isZero();
+                }
+
+                executableJob = managementService.moveTimerToExecutableJob(managementService.createTimerJobQuery().handlerType(HistoryCleanupBatchStatusJobHandler.TYPE).singleResult().getId());
+                managementService.executeJob(executableJob.getId());
+
+                batch = managementService.createBatchQuery().batchId(batch.getId()).singleResult();
+                assertThat(batch.getStatus()).isEqualTo(AbstractHistoryCleanupBatchJobHandler.STATUS_COMPLETED);
+                assertThat(batch.getCompleteTime()).isNotNull();
+                assertThat(managementService.createTimerJobQuery().handlerType(HistoryCleanupBatchStatusJobHandler.TYPE).count()).isZero();
+
+                JsonNode progress = processEngineConfiguration.getObjectMapper().readTree(managementService.getBatchDocument(batch.getId()))
+                        .get(AbstractHistoryCleanupBatchJobHandler.BATCH_DOCUMENT_PROGRESS_LABEL);
+                assertThat(progress.get(HistoryCleanupBatchStatusJobHandler.PROGRESS_PARTS_LABEL).asInt()).isEqualTo(4);
+                assertThat(progress.get(HistoryCleanupBatchStatusJobHandler.PROGRESS_FAILED_PARTS_LABEL).asInt()).isZero();
+                assertThat(progress.get(HistoryCleanupBatchStatusJobHandler.PROGRESS_DELETED_INSTANCES_LABEL).asLong()).isEqualTo(10);
+
+                managementService.deleteBatch(batch.getId());
+                managementService.deleteTimerJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+            }
+
+        } finally {
+            processEngineConfiguration.setEnableHistoryCleaning(false);
+            processEngineConfiguration.setEnableHistoryCleaningBatch(false);
+            processEngineConfiguration.setHistoryCleaningBatchPartSize(500);
+            processEngineConfiguration.resetClock();
+        }
+    }
 }
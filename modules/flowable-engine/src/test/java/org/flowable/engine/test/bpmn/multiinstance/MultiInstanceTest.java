@@ -48,8 +48,10 @@ import org.flowable.engine.delegate.event.FlowableProcessStartedEvent;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
@@ -62,6 +64,8 @@ import org.flowable.task.api.history.HistoricTaskInstance;
 import org.flowable.task.service.delegate.DelegateTask;
 import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -199,6 +203,42 @@ public class MultiInstanceTest extends PluggableFlowableTestCase {
         assertProcessEnded(procId);
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasks.bpmn20.xml" })
+    public void testPrefetchVariablesOfParallelChildExecutions() {
+        String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasks").getId();
+
+        List<Task> tasks = taskService.createTaskQuery().orderByTaskName().asc().list();
+        for (Task task : tasks) {
+            runtimeService.setVariableLocal(task.getExecutionId(), "localVar", task.getName());
+        }
+
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
+            List<ExecutionEntity> childExecutions = executionEntityManager.collectChildren(executionEntityManager.findById(procId));
+            executionEntityManager.prefetchVariableInstances(childExecutions);
+
+            List<ExecutionEntity> miChildExecutions = childExecutions.stream()
+                    .filter(childExecution -> !childExecution.isMultiInstanceRoot())
+                    .collect(Collectors.toList());
+            assertThat(miChildExecutions)
+                    .extracting(childExecution -> ((VariableScopeImpl) childExecution).isVariableInstancesInitialized())
+                    .containsOnly(true);
+            assertThat(miChildExecutions)
+                    .extracting(childExecution -> childExecution.getVariableLocal("localVar"))
+                    .containsExactlyInAnyOrder("My Task 0", "My Task 1", "My Task 2");
+            return null;
+        });
+
+        for (Task task : tasks) {
+            taskService.complete(task.getId());
+        }
+        assertProcessEnded(procId);
+        List<VariableInstanceEntity> variableInstances = managementService.executeCommand(commandContext -> CommandContextUtil.getVariableService(commandContext)
+                .createInternalVariableInstanceQuery().processInstanceId(procId).list());
+        assertThat(variableInstances).isEmpty();
+    }
+
     @Test
     @Deployment(resources = { "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasks.bpmn20.xml" })
     public void testParallelUserTasksHistory() {
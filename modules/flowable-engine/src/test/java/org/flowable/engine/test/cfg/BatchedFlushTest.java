@@ -0,0 +1,143 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.ibatis.executor.BatchResult;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.flowable.task.service.impl.persistence.entity.TaskEntityImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BatchedFlushTest extends PluggableFlowableTestCase {
+
+    protected boolean oldBatchedFlushEnabled;
+
+    @BeforeEach
+    protected void enableBatchedFlush() {
+        DbSqlSessionFactory dbSqlSessionFactory = processEngineConfiguration.getDbSqlSessionFactory();
+        this.oldBatchedFlushEnabled = dbSqlSessionFactory.isBatchedFlushEnabled();
+        dbSqlSessionFactory.setBatchedFlushEnabled(true);
+    }
+
+    @AfterEach
+    protected void resetBatchedFlush() {
+        processEngineConfiguration.getDbSqlSessionFactory().setBatchedFlushEnabled(oldBatchedFlushEnabled);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasks.bpmn20.xml")
+    public void testBatchedUpdatesAndDeletes() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miParallelUserTasks");
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        assertThat(tasks).hasSize(3);
+
+        managementService.executeCommand(commandContext -> {
+            for (Task task : taskService.createTaskQuery().processInstanceId(processInstance.getId()).list()) {
+                ((TaskEntity) task).setName("Updated " + task.getName());
+            }
+            return null;
+        });
+
+        tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        assertThat(tasks)
+                .extracting(Task::getName)
+                .allMatch(name -> name.startsWith("Updated "));
+
+        for (Task task : tasks) {
+            taskService.complete(task.getId());
+        }
+
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasks.bpmn20.xml")
+    public void testBatchedUpdatesVerifyRevision() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miParallelUserTasks");
+
+        assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+            List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+
+            // Simulate a concurrent update of the tasks by bumping the revision behind the back of the entity cache
+            String sql = "update " + processEngineConfiguration.getDatabaseTablePrefix() + "ACT_RU_TASK set REV_ = REV_ + 1 where PROC_INST_ID_ = ?";
+            try (PreparedStatement statement = CommandContextUtil.getDbSqlSession(commandContext).getSqlSession().getConnection().prepareStatement(sql)) {
+                statement.setString(1, processInstance.getId());
+                statement.executeUpdate();
+            } catch (Exception e) {
+                throw new FlowableException("Could not update task revisions", e);
+            }
+
+            for (Task task : tasks) {
+                ((TaskEntity) task).setName("Updated " + task.getName());
+            }
+            return null;
+        })).isInstanceOf(FlowableOptimisticLockingException.class);
+
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).list())
+                .extracting(Task::getName)
+                .noneMatch(name -> name.startsWith("Updated "));
+    }
+
+    @Test
+    public void testBatchedFlushDisabledWhenDriverReportsNoUpdateCounts() {
+        DbSqlSessionFactory dbSqlSessionFactory = processEngineConfiguration.getDbSqlSessionFactory();
+
+        TaskEntityImpl task = new TaskEntityImpl();
+        task.setId("stubbedTask");
+        BatchResult batchResult = new BatchResult(null, "updateTask");
+        batchResult.addParameterObject(task);
+        batchResult.setUpdateCounts(new int[] { Statement.SUCCESS_NO_INFO });
+
+        VerifyingDbSqlSession dbSqlSession = new VerifyingDbSqlSession(dbSqlSessionFactory);
+        try {
+            assertThatThrownBy(() -> dbSqlSession.verifyBatchResults(Collections.singletonList(batchResult), true))
+                    .isInstanceOf(FlowableOptimisticLockingException.class);
+            assertThat(dbSqlSessionFactory.isBatchedFlushEnabled()).isFalse();
+        } finally {
+            dbSqlSession.close();
+        }
+    }
+
+    protected static class VerifyingDbSqlSession extends DbSqlSession {
+
+        public VerifyingDbSqlSession(DbSqlSessionFactory dbSqlSessionFactory) {
+            super(dbSqlSessionFactory, new EntityCacheImpl());
+        }
+
+        @Override
+        public void verifyBatchResults(List<BatchResult> batchResults, boolean onlyRevisionedEntities) {
+            super.verifyBatchResults(batchResults, onlyRevisionedEntities);
+        }
+    }
+
+}
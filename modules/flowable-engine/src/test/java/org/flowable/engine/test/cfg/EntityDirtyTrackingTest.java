@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.EntityCacheSessionFactory;
+import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EntityDirtyTrackingTest extends PluggableFlowableTestCase {
+
+    protected boolean oldDirtyTrackingEnabled;
+
+    @BeforeEach
+    protected void enableDirtyTracking() {
+        EntityCacheSessionFactory entityCacheSessionFactory = getEntityCacheSessionFactory();
+        this.oldDirtyTrackingEnabled = entityCacheSessionFactory.isDirtyTrackingEnabled();
+        entityCacheSessionFactory.setDirtyTrackingEnabled(true);
+    }
+
+    @AfterEach
+    protected void resetDirtyTracking() {
+        getEntityCacheSessionFactory().setDirtyTrackingEnabled(oldDirtyTrackingEnabled);
+    }
+
+    protected EntityCacheSessionFactory getEntityCacheSessionFactory() {
+        return (EntityCacheSessionFactory) processEngineConfiguration.getSessionFactories().get(EntityCache.class);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testOnlyChangedVariablesAreUpdated() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+                CollectionUtil.singletonMap("myVar", "initial value"));
+        assertThat(getVariableRevision(processInstance.getId(), "myVar")).isEqualTo(1);
+
+        // Reading or setting the same value does not cause an update
+        managementService.executeCommand(commandContext -> runtimeService.getVariables(processInstance.getId()));
+        runtimeService.setVariable(processInstance.getId(), "myVar", "initial value");
+        assertThat(getVariableRevision(processInstance.getId(), "myVar")).isEqualTo(1);
+
+        runtimeService.setVariable(processInstance.getId(), "myVar", "changed value");
+        assertThat(getVariableRevision(processInstance.getId(), "myVar")).isEqualTo(2);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "myVar")).isEqualTo("changed value");
+
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    protected int getVariableRevision(String executionId, String variableName) {
+        return ((VariableInstanceEntity) runtimeService.getVariableInstance(executionId, variableName)).getRevision();
+    }
+
+}
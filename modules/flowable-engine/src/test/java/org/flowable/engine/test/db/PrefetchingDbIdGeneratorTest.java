@@ -0,0 +1,68 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.flowable.engine.impl.db.PrefetchingDbIdGenerator;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.junit.jupiter.api.Test;
+
+public class PrefetchingDbIdGeneratorTest extends PluggableFlowableTestCase {
+
+    @Test
+    public void testUniqueIdsWithConcurrentCallers() throws Exception {
+        PrefetchingDbIdGenerator idGenerator = createIdGenerator();
+
+        int nrOfThreads = 16;
+        int nrOfIdsPerThread = 5000;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(nrOfThreads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < nrOfThreads; i++) {
+                futures.add(executorService.submit(() -> {
+                    for (int j = 0; j < nrOfIdsPerThread; j++) {
+                        ids.add(idGenerator.getNextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(ids).hasSize(nrOfThreads * nrOfIdsPerThread);
+    }
+
+    protected PrefetchingDbIdGenerator createIdGenerator() {
+        PrefetchingDbIdGenerator idGenerator = new PrefetchingDbIdGenerator();
+        idGenerator.setIdBlockSize(100);
+        idGenerator.setMaxIdBlockSize(10000);
+        idGenerator.setCommandExecutor(processEngineConfiguration.getCommandExecutor());
+        idGenerator.setCommandConfig(processEngineConfiguration.getDefaultCommandConfig().transactionRequiresNew());
+        return idGenerator;
+    }
+
+}
@@ -16,6 +16,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -288,6 +291,24 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
     }
 
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testIntermediateCatchEventWithCorrelationAndPayload.bpmn20.xml")
+    public void testIntermediateCatchEventWithEventBatch() {
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "kermit"));
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "gonzo"));
+
+        // The second kermit event must not trigger the execution again, as its subscription was deleted by the first one
+        inboundEventChannelAdapter.triggerTestEventBatch("kermit", "kermit", "fozzie", "gonzo");
+
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).list())
+            .extracting(Task::getTaskDefinitionKey)
+            .containsExactly("taskAfterTask");
+        assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).list())
+            .extracting(Task::getTaskDefinitionKey)
+            .containsExactly("taskAfterTask");
+        assertThat(runtimeService.createEventSubscriptionQuery().activityId("catchEvent").count()).isZero();
+    }
+
     @Test
     @Deployment
     public void testProcessStartNoCorrelationParameter() {
@@ -373,6 +394,18 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
         }
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testStartOnlyOneInstance.bpmn20.xml")
+    public void testStartOnlyOneInstanceWithEventBatch() {
+        inboundEventChannelAdapter.triggerTestEventBatch("testCustomer", "testCustomer", "anotherTestCustomer", "testCustomer");
+        assertThat(runtimeService.createProcessInstanceQuery().list())
+            .extracting(ProcessInstance::getReferenceType)
+            .containsExactly(ReferenceTypes.EVENT_PROCESS, ReferenceTypes.EVENT_PROCESS);
+
+        inboundEventChannelAdapter.triggerTestEventBatch("testCustomer", "anotherTestCustomer");
+        assertThat(runtimeService.createProcessInstanceQuery().list()).hasSize(2);
+    }
+
     @Test
     public void testRedeployDefinitionWithRuntimeEventSubscriptions() {
         org.flowable.engine.repository.Deployment deployment1 = repositoryService.createDeployment()
@@ -461,7 +494,27 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
 
         public void triggerTestEvent(String customerId, String orderId) {
             ObjectMapper objectMapper = new ObjectMapper();
+            try {
+                eventRegistry.eventReceived(inboundChannelModel, objectMapper.writeValueAsString(createTestEvent(objectMapper, customerId, orderId)));
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        public void triggerTestEventBatch(String... customerIds) {
+            ObjectMapper objectMapper = new ObjectMapper();
+            List<ByteBuffer> events = new ArrayList<>();
+            try {
+                for (String customerId : customerIds) {
+                    events.add(ByteBuffer.wrap(objectMapper.writeValueAsBytes(createTestEvent(objectMapper, customerId, null))));
+                }
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+            eventRegistry.eventsReceived(inboundChannelModel, events);
+        }
 
+        protected ObjectNode createTestEvent(ObjectMapper objectMapper, String customerId, String orderId) {
             ObjectNode json = objectMapper.createObjectNode();
             json.put("type", "myEvent");
             if (customerId != null) {
@@ -473,11 +526,7 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
             }
             json.put("payload1", "Hello World");
             json.put("payload2", new Random().nextInt());
-            try {
-                eventRegistry.eventReceived(inboundChannelModel, objectMapper.writeValueAsString(json));
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException(e);
-            }
+            return json;
         }
 
     }
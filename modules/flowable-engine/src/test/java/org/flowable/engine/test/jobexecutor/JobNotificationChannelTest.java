@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.notification.InMemoryJobNotificationChannel;
+import org.flowable.job.service.impl.asyncexecutor.notification.JobNotificationListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JobNotificationChannelTest extends PluggableFlowableTestCase {
+
+    protected InMemoryJobNotificationChannel jobNotificationChannel;
+    protected AtomicInteger notificationCount;
+    protected JobNotificationListener listener;
+
+    @BeforeEach
+    protected void setUpChannel() {
+        jobNotificationChannel = new InMemoryJobNotificationChannel();
+        notificationCount = new AtomicInteger();
+        listener = notificationCount::incrementAndGet;
+        jobNotificationChannel.addListener(listener);
+        getJobServiceConfiguration().setJobNotificationChannel(jobNotificationChannel);
+    }
+
+    @AfterEach
+    protected void resetChannel() {
+        jobNotificationChannel.removeListener(listener);
+        getJobServiceConfiguration().setJobNotificationChannel(null);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/async/AsyncTaskTest.testAsyncTask.bpmn20.xml")
+    public void testNotificationAfterCommit() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("asyncTask");
+        assertThat(managementService.createJobQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+        assertThat(notificationCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/async/AsyncTaskTest.testAsyncTask.bpmn20.xml")
+    public void testOneNotificationPerTransaction() {
+        managementService.executeCommand(commandContext -> {
+            runtimeService.startProcessInstanceByKey("asyncTask");
+            runtimeService.startProcessInstanceByKey("asyncTask");
+            runtimeService.startProcessInstanceByKey("asyncTask");
+            return null;
+        });
+
+        assertThat(managementService.createJobQuery().count()).isEqualTo(3);
+        assertThat(notificationCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/async/AsyncTaskTest.testAsyncTask.bpmn20.xml")
+    public void testNoNotificationOnRollback() {
+        assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+            runtimeService.startProcessInstanceByKey("asyncTask");
+            throw new FlowableException("rollback");
+        })).isInstanceOf(FlowableException.class);
+
+        assertThat(managementService.createJobQuery().count()).isZero();
+        assertThat(notificationCount.get()).isZero();
+    }
+
+    protected JobServiceConfiguration getJobServiceConfiguration() {
+        return processEngineConfiguration.getJobServiceConfiguration();
+    }
+
+}
@@ -0,0 +1,133 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.TimingWheelAcquireTimerJobsRunnable;
+import org.flowable.job.service.impl.cmd.AcquireTimerJobsDueBeforeCmd;
+import org.flowable.job.service.impl.cmd.UnlockTimerJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelAcquireTimerJobsTest extends JobExecutorTestCase {
+
+    @AfterEach
+    void resetClock() {
+        processEngineConfiguration.getClock().reset();
+    }
+
+    @Test
+    void acquireTimersDueWithinHorizon() {
+        Instant now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+
+        String nearTimerId = scheduleTimer(Date.from(now.plusSeconds(10)));
+        String farTimerId = scheduleTimer(Date.from(now.plusSeconds(7200)));
+
+        List<TimerJobEntity> acquiredTimers = commandExecutor.execute(
+                new AcquireTimerJobsDueBeforeCmd(asyncExecutor, Date.from(now.plusSeconds(60)), 10));
+
+        assertThat(acquiredTimers)
+                .extracting(TimerJobEntity::getId)
+                .containsExactly(nearTimerId);
+
+        Job nearTimer = managementService.createTimerJobQuery().jobId(nearTimerId).singleResult();
+        assertThat(((TimerJobEntity) nearTimer).getLockOwner()).isEqualTo(asyncExecutor.getLockOwner());
+        assertThat(((TimerJobEntity) nearTimer).getLockExpirationTime())
+                .isEqualTo(Date.from(now.plusSeconds(10).plusMillis(asyncExecutor.getTimerLockTimeInMillis())));
+
+        Job farTimer = managementService.createTimerJobQuery().jobId(farTimerId).singleResult();
+        assertThat(((TimerJobEntity) farTimer).getLockOwner()).isNull();
+
+        commandExecutor.execute(new UnlockTimerJobsCmd(acquiredTimers, processEngineConfiguration.getJobServiceConfiguration()));
+        managementService.deleteTimerJob(nearTimerId);
+        managementService.deleteTimerJob(farTimerId);
+    }
+
+    @Test
+    void timerFiresAtDueDate() throws InterruptedException {
+        Instant now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        int originalWaitTime = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+        asyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(100);
+
+        String timerId = scheduleTimer(Date.from(now.plusSeconds(10)));
+
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        TimingWheelAcquireTimerJobsRunnable runnable = new TimingWheelAcquireTimerJobsRunnable(asyncExecutor, jobServiceConfiguration.getJobManager(),
+                null, false, "", 1);
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            executorService.execute(runnable);
+
+            waitUntil(() -> runnable.getNumberOfHeldTimerJobs() == 1);
+            assertThat(managementService.createJobQuery().count()).isZero();
+
+            processEngineConfiguration.getClock().setCurrentTime(Date.from(now.plusSeconds(11)));
+            waitUntil(() -> managementService.createJobQuery().count() == 1);
+
+        } finally {
+            runnable.stop();
+            executorService.shutdown();
+            executorService.awaitTermination(5, TimeUnit.SECONDS);
+            asyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(originalWaitTime);
+        }
+
+        assertThat(managementService.createTimerJobQuery().jobId(timerId).singleResult()).isNull();
+        Job job = managementService.createJobQuery().singleResult();
+        assertThat(job.getJobHandlerConfiguration()).isEqualTo("timing wheel");
+        managementService.deleteJob(job.getId());
+    }
+
+    protected String scheduleTimer(Date dueDate) {
+        return processEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            TimerJobEntity timer = createTweetTimer("timing wheel", dueDate);
+            CommandContextUtil.getProcessEngineConfiguration(commandContext).getJobServiceConfiguration().getTimerJobService().scheduleTimerJob(timer);
+            return timer.getId();
+        });
+    }
+
+    protected void waitUntil(Condition condition) throws InterruptedException {
+        long end = System.currentTimeMillis() + 10000L;
+        while (!condition.isMet()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(end);
+            Thread.sleep(50L);
+        }
+    }
+
+    protected interface Condition {
+
+        boolean isMet();
+    }
+
+}
@@ -21,6 +21,7 @@ import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.scripting.ScriptingEngines;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -145,4 +146,21 @@ public class ScriptTaskTest extends PluggableFlowableTestCase {
         assertProcessEnded(processInstance.getId());
     }
 
+    @Test
+    @Deployment
+    public void testCompiledScriptIsCached() {
+        ScriptingEngines scriptingEngines = processEngineConfiguration.getScriptingEngines();
+        scriptingEngines.getCompiledScriptCache().clear();
+        long hitCount = scriptingEngines.getCompiledScriptCache().getHitCount();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("compiledScript", CollectionUtil.map("a", 20, "b", 22));
+        assertThat(((Number) runtimeService.getVariable(processInstance.getId(), "sum")).intValue()).isEqualTo(42);
+        assertThat(scriptingEngines.getCompiledScriptCache().size()).isEqualTo(1);
+
+        processInstance = runtimeService.startProcessInstanceByKey("compiledScript", CollectionUtil.map("a", 1, "b", 2));
+        assertThat(((Number) runtimeService.getVariable(processInstance.getId(), "sum")).intValue()).isEqualTo(3);
+        assertThat(scriptingEngines.getCompiledScriptCache().size()).isEqualTo(1);
+        assertThat(scriptingEngines.getCompiledScriptCache().getHitCount()).isEqualTo(hitCount + 1);
+    }
+
 }
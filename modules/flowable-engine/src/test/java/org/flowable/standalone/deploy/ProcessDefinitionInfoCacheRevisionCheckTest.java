@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.flowable.engine.DynamicBpmnConstants;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class ProcessDefinitionInfoCacheRevisionCheckTest extends ResourceFlowableTestCase {
+
+    public ProcessDefinitionInfoCacheRevisionCheckTest() {
+        super("org/flowable/standalone/deploy/procdefinitioninfo.cache.revision.check.test.flowable.cfg.xml");
+    }
+
+    @AfterEach
+    protected void resetClock() {
+        processEngineConfiguration.getClock().reset();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/standalone/deploy/processDefinitionInfoCacheTest.bpmn20.xml")
+    public void testSavedInfoIsUsedImmediately() {
+        String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("procDefInfoCache").singleResult().getId();
+        assertThat(dynamicBpmnService.getProcessDefinitionInfo(processDefinitionId)).isEmpty();
+
+        ObjectNode infoNode = dynamicBpmnService.changeUserTaskFormKey("theTask", "changedFormKey");
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, infoNode);
+
+        assertThat(getUserTaskFormKey(processDefinitionId)).isEqualTo("changedFormKey");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/standalone/deploy/processDefinitionInfoCacheTest.bpmn20.xml")
+    public void testInfoChangedElsewhereIsUsedAfterRevisionCheckInterval() throws Exception {
+        Date startTime = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(startTime);
+
+        String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("procDefInfoCache").singleResult().getId();
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, dynamicBpmnService.changeUserTaskFormKey("theTask", "firstFormKey"));
+        assertThat(getUserTaskFormKey(processDefinitionId)).isEqualTo("firstFormKey");
+
+        // Simulates a change made by another engine, which doesn't expire the cache entry of this engine
+        byte[] changedInfo = processEngineConfiguration.getObjectMapper().writeValueAsBytes(
+                dynamicBpmnService.changeUserTaskFormKey("theTask", "secondFormKey"));
+        managementService.executeCommand(commandContext -> {
+            ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
+            ProcessDefinitionInfoEntity infoEntity = infoEntityManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
+            infoEntityManager.updateInfoJson(infoEntity.getId(), changedInfo);
+            return null;
+        });
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + 30000));
+        assertThat(getUserTaskFormKey(processDefinitionId)).isEqualTo("firstFormKey");
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + 61000));
+        assertThat(getUserTaskFormKey(processDefinitionId)).isEqualTo("secondFormKey");
+    }
+
+    protected String getUserTaskFormKey(String processDefinitionId) {
+        ObjectNode infoNode = dynamicBpmnService.getProcessDefinitionInfo(processDefinitionId);
+        return dynamicBpmnService.getBpmnElementProperties("theTask", infoNode).get(DynamicBpmnConstants.USER_TASK_FORM_KEY).asText();
+    }
+
+}
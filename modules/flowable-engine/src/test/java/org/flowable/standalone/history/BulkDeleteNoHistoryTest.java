@@ -14,12 +14,23 @@ package org.flowable.standalone.history;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.delegate.event.FlowableProcessEngineEvent;
 import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.api.event.TestFlowableEventListener;
+import org.flowable.identitylink.api.IdentityLink;
+import org.flowable.identitylink.api.IdentityLinkType;
 import org.junit.jupiter.api.Test;
 
 public class BulkDeleteNoHistoryTest extends ResourceFlowableTestCase {
@@ -51,4 +62,88 @@ public class BulkDeleteNoHistoryTest extends ResourceFlowableTestCase {
         // Check if process is gone
         assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count()).isZero();
     }
+
+    @Test
+    @Deployment
+    public void testBulkDeleteProcessInstances() {
+        long byteArrayCount = managementService.getTableCount().get("ACT_GE_BYTEARRAY");
+
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            processInstanceIds.add(startProcessInstanceWithRuntimeData().getId());
+        }
+        ProcessInstance otherProcessInstance = startProcessInstanceWithRuntimeData();
+        assertThat(managementService.getTableCount().get("ACT_GE_BYTEARRAY")).isEqualTo(byteArrayCount + 8);
+
+        List<String> idsToDelete = new ArrayList<>(processInstanceIds);
+        idsToDelete.add("unknown");
+        runtimeService.bulkDeleteProcessInstances(idsToDelete, "bulk delete");
+
+        assertThat(runtimeService.createProcessInstanceQuery().list())
+                .extracting(ProcessInstance::getId)
+                .containsExactly(otherProcessInstance.getId());
+        assertThat(runtimeService.createExecutionQuery().list())
+                .extracting(Execution::getProcessInstanceId)
+                .containsOnly(otherProcessInstance.getId());
+        assertThat(taskService.createTaskQuery().processInstanceIdIn(processInstanceIds).count()).isZero();
+        assertThat(managementService.createTimerJobQuery().count()).isEqualTo(1);
+        assertThat(runtimeService.createEventSubscriptionQuery().count()).isEqualTo(1);
+        assertThat(runtimeService.getVariables(otherProcessInstance.getId())).hasSize(3);
+        assertThat(runtimeService.getIdentityLinksForProcessInstance(otherProcessInstance.getId()))
+                .extracting(IdentityLink::getUserId)
+                .containsExactlyInAnyOrder("kermit", "gonzo");
+        assertThat(managementService.getTableCount().get("ACT_GE_BYTEARRAY")).isEqualTo(byteArrayCount + 2);
+
+        runtimeService.bulkDeleteProcessInstances(Collections.singletonList(otherProcessInstance.getId()), "bulk delete");
+
+        Map<String, Long> tableCount = managementService.getTableCount();
+        assertThat(tableCount.get("ACT_RU_EXECUTION")).isZero();
+        assertThat(tableCount.get("ACT_RU_ACTINST")).isZero();
+        assertThat(tableCount.get("ACT_RU_TASK")).isZero();
+        assertThat(tableCount.get("ACT_RU_VARIABLE")).isZero();
+        assertThat(tableCount.get("ACT_RU_IDENTITYLINK")).isZero();
+        assertThat(tableCount.get("ACT_RU_TIMER_JOB")).isZero();
+        assertThat(tableCount.get("ACT_RU_EVENT_SUBSCR")).isZero();
+        assertThat(tableCount.get("ACT_GE_BYTEARRAY")).isEqualTo(byteArrayCount);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/standalone/history/BulkDeleteNoHistoryTest.testBulkDeleteProcessInstances.bpmn20.xml")
+    public void testBulkDeleteProcessInstancesWithEventListener() {
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            processInstanceIds.add(startProcessInstanceWithRuntimeData().getId());
+        }
+
+        TestFlowableEventListener listener = new TestFlowableEventListener();
+        runtimeService.addEventListener(listener, FlowableEngineEventType.PROCESS_CANCELLED);
+        try {
+            runtimeService.bulkDeleteProcessInstances(processInstanceIds, "bulk delete");
+
+            // The event listener needs the process instances to be deleted through their entities
+            assertThat(listener.getEventsReceived())
+                    .extracting(event -> ((FlowableProcessEngineEvent) event).getProcessInstanceId())
+                    .containsExactlyInAnyOrderElementsOf(processInstanceIds);
+        } finally {
+            runtimeService.removeEventListener(listener);
+        }
+
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+        assertThat(managementService.getTableCount().get("ACT_RU_VARIABLE")).isZero();
+    }
+
+    protected ProcessInstance startProcessInstanceWithRuntimeData() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("stringVar", "test");
+        variables.put("longStringVar", StringUtils.repeat("a", 5000));
+        variables.put("serializableVar", new ArrayList<>(Arrays.asList("one", "two")));
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("bulkDeleteProcess", variables);
+        runtimeService.addUserIdentityLink(processInstance.getId(), "kermit", IdentityLinkType.PARTICIPANT);
+
+        org.flowable.task.api.Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).taskDefinitionKey("task").singleResult();
+        taskService.addCandidateUser(task.getId(), "gonzo");
+        taskService.setVariableLocal(task.getId(), "taskVar", "test");
+        return processInstance;
+    }
+
 }
@@ -0,0 +1,204 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.impl.history.async.ProcessInstanceHistoryPartitionKeyProvider;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.asyncexecutor.PartitionedAsyncHistoryJobExecutor;
+import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
+import org.flowable.job.service.impl.history.async.AsyncHistoryJobNotApplicableException;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPartitionKeyProvider;
+import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class PartitionedAsyncHistoryTest extends CustomConfigurationFlowableTestCase {
+
+    public PartitionedAsyncHistoryTest() {
+        super("partitionedAsyncHistoryTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        // Enable it, but don't start the executor automatically, it will be started in the tests themselves.
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingThreshold(1);
+        processEngineConfiguration.setAsyncHistoryExecutorPartitioningEnabled(true);
+        processEngineConfiguration.setAsyncHistoryExecutorPartitionCount(4);
+        processEngineConfiguration.setAsyncFailedJobWaitTime(100);
+        processEngineConfiguration.setDefaultFailedJobWaitTime(100);
+        processEngineConfiguration.setAsyncHistoryExecutorNumberOfRetries(10);
+        processEngineConfiguration.setAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime(100);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+    }
+
+    @AfterEach
+    protected void tearDown() throws Exception {
+        processEngineConfiguration.getClock().reset();
+
+        for (String autoDeletedDeploymentId : deploymentIdsForAutoCleanup) {
+            repositoryService.deleteDeployment(autoDeletedDeploymentId, true);
+        }
+        deploymentIdsForAutoCleanup.clear();
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000, 100);
+        for (Job job : managementService.createJobQuery().list()) {
+            if (job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY)
+                    || job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED)) {
+                managementService.deleteJob(job.getId());
+            }
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/standalone/history/async/PartitionedAsyncHistoryTest.testMultiStepProcessInstances.bpmn20.xml")
+    public void testPartitionKeyIsProcessInstanceId() throws Exception {
+        assertThat(processEngineConfiguration.getAsyncHistoryExecutor()).isInstanceOf(PartitionedAsyncHistoryJobExecutor.class);
+        assertThat(processEngineConfiguration.getJobServiceConfiguration().getAsyncHistoryPartitionKeyProvider())
+                .isInstanceOf(ProcessInstanceHistoryPartitionKeyProvider.class);
+        waitForHistoryJobExecutorToProcessAllJobs(10000, 100);
+
+        String processInstanceId = runtimeService.startProcessInstanceByKey("multiStepProcess").getId();
+        for (int i = 0; i < 3; i++) {
+            taskService.complete(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+        }
+
+        // The partition key is stored in the handler configuration of every history job of the process instance
+        List<HistoryJob> historyJobs = managementService.createHistoryJobQuery().list();
+        assertThat(historyJobs).hasSize(4);
+        assertThat(historyJobs)
+                .extracting(historyJob -> ((HistoryJobEntity) historyJob).getJobHandlerConfiguration())
+                .containsOnly(processInstanceId);
+
+        AsyncHistoryPartitionKeyProvider partitionKeyProvider = processEngineConfiguration.getJobServiceConfiguration().getAsyncHistoryPartitionKeyProvider();
+        ObjectMapper objectMapper = processEngineConfiguration.getObjectMapper();
+        Set<String> types = new HashSet<>();
+        for (HistoryJob historyJob : historyJobs) {
+            for (JsonNode historyNode : objectMapper.readTree(managementService.getHistoryJobHistoryJson(historyJob.getId()))) {
+                String type = historyNode.get(HistoryJsonTransformer.FIELD_NAME_TYPE).asText();
+                ObjectNode data = (ObjectNode) historyNode.get(HistoryJsonTransformer.FIELD_NAME_DATA);
+                if (HistoryJsonConstants.TYPE_PROCESS_INSTANCE_START.equals(type) || HistoryJsonConstants.TYPE_PROCESS_INSTANCE_END.equals(type)) {
+                    assertThat(partitionKeyProvider.getPartitionKey(type, data)).isEqualTo(processInstanceId);
+                    types.add(type);
+                }
+            }
+        }
+        assertThat(types).containsExactlyInAnyOrder(HistoryJsonConstants.TYPE_PROCESS_INSTANCE_START, HistoryJsonConstants.TYPE_PROCESS_INSTANCE_END);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/standalone/history/async/PartitionedAsyncHistoryTest.testMultiStepProcessInstances.bpmn20.xml")
+    public void testMultiStepProcessInstances() {
+        waitForHistoryJobExecutorToProcessAllJobs(10000, 100);
+
+        AsyncHistoryJobHandler asyncHistoryJobHandler = (AsyncHistoryJobHandler) processEngineConfiguration.getHistoryJobHandlers()
+                .get(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
+        NotApplicableCountingHistoryJobHandler countingHistoryJobHandler = new NotApplicableCountingHistoryJobHandler(asyncHistoryJobHandler);
+        processEngineConfiguration.addHistoryJobHandler(countingHistoryJobHandler);
+        try {
+            // Every step is done at a later time, so the history jobs of the steps are acquired in order
+            Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+            processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+            List<String> processInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                processInstanceIds.add(runtimeService.startProcessInstanceByKey("multiStepProcess").getId());
+            }
+
+            for (int step = 1; step <= 3; step++) {
+                processEngineConfiguration.getClock().setCurrentTime(Date.from(now.plusSeconds(step)));
+                for (Task task : taskService.createTaskQuery().processDefinitionKey("multiStepProcess").list()) {
+                    taskService.setVariable(task.getId(), "step", step);
+                    taskService.complete(task.getId());
+                }
+            }
+            // One history job for every start, variable update and task completion
+            assertThat(managementService.createHistoryJobQuery().count()).isEqualTo(10 + 3 * 10 * 2);
+
+            waitForHistoryJobExecutorToProcessAllJobs(20000, 100);
+
+            assertThat(countingHistoryJobHandler.getNotApplicableCount()).isZero();
+            assertThat(managementService.createHistoryJobQuery().count()).isZero();
+            assertThat(managementService.createDeadLetterJobQuery().count()).isZero();
+
+            assertThat(historyService.createHistoricProcessInstanceQuery().finished().list())
+                    .extracting(HistoricProcessInstance::getId)
+                    .containsExactlyInAnyOrderElementsOf(processInstanceIds);
+            assertThat(historyService.createHistoricTaskInstanceQuery().finished().list())
+                    .hasSize(30)
+                    .extracting(HistoricTaskInstance::getTaskDefinitionKey)
+                    .containsOnly("task1", "task2", "task3");
+            assertThat(historyService.createHistoricActivityInstanceQuery().unfinished().count()).isZero();
+            assertThat(historyService.createHistoricVariableInstanceQuery().variableName("step").list())
+                    .hasSize(10)
+                    .allSatisfy(variable -> assertThat(variable.getValue()).isEqualTo(3));
+
+        } finally {
+            processEngineConfiguration.addHistoryJobHandler(asyncHistoryJobHandler);
+        }
+    }
+
+    protected static class NotApplicableCountingHistoryJobHandler extends AsyncHistoryJobHandler {
+
+        protected AtomicInteger notApplicableCount = new AtomicInteger();
+
+        public NotApplicableCountingHistoryJobHandler(AsyncHistoryJobHandler asyncHistoryJobHandler) {
+            super(asyncHistoryJobHandler.getType());
+            setHistoryJsonTransformers(asyncHistoryJobHandler.getHistoryJsonTransformers());
+            setDefaultHistoryJsonTransformer(asyncHistoryJobHandler.getDefaultHistoryJsonTransformer());
+            setAsyncHistoryJsonGroupingEnabled(asyncHistoryJobHandler.isAsyncHistoryJsonGroupingEnabled());
+        }
+
+        @Override
+        protected void processHistoryJson(CommandContext commandContext, HistoryJobEntity job, JsonNode historyNode) {
+            try {
+                super.processHistoryJson(commandContext, job, historyNode);
+            } catch (AsyncHistoryJobNotApplicableException e) {
+                notApplicableCount.incrementAndGet();
+                throw e;
+            }
+        }
+
+        public int getNotApplicableCount() {
+            return notApplicableCount.get();
+        }
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.api;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -36,5 +37,10 @@ public interface EntityLinkService {
     void deleteEntityLinksByScopeIdAndType(String scopeId, String scopeType);
 
     void deleteEntityLinksByRootScopeIdAndType(String scopeId, String scopeType);
+
+    /**
+     * Deletes the entity links of the given root scopes with a set based statement.
+     */
+    void bulkDeleteEntityLinksForRootScopeIdsAndType(Collection<String> rootScopeIds, String rootScopeType);
     
 }
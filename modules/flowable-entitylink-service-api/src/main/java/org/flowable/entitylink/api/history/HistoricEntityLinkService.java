@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.api.history;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -46,4 +47,6 @@ public interface HistoricEntityLinkService {
     void deleteHistoricEntityLinksForNonExistingProcessInstances();
     
     void deleteHistoricEntityLinksForNonExistingCaseInstances();
+
+    void bulkDeleteHistoricEntityLinksForScopeTypeAndScopeIds(String scopeType, Collection<String> scopeIds);
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
@@ -70,6 +71,11 @@ public class EntityLinkServiceImpl extends CommonServiceImpl<EntityLinkServiceCo
         getEntityLinkEntityManager().deleteEntityLinksByRootScopeIdAndType(scopeId, scopeType);
     }
 
+    @Override
+    public void bulkDeleteEntityLinksForRootScopeIdsAndType(Collection<String> rootScopeIds, String rootScopeType) {
+        getEntityLinkEntityManager().bulkDeleteEntityLinksForRootScopeIdsAndType(rootScopeIds, rootScopeType);
+    }
+
     public EntityLinkEntityManager getEntityLinkEntityManager() {
         return configuration.getEntityLinkEntityManager();
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
@@ -98,4 +99,9 @@ public class HistoricEntityLinkServiceImpl extends CommonServiceImpl<EntityLinkS
     public HistoricEntityLinkEntityManager getHistoricEntityLinkEntityManager() {
         return configuration.getHistoricEntityLinkEntityManager();
     }
+
+    @Override
+    public void bulkDeleteHistoricEntityLinksForScopeTypeAndScopeIds(String scopeType, Collection<String> scopeIds) {
+        getHistoricEntityLinkEntityManager().bulkDeleteHistoricEntityLinksForScopeTypeAndScopeIds(scopeType, scopeIds);
+    }
 }
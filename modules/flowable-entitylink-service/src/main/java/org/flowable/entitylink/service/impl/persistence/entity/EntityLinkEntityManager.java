@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -33,5 +34,7 @@ public interface EntityLinkEntityManager extends EntityManager<EntityLinkEntity>
     void deleteEntityLinksByScopeIdAndScopeType(String scopeId, String scopeType);
 
     void deleteEntityLinksByRootScopeIdAndType(String scopeId, String scopeType);
+
+    void bulkDeleteEntityLinksForRootScopeIdsAndType(Collection<String> rootScopeIds, String rootScopeType);
     
 }
\ No newline at end of file
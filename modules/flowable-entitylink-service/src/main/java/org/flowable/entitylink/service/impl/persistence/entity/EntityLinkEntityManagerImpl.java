@@ -13,6 +13,7 @@
 
 package org.flowable.entitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
@@ -72,4 +73,9 @@ public class EntityLinkEntityManagerImpl
         dataManager.deleteEntityLinksByRootScopeIdAndType(scopeId, scopeType);
     }
 
+    @Override
+    public void bulkDeleteEntityLinksForRootScopeIdsAndType(Collection<String> rootScopeIds, String rootScopeType) {
+        dataManager.bulkDeleteEntityLinksForRootScopeIdsAndType(rootScopeIds, rootScopeType);
+    }
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -37,4 +38,6 @@ public interface HistoricEntityLinkEntityManager extends EntityManager<HistoricE
     void deleteHistoricEntityLinksForNonExistingProcessInstances();
     
     void deleteHistoricEntityLinksForNonExistingCaseInstances();
+
+    void bulkDeleteHistoricEntityLinksForScopeTypeAndScopeIds(String scopeType, Collection<String> scopeIds);
 }
\ No newline at end of file
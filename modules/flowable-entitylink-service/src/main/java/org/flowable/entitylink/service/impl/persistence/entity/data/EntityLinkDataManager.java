@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -34,5 +35,7 @@ public interface EntityLinkDataManager extends DataManager<EntityLinkEntity> {
     void deleteEntityLinksByScopeIdAndScopeType(String scopeId, String scopeType);
 
     void deleteEntityLinksByRootScopeIdAndType(String scopeId, String scopeType);
+
+    void bulkDeleteEntityLinksForRootScopeIdsAndType(Collection<String> rootScopeIds, String rootScopeType);
     
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -110,6 +111,14 @@ public class MybatisEntityLinkDataManager extends AbstractDataManager<EntityLink
         bulkDelete("deleteEntityLinksByRootScopeIdAndRootScopeType", entityLinksByRootScopeIdAndScopeTypeMatcher, parameters);
     }
 
+    @Override
+    public void bulkDeleteEntityLinksForRootScopeIdsAndType(Collection<String> rootScopeIds, String rootScopeType) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("rootScopeIds", rootScopeIds);
+        parameters.put("rootScopeType", rootScopeType);
+        getDbSqlSession().delete("bulkDeleteEntityLinksByRootScopeIdsAndRootScopeType", parameters, EntityLinkEntityImpl.class);
+    }
+
     @Override
     protected IdGenerator getIdGenerator() {
         return entityLinkServiceConfiguration.getIdGenerator();
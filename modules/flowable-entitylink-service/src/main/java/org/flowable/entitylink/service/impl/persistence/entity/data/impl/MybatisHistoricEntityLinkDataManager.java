@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -121,5 +122,12 @@ public class MybatisHistoricEntityLinkDataManager extends AbstractDataManager<Hi
     protected IdGenerator getIdGenerator() {
         return entityLinkServiceConfiguration.getIdGenerator();
     }
-    
+
+    @Override
+    public void bulkDeleteHistoricEntityLinksForScopeTypeAndScopeIds(String scopeType, Collection<String> scopeIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("scopeType", scopeType);
+        parameters.put("scopeIds", scopeIds);
+        getDbSqlSession().delete("bulkDeleteHistoricEntityLinksForScopeTypeAndScopeIds", parameters, HistoricEntityLinkEntityImpl.class);
+    }
 }
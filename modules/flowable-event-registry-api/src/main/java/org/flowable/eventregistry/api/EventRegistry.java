@@ -12,6 +12,7 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Map;
 
@@ -70,12 +71,28 @@ public interface EventRegistry {
      * Events received in adapters should call this method to process events.
      */
     void eventReceived(InboundChannelModel channelModel, String event);
+
+    /**
+     * Events received in adapters as bytes should call this method to process events,
+     * which avoids decoding the bytes to a string when the deserializer of the channel can read bytes directly.
+     */
+    void eventReceived(InboundChannelModel channelModel, ByteBuffer event);
+
+    /**
+     * Adapters receiving events in batches (e.g. the records of one poll) can call this method to process all of them at once.
+     */
+    void eventsReceived(InboundChannelModel channelModel, Collection<ByteBuffer> events);
     
     /**
      * Send an event to all the registered event consumers.
      */
     void sendEventToConsumers(EventRegistryEvent eventRegistryEvent);
 
+    /**
+     * Send a batch of events to all the registered event consumers.
+     */
+    void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents);
+
     /**
      * Send out the {@code eventInstance} via the given system {@link OutboundEventProcessor}.
      */
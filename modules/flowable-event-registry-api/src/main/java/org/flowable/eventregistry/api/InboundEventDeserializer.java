@@ -12,6 +12,9 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * @author Joram Barrez
  * @author Filip Hrisafov
@@ -23,4 +26,15 @@ public interface InboundEventDeserializer<T> {
      */
     T deserialize(String rawEvent);
 
+    /**
+     * The deserialization of a binary event, being the bytes between the position and the limit of the buffer.
+     * The buffer itself is not modified.
+     *
+     * By default the bytes are decoded as UTF-8 and passed to {@link #deserialize(String)}.
+     * Deserializers that can read bytes directly should override this to avoid the intermediate string.
+     */
+    default T deserialize(ByteBuffer rawEvent) {
+        return deserialize(StandardCharsets.UTF_8.decode(rawEvent.duplicate()).toString());
+    }
+
 }
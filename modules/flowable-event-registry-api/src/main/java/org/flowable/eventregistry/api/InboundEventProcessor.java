@@ -12,6 +12,10 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
 import org.flowable.eventregistry.model.InboundChannelModel;
 
 /**
@@ -21,4 +25,20 @@ public interface InboundEventProcessor {
 
     void eventReceived(InboundChannelModel channelModel, String event);
 
+    /**
+     * Handles a binary event. By default the bytes are decoded as UTF-8 and passed to {@link #eventReceived(InboundChannelModel, String)}.
+     */
+    default void eventReceived(InboundChannelModel channelModel, ByteBuffer event) {
+        eventReceived(channelModel, StandardCharsets.UTF_8.decode(event.duplicate()).toString());
+    }
+
+    /**
+     * Handles a batch of binary events received on the same channel. By default the events are handled one by one.
+     */
+    default void eventsReceived(InboundChannelModel channelModel, Collection<ByteBuffer> events) {
+        for (ByteBuffer event : events) {
+            eventReceived(channelModel, event);
+        }
+    }
+
 }
@@ -12,7 +12,7 @@
  */
 package org.flowable.eventregistry.spring.rabbit;
 
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.HashSet;
@@ -49,11 +49,15 @@ public class RabbitChannelMessageListenerAdapter implements MessageListener {
         MessageProperties messageProperties = message.getMessageProperties();
         String contentType = messageProperties != null ? messageProperties.getContentType() : null;
 
+        if (body != null && stringContentTypes.contains(contentType)) {
+            // The body is passed as is, the deserializer of the channel decides whether it needs to be decoded
+            eventRegistry.eventReceived(inboundChannelModel, ByteBuffer.wrap(body));
+            return;
+        }
+
         String rawEvent;
         if (body == null) {
             rawEvent = null;
-        } else if (stringContentTypes.contains(contentType)) {
-            rawEvent = new String(body, StandardCharsets.UTF_8);
         } else {
             rawEvent = Base64.getEncoder().encodeToString(body);
         }
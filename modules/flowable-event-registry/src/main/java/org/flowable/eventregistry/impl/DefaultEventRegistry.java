@@ -12,6 +12,7 @@
  */
 package org.flowable.eventregistry.impl;
 
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -68,6 +69,16 @@ public class DefaultEventRegistry implements EventRegistry {
     public void eventReceived(InboundChannelModel channelModel, String event) {
         inboundEventProcessor.eventReceived(channelModel, event);
     }
+
+    @Override
+    public void eventReceived(InboundChannelModel channelModel, ByteBuffer event) {
+        inboundEventProcessor.eventReceived(channelModel, event);
+    }
+
+    @Override
+    public void eventsReceived(InboundChannelModel channelModel, Collection<ByteBuffer> events) {
+        inboundEventProcessor.eventsReceived(channelModel, events);
+    }
     
     @Override
     public void sendEventToConsumers(EventRegistryEvent eventRegistryEvent) {
@@ -77,6 +88,18 @@ public class DefaultEventRegistry implements EventRegistry {
         }
     }
 
+    @Override
+    public void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents) {
+        if (eventRegistryEvents.isEmpty()) {
+            return;
+        }
+
+        Collection<EventRegistryEventConsumer> engineEventRegistryEventConsumers = engineConfiguration.getEventRegistryEventConsumers().values();
+        for (EventRegistryEventConsumer eventConsumer : engineEventRegistryEventConsumers) {
+            eventConsumer.eventsReceived(eventRegistryEvents);
+        }
+    }
+
     @Override
     public void sendSystemEventOutbound(EventInstance eventInstance) {
         systemOutboundEventProcessor.sendEvent(eventInstance, Collections.emptyList());
@@ -12,7 +12,10 @@
  */
 package org.flowable.eventregistry.impl;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
@@ -44,4 +47,30 @@ public class DefaultInboundEventProcessor implements InboundEventProcessor {
 
     }
 
+    @Override
+    public void eventReceived(InboundChannelModel channelModel, ByteBuffer event) {
+
+        InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) channelModel.getInboundEventProcessingPipeline();
+        Collection<EventRegistryEvent> eventRegistryEvents = inboundEventProcessingPipeline.run(channelModel.getKey(), event);
+
+        for (EventRegistryEvent eventRegistryEvent : eventRegistryEvents) {
+            eventRegistry.sendEventToConsumers(eventRegistryEvent);
+        }
+
+    }
+
+    @Override
+    public void eventsReceived(InboundChannelModel channelModel, Collection<ByteBuffer> events) {
+
+        // All events are passed through the pipeline first,
+        // so that the consumers can handle the whole batch at once
+        InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) channelModel.getInboundEventProcessingPipeline();
+        List<EventRegistryEvent> eventRegistryEvents = new ArrayList<>(events.size());
+        for (ByteBuffer event : events) {
+            eventRegistryEvents.addAll(inboundEventProcessingPipeline.run(channelModel.getKey(), event));
+        }
+
+        eventRegistry.sendEventsToConsumers(eventRegistryEvents);
+    }
+
 }
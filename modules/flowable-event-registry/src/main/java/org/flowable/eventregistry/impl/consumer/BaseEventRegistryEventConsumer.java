@@ -25,8 +25,11 @@ import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
@@ -43,6 +46,8 @@ import org.flowable.eventsubscription.api.EventSubscriptionQuery;
  */
 public abstract class BaseEventRegistryEventConsumer implements EventRegistryEventConsumer {
 
+    protected static final String BATCH_UNIQUE_REFERENCE_IDS_ATTRIBUTE = "eventRegistryBatchUniqueReferenceIds";
+
     protected AbstractEngineConfiguration engingeConfiguration;
     protected CommandExecutor commandExecutor;
 
@@ -53,8 +58,22 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     @Override
     public void eventReceived(EventRegistryEvent event) {
+        eventReceived(getEventInstance(event));
+    }
+
+    @Override
+    public void eventsReceived(Collection<EventRegistryEvent> events) {
+        List<EventInstance> eventInstances = new ArrayList<>(events.size());
+        for (EventRegistryEvent event : events) {
+            eventInstances.add(getEventInstance(event));
+        }
+
+        eventInstancesReceived(eventInstances);
+    }
+
+    protected EventInstance getEventInstance(EventRegistryEvent event) {
         if (event.getEventObject() != null && event.getEventObject() instanceof EventInstance) {
-            eventReceived((EventInstance) event.getEventObject());
+            return (EventInstance) event.getEventObject();
         } else {
             if (event.getEventObject() == null) {
                 throw new FlowableIllegalArgumentException("No event object was passed to the consumer");
@@ -66,6 +85,37 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     protected abstract void eventReceived(EventInstance eventInstance);
 
+    /**
+     * Handles a batch of event instances in one transaction, instead of the transactions per event (subscription)
+     * used when receiving the events one by one. This means that when handling one of the events fails,
+     * none of the events of the batch are handled.
+     */
+    protected void eventInstancesReceived(Collection<EventInstance> eventInstances) {
+        commandExecutor.execute(commandContext -> {
+            commandContext.addAttribute(BATCH_UNIQUE_REFERENCE_IDS_ATTRIBUTE, new HashSet<String>());
+            for (EventInstance eventInstance : eventInstances) {
+                eventReceived(eventInstance);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Instances started by earlier events of a batch are not yet visible to queries, as they are only flushed at the end of the batch.
+     * Returns true when an instance with the given unique reference id was already started for the definition by an earlier event
+     * of the current batch. Otherwise the reference id is remembered for the following events of the batch.
+     */
+    @SuppressWarnings("unchecked")
+    protected boolean isUniqueReferenceIdUsedInBatch(String scopeDefinitionId, String referenceId) {
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext == null) {
+            return false;
+        }
+
+        Set<String> uniqueReferenceIds = (Set<String>) commandContext.getAttribute(BATCH_UNIQUE_REFERENCE_IDS_ATTRIBUTE);
+        return uniqueReferenceIds != null && !uniqueReferenceIds.add(scopeDefinitionId + ":" + referenceId);
+    }
+
     /**
      * Generates all possible correlation keys for the given correlation parameters.
      * The first element in the list will only have used one parameter. The last element in the list has included all parameters.
@@ -162,7 +212,12 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
             }
 
-            return eventSubscriptionQuery.list();
+            List<EventSubscription> eventSubscriptions = eventSubscriptionQuery.list();
+
+            // When handling a batch, an earlier event of the batch can already have deleted a subscription (e.g. by triggering a catch event).
+            // That delete is only flushed at the end of the batch, so the query still returns the (cached) deleted subscription.
+            eventSubscriptions.removeIf(eventSubscription -> eventSubscription instanceof Entity && ((Entity) eventSubscription).isDeleted());
+            return eventSubscriptions;
 
         });
     }
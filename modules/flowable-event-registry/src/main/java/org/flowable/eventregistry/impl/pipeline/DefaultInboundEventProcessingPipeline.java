@@ -12,6 +12,7 @@
  */
 package org.flowable.eventregistry.impl.pipeline;
 
+import java.nio.ByteBuffer;
 import java.util.Collection;
 
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
@@ -59,7 +60,15 @@ public class DefaultInboundEventProcessingPipeline<T> implements InboundEventPro
 
     @Override
     public Collection<EventRegistryEvent> run(String channelKey, String rawEvent) {
-        T event = deserialize(rawEvent);
+        return processEvent(channelKey, deserialize(rawEvent));
+    }
+
+    @Override
+    public Collection<EventRegistryEvent> run(String channelKey, ByteBuffer rawEvent) {
+        return processEvent(channelKey, deserialize(rawEvent));
+    }
+
+    protected Collection<EventRegistryEvent> processEvent(String channelKey, T event) {
         String eventKey = detectEventDefinitionKey(event);
 
         boolean multiTenant = false;
@@ -85,6 +94,10 @@ public class DefaultInboundEventProcessingPipeline<T> implements InboundEventPro
         return inboundEventDeserializer.deserialize(rawEvent);
     }
 
+    public T deserialize(ByteBuffer rawEvent) {
+        return inboundEventDeserializer.deserialize(rawEvent);
+    }
+
     public String detectEventDefinitionKey(T event) {
         return inboundEventKeyDetector.detectEventDefinitionKey(event);
     }
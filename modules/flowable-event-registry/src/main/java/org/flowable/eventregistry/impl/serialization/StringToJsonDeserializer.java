@@ -13,12 +13,15 @@
 package org.flowable.eventregistry.impl.serialization;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.eventregistry.api.InboundEventDeserializer;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 /**
  * @author Joram Barrez
@@ -37,4 +40,21 @@ public class StringToJsonDeserializer implements InboundEventDeserializer<JsonNo
         }
     }
 
+    @Override
+    public JsonNode deserialize(ByteBuffer rawEvent) {
+        try {
+            if (rawEvent.hasArray()) {
+                // Jackson parses the backing array directly, without copying it
+                return objectMapper.readTree(rawEvent.array(), rawEvent.arrayOffset() + rawEvent.position(), rawEvent.remaining());
+            }
+
+            try (InputStream inputStream = new ByteBufferBackedInputStream(rawEvent.duplicate())) {
+                return objectMapper.readTree(inputStream);
+            }
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not deserialize event to json", e);
+        }
+    }
+
 }
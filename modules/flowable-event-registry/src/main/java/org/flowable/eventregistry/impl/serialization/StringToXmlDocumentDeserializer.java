@@ -14,6 +14,7 @@ package org.flowable.eventregistry.impl.serialization;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -23,6 +24,8 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.eventregistry.api.InboundEventDeserializer;
 import org.w3c.dom.Document;
 
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
 /**
  * @author Joram Barrez
  */
@@ -30,12 +33,22 @@ public class StringToXmlDocumentDeserializer implements InboundEventDeserializer
 
     @Override
     public Document deserialize(String rawEvent) {
-        try {
+        return parse(new ByteArrayInputStream(rawEvent.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public Document deserialize(ByteBuffer rawEvent) {
+        if (rawEvent.hasArray()) {
+            return parse(new ByteArrayInputStream(rawEvent.array(), rawEvent.arrayOffset() + rawEvent.position(), rawEvent.remaining()));
+        }
+        return parse(new ByteBufferBackedInputStream(rawEvent.duplicate()));
+    }
+
+    protected Document parse(InputStream rawEventInputStream) {
+        try (InputStream inputStream = rawEventInputStream) {
             DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
             DocumentBuilder documentBuilder = documentBuilderFactory.newDocumentBuilder();
-            try (InputStream inputStream = new ByteArrayInputStream(rawEvent.getBytes(StandardCharsets.UTF_8))) {
-                return documentBuilder.parse(inputStream);
-            }
+            return documentBuilder.parse(inputStream);
         } catch (Exception e) {
             throw new FlowableException("Could not deserialize event to xml", e);
         }
@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.tuple;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -117,6 +118,28 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
                 );
     }
 
+    @Test
+    public void testDefaultInboundEventPipelineWithBinaryEventBatch() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+
+        repositoryService.createEventModelBuilder()
+                .key("myEvent")
+                .resourceName("myEvent.event")
+                .correlationParameter("customerId", EventPayloadTypes.STRING)
+                .payload("payload1", EventPayloadTypes.STRING)
+                .payload("payload2", EventPayloadTypes.INTEGER)
+                .deploy();
+
+        inboundEventChannelAdapter.triggerTestEventBatch("kermit", "gonzo", "fozzie");
+
+        assertThat(testEventConsumer.batchesReceived).isEqualTo(1);
+        assertThat(testEventConsumer.eventsReceived)
+                .extracting(event -> ((FlowableEventRegistryEvent) event).getEventInstance())
+                .flatExtracting(EventInstance::getCorrelationParameterInstances)
+                .extracting(EventPayloadInstance::getValue)
+                .containsExactly("kermit", "gonzo", "fozzie");
+    }
+
     @Test
     public void testDefaultInboundEventPipelineWithCustomDeserializerAndExtractor() {
         TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannelWithCustomDeserializer();
@@ -229,6 +252,7 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
     private static class TestEventConsumer implements EventRegistryEventConsumer {
 
         public List<EventRegistryEvent> eventsReceived = new ArrayList<>();
+        public int batchesReceived;
 
         @Override
         public String getConsumerKey() {
@@ -240,6 +264,12 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
             eventsReceived.add(event);
         }
 
+        @Override
+        public void eventsReceived(Collection<EventRegistryEvent> events) {
+            batchesReceived++;
+            eventsReceived.addAll(events);
+        }
+
     }
 
     private static class TestInboundEventChannelAdapter implements InboundEventChannelAdapter {
@@ -259,17 +289,33 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
 
         public void triggerTestEvent() {
             ObjectMapper objectMapper = new ObjectMapper();
+            try {
+                eventRegistry.eventReceived(inboundChannelModel, objectMapper.writeValueAsString(createTestEvent(objectMapper, "test")));
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        }
 
-            ObjectNode json = objectMapper.createObjectNode();
-            json.put("type", "myEvent");
-            json.put("customerId", "test");
-            json.put("payload1", "Hello World");
-            json.put("payload2", 123);
+        public void triggerTestEventBatch(String... customerIds) {
+            ObjectMapper objectMapper = new ObjectMapper();
+            List<ByteBuffer> events = new ArrayList<>();
             try {
-                eventRegistry.eventReceived(inboundChannelModel, objectMapper.writeValueAsString(json));
+                for (String customerId : customerIds) {
+                    events.add(ByteBuffer.wrap(objectMapper.writeValueAsBytes(createTestEvent(objectMapper, customerId))));
+                }
             } catch (JsonProcessingException e) {
                 throw new RuntimeException(e);
             }
+            eventRegistry.eventsReceived(inboundChannelModel, events);
+        }
+
+        protected ObjectNode createTestEvent(ObjectMapper objectMapper, String customerId) {
+            ObjectNode json = objectMapper.createObjectNode();
+            json.put("type", "myEvent");
+            json.put("customerId", customerId);
+            json.put("payload1", "Hello World");
+            json.put("payload2", 123);
+            return json;
         }
 
     }
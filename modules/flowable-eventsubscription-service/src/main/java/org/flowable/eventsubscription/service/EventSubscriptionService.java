@@ -12,6 +12,7 @@
  */
 package org.flowable.eventsubscription.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.eventsubscription.api.EventSubscription;
@@ -86,5 +87,15 @@ public interface EventSubscriptionService {
     void deleteEventSubscriptionsForScopeDefinitionIdAndType(String scopeDefinitionId, String scopeType);
 
     void deleteEventSubscriptionsForScopeDefinitionIdAndTypeAndNullScopeId(String scopeDefinitionId, String scopeType);
+
+    /**
+     * Deletes the event subscriptions of the given process instances with a set based statement, without dispatching events.
+     */
+    void bulkDeleteEventSubscriptionsForProcessInstanceIds(Collection<String> processInstanceIds);
+
+    /**
+     * Deletes the event subscriptions of the given scopes with a set based statement, without dispatching events.
+     */
+    void bulkDeleteEventSubscriptionsForScopeIdsAndType(Collection<String> scopeIds, String scopeType);
     
 }
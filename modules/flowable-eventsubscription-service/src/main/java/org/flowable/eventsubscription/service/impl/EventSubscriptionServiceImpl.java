@@ -12,6 +12,7 @@
  */
 package org.flowable.eventsubscription.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
@@ -183,6 +184,16 @@ public class EventSubscriptionServiceImpl extends CommonServiceImpl<EventSubscri
         return getEventSubscriptionEntityManager().createEventSubscription(builder);
     }
 
+    @Override
+    public void bulkDeleteEventSubscriptionsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getEventSubscriptionEntityManager().bulkDeleteEventSubscriptionsForProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void bulkDeleteEventSubscriptionsForScopeIdsAndType(Collection<String> scopeIds, String scopeType) {
+        getEventSubscriptionEntityManager().bulkDeleteEventSubscriptionsForScopeIdsAndType(scopeIds, scopeType);
+    }
+
     public EventSubscriptionEntityManager getEventSubscriptionEntityManager() {
         return configuration.getEventSubscriptionEntityManager();
     }
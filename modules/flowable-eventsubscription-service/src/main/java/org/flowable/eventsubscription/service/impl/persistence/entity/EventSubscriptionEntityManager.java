@@ -12,6 +12,7 @@
  */
 package org.flowable.eventsubscription.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -98,4 +99,8 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     List<CompensateEventSubscriptionEntity> findCompensateEventSubscriptionsByProcessInstanceIdAndActivityId(String processInstanceId, String activityId);
 
+    void bulkDeleteEventSubscriptionsForProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void bulkDeleteEventSubscriptionsForScopeIdsAndType(Collection<String> scopeIds, String scopeType);
+
 }
\ No newline at end of file
@@ -14,6 +14,7 @@
 package org.flowable.eventsubscription.service.impl.persistence.entity;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
@@ -324,4 +325,14 @@ public class EventSubscriptionEntityManagerImpl
         return messageEventSubscriptionEntities;
     }
 
+    @Override
+    public void bulkDeleteEventSubscriptionsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.bulkDeleteEventSubscriptionsForProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void bulkDeleteEventSubscriptionsForScopeIdsAndType(Collection<String> scopeIds, String scopeType) {
+        dataManager.bulkDeleteEventSubscriptionsForScopeIdsAndType(scopeIds, scopeType);
+    }
+
 }
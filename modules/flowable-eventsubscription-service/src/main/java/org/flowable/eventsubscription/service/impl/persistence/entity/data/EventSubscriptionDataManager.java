@@ -12,6 +12,7 @@
  */
 package org.flowable.eventsubscription.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -78,4 +79,8 @@ public interface EventSubscriptionDataManager extends DataManager<EventSubscript
 
     void deleteEventSubscriptionsForScopeDefinitionIdAndTypeAndNullScopeId(String scopeDefinitionId, String scopeType);
 
+    void bulkDeleteEventSubscriptionsForProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void bulkDeleteEventSubscriptionsForScopeIdsAndType(Collection<String> scopeIds, String scopeType);
+
 }
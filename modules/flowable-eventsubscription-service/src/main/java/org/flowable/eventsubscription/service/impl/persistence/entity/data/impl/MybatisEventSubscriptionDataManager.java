@@ -13,6 +13,7 @@
 package org.flowable.eventsubscription.service.impl.persistence.entity.data.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -346,6 +347,21 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
         return messageEventSubscriptionEntities;
     }
 
+    @Override
+    public void bulkDeleteEventSubscriptionsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("processInstanceIds", processInstanceIds);
+        getDbSqlSession().delete("bulkDeleteEventSubscriptionsForProcessInstanceIds", params, EventSubscriptionEntityImpl.class);
+    }
+
+    @Override
+    public void bulkDeleteEventSubscriptionsForScopeIdsAndType(Collection<String> scopeIds, String scopeType) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("scopeIds", scopeIds);
+        params.put("scopeType", scopeType);
+        getDbSqlSession().delete("bulkDeleteEventSubscriptionsForScopeIdsAndType", params, EventSubscriptionEntityImpl.class);
+    }
+
     @Override
     protected IdGenerator getIdGenerator() {
         return eventSubscriptionServiceConfiguration.getIdGenerator();
@@ -16,7 +16,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
 import javax.script.ScriptException;
 
@@ -64,6 +66,21 @@ public class GroovyStaticScriptEngine extends GroovyScriptEngineImpl {
 
     @Override
     public Object eval(String script, ScriptContext ctx) throws ScriptException {
+        setCompileOptions(ctx);
+        Object ret = super.eval(script, ctx);
+        return ret;
+    }
+
+    /**
+     * The static compilation needs the types of the variables, so the script is only compiled when it is evaluated for the first time,
+     * which is also what {@link #eval(String, ScriptContext)} does for a script it did not see before.
+     */
+    @Override
+    public CompiledScript compile(String script) throws ScriptException {
+        return new LazyCompiledScript(script);
+    }
+
+    protected void setCompileOptions(ScriptContext ctx) {
         COMPILE_OPTIONS.remove();
         Map<String, ClassNode> variableTypes = new HashMap<>();
         for (Map.Entry<String, Object> entry : ctx.getBindings(ScriptContext.ENGINE_SCOPE).entrySet()) {
@@ -75,8 +92,6 @@ public class GroovyStaticScriptEngine extends GroovyScriptEngineImpl {
         Map<String, Object> options = new HashMap<>();
         options.put(VAR_TYPES, variableTypes);
         COMPILE_OPTIONS.set(options);
-        Object ret = super.eval(script, ctx);
-        return ret;
     }
 
     protected static CompilerConfiguration createStaticConfiguration() {
@@ -88,6 +103,32 @@ public class GroovyStaticScriptEngine extends GroovyScriptEngineImpl {
         return compilerConfiguration;
     }
 
+    protected class LazyCompiledScript extends CompiledScript {
+
+        protected final String script;
+        protected volatile CompiledScript compiledScript;
+
+        public LazyCompiledScript(String script) {
+            this.script = script;
+        }
+
+        @Override
+        public Object eval(ScriptContext ctx) throws ScriptException {
+            CompiledScript currentCompiledScript = compiledScript;
+            if (currentCompiledScript == null) {
+                setCompileOptions(ctx);
+                currentCompiledScript = GroovyStaticScriptEngine.super.compile(script);
+                compiledScript = currentCompiledScript;
+            }
+            return currentCompiledScript.eval(ctx);
+        }
+
+        @Override
+        public ScriptEngine getEngine() {
+            return GroovyStaticScriptEngine.this;
+        }
+    }
+
     private static ClassLoader getParentLoader() {
         ClassLoader ctxtLoader = Thread.currentThread().getContextClassLoader();
         try {
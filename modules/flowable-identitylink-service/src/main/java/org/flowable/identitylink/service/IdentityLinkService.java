@@ -83,5 +83,13 @@ public interface IdentityLinkService {
     void deleteIdentityLinksByScopeIdAndType(String scopeId, String scopeType);
     
     void deleteIdentityLinksByProcessInstanceId(String processInstanceId);
+
+    /**
+     * Deletes the identity links of the given process instances and of their tasks with set-based statements,
+     * without loading the identity links. No events are dispatched for the deleted identity links.
+     */
+    void bulkDeleteIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void bulkDeleteIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
     
 }
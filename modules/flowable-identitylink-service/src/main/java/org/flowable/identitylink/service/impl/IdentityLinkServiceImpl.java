@@ -182,6 +182,16 @@ public class IdentityLinkServiceImpl extends CommonServiceImpl<IdentityLinkServi
         getIdentityLinkEntityManager().deleteIdentityLinksByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public void bulkDeleteIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getIdentityLinkEntityManager().bulkDeleteIdentityLinksForProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void bulkDeleteIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        getIdentityLinkEntityManager().bulkDeleteIdentityLinksForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+
     public IdentityLinkEntityManager getIdentityLinkEntityManager() {
         return configuration.getIdentityLinkEntityManager();
     }
@@ -85,4 +85,8 @@ public interface IdentityLinkEntityManager extends EntityManager<IdentityLinkEnt
     
     void deleteIdentityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType);
 
+    void bulkDeleteIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void bulkDeleteIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+
 }
\ No newline at end of file
@@ -319,6 +319,16 @@ public class IdentityLinkEntityManagerImpl
         dataManager.deleteIdentityLinksByScopeDefinitionIdAndScopeType(scopeDefinitionId, scopeType);
     }
 
+    @Override
+    public void bulkDeleteIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.bulkDeleteIdentityLinksForProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void bulkDeleteIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        dataManager.bulkDeleteIdentityLinksForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+
     protected IdentityLinkEventHandler getIdentityLinkEventHandler() {
         return serviceConfiguration.getIdentityLinkEventHandler();
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -114,5 +115,19 @@ public class MybatisHistoricIdentityLinkDataManager extends AbstractDataManager<
     protected IdGenerator getIdGenerator() {
         return identityLinkServiceConfiguration.getIdGenerator();
     }
-    
+
+    @Override
+    public void bulkDeleteHistoricIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("processInstanceIds", processInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricIdentityLinksForProcessInstanceIds", params, HistoricIdentityLinkEntityImpl.class);
+    }
+
+    @Override
+    public void bulkDeleteHistoricIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("scopeIds", scopeIds);
+        params.put("scopeType", scopeType);
+        getDbSqlSession().delete("bulkDeleteHistoricIdentityLinksForScopeIdsAndScopeType", params, HistoricIdentityLinkEntityImpl.class);
+    }
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.job.api.DeadLetterJobQuery;
@@ -93,5 +94,15 @@ public interface JobService {
     void deleteSuspendedJobsByExecutionId(String executionId);
     
     void deleteDeadLetterJobsByExecutionId(String executionId);
+    
+    /**
+     * Deletes the executable, suspended and dead letter jobs of the given process instances with set based statements, without dispatching events.
+     */
+    void bulkDeleteJobsForProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    /**
+     * Deletes the executable, suspended and dead letter jobs of the given scopes with set based statements, without dispatching events.
+     */
+    void bulkDeleteJobsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 
 }
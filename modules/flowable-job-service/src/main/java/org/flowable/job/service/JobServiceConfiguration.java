@@ -31,7 +31,9 @@ import org.flowable.job.service.impl.asyncexecutor.AsyncRunnableExecutionExcepti
 import org.flowable.job.service.impl.asyncexecutor.DefaultJobManager;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.asyncexecutor.notification.JobNotificationChannel;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPartitionKeyProvider;
 import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManager;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManagerImpl;
@@ -118,6 +120,11 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected List<JobProcessor> jobProcessors;
     
     protected List<String> enabledJobCategories;
+
+    /**
+     * Channel used to wake up the async job acquisition of other executors when jobs are added that are not executed locally.
+     */
+    protected JobNotificationChannel jobNotificationChannel;
     
     protected AsyncExecutor asyncHistoryExecutor;
     protected int asyncHistoryExecutorNumberOfRetries;
@@ -133,6 +140,7 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected boolean asyncHistoryJsonGroupingEnabled;
     protected boolean asyncHistoryExecutorMessageQueueMode;
     protected int asyncHistoryJsonGroupingThreshold = 10;
+    protected AsyncHistoryPartitionKeyProvider asyncHistoryPartitionKeyProvider;
     
     public JobServiceConfiguration(String engineName) {
         super(engineName);
@@ -619,6 +627,14 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         enabledJobCategories.add(jobCategory);
     }
 
+    public JobNotificationChannel getJobNotificationChannel() {
+        return jobNotificationChannel;
+    }
+
+    public void setJobNotificationChannel(JobNotificationChannel jobNotificationChannel) {
+        this.jobNotificationChannel = jobNotificationChannel;
+    }
+
     public String getJobTypeAsyncHistory() {
         return jobTypeAsyncHistory;
     }
@@ -666,5 +682,13 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     public void setAsyncHistoryJsonGroupingThreshold(int asyncHistoryJsonGroupingThreshold) {
         this.asyncHistoryJsonGroupingThreshold = asyncHistoryJsonGroupingThreshold;
     }
+
+    public AsyncHistoryPartitionKeyProvider getAsyncHistoryPartitionKeyProvider() {
+        return asyncHistoryPartitionKeyProvider;
+    }
+
+    public void setAsyncHistoryPartitionKeyProvider(AsyncHistoryPartitionKeyProvider asyncHistoryPartitionKeyProvider) {
+        this.asyncHistoryPartitionKeyProvider = asyncHistoryPartitionKeyProvider;
+    }
     
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
@@ -48,4 +49,14 @@ public interface TimerJobService {
     void deleteTimerJob(TimerJobEntity timerJob);
     
     void deleteTimerJobsByExecutionId(String executionId);
+    
+    /**
+     * Deletes the timer jobs of the given process instances with a set based statement, without dispatching events.
+     */
+    void bulkDeleteTimerJobsForProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    /**
+     * Deletes the timer jobs of the given scopes with a set based statement, without dispatching events.
+     */
+    void bulkDeleteTimerJobsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 }
@@ -228,4 +228,18 @@ public class JobServiceImpl extends ServiceImpl implements JobService {
         }
     }
 
+    @Override
+    public void bulkDeleteJobsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getJobEntityManager().bulkDeleteJobsForProcessInstanceIds(processInstanceIds);
+        getSuspendedJobEntityManager().bulkDeleteJobsForProcessInstanceIds(processInstanceIds);
+        getDeadLetterJobEntityManager().bulkDeleteJobsForProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void bulkDeleteJobsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        getJobEntityManager().bulkDeleteJobsForScopeIdsAndScopeType(scopeIds, scopeType);
+        getSuspendedJobEntityManager().bulkDeleteJobsForScopeIdsAndScopeType(scopeIds, scopeType);
+        getDeadLetterJobEntityManager().bulkDeleteJobsForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+
 }
@@ -100,4 +100,14 @@ public class TimerJobServiceImpl extends ServiceImpl implements TimerJobService
             }
         }
     }
+
+    @Override
+    public void bulkDeleteTimerJobsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getTimerJobEntityManager().bulkDeleteJobsForProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void bulkDeleteTimerJobsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        getTimerJobEntityManager().bulkDeleteJobsForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
 }
@@ -42,6 +42,10 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
     protected AcquireAsyncJobsDueRunnable asyncJobsDueRunnable;
     protected AcquireAsyncJobsDueLifecycleListener asyncJobsDueLifecycleListener;
+    protected AdaptiveAsyncJobAcquisitionStrategy adaptiveAsyncJobAcquisitionStrategy;
+    protected boolean timerJobTimingWheelEnabled;
+    protected long timerJobAcquisitionHorizonInMillis = 60 * 1000L;
+    protected int maxTimerJobsInTimingWheel = 10000;
     protected String resetExpiredRunnableName;
     protected ResetExpiredJobsRunnable resetExpiredJobsRunnable;
 
@@ -109,11 +113,27 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     }
 
     protected Runnable createRunnableForJob(final JobInfo job) {
+        Runnable runnable;
         if (executeAsyncRunnableFactory == null) {
-            return new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler);
+            runnable = new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler);
         } else {
-            return executeAsyncRunnableFactory.createExecuteAsyncRunnable(job, jobServiceConfiguration);
+            runnable = executeAsyncRunnableFactory.createExecuteAsyncRunnable(job, jobServiceConfiguration);
         }
+
+        if (adaptiveAsyncJobAcquisitionStrategy != null) {
+            // The execution time of the jobs is used to determine how many jobs are acquired
+            final Runnable jobRunnable = runnable;
+            final AdaptiveAsyncJobAcquisitionStrategy strategy = adaptiveAsyncJobAcquisitionStrategy;
+            runnable = () -> {
+                long start = System.currentTimeMillis();
+                try {
+                    jobRunnable.run();
+                } finally {
+                    strategy.jobExecuted(System.currentTimeMillis() - start);
+                }
+            };
+        }
+        return runnable;
     }
 
     /** Starts the async executor */
@@ -141,8 +161,7 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
     protected void initializeRunnables() {
         if (timerRunnableNeeded && timerJobRunnable == null) {
-            timerJobRunnable = new AcquireTimerJobsRunnable(this, jobServiceConfiguration.getJobManager(),
-                timerLifecycleListener, globalAcquireLockEnabled, globalAcquireLockPrefix, moveTimerExecutorPoolSize);
+            timerJobRunnable = createTimerJobRunnable();
 
             timerJobRunnable.setLockWaitTime(timerLockWaitTime);
             timerJobRunnable.setLockPollRate(timerLockPollRate);
@@ -165,7 +184,21 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
             asyncJobsDueRunnable.setLockWaitTime(asyncJobsGlobalLockWaitTime);
             asyncJobsDueRunnable.setLockPollRate(asyncJobsGlobalLockPollRate);
+            asyncJobsDueRunnable.setAdaptiveAcquisitionStrategy(adaptiveAsyncJobAcquisitionStrategy);
+        }
+    }
+
+    protected AcquireTimerJobsRunnable createTimerJobRunnable() {
+        if (timerJobTimingWheelEnabled) {
+            TimingWheelAcquireTimerJobsRunnable timingWheelRunnable = new TimingWheelAcquireTimerJobsRunnable(this, jobServiceConfiguration.getJobManager(),
+                    timerLifecycleListener, globalAcquireLockEnabled, globalAcquireLockPrefix, moveTimerExecutorPoolSize);
+            timingWheelRunnable.setAcquisitionHorizonInMillis(timerJobAcquisitionHorizonInMillis);
+            timingWheelRunnable.setMaxTimerJobsInWheel(maxTimerJobsInTimingWheel);
+            return timingWheelRunnable;
         }
+
+        return new AcquireTimerJobsRunnable(this, jobServiceConfiguration.getJobManager(),
+                timerLifecycleListener, globalAcquireLockEnabled, globalAcquireLockPrefix, moveTimerExecutorPoolSize);
     }
 
     protected abstract ResetExpiredJobsRunnable createResetExpiredJobsRunnable(String resetRunnableName);
@@ -349,6 +382,47 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.asyncJobsDueLifecycleListener = asyncJobsDueLifecycleListener;
     }
 
+    public AdaptiveAsyncJobAcquisitionStrategy getAdaptiveAsyncJobAcquisitionStrategy() {
+        return adaptiveAsyncJobAcquisitionStrategy;
+    }
+
+    /**
+     * When set, the number of async jobs acquired per cycle and the wait time between cycles adapt to the load of the executor,
+     * instead of always acquiring {@link #getMaxAsyncJobsDuePerAcquisition()} jobs.
+     */
+    public void setAdaptiveAsyncJobAcquisitionStrategy(AdaptiveAsyncJobAcquisitionStrategy adaptiveAsyncJobAcquisitionStrategy) {
+        this.adaptiveAsyncJobAcquisitionStrategy = adaptiveAsyncJobAcquisitionStrategy;
+    }
+
+    public boolean isTimerJobTimingWheelEnabled() {
+        return timerJobTimingWheelEnabled;
+    }
+
+    /**
+     * When enabled, timers that are due within the {@link #getTimerJobAcquisitionHorizonInMillis()} are acquired ahead of time
+     * and fired at their due date from an in-memory timing wheel (see {@link TimingWheelAcquireTimerJobsRunnable}),
+     * instead of polling for timers that are due now.
+     */
+    public void setTimerJobTimingWheelEnabled(boolean timerJobTimingWheelEnabled) {
+        this.timerJobTimingWheelEnabled = timerJobTimingWheelEnabled;
+    }
+
+    public long getTimerJobAcquisitionHorizonInMillis() {
+        return timerJobAcquisitionHorizonInMillis;
+    }
+
+    public void setTimerJobAcquisitionHorizonInMillis(long timerJobAcquisitionHorizonInMillis) {
+        this.timerJobAcquisitionHorizonInMillis = timerJobAcquisitionHorizonInMillis;
+    }
+
+    public int getMaxTimerJobsInTimingWheel() {
+        return maxTimerJobsInTimingWheel;
+    }
+
+    public void setMaxTimerJobsInTimingWheel(int maxTimerJobsInTimingWheel) {
+        this.maxTimerJobsInTimingWheel = maxTimerJobsInTimingWheel;
+    }
+
     public boolean isTimerRunnableNeeded() {
         return timerRunnableNeeded;
     }
@@ -29,4 +29,19 @@ public interface AcquireAsyncJobsDueLifecycleListener {
 
     void startWaiting(String engineName, long millisToWait);
 
+    /**
+     * Called when an {@link AdaptiveAsyncJobAcquisitionStrategy} is used and it changed the number of jobs to acquire.
+     */
+    default void acquisitionSizeAdapted(String engineName, int previousJobsToAcquire, int jobsToAcquire, int remainingCapacity,
+            double averageJobExecutionTimeInMillis) {
+
+    }
+
+    /**
+     * Called when an {@link AdaptiveAsyncJobAcquisitionStrategy} is used and it backs off after an optimistic locking exception.
+     */
+    default void optimistLockingBackoff(String engineName, int consecutiveOptimisticLockingExceptions, long millisToWait) {
+
+    }
+
 }
@@ -81,6 +81,8 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     protected final JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
 
     protected AcquireAsyncJobsDueLifecycleListener lifecycleListener;
+    protected AdaptiveAsyncJobAcquisitionStrategy adaptiveAcquisitionStrategy;
+    protected int lastJobsToAcquire = -1;
 
     protected boolean globalAcquireLockEnabled;
     protected String globalAcquireLockPrefix;
@@ -91,6 +93,7 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     protected volatile boolean isInterrupted;
     protected final Object MONITOR = new Object();
     protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
+    protected boolean wakeUpRequested;
 
     public AcquireAsyncJobsDueRunnable(String name, AsyncExecutor asyncExecutor, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
             AcquireAsyncJobsDueLifecycleListener lifecycleListener, boolean globalAcquireLockEnabled, String globalAcquireLockPrefix) {
@@ -177,13 +180,18 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     }
 
     protected long acquireAndExecuteJobs(CommandExecutor commandExecutor, int remainingCapacity) {
+        int jobsToAcquire = remainingCapacity;
+        if (adaptiveAcquisitionStrategy != null) {
+            jobsToAcquire = determineJobsToAcquire(remainingCapacity);
+        }
+
         try {
             List<? extends JobInfoEntity> acquiredJobs;
             if (globalAcquireLockEnabled) {
-                acquiredJobs = commandExecutor.execute(new AcquireJobsWithGlobalAcquireLockCmd(asyncExecutor, remainingCapacity, jobEntityManager));
+                acquiredJobs = commandExecutor.execute(new AcquireJobsWithGlobalAcquireLockCmd(asyncExecutor, jobsToAcquire, jobEntityManager));
 
             } else {
-                acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, jobEntityManager));
+                acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, jobsToAcquire, jobEntityManager));
 
             }
 
@@ -193,9 +201,14 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
             LOGGER.debug("Jobs acquired: {}, rejected: {}, for engine {}", acquiredJobs.size(), rejectedJobs.size(), getEngineName());
             if (rejectedJobs.size() > 0) {
-
                 lifecycleListener.rejectedJobs(getEngineName(), rejectedJobs.size(), acquiredJobs.size(), asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+            }
+
+            if (adaptiveAcquisitionStrategy != null) {
+                return adaptiveAcquisitionStrategy.jobsAcquired(jobsToAcquire, acquiredJobs.size(), rejectedJobs.size(), asyncExecutor);
+            }
 
+            if (rejectedJobs.size() > 0) {
                 // some jobs were rejected, so the queue was full; wait until attempting to acquire more.
                 return asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
             }
@@ -220,6 +233,12 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                         getEngineName(), optimisticLockingException.getMessage());
 
             }
+
+            if (adaptiveAcquisitionStrategy != null) {
+                long millisToWait = adaptiveAcquisitionStrategy.optimisticLockingException();
+                lifecycleListener.optimistLockingBackoff(getEngineName(), adaptiveAcquisitionStrategy.getConsecutiveOptimisticLockingExceptions(), millisToWait);
+                return millisToWait;
+            }
         } catch (Throwable e) {
             LOGGER.error("exception for engine {} during async job acquisition: {}", getEngineName(), e.getMessage(), e);
         }
@@ -227,6 +246,16 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
     }
 
+    protected int determineJobsToAcquire(int remainingCapacity) {
+        int jobsToAcquire = adaptiveAcquisitionStrategy.determineJobsToAcquire(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+        if (jobsToAcquire != lastJobsToAcquire) {
+            lifecycleListener.acquisitionSizeAdapted(getEngineName(), lastJobsToAcquire, jobsToAcquire, remainingCapacity,
+                    adaptiveAcquisitionStrategy.getAverageJobExecutionTimeInMillis());
+            lastJobsToAcquire = jobsToAcquire;
+        }
+        return jobsToAcquire;
+    }
+
     protected List<JobInfoEntity> offerJobs(List<? extends JobInfoEntity> acquiredJobs) {
         List<JobInfoEntity> rejected = new ArrayList<>();
         for (JobInfoEntity job : acquiredJobs) {
@@ -247,6 +276,19 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         }
     }
 
+    /**
+     * Wakes up the acquisition thread when it is waiting, or makes sure the next wait is skipped when it is busy acquiring.
+     * Used by a {@link org.flowable.job.service.impl.asyncexecutor.notification.JobNotificationChannel} to signal that new jobs are available.
+     */
+    public void wakeUp() {
+        synchronized (MONITOR) {
+            wakeUpRequested = true;
+            if (isWaiting.compareAndSet(true, false)) {
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
     protected void sleep(long millisToWait) {
         if (millisToWait > 0) {
             try {
@@ -255,11 +297,12 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                     LOGGER.debug("async job acquisition for engine {}, thread sleeping for {} millis", getEngineName(), millisToWait);
                 }
                 synchronized (MONITOR) {
-                    if (!isInterrupted) {
+                    if (!isInterrupted && !wakeUpRequested) {
                         isWaiting.set(true);
                         lifecycleListener.startWaiting(getEngineName(), millisToWait);
                         MONITOR.wait(millisToWait);
                     }
+                    wakeUpRequested = false;
                 }
 
                 if (LOGGER.isDebugEnabled()) {
@@ -287,6 +330,14 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         this.lifecycleListener = lifecycleListener;
     }
 
+    public AdaptiveAsyncJobAcquisitionStrategy getAdaptiveAcquisitionStrategy() {
+        return adaptiveAcquisitionStrategy;
+    }
+
+    public void setAdaptiveAcquisitionStrategy(AdaptiveAsyncJobAcquisitionStrategy adaptiveAcquisitionStrategy) {
+        this.adaptiveAcquisitionStrategy = adaptiveAcquisitionStrategy;
+    }
+
     public boolean isGlobalAcquireLockEnabled() {
         return globalAcquireLockEnabled;
     }
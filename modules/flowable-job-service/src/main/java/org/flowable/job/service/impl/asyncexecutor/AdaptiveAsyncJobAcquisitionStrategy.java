@@ -0,0 +1,214 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Determines how many async jobs are acquired per acquisition cycle and how long the acquisition thread waits between cycles,
+ * based on what happened in the previous cycles, instead of always acquiring the max async jobs due per acquisition.
+ *
+ * <ul>
+ * <li>The number of jobs to acquire is limited by the remaining capacity of the task executor and by the number of jobs
+ * the executor is expected to finish within the {@link #getAcquisitionHorizonInMillis() acquisition horizon},
+ * based on the recent job execution time and throughput. Jobs that can't be executed soon are left for the other nodes.</li>
+ * <li>When an acquisition fails with an optimistic locking exception (another node acquired the same jobs),
+ * the acquisition size is halved and the acquisition thread backs off exponentially, with jitter to avoid that all nodes retry at the same time.</li>
+ * <li>When all requested jobs were acquired, or the queue of the task executor drains, the acquisition size doubles again.</li>
+ * </ul>
+ *
+ * The acquisition related methods are only called by the acquisition thread, {@link #jobExecuted(long)} is called by the job executing threads.
+ */
+public class AdaptiveAsyncJobAcquisitionStrategy {
+
+    protected int minAsyncJobsDuePerAcquisition = 1;
+    protected long acquisitionHorizonInMillis = 5000L;
+    protected long initialBackoffInMillis = 100L;
+    protected long maxBackoffInMillis = 10000L;
+
+    /**
+     * Weight of the most recent measurement in the exponential moving average of the execution time and throughput.
+     */
+    protected double smoothingFactor = 0.3;
+
+    protected final LongAdder executedJobs = new LongAdder();
+    protected final LongAdder executionTimeInMillis = new LongAdder();
+
+    protected int acquisitionSize = -1;
+    protected int lastRemainingCapacity = -1;
+    protected int consecutiveOptimisticLockingExceptions;
+    protected boolean limitedByThroughput;
+    protected long measurementStartTime = System.currentTimeMillis();
+    protected double averageJobExecutionTimeInMillis;
+    protected double jobsExecutedPerMillis;
+
+    /**
+     * Called by the executor after a job has been executed, with the time the execution took.
+     */
+    public void jobExecuted(long executionTimeInMillis) {
+        this.executedJobs.increment();
+        this.executionTimeInMillis.add(executionTimeInMillis);
+    }
+
+    /**
+     * @return the number of jobs that should be acquired in the next acquisition cycle, at least 1 and at most the remaining capacity.
+     */
+    public int determineJobsToAcquire(int remainingCapacity, int maxAsyncJobsDuePerAcquisition) {
+        updateMeasurements();
+
+        int maxSize = Math.max(1, maxAsyncJobsDuePerAcquisition);
+        if (acquisitionSize < 0) {
+            acquisitionSize = maxSize;
+
+        } else if (lastRemainingCapacity >= 0 && remainingCapacity > lastRemainingCapacity) {
+            // The queue is draining, scale up quickly
+            acquisitionSize = increase(acquisitionSize, maxSize);
+
+        }
+        lastRemainingCapacity = remainingCapacity;
+
+        int jobsToAcquire = Math.min(acquisitionSize, Math.min(remainingCapacity, maxSize));
+        limitedByThroughput = false;
+        if (jobsExecutedPerMillis > 0) {
+            long expectedExecutions = (long) Math.ceil(jobsExecutedPerMillis * Math.max(acquisitionHorizonInMillis, averageJobExecutionTimeInMillis));
+            expectedExecutions = Math.max(minAsyncJobsDuePerAcquisition, expectedExecutions);
+            if (expectedExecutions < jobsToAcquire) {
+                jobsToAcquire = (int) expectedExecutions;
+                limitedByThroughput = true;
+            }
+        }
+        return Math.max(1, jobsToAcquire);
+    }
+
+    /**
+     * @return the time to wait before the next acquisition cycle
+     */
+    public long jobsAcquired(int jobsToAcquire, int jobsAcquired, int jobsRejected, AsyncExecutor asyncExecutor) {
+        consecutiveOptimisticLockingExceptions = 0;
+
+        if (jobsRejected > 0) {
+            acquisitionSize = Math.max(minAsyncJobsDuePerAcquisition, jobsAcquired - jobsRejected);
+            return asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
+
+        } else if (jobsAcquired >= jobsToAcquire) {
+            acquisitionSize = increase(acquisitionSize, Math.max(1, asyncExecutor.getMaxAsyncJobsDuePerAcquisition()));
+            if (limitedByThroughput) {
+                // Enough jobs for the acquisition horizon were acquired, come back before they are all executed
+                return Math.min(asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis(), acquisitionHorizonInMillis / 2);
+            }
+            return 0L; // More jobs can be expected
+
+        }
+
+        return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+    }
+
+    /**
+     * @return the time to wait before the next acquisition cycle
+     */
+    public long optimisticLockingException() {
+        consecutiveOptimisticLockingExceptions++;
+        acquisitionSize = Math.max(minAsyncJobsDuePerAcquisition, acquisitionSize / 2);
+
+        int exponent = Math.min(consecutiveOptimisticLockingExceptions - 1, 30);
+        long backoff = Math.min(maxBackoffInMillis, initialBackoffInMillis << exponent);
+        if (backoff <= 0) {
+            backoff = maxBackoffInMillis;
+        }
+
+        // Random value between half the backoff and the full backoff
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    protected void updateMeasurements() {
+        long now = System.currentTimeMillis();
+        long elapsed = now - measurementStartTime;
+        if (elapsed <= 0) {
+            return;
+        }
+
+        long executed = executedJobs.sumThenReset();
+        long executionTime = executionTimeInMillis.sumThenReset();
+        measurementStartTime = now;
+
+        if (executed > 0) {
+            averageJobExecutionTimeInMillis = smooth(averageJobExecutionTimeInMillis, (double) executionTime / executed);
+            jobsExecutedPerMillis = smooth(jobsExecutedPerMillis, (double) executed / elapsed);
+        }
+    }
+
+    protected double smooth(double average, double value) {
+        return average > 0 ? smoothingFactor * value + (1 - smoothingFactor) * average : value;
+    }
+
+    protected int increase(int size, int maxSize) {
+        return (int) Math.min(maxSize, Math.max(minAsyncJobsDuePerAcquisition, 2L * size));
+    }
+
+    public int getAcquisitionSize() {
+        return acquisitionSize;
+    }
+
+    public int getConsecutiveOptimisticLockingExceptions() {
+        return consecutiveOptimisticLockingExceptions;
+    }
+
+    public double getAverageJobExecutionTimeInMillis() {
+        return averageJobExecutionTimeInMillis;
+    }
+
+    public double getJobsExecutedPerMillis() {
+        return jobsExecutedPerMillis;
+    }
+
+    public int getMinAsyncJobsDuePerAcquisition() {
+        return minAsyncJobsDuePerAcquisition;
+    }
+
+    public void setMinAsyncJobsDuePerAcquisition(int minAsyncJobsDuePerAcquisition) {
+        this.minAsyncJobsDuePerAcquisition = minAsyncJobsDuePerAcquisition;
+    }
+
+    public long getAcquisitionHorizonInMillis() {
+        return acquisitionHorizonInMillis;
+    }
+
+    public void setAcquisitionHorizonInMillis(long acquisitionHorizonInMillis) {
+        this.acquisitionHorizonInMillis = acquisitionHorizonInMillis;
+    }
+
+    public long getInitialBackoffInMillis() {
+        return initialBackoffInMillis;
+    }
+
+    public void setInitialBackoffInMillis(long initialBackoffInMillis) {
+        this.initialBackoffInMillis = initialBackoffInMillis;
+    }
+
+    public long getMaxBackoffInMillis() {
+        return maxBackoffInMillis;
+    }
+
+    public void setMaxBackoffInMillis(long maxBackoffInMillis) {
+        this.maxBackoffInMillis = maxBackoffInMillis;
+    }
+
+    public double getSmoothingFactor() {
+        return smoothingFactor;
+    }
+
+    public void setSmoothingFactor(double smoothingFactor) {
+        this.smoothingFactor = smoothingFactor;
+    }
+}
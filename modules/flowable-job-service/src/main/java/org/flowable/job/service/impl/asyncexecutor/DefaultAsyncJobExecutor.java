@@ -24,6 +24,8 @@ import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
+import org.flowable.job.service.impl.asyncexecutor.notification.JobNotificationChannel;
+import org.flowable.job.service.impl.asyncexecutor.notification.JobNotificationListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,6 +67,11 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
      */
     protected Thread resetExpiredJobThread;
 
+    /**
+     * Listener registered on the {@link JobNotificationChannel} of the job service configuration, if any.
+     */
+    protected JobNotificationListener jobNotificationListener;
+
     /**
      * Whether to unlock jobs that are owned by this executor (have the same
      * lockOwner) at startup or shutdown.
@@ -182,6 +189,23 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
                 asyncJobAcquisitionThread = new Thread(asyncJobsDueRunnable);
             }
             asyncJobAcquisitionThread.start();
+            registerJobNotificationListener();
+        }
+    }
+
+    /** Wakes up the acquisition thread when the configured {@link JobNotificationChannel} signals that new jobs were added */
+    protected void registerJobNotificationListener() {
+        JobNotificationChannel jobNotificationChannel = jobServiceConfiguration.getJobNotificationChannel();
+        if (jobNotificationChannel != null && jobNotificationListener == null) {
+            jobNotificationListener = asyncJobsDueRunnable::wakeUp;
+            jobNotificationChannel.addListener(jobNotificationListener);
+        }
+    }
+
+    protected void unregisterJobNotificationListener() {
+        if (jobNotificationListener != null) {
+            jobServiceConfiguration.getJobNotificationChannel().removeListener(jobNotificationListener);
+            jobNotificationListener = null;
         }
     }
 
@@ -196,6 +220,7 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     /** Stops the acquisition thread */
     protected void stopJobAcquisitionThread() {
+        unregisterJobNotificationListener();
         if (asyncJobAcquisitionThread != null) {
             try {
                 asyncJobAcquisitionThread.join();
@@ -45,6 +45,7 @@ import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
 import org.flowable.job.service.impl.HistoryJobProcessorContextImpl;
 import org.flowable.job.service.impl.JobProcessorContextImpl;
+import org.flowable.job.service.impl.asyncexecutor.notification.JobNotificationChannel;
 import org.flowable.job.service.impl.history.async.AsyncHistorySession;
 import org.flowable.job.service.impl.history.async.TriggerAsyncHistoryExecutorTransactionListener;
 import org.flowable.job.service.impl.persistence.entity.AbstractJobEntity;
@@ -103,11 +104,26 @@ public class DefaultJobManager implements JobManager {
                 if (jobServiceConfiguration.getEnabledJobCategories() != null && 
                         !jobServiceConfiguration.getEnabledJobCategories().contains(jobEntity.getCategory())) {
                     
+                    notifyJobAdded(jobEntity);
                     return;
                 }
             }
             
             hintAsyncExecutor(jobEntity);
+
+        } else {
+            notifyJobAdded(jobEntity);
+        }
+    }
+
+    /**
+     * Signals the acquisition threads of other executors that a job was added which is not executed by this executor.
+     * Does nothing when no {@link JobNotificationChannel} is configured.
+     */
+    protected void notifyJobAdded(JobEntity jobEntity) {
+        JobNotificationChannel jobNotificationChannel = jobServiceConfiguration.getJobNotificationChannel();
+        if (jobNotificationChannel != null) {
+            jobNotificationChannel.notifyJobAdded(jobEntity, getCommandContext());
         }
     }
 
@@ -163,8 +179,12 @@ public class DefaultJobManager implements JobManager {
             JobEntity executableJob = createExecutableJobFromOtherJob(timerJobEntity, remainingCapacitySufficient);
 
             boolean insertSuccessful = jobServiceConfiguration.getJobEntityManager().insertJobEntity(executableJob);
-            if (insertSuccessful && remainingCapacitySufficient) {
-                triggerExecutorIfNeeded(executableJob);
+            if (insertSuccessful) {
+                if (remainingCapacitySufficient) {
+                    triggerExecutorIfNeeded(executableJob);
+                } else {
+                    notifyJobAdded(executableJob);
+                }
             }
         }
 
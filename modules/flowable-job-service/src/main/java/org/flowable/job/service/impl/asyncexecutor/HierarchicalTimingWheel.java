@@ -0,0 +1,237 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel, holding items until their expiration time.
+ *
+ * The lowest level has {@link #getWheelSize()} buckets of {@link #getTickMillis()} each. Items that expire later than the
+ * interval covered by a level are put in an overflow level, of which each bucket spans the complete interval of the level below.
+ * When the clock is advanced, the buckets that are passed are emptied and their items are put again in the wheel,
+ * moving them to a lower level, until they expire. Adding an item and advancing the clock are therefore constant time operations,
+ * independent of the number of items held.
+ *
+ * Items never expire before their expiration time, but up to one tick after it. This class is not thread-safe.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    protected final long tickMillis;
+    protected final int wheelSize;
+    protected final Level<T> level;
+    protected int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startTimeMillis) {
+        if (tickMillis <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tick must be positive and wheel size must be larger than one");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.level = new Level<>(tickMillis, wheelSize, startTimeMillis);
+    }
+
+    /**
+     * Adds an item to the wheel.
+     *
+     * @return false when the item is already expired, it is then not added and should be handled by the caller
+     */
+    public boolean add(T item, long expirationTimeMillis) {
+        // Rounding up to the next tick makes sure an item never expires before its expiration time
+        long roundedExpirationTime = ((expirationTimeMillis + tickMillis - 1) / tickMillis) * tickMillis;
+        if (level.add(new Entry<>(item, roundedExpirationTime))) {
+            size++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Advances the clock of the wheel to the given time.
+     *
+     * @return the items that expired, in no particular order
+     */
+    public List<T> advanceClock(long timeMillis) {
+        List<T> expiredItems = new ArrayList<>();
+        level.advanceClock(timeMillis, entry -> {
+            if (!level.add(entry)) {
+                expiredItems.add(entry.item);
+                size--;
+            }
+        });
+        return expiredItems;
+    }
+
+    /**
+     * @return all items that are still held, after which the wheel is empty
+     */
+    public List<T> clear() {
+        List<T> items = new ArrayList<>(size);
+        level.clear(entry -> items.add(entry.item));
+        size = 0;
+        return items;
+    }
+
+    /**
+     * @return the earliest time at which an item could expire, or -1 when the wheel is empty.
+     *         Waiting until this time and then advancing the clock never misses an expiration.
+     */
+    public long getNextExpirationTime() {
+        return size > 0 ? level.getNextExpirationTime() : -1L;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getCurrentTime() {
+        return level.currentTime;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    protected static class Entry<T> {
+
+        protected final T item;
+        protected final long expirationTimeMillis;
+
+        public Entry(T item, long expirationTimeMillis) {
+            this.item = item;
+            this.expirationTimeMillis = expirationTimeMillis;
+        }
+    }
+
+    protected interface EntryConsumer<T> {
+
+        void accept(Entry<T> entry);
+    }
+
+    protected static class Level<T> {
+
+        protected final long tickMillis;
+        protected final int wheelSize;
+        protected final long intervalMillis;
+        protected final List<List<Entry<T>>> buckets;
+        protected long currentTime;
+        protected int entryCount;
+        protected Level<T> overflowLevel;
+
+        public Level(long tickMillis, int wheelSize, long startTimeMillis) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.intervalMillis = tickMillis * wheelSize;
+            this.currentTime = startTimeMillis - (startTimeMillis % tickMillis);
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayList<>());
+            }
+        }
+
+        protected boolean add(Entry<T> entry) {
+            long expirationTime = entry.expirationTimeMillis;
+            if (expirationTime < currentTime + tickMillis) {
+                return false;
+
+            } else if (expirationTime < currentTime + intervalMillis) {
+                buckets.get(bucketIndex(expirationTime)).add(entry);
+                entryCount++;
+                return true;
+
+            } else {
+                if (overflowLevel == null) {
+                    overflowLevel = new Level<>(intervalMillis, wheelSize, currentTime);
+                }
+                return overflowLevel.add(entry);
+            }
+        }
+
+        protected int bucketIndex(long timeMillis) {
+            return (int) ((timeMillis / tickMillis) % wheelSize);
+        }
+
+        protected void advanceClock(long timeMillis, EntryConsumer<T> reinsert) {
+            if (timeMillis < currentTime + tickMillis) {
+                return;
+            }
+
+            long newCurrentTime = timeMillis - (timeMillis % tickMillis);
+            long ticks = (newCurrentTime - currentTime) / tickMillis;
+            long firstExpiredBucketTime = currentTime + tickMillis;
+            currentTime = newCurrentTime;
+
+            if (entryCount > 0) {
+                // All entries of this level lie within one rotation, so at most every bucket needs to be emptied once
+                int bucketsToEmpty = (int) Math.min(ticks, wheelSize);
+                for (int i = 0; i < bucketsToEmpty && entryCount > 0; i++) {
+                    List<Entry<T>> bucket = buckets.get(bucketIndex(firstExpiredBucketTime + i * tickMillis));
+                    if (!bucket.isEmpty()) {
+                        List<Entry<T>> entries = new ArrayList<>(bucket);
+                        bucket.clear();
+                        entryCount -= entries.size();
+                        for (Entry<T> entry : entries) {
+                            reinsert.accept(entry);
+                        }
+                    }
+                }
+            }
+
+            if (overflowLevel != null) {
+                overflowLevel.advanceClock(timeMillis, reinsert);
+            }
+        }
+
+        protected long getNextExpirationTime() {
+            long nextExpirationTime = Long.MAX_VALUE;
+            if (entryCount > 0) {
+                for (int i = 1; i <= wheelSize; i++) {
+                    long bucketTime = currentTime + i * tickMillis;
+                    if (!buckets.get(bucketIndex(bucketTime)).isEmpty()) {
+                        nextExpirationTime = bucketTime;
+                        break;
+                    }
+                }
+            }
+
+            if (overflowLevel != null && nextExpirationTime == Long.MAX_VALUE) {
+                nextExpirationTime = overflowLevel.getNextExpirationTime();
+            }
+            return nextExpirationTime;
+        }
+
+        protected void clear(EntryConsumer<T> consumer) {
+            for (List<Entry<T>> bucket : buckets) {
+                for (Entry<T> entry : bucket) {
+                    consumer.accept(entry);
+                }
+                bucket.clear();
+            }
+            entryCount = 0;
+
+            if (overflowLevel != null) {
+                overflowLevel.clear(consumer);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.common.engine.impl.async.PartitionedAsyncTaskExecutor;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPartitionKeyProvider;
+
+/**
+ * An async history executor that executes the history jobs of one partition (typically one process or case instance)
+ * one after the other, in the order in which they were acquired, on a {@link PartitionedAsyncTaskExecutor}.
+ * As history jobs are acquired ordered by their create time, the historic data of an instance is applied in the order
+ * in which it was produced, which avoids most of the jobs that aren't applicable yet because the data they depend on
+ * hasn't been processed. History jobs of different partitions are executed in parallel.
+ *
+ * The partition key is stored on the history job when it is created, see {@link AsyncHistoryPartitionKeyProvider}.
+ * Jobs without a partition key are distributed over all lanes.
+ *
+ * Note that ordering is only guaranteed within one executor: when multiple engines acquire history jobs,
+ * or when a job is rejected or fails, a job can still be executed before the data it depends on is available.
+ * These jobs are unacquired and retried like with the {@link DefaultAsyncHistoryJobExecutor}.
+ */
+public class PartitionedAsyncHistoryJobExecutor extends DefaultAsyncHistoryJobExecutor {
+
+    /**
+     * The number of lanes of the task executor that is created when none is set.
+     */
+    protected int partitionCount = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The queue size of each lane of the task executor that is created when none is set.
+     */
+    protected int partitionQueueSize = 256;
+
+    @Override
+    protected boolean executeAsyncJob(JobInfo job, Runnable runnable) {
+        if (!(taskExecutor instanceof PartitionedAsyncTaskExecutor)) {
+            return super.executeAsyncJob(job, runnable);
+        }
+
+        try {
+            ((PartitionedAsyncTaskExecutor) taskExecutor).execute(getPartitionKey(job), runnable);
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            sendRejectedEvent(job);
+            unacquireJobAfterRejection(job);
+
+            // Lane queue full, returning false so (if wanted) the acquiring can be throttled
+            return false;
+        }
+    }
+
+    protected String getPartitionKey(JobInfo job) {
+        // History jobs don't use the configuration field, it contains the partition key (if any)
+        return job.getJobHandlerConfiguration();
+    }
+
+    @Override
+    protected void initAsyncJobExecutionThreadPool() {
+        if (taskExecutor == null) {
+            PartitionedAsyncTaskExecutor partitionedAsyncTaskExecutor = new PartitionedAsyncTaskExecutor();
+            partitionedAsyncTaskExecutor.setPartitionCount(partitionCount);
+            partitionedAsyncTaskExecutor.setQueueSize(partitionQueueSize);
+            partitionedAsyncTaskExecutor.setThreadPoolNamingPattern("flowable-async-history-job-executor-lane-%d");
+            partitionedAsyncTaskExecutor.start();
+            this.taskExecutor = partitionedAsyncTaskExecutor;
+            this.shutdownTaskExecutor = true;
+        }
+    }
+
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    public void setPartitionCount(int partitionCount) {
+        this.partitionCount = partitionCount;
+    }
+
+    public int getPartitionQueueSize() {
+        return partitionQueueSize;
+    }
+
+    public void setPartitionQueueSize(int partitionQueueSize) {
+        this.partitionQueueSize = partitionQueueSize;
+    }
+
+}
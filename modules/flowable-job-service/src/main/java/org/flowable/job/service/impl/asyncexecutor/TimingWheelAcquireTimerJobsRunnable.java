@@ -0,0 +1,236 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.job.service.impl.cmd.AcquireTimerJobsDueBeforeCmd;
+import org.flowable.job.service.impl.cmd.MoveTimerJobsToExecutableJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Timer job acquisition that acquires the timers which are due within the next {@link #getAcquisitionHorizonInMillis()}
+ * ahead of time, and keeps them in a {@link HierarchicalTimingWheel} until they are due.
+ *
+ * Compared to the {@link AcquireTimerJobsRunnable}, the timers are not moved to the executable jobs when the acquisition query
+ * happens to run, but when their due date is reached (with a precision of {@link #getTickMillis()}).
+ * The timers are refilled every {@link AsyncExecutor#getDefaultTimerJobAcquireWaitTimeInMillis()}: only timers that are not
+ * held yet are fetched, as held timers are locked by this executor. The lock of a held timer only expires
+ * {@link AsyncExecutor#getTimerLockTimeInMillis()} after its due date, so when this node goes down, the timers are
+ * reset by the reset expired jobs thread of another node.
+ */
+public class TimingWheelAcquireTimerJobsRunnable extends AcquireTimerJobsRunnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimingWheelAcquireTimerJobsRunnable.class);
+
+    protected long acquisitionHorizonInMillis = 60 * 1000L;
+    protected long tickMillis = 50L;
+    protected int wheelSize = 64;
+    protected int maxTimerJobsInWheel = 10000;
+
+    protected HierarchicalTimingWheel<TimerJobEntity> timingWheel;
+    protected long nextRefillTime;
+
+    public TimingWheelAcquireTimerJobsRunnable(AsyncExecutor asyncExecutor, JobManager jobManager,
+            AcquireTimerLifecycleListener lifecycleListener, boolean globalAcquireLockEnabled, String globalAcquireLockPrefix, int moveExecutorPoolSize) {
+        super(asyncExecutor, jobManager, lifecycleListener, globalAcquireLockEnabled, globalAcquireLockPrefix, moveExecutorPoolSize);
+    }
+
+    @Override
+    public synchronized void run() {
+        super.run();
+
+        // Timers that are held but did not fire yet are given back, so other nodes can acquire them
+        if (timingWheel != null) {
+            unlockTimerJobs(timingWheel.clear());
+            timingWheel = null;
+        }
+    }
+
+    @Override
+    protected long executeAcquireAndMoveCycle() {
+        long now = getCurrentTimeMillis();
+        initTimingWheel(now);
+
+        List<TimerJobEntity> dueTimerJobs = new ArrayList<>();
+        if (now >= nextRefillTime) {
+            refillTimingWheel(now, dueTimerJobs);
+        }
+
+        dueTimerJobs.addAll(timingWheel.advanceClock(now));
+        if (!dueTimerJobs.isEmpty()) {
+            moveTimerJobsExecutorService.execute(() -> executeMoveTimerJobsToExecutableJobs(dueTimerJobs));
+        }
+
+        long millisToWait = nextRefillTime - now;
+        long nextExpirationTime = timingWheel.getNextExpirationTime();
+        if (nextExpirationTime >= 0) {
+            millisToWait = Math.min(millisToWait, nextExpirationTime - now);
+        }
+        return Math.max(millisToWait, 0L);
+    }
+
+    protected void initTimingWheel(long now) {
+        if (timingWheel == null) {
+            timingWheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, now);
+
+        } else if (now < timingWheel.getCurrentTime()) {
+            // The clock was moved backwards, the held timers need to be added again relative to the new time
+            List<TimerJobEntity> timerJobs = timingWheel.clear();
+            timingWheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, now);
+            for (TimerJobEntity timerJob : timerJobs) {
+                timingWheel.add(timerJob, getDueTimeMillis(timerJob, now));
+            }
+        }
+    }
+
+    protected void refillTimingWheel(long now, List<TimerJobEntity> dueTimerJobs) {
+        int maxTimerJobsPerAcquisition = asyncExecutor.getMaxTimerJobsPerAcquisition();
+        lifecycleListener.startAcquiring(getEngineName(), maxTimerJobsPerAcquisition);
+
+        Date dueBefore = new Date(now + acquisitionHorizonInMillis);
+        long millisToWait = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+        try {
+            int capacity = maxTimerJobsInWheel - timingWheel.size();
+            while (capacity > 0 && !isInterrupted) {
+                int timerJobsToAcquire = Math.min(capacity, maxTimerJobsPerAcquisition);
+                List<TimerJobEntity> timerJobs = acquireTimerJobs(dueBefore, timerJobsToAcquire);
+                lifecycleListener.acquiredJobs(getEngineName(), timerJobs.size(), maxTimerJobsPerAcquisition);
+
+                for (TimerJobEntity timerJob : timerJobs) {
+                    if (!timingWheel.add(timerJob, getDueTimeMillis(timerJob, now))) {
+                        dueTimerJobs.add(timerJob);
+                    }
+                }
+
+                capacity -= timerJobs.size();
+                if (timerJobs.size() < timerJobsToAcquire) {
+                    break;
+                }
+            }
+
+            if (globalAcquireLockEnabled) {
+                // Give other nodes the chance to acquire, similar to the regular timer acquisition
+                millisToWait = Math.min(millisToWait, Math.max(lockPollRate.toMillis(), acquisitionHorizonInMillis / 2));
+            }
+
+        } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            logOptimisticLockingException(optimisticLockingException);
+            millisToWait = 0L;
+
+        } catch (Throwable e) {
+            LOGGER.error("exception during timer job acquisition: {}", e.getMessage(), e);
+
+        }
+
+        nextRefillTime = now + millisToWait;
+        lifecycleListener.stopAcquiring(getEngineName());
+    }
+
+    protected List<TimerJobEntity> acquireTimerJobs(Date dueBefore, int timerJobsToAcquire) {
+        AcquireTimerJobsDueBeforeCmd acquireCmd = new AcquireTimerJobsDueBeforeCmd(asyncExecutor, dueBefore, timerJobsToAcquire);
+        if (globalAcquireLockEnabled) {
+            try {
+                return lockManager.waitForLockRunAndRelease(lockWaitTime, () -> commandExecutor.execute(acquireCmd));
+
+            } catch (Exception e) {
+                // Don't do anything, lock will be tried again next time
+                if (!(e instanceof FlowableException)) { // FlowableException doesn't need to be logged, could be regular lock logic
+                    LOGGER.warn("Error while waiting for global acquire lock", e);
+                }
+                return Collections.emptyList();
+            }
+        }
+
+        return commandExecutor.execute(acquireCmd);
+    }
+
+    @Override
+    protected void executeMoveTimerJobsToExecutableJobs(List<TimerJobEntity> timerJobs) {
+        try {
+            // Always with revision check: the timers could have been changed or deleted while they were held
+            commandExecutor.execute(new MoveTimerJobsToExecutableJobsCmd(jobManager, timerJobs));
+
+        } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            if (timerJobs.size() > 1) {
+                // Move the timers one by one, so one timer that was deleted does not prevent the others from firing
+                for (TimerJobEntity timerJob : timerJobs) {
+                    executeMoveTimerJobsToExecutableJobs(Collections.singletonList(timerJob));
+                }
+
+            } else {
+                logOptimisticLockingException(optimisticLockingException);
+                unlockTimerJobs(timerJobs);
+
+            }
+
+        } catch (Throwable t) {
+            LOGGER.error("exception during timer job move: {}", t.getMessage(), t);
+            unlockTimerJobs(timerJobs); // jobs have been acquired before, so need to unlock when exception happens here
+
+        }
+    }
+
+    protected long getDueTimeMillis(TimerJobEntity timerJob, long now) {
+        return timerJob.getDuedate() != null ? timerJob.getDuedate().getTime() : now;
+    }
+
+    protected long getCurrentTimeMillis() {
+        return asyncExecutor.getJobServiceConfiguration().getClock().getCurrentTime().getTime();
+    }
+
+    public int getNumberOfHeldTimerJobs() {
+        HierarchicalTimingWheel<TimerJobEntity> wheel = timingWheel;
+        return wheel != null ? wheel.size() : 0;
+    }
+
+    public long getAcquisitionHorizonInMillis() {
+        return acquisitionHorizonInMillis;
+    }
+
+    public void setAcquisitionHorizonInMillis(long acquisitionHorizonInMillis) {
+        this.acquisitionHorizonInMillis = acquisitionHorizonInMillis;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    public void setTickMillis(long tickMillis) {
+        this.tickMillis = tickMillis;
+    }
+
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    public void setWheelSize(int wheelSize) {
+        this.wheelSize = wheelSize;
+    }
+
+    public int getMaxTimerJobsInWheel() {
+        return maxTimerJobsInWheel;
+    }
+
+    public void setMaxTimerJobsInWheel(int maxTimerJobsInWheel) {
+        this.maxTimerJobsInWheel = maxTimerJobsInWheel;
+    }
+
+}
@@ -0,0 +1,106 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.notification;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandContextCloseListener;
+import org.flowable.job.api.JobInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link JobNotificationChannel} that notifies the listeners registered in the same JVM, after the transaction is committed.
+ * Useful for tests and for multiple engines sharing one JVM.
+ */
+public class InMemoryJobNotificationChannel implements JobNotificationChannel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryJobNotificationChannel.class);
+
+    protected static final String NOTIFICATION_REGISTERED_ATTRIBUTE = InMemoryJobNotificationChannel.class.getName() + ".registered";
+
+    protected final List<JobNotificationListener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void notifyJobAdded(JobInfo job, CommandContext commandContext) {
+        // One notification per transaction is enough to wake up the listeners
+        if (commandContext.getAttribute(NOTIFICATION_REGISTERED_ATTRIBUTE) != null) {
+            return;
+        }
+        commandContext.addAttribute(NOTIFICATION_REGISTERED_ATTRIBUTE, Boolean.TRUE);
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, context -> notifyListeners());
+        } else {
+            commandContext.addCloseListener(new CommandContextCloseListener() {
+
+                @Override
+                public void closing(CommandContext commandContext) {
+                }
+
+                @Override
+                public void afterSessionsFlush(CommandContext commandContext) {
+                }
+
+                @Override
+                public void closed(CommandContext commandContext) {
+                    notifyListeners();
+                }
+
+                @Override
+                public void closeFailure(CommandContext commandContext) {
+                }
+
+                @Override
+                public Integer order() {
+                    return 10;
+                }
+
+                @Override
+                public boolean multipleAllowed() {
+                    return true;
+                }
+            });
+        }
+    }
+
+    protected void notifyListeners() {
+        for (JobNotificationListener listener : listeners) {
+            try {
+                listener.jobsAdded();
+            } catch (Exception e) {
+                LOGGER.warn("Exception while notifying job notification listener {}", listener, e);
+            }
+        }
+    }
+
+    @Override
+    public void addListener(JobNotificationListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(JobNotificationListener listener) {
+        listeners.remove(listener);
+    }
+
+    public List<JobNotificationListener> getListeners() {
+        return listeners;
+    }
+}
@@ -0,0 +1,38 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.notification;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.api.JobInfo;
+
+/**
+ * Channel through which the async executors of all nodes are notified when async jobs have been committed,
+ * so they can acquire them immediately instead of waiting for the next acquisition cycle.
+ *
+ * Jobs that are handed over to the local async executor after the transaction commits don't need a notification.
+ * The channel is only used for jobs that are left for acquisition, for example when the async executor of this node is not active
+ * or when its queue is full.
+ */
+public interface JobNotificationChannel {
+
+    /**
+     * Called within the transaction that created the job.
+     * Implementations must make sure that the listeners are only notified after the transaction is committed.
+     */
+    void notifyJobAdded(JobInfo job, CommandContext commandContext);
+
+    void addListener(JobNotificationListener listener);
+
+    void removeListener(JobNotificationListener listener);
+
+}
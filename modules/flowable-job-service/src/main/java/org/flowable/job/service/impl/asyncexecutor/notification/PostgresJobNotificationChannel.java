@@ -0,0 +1,199 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.notification;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.api.JobInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link JobNotificationChannel} based on the PostgreSQL LISTEN/NOTIFY mechanism.
+ *
+ * The notification is sent with pg_notify on the connection of the transaction that creates the job. PostgreSQL only delivers it
+ * when that transaction commits, and folds identical notifications of one transaction into one.
+ *
+ * A dedicated thread keeps a connection of the configured {@link DataSource} open on which it listens for notifications.
+ * The PostgreSQL jdbc driver is accessed reflectively, it is not a dependency of Flowable.
+ * When the connection is lost, the thread reconnects after {@link #getReconnectWaitTimeInMillis()}.
+ * In the meantime, the regular polling of the acquisition threads makes sure that no jobs are missed.
+ */
+public class PostgresJobNotificationChannel implements JobNotificationChannel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostgresJobNotificationChannel.class);
+
+    protected static final String NOTIFICATION_SENT_ATTRIBUTE = PostgresJobNotificationChannel.class.getName() + ".sent";
+
+    protected DataSource dataSource;
+    protected String channelName = "flowable_async_jobs";
+    protected int listenTimeoutInMillis = 10000;
+    protected long reconnectWaitTimeInMillis = 5000L;
+
+    protected final List<JobNotificationListener> listeners = new CopyOnWriteArrayList<>();
+
+    protected Thread listenerThread;
+    protected volatile boolean running;
+
+    public PostgresJobNotificationChannel() {
+    }
+
+    public PostgresJobNotificationChannel(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void notifyJobAdded(JobInfo job, CommandContext commandContext) {
+        if (commandContext.getAttribute(NOTIFICATION_SENT_ATTRIBUTE) != null) {
+            return;
+        }
+        commandContext.addAttribute(NOTIFICATION_SENT_ATTRIBUTE, Boolean.TRUE);
+
+        Connection connection = commandContext.getSession(DbSqlSession.class).getSqlSession().getConnection();
+        try (PreparedStatement statement = connection.prepareStatement("select pg_notify(?, ?)")) {
+            statement.setString(1, channelName);
+            statement.setString(2, "");
+            statement.execute();
+        } catch (SQLException e) {
+            throw new FlowableException("Could not send notification on channel " + channelName, e);
+        }
+    }
+
+    @Override
+    public synchronized void addListener(JobNotificationListener listener) {
+        listeners.add(listener);
+        if (!running) {
+            start();
+        }
+    }
+
+    @Override
+    public synchronized void removeListener(JobNotificationListener listener) {
+        listeners.remove(listener);
+        if (listeners.isEmpty()) {
+            stop();
+        }
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        if (dataSource == null) {
+            throw new FlowableException("A data source is needed to listen for notifications on channel " + channelName);
+        }
+
+        running = true;
+        listenerThread = new Thread(this::listen, "flowable-job-notification-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread = null;
+        }
+    }
+
+    protected void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channelName);
+                }
+                LOGGER.info("Listening for job notifications on channel {}", channelName);
+
+                Object pgConnection = connection.unwrap(Class.forName("org.postgresql.PGConnection"));
+                Method getNotifications = pgConnection.getClass().getMethod("getNotifications", int.class);
+                while (running) {
+                    Object notifications = getNotifications.invoke(pgConnection, listenTimeoutInMillis);
+                    if (notifications != null && Array.getLength(notifications) > 0) {
+                        notifyListeners();
+                    }
+                }
+
+            } catch (Exception e) {
+                if (running) {
+                    LOGGER.warn("Error while listening for job notifications on channel {}, reconnecting in {} ms", channelName, reconnectWaitTimeInMillis, e);
+                    try {
+                        Thread.sleep(reconnectWaitTimeInMillis);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+        LOGGER.info("Stopped listening for job notifications on channel {}", channelName);
+    }
+
+    protected void notifyListeners() {
+        for (JobNotificationListener listener : listeners) {
+            try {
+                listener.jobsAdded();
+            } catch (Exception e) {
+                LOGGER.warn("Exception while notifying job notification listener {}", listener, e);
+            }
+        }
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public void setDataSource(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public String getChannelName() {
+        return channelName;
+    }
+
+    /**
+     * The channel name is used as an identifier in the LISTEN statement, so it should be a plain lowercase identifier.
+     */
+    public void setChannelName(String channelName) {
+        this.channelName = channelName;
+    }
+
+    public int getListenTimeoutInMillis() {
+        return listenTimeoutInMillis;
+    }
+
+    public void setListenTimeoutInMillis(int listenTimeoutInMillis) {
+        this.listenTimeoutInMillis = listenTimeoutInMillis;
+    }
+
+    public long getReconnectWaitTimeInMillis() {
+        return reconnectWaitTimeInMillis;
+    }
+
+    public void setReconnectWaitTimeInMillis(long reconnectWaitTimeInMillis) {
+        this.reconnectWaitTimeInMillis = reconnectWaitTimeInMillis;
+    }
+}
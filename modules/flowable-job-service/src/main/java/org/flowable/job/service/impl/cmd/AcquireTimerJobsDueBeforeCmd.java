@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.Page;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+/**
+ * Acquires the timer jobs that are due before the given date, including the ones that are not due yet.
+ * The lock of a job that is not due yet expires the timer lock time after its due date, so the job stays owned
+ * by the acquiring executor until it fires.
+ */
+public class AcquireTimerJobsDueBeforeCmd extends AcquireTimerJobsCmd {
+
+    protected Date dueBefore;
+    protected int maxTimerJobs;
+
+    public AcquireTimerJobsDueBeforeCmd(AsyncExecutor asyncExecutor, Date dueBefore, int maxTimerJobs) {
+        super(asyncExecutor);
+        this.dueBefore = dueBefore;
+        this.maxTimerJobs = maxTimerJobs;
+    }
+
+    @Override
+    public List<TimerJobEntity> execute(CommandContext commandContext) {
+        JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
+        List<String> enabledCategories = jobServiceConfiguration.getEnabledJobCategories();
+        List<TimerJobEntity> timerJobs = jobServiceConfiguration.getTimerJobEntityManager()
+            .findJobsDueBefore(enabledCategories, dueBefore, new Page(0, maxTimerJobs));
+
+        Date now = jobServiceConfiguration.getClock().getCurrentTime();
+        for (TimerJobEntity job : timerJobs) {
+            lockJob(commandContext, job, asyncExecutor.getTimerLockTimeInMillis(), jobServiceConfiguration);
+
+            if (job.getDuedate() != null && job.getDuedate().after(now)) {
+                job.setLockExpirationTime(new Date(job.getDuedate().getTime() + asyncExecutor.getTimerLockTimeInMillis()));
+            }
+        }
+
+        return timerJobs;
+    }
+
+}
@@ -0,0 +1,31 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Determines the partition key of async historic data, which is stored on the history job when it is created.
+ * History jobs with the same partition key are executed in order by the
+ * {@link org.flowable.job.service.impl.asyncexecutor.PartitionedAsyncHistoryJobExecutor}.
+ *
+ * Typically the key is the id of the process or case instance the historic data belongs to.
+ */
+public interface AsyncHistoryPartitionKeyProvider {
+
+    /**
+     * @return the partition key for the historic data of the given type, or null if the data doesn't belong to any partition
+     */
+    String getPartitionKey(String type, ObjectNode historicalData);
+
+}
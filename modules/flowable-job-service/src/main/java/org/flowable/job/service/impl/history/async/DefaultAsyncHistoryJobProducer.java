@@ -23,6 +23,7 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -53,6 +54,7 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
                 arrayNode.add(historyJsonNode);
             }
             addJsonToJob(commandContext, jobServiceConfiguration, jobEntity, arrayNode, jobServiceConfiguration.isAsyncHistoryJsonGzipCompressionEnabled());
+            addPartitionKeyToJob(jobServiceConfiguration, jobEntity, historyObjectNodes);
             return Collections.singletonList(jobEntity);
             
         } else {
@@ -61,6 +63,7 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
             for (ObjectNode historyJsonNode : historyObjectNodes) {
                 HistoryJobEntity jobEntity = createJob(commandContext, asyncHistorySession, jobServiceConfiguration, jobType);
                 addJsonToJob(commandContext, jobServiceConfiguration, jobEntity, historyJsonNode, false);
+                addPartitionKeyToJob(jobServiceConfiguration, jobEntity, Collections.singletonList(historyJsonNode));
                 historyJobEntities.add(jobEntity);
             }
             return historyJobEntities;
@@ -97,6 +100,30 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
         }
     }
 
+    /**
+     * History jobs don't use the configuration field, so the partition key is stored there,
+     * where it is available to the async history executor without deserializing the historic data.
+     * For grouped data, the key of the first node that has one is used.
+     */
+    protected void addPartitionKeyToJob(JobServiceConfiguration jobServiceConfiguration, HistoryJobEntity jobEntity, List<ObjectNode> historyObjectNodes) {
+        AsyncHistoryPartitionKeyProvider partitionKeyProvider = jobServiceConfiguration.getAsyncHistoryPartitionKeyProvider();
+        if (partitionKeyProvider == null) {
+            return;
+        }
+
+        for (ObjectNode historyObjectNode : historyObjectNodes) {
+            JsonNode typeNode = historyObjectNode.get(HistoryJsonTransformer.FIELD_NAME_TYPE);
+            JsonNode dataNode = historyObjectNode.get(HistoryJsonTransformer.FIELD_NAME_DATA);
+            if (typeNode != null && dataNode instanceof ObjectNode) {
+                String partitionKey = partitionKeyProvider.getPartitionKey(typeNode.asText(), (ObjectNode) dataNode);
+                if (partitionKey != null) {
+                    jobEntity.setJobHandlerConfiguration(partitionKey);
+                    return;
+                }
+            }
+        }
+    }
+
     protected byte[] compress(final byte[] bytes) {
         try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
             try (GZIPOutputStream gos = new GZIPOutputStream(baos)) {
@@ -13,6 +13,7 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
@@ -130,4 +131,14 @@ public class DeadLetterJobEntityManagerImpl
         return newJobEntity;
     }
 
+    @Override
+    public void bulkDeleteJobsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.bulkDeleteJobsForProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void bulkDeleteJobsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        dataManager.bulkDeleteJobsForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+
 }
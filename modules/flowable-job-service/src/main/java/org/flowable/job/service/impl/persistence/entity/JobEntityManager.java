@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -45,5 +46,9 @@ public interface JobEntityManager extends EntityManager<JobEntity>, JobInfoEntit
      * Same as {@link #findJobsByQueryCriteria(JobQueryImpl)}, but only returns a count and not the instances itself.
      */
     long findJobCountByQueryCriteria(JobQueryImpl jobQuery);
-    
+
+    void bulkDeleteJobsForProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void bulkDeleteJobsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -53,5 +54,9 @@ public interface SuspendedJobEntityManager extends EntityManager<SuspendedJobEnt
      * Changes the tenantId for all jobs related to a given deployment id.
      */
     void updateJobTenantIdForDeployment(String deploymentId, String newTenantId);
-    
+
+    void bulkDeleteJobsForProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void bulkDeleteJobsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+
 }
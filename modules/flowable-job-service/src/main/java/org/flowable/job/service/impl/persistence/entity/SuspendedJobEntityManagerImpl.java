@@ -13,6 +13,7 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
@@ -127,4 +128,14 @@ public class SuspendedJobEntityManagerImpl
         return newSuspendedJobEntity;
     }
 
+    @Override
+    public void bulkDeleteJobsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.bulkDeleteJobsForProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void bulkDeleteJobsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        dataManager.bulkDeleteJobsForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+
 }
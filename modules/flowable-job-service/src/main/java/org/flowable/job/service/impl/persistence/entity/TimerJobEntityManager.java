@@ -12,8 +12,11 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
+import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.JobQueryImpl;
@@ -39,6 +42,12 @@ public interface TimerJobEntityManager extends JobInfoEntityManager<TimerJobEnti
      */
     TimerJobEntity findJobByCorrelationId(String correlationId);
 
+    /**
+     * Returns the unlocked timer jobs that are due before the given date, ordered by due date.
+     * Contrary to {@link #findJobsToExecute(List, Page)} this includes timers that are not due yet.
+     */
+    List<TimerJobEntity> findJobsDueBefore(List<String> enabledCategories, Date dueBefore, Page page);
+
     /**
      * Returns the {@link TimerJobEntity} for a given process definition.
      * <p>
@@ -80,4 +89,8 @@ public interface TimerJobEntityManager extends JobInfoEntityManager<TimerJobEnti
 
     void bulkDeleteTimerJobsWithoutRevisionCheck(List<TimerJobEntity> timerJobEntities);
 
+    void bulkDeleteJobsForProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void bulkDeleteJobsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+
 }
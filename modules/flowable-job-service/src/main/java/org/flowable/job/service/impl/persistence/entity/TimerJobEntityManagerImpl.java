@@ -14,11 +14,13 @@
 package org.flowable.job.service.impl.persistence.entity;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.calendar.BusinessCalendar;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
@@ -64,6 +66,11 @@ public class TimerJobEntityManagerImpl
         return dataManager.findJobByCorrelationId(correlationId);
     }
 
+    @Override
+    public List<TimerJobEntity> findJobsDueBefore(List<String> enabledCategories, Date dueBefore, Page page) {
+        return dataManager.findJobsDueBefore(enabledCategories, dueBefore, page);
+    }
+
     @Override
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
         return dataManager.findJobsByTypeAndProcessDefinitionId(jobHandlerType, processDefinitionId);
@@ -239,4 +246,15 @@ public class TimerJobEntityManagerImpl
         }
         return times;
     }
+
+    @Override
+    public void bulkDeleteJobsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.bulkDeleteJobsForProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void bulkDeleteJobsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        dataManager.bulkDeleteJobsForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -31,5 +32,9 @@ public interface JobDataManager extends DataManager<JobEntity>, JobInfoDataManag
     long findJobCountByQueryCriteria(JobQueryImpl jobQuery);
 
     void deleteJobsByExecutionId(String executionId);
-    
+
+    void bulkDeleteJobsForProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void bulkDeleteJobsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+
 }
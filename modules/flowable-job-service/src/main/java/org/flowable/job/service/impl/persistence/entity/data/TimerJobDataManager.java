@@ -12,8 +12,11 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
+import org.flowable.common.engine.impl.Page;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.TimerJobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
@@ -26,6 +29,8 @@ public interface TimerJobDataManager extends JobInfoDataManager<TimerJobEntity>
 
     TimerJobEntity findJobByCorrelationId(String correlationId);
 
+    List<TimerJobEntity> findJobsDueBefore(List<String> enabledCategories, Date dueBefore, Page page);
+
     List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId);
 
     List<TimerJobEntity> findJobsByTypeAndProcessDefinitionKeyNoTenantId(String jobHandlerType, String processDefinitionKey);
@@ -40,4 +45,8 @@ public interface TimerJobDataManager extends JobInfoDataManager<TimerJobEntity>
 
     void bulkDeleteWithoutRevision(List<TimerJobEntity> timerJobEntities);
 
+    void bulkDeleteJobsForProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void bulkDeleteJobsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+
 }
@@ -12,8 +12,10 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
@@ -96,6 +98,30 @@ public class MybatisDeadLetterJobDataManager extends AbstractDataManager<DeadLet
         getDbSqlSession().update("updateDeadLetterJobTenantIdForDeployment", params);
     }
     
+    @Override
+    public void bulkDeleteJobsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("processInstanceIds", processInstanceIds);
+
+        // The exception and custom values byte arrays are referenced by the jobs, so they are deleted after the jobs
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        List<String> byteArrayIds = dbSqlSession.selectListWithRawParameterNoCacheLoadAndStore("selectDeadLetterJobByteArrayIdsForProcessInstanceIds", params);
+        dbSqlSession.delete("bulkDeleteDeadLetterJobsForProcessInstanceIds", params, DeadLetterJobEntityImpl.class);
+        bulkDeleteByteArraysNoRevisionCheck(byteArrayIds);
+    }
+
+    @Override
+    public void bulkDeleteJobsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("scopeIds", scopeIds);
+        params.put("scopeType", scopeType);
+
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        List<String> byteArrayIds = dbSqlSession.selectListWithRawParameterNoCacheLoadAndStore("selectDeadLetterJobByteArrayIdsForScopeIdsAndScopeType", params);
+        dbSqlSession.delete("bulkDeleteDeadLetterJobsForScopeIdsAndScopeType", params, DeadLetterJobEntityImpl.class);
+        bulkDeleteByteArraysNoRevisionCheck(byteArrayIds);
+    }
+
     @Override
     protected IdGenerator getIdGenerator() {
         return jobServiceConfiguration.getIdGenerator();
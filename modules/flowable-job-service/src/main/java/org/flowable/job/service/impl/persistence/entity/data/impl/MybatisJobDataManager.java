@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -155,6 +156,30 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         }
     }
 
+    @Override
+    public void bulkDeleteJobsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("processInstanceIds", processInstanceIds);
+
+        // The exception and custom values byte arrays are referenced by the jobs, so they are deleted after the jobs
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        List<String> byteArrayIds = dbSqlSession.selectListWithRawParameterNoCacheLoadAndStore("selectJobByteArrayIdsForProcessInstanceIds", params);
+        dbSqlSession.delete("bulkDeleteJobsForProcessInstanceIds", params, JobEntityImpl.class);
+        bulkDeleteByteArraysNoRevisionCheck(byteArrayIds);
+    }
+
+    @Override
+    public void bulkDeleteJobsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("scopeIds", scopeIds);
+        params.put("scopeType", scopeType);
+
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        List<String> byteArrayIds = dbSqlSession.selectListWithRawParameterNoCacheLoadAndStore("selectJobByteArrayIdsForScopeIdsAndScopeType", params);
+        dbSqlSession.delete("bulkDeleteJobsForScopeIdsAndScopeType", params, JobEntityImpl.class);
+        bulkDeleteByteArraysNoRevisionCheck(byteArrayIds);
+    }
+
     @Override
     protected IdGenerator getIdGenerator() {
         return jobServiceConfiguration.getIdGenerator();
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -21,6 +22,7 @@ import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.job.api.Job;
@@ -116,6 +118,22 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         return getDbSqlSession().selectList("selectTimerJobsToExecute", params, page);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimerJobEntity> findJobsDueBefore(List<String> enabledCategories, Date dueBefore, Page page) {
+        Map<String, Object> params = new HashMap<>(3);
+        params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
+        params.put("dueBefore", dueBefore);
+        if (enabledCategories != null && enabledCategories.size() > 0) {
+            params.put("enabledCategories", enabledCategories);
+        }
+
+        // Needed for db2/sqlserver (see limitBetween in mssql.properties), otherwise ordering will be incorrect
+        ListQueryParameterObject queryParameter = new ListQueryParameterObject(params, page.getFirstResult(), page.getMaxResults());
+        queryParameter.setOrderByColumns("RES.DUEDATE_ asc");
+        return getDbSqlSession().selectList("selectTimerJobsDueBefore", queryParameter);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
@@ -193,6 +211,30 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         bulkDeleteEntities("deleteTimerJobs", timerJobEntities);
     }
 
+    @Override
+    public void bulkDeleteJobsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("processInstanceIds", processInstanceIds);
+
+        // The exception and custom values byte arrays are referenced by the jobs, so they are deleted after the jobs
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        List<String> byteArrayIds = dbSqlSession.selectListWithRawParameterNoCacheLoadAndStore("selectTimerJobByteArrayIdsForProcessInstanceIds", params);
+        dbSqlSession.delete("bulkDeleteTimerJobsForProcessInstanceIds", params, TimerJobEntityImpl.class);
+        bulkDeleteByteArraysNoRevisionCheck(byteArrayIds);
+    }
+
+    @Override
+    public void bulkDeleteJobsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("scopeIds", scopeIds);
+        params.put("scopeType", scopeType);
+
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        List<String> byteArrayIds = dbSqlSession.selectListWithRawParameterNoCacheLoadAndStore("selectTimerJobByteArrayIdsForScopeIdsAndScopeType", params);
+        dbSqlSession.delete("bulkDeleteTimerJobsForScopeIdsAndScopeType", params, TimerJobEntityImpl.class);
+        bulkDeleteByteArraysNoRevisionCheck(byteArrayIds);
+    }
+
     @Override
     protected IdGenerator getIdGenerator() {
         return jobServiceConfiguration.getIdGenerator();
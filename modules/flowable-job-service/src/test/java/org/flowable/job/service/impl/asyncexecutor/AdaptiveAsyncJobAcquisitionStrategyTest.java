@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveAsyncJobAcquisitionStrategyTest {
+
+    protected AsyncExecutor asyncExecutor;
+    protected AdaptiveAsyncJobAcquisitionStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        asyncExecutor = mock(AsyncExecutor.class);
+        when(asyncExecutor.getMaxAsyncJobsDuePerAcquisition()).thenReturn(64);
+        when(asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis()).thenReturn(10000);
+        when(asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis()).thenReturn(5000);
+
+        strategy = new AdaptiveAsyncJobAcquisitionStrategy();
+    }
+
+    @Test
+    void acquisitionIsLimitedByRemainingCapacity() {
+        assertThat(strategy.determineJobsToAcquire(100, 64)).isEqualTo(64);
+        assertThat(strategy.jobsAcquired(64, 64, 0, asyncExecutor)).isZero();
+
+        assertThat(strategy.determineJobsToAcquire(10, 64)).isEqualTo(10);
+        assertThat(strategy.jobsAcquired(10, 3, 0, asyncExecutor)).isEqualTo(10000);
+    }
+
+    @Test
+    void rejectedJobsShrinkAcquisition() {
+        assertThat(strategy.determineJobsToAcquire(100, 64)).isEqualTo(64);
+        assertThat(strategy.jobsAcquired(64, 64, 40, asyncExecutor)).isEqualTo(5000);
+
+        assertThat(strategy.determineJobsToAcquire(24, 64)).isEqualTo(24);
+        assertThat(strategy.getAcquisitionSize()).isEqualTo(24);
+    }
+
+    @Test
+    void optimisticLockingExceptionsBackOffExponentially() {
+        strategy.setInitialBackoffInMillis(100);
+        strategy.setMaxBackoffInMillis(1000);
+        strategy.determineJobsToAcquire(100, 64);
+
+        assertThat(strategy.optimisticLockingException()).isBetween(50L, 100L);
+        assertThat(strategy.getAcquisitionSize()).isEqualTo(32);
+        assertThat(strategy.optimisticLockingException()).isBetween(100L, 200L);
+        assertThat(strategy.optimisticLockingException()).isBetween(200L, 400L);
+        assertThat(strategy.optimisticLockingException()).isBetween(400L, 800L);
+        assertThat(strategy.optimisticLockingException()).isBetween(500L, 1000L);
+        assertThat(strategy.getConsecutiveOptimisticLockingExceptions()).isEqualTo(5);
+        assertThat(strategy.getAcquisitionSize()).isEqualTo(2);
+
+        // A successful acquisition resets the back off and scales up again
+        assertThat(strategy.determineJobsToAcquire(100, 64)).isEqualTo(2);
+        assertThat(strategy.jobsAcquired(2, 2, 0, asyncExecutor)).isZero();
+        assertThat(strategy.getConsecutiveOptimisticLockingExceptions()).isZero();
+        assertThat(strategy.determineJobsToAcquire(100, 64)).isEqualTo(4);
+    }
+
+    @Test
+    void drainingQueueScalesUp() {
+        strategy.determineJobsToAcquire(100, 64);
+        strategy.optimisticLockingException();
+        strategy.optimisticLockingException();
+        assertThat(strategy.getAcquisitionSize()).isEqualTo(16);
+
+        assertThat(strategy.determineJobsToAcquire(50, 64)).isEqualTo(16);
+        assertThat(strategy.determineJobsToAcquire(80, 64)).isEqualTo(32);
+        assertThat(strategy.determineJobsToAcquire(100, 64)).isEqualTo(64);
+    }
+
+}
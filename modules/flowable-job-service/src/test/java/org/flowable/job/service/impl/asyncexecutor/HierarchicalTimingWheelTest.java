@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void itemsExpireAtTheirTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 1000);
+
+        assertThat(wheel.add("a", 1025)).isTrue();
+        assertThat(wheel.add("b", 1055)).isTrue();
+        assertThat(wheel.size()).isEqualTo(2);
+        assertThat(wheel.getNextExpirationTime()).isEqualTo(1030);
+
+        assertThat(wheel.advanceClock(1025)).isEmpty();
+        assertThat(wheel.advanceClock(1030)).containsExactly("a");
+        assertThat(wheel.getNextExpirationTime()).isEqualTo(1060);
+        assertThat(wheel.advanceClock(1059)).isEmpty();
+        assertThat(wheel.advanceClock(1060)).containsExactly("b");
+        assertThat(wheel.isEmpty()).isTrue();
+        assertThat(wheel.getNextExpirationTime()).isEqualTo(-1);
+    }
+
+    @Test
+    void expiredItemsAreNotAdded() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 1000);
+
+        assertThat(wheel.add("past", 900)).isFalse();
+        assertThat(wheel.add("now", 1000)).isFalse();
+        assertThat(wheel.add("next tick", 1001)).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    void itemsBeyondTheIntervalCascadeFromOverflowLevels() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 0);
+
+        // One level covers 80 ms, so these are held in the second and third level
+        wheel.add("second level", 250);
+        wheel.add("third level", 3000);
+
+        assertThat(wheel.advanceClock(240)).isEmpty();
+        assertThat(wheel.advanceClock(250)).containsExactly("second level");
+        assertThat(wheel.advanceClock(2990)).isEmpty();
+        assertThat(wheel.advanceClock(3005)).containsExactly("third level");
+        assertThat(wheel.isEmpty()).isTrue();
+    }
+
+    @Test
+    void largeClockJumpExpiresEverything() {
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(10, 8, 0);
+        for (int i = 0; i < 100; i++) {
+            wheel.add(i, 10 + i * 37);
+        }
+
+        assertThat(wheel.advanceClock(1_000_000)).hasSize(100);
+        assertThat(wheel.isEmpty()).isTrue();
+    }
+
+    @Test
+    void itemsNeverExpireEarlyOrLate() {
+        long tick = 5;
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(tick, 16, 0);
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            long expiration = 5 + random.nextInt(20000);
+            wheel.add(expiration, expiration);
+        }
+
+        List<Long> expired = new ArrayList<>();
+        for (long time = 0; time <= 20010; time += 1 + random.nextInt(30)) {
+            for (Long expiration : wheel.advanceClock(time)) {
+                assertThat(expiration).isLessThanOrEqualTo(time);
+                assertThat(time - expiration).isLessThan(30 + tick);
+                expired.add(expiration);
+            }
+        }
+
+        assertThat(expired).hasSize(2000);
+        assertThat(wheel.isEmpty()).isTrue();
+    }
+
+    @Test
+    void clearReturnsHeldItems() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 0);
+        wheel.add("a", 20);
+        wheel.add("b", 5000);
+
+        assertThat(wheel.clear()).containsExactlyInAnyOrder("a", "b");
+        assertThat(wheel.isEmpty()).isTrue();
+        assertThat(wheel.advanceClock(10000)).isEmpty();
+    }
+
+}
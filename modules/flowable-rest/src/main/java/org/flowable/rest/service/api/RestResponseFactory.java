@@ -1404,7 +1404,7 @@ public class RestResponseFactory {
         return urlBuilder.toString();
     }
 
-    protected RestUrlBuilder createUrlBuilder() {
+    public RestUrlBuilder createUrlBuilder() {
         return RestUrlBuilder.fromCurrentRequest();
     }
 
@@ -14,7 +14,9 @@
 package org.flowable.rest.service.api.history;
 
 import static org.flowable.common.rest.api.PaginateListUtil.paginateList;
+import static org.flowable.common.rest.api.StreamListUtil.streamList;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -25,6 +27,8 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.rest.api.DataResponse;
+import org.flowable.common.rest.api.SearchAfterProperties;
+import org.flowable.common.rest.util.RestUrlBuilder;
 import org.flowable.engine.HistoryService;
 import org.flowable.engine.RepositoryService;
 import org.flowable.engine.history.HistoricProcessInstance;
@@ -36,6 +40,9 @@ import org.flowable.rest.service.api.RestResponseFactory;
 import org.flowable.rest.service.api.engine.variable.QueryVariable;
 import org.flowable.rest.service.api.engine.variable.QueryVariable.QueryVariableOperation;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * @author Tijs Rademakers
@@ -54,6 +61,10 @@ public class HistoricProcessInstanceBaseResource {
         allowedSortProperties.put("tenantId", HistoricProcessInstanceQueryProperty.TENANT_ID);
     }
 
+    private static SearchAfterProperties<HistoricProcessInstance> searchAfterProperties = new SearchAfterProperties<>(HistoricProcessInstance::getId)
+            .sortValue("processInstanceId", HistoricProcessInstance::getId)
+            .sortValue("startTime", HistoricProcessInstance::getStartTime);
+
     @Autowired
     protected RestResponseFactory restResponseFactory;
 
@@ -62,11 +73,43 @@ public class HistoricProcessInstanceBaseResource {
     
     @Autowired
     protected RepositoryService repositoryService;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
     
     @Autowired(required=false)
     protected BpmnRestApiInterceptor restApiInterceptor;
 
     protected DataResponse<HistoricProcessInstanceResponse> getQueryResponse(HistoricProcessInstanceQueryRequest queryRequest, Map<String, String> allRequestParams) {
+        HistoricProcessInstanceQuery query = createQuery(queryRequest);
+
+        DataResponse<HistoricProcessInstanceResponse> responseList = paginateList(allRequestParams, queryRequest, query, "processInstanceId", allowedSortProperties,
+                searchAfterProperties, restResponseFactory::createHistoricProcessInstanceResponseList);
+
+        addProcessDefinitionInfo(responseList.getData());
+        return responseList;
+    }
+
+    protected StreamingResponseBody getStreamingQueryResponse(HistoricProcessInstanceQueryRequest queryRequest, Map<String, String> allRequestParams) {
+        if (Boolean.TRUE.equals(queryRequest.getIncludeProcessVariables())) {
+            throw new FlowableIllegalArgumentException("Including process variables is not supported when streaming historic process instances");
+        }
+
+        HistoricProcessInstanceQuery query = createQuery(queryRequest);
+
+        // The url builder needs the current request, which is not available anymore when the response is streamed
+        RestUrlBuilder urlBuilder = restResponseFactory.createUrlBuilder();
+        return streamList(allRequestParams, queryRequest, query, "processInstanceId", allowedSortProperties, searchAfterProperties, processInstances -> {
+            List<HistoricProcessInstanceResponse> responseList = new ArrayList<>(processInstances.size());
+            for (HistoricProcessInstance processInstance : processInstances) {
+                responseList.add(restResponseFactory.createHistoricProcessInstanceResponse(processInstance, urlBuilder));
+            }
+            addProcessDefinitionInfo(responseList);
+            return responseList;
+        }, objectMapper);
+    }
+
+    protected HistoricProcessInstanceQuery createQuery(HistoricProcessInstanceQueryRequest queryRequest) {
         HistoricProcessInstanceQuery query = historyService.createHistoricProcessInstanceQuery();
 
         // Populate query based on request
@@ -186,11 +229,11 @@ public class HistoricProcessInstanceBaseResource {
             restApiInterceptor.accessHistoryProcessInfoWithQuery(query, queryRequest);
         }
 
-        DataResponse<HistoricProcessInstanceResponse> responseList = paginateList(allRequestParams, queryRequest, query, "processInstanceId", allowedSortProperties,
-                restResponseFactory::createHistoricProcessInstanceResponseList);
-        
+        return query;
+    }
+
+    protected void addProcessDefinitionInfo(List<HistoricProcessInstanceResponse> processInstanceList) {
         Set<String> processDefinitionIds = new HashSet<>();
-        List<HistoricProcessInstanceResponse> processInstanceList = responseList.getData();
         for (HistoricProcessInstanceResponse processInstanceResponse : processInstanceList) {
             if (!processDefinitionIds.contains(processInstanceResponse.getProcessDefinitionId())) {
                 processDefinitionIds.add(processInstanceResponse.getProcessDefinitionId());
@@ -212,8 +255,6 @@ public class HistoricProcessInstanceBaseResource {
                 }
             }
         }
-        
-        return responseList;
     }
     
     protected HistoricProcessInstance getHistoricProcessInstanceFromRequest(String processInstanceId) {
@@ -22,6 +22,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -47,4 +48,17 @@ public class HistoricProcessInstanceQueryResource extends HistoricProcessInstanc
 
         return getQueryResponse(queryRequest, allRequestParams);
     }
+
+    @ApiOperation(value = "Stream all historic process instances matching a query", tags = {"History Process", "Query" }, nickname = "streamHistoricProcessInstances",
+            notes = "Accepts the same JSON body as the historic process instance query, except for includeProcessVariables. Instead of a single page, all matching process instances are returned as a JSON array, "
+                    + "which is written while the process instances are read from the database. The start and size are ignored, the batchSize URL-parameter determines how many process instances are read at once. "
+                    + "Every batch is read with its own query, after the last process instance of the previous batch, so only processInstanceId and startTime can be used as sort.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates request was successful and the process instances are returned"),
+            @ApiResponse(code = 400, message = "Indicates an parameter was passed in the wrong format. The status-message contains additional information.") })
+    @PostMapping(value = "/query/historic-process-instances/stream", produces = "application/json")
+    public StreamingResponseBody streamProcessInstances(@RequestBody HistoricProcessInstanceQueryRequest queryRequest, @ApiParam(hidden = true) @RequestParam Map<String, String> allRequestParams, HttpServletRequest request) {
+
+        return getStreamingQueryResponse(queryRequest, allRequestParams);
+    }
 }
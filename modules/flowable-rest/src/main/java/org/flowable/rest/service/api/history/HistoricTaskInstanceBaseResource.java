@@ -23,6 +23,7 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.rest.api.DataResponse;
+import org.flowable.common.rest.api.SearchAfterProperties;
 import org.flowable.engine.HistoryService;
 import org.flowable.rest.service.api.BpmnRestApiInterceptor;
 import org.flowable.rest.service.api.RestResponseFactory;
@@ -62,6 +63,12 @@ public class HistoricTaskInstanceBaseResource {
         allowedSortProperties.put("startTime", HistoricTaskInstanceQueryProperty.START);
     }
 
+    private static SearchAfterProperties<HistoricTaskInstance> searchAfterProperties = new SearchAfterProperties<>(HistoricTaskInstance::getId)
+            .sortValue("taskInstanceId", HistoricTaskInstance::getId)
+            .sortValue("start", HistoricTaskInstance::getStartTime)
+            .sortValue("startTime", HistoricTaskInstance::getStartTime)
+            .sortValue("priority", HistoricTaskInstance::getPriority);
+
     @Autowired
     protected RestResponseFactory restResponseFactory;
 
@@ -278,7 +285,7 @@ public class HistoricTaskInstanceBaseResource {
         }
 
         return paginateList(allRequestParams, queryRequest, query, "taskInstanceId", allowedSortProperties,
-            restResponseFactory::createHistoricTaskInstanceResponseList);
+            searchAfterProperties, restResponseFactory::createHistoricTaskInstanceResponseList);
     }
     
     protected HistoricTaskInstance getHistoricTaskInstanceFromRequest(String taskId) {
@@ -23,6 +23,7 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.rest.api.DataResponse;
+import org.flowable.common.rest.api.SearchAfterProperties;
 import org.flowable.engine.HistoryService;
 import org.flowable.engine.TaskService;
 import org.flowable.rest.service.api.BpmnRestApiInterceptor;
@@ -57,6 +58,11 @@ public class TaskBaseResource {
         properties.put("tenantId", TaskQueryProperty.TENANT_ID);
     }
 
+    private static SearchAfterProperties<Task> searchAfterProperties = new SearchAfterProperties<>(Task::getId)
+            .sortValue("id", Task::getId)
+            .sortValue("createTime", Task::getCreateTime)
+            .sortValue("priority", Task::getPriority);
+
     @Autowired
     protected RestResponseFactory restResponseFactory;
 
@@ -329,7 +335,7 @@ public class TaskBaseResource {
             restApiInterceptor.accessTaskInfoWithQuery(taskQuery, request);
         }
 
-        return paginateList(requestParams, request, taskQuery, "id", properties, restResponseFactory::createTaskResponseList);
+        return paginateList(requestParams, request, taskQuery, "id", properties, searchAfterProperties, restResponseFactory::createTaskResponseList);
     }
 
     protected void addTaskvariables(TaskQuery taskQuery, List<QueryVariable> variables) {
@@ -15,7 +15,11 @@ package org.flowable.rest.service.api.history;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
@@ -191,6 +195,52 @@ public class HistoricProcessInstanceQueryResourceTest extends BaseSpringRestTest
                         + "]");
     }
     
+    /**
+     * Test streaming historic process instances. POST query/historic-process-instances/stream
+     */
+    @Test
+    @Deployment(resources = { "org/flowable/rest/service/api/history/HistoricProcessInstanceQueryResourceTest.testQueryProcessInstancesWithVariables.bpmn20.xml" })
+    public void testStreamProcessInstances() throws Exception {
+        List<String> processInstanceIds = new ArrayList<>();
+        Instant startTime = Instant.now();
+        for (int i = 0; i < 5; i++) {
+            processEngineConfiguration.getClock().setCurrentTime(Date.from(startTime.plusSeconds(i)));
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess", "key" + i).getId());
+        }
+        runtimeService.startProcessInstanceByKey("oneTaskProcess", "otherKey");
+
+        ObjectNode requestNode = objectMapper.createObjectNode();
+        requestNode.put("processBusinessKeyLike", "key%");
+
+        // The batch size makes the process instances be read with three queries
+        String url = RestUrls.createRelativeResourceUrl(RestUrls.URL_HISTORIC_PROCESS_INSTANCE_QUERY) + "/stream";
+        HttpPost httpPost = new HttpPost(SERVER_URL_PREFIX + url + "?sort=startTime&order=desc&batchSize=2");
+        httpPost.setEntity(new StringEntity(requestNode.toString()));
+        CloseableHttpResponse response = executeRequest(httpPost, HttpStatus.SC_OK);
+
+        JsonNode responseNode = objectMapper.readTree(response.getEntity().getContent());
+        closeResponse(response);
+        assertThatJson(responseNode)
+                .when(Option.IGNORING_EXTRA_FIELDS)
+                .isEqualTo("["
+                        + "{ id: '" + processInstanceIds.get(4) + "', businessKey: 'key4', processDefinitionName: 'The One Task Process' },"
+                        + "{ id: '" + processInstanceIds.get(3) + "', businessKey: 'key3' },"
+                        + "{ id: '" + processInstanceIds.get(2) + "', businessKey: 'key2' },"
+                        + "{ id: '" + processInstanceIds.get(1) + "', businessKey: 'key1' },"
+                        + "{ id: '" + processInstanceIds.get(0) + "', businessKey: 'key0' }"
+                        + "]");
+    }
+
+    /**
+     * Test streaming historic process instances with a sort that can't be used for keyset pagination. POST query/historic-process-instances/stream
+     */
+    @Test
+    public void testStreamProcessInstancesWithInvalidSort() throws Exception {
+        ObjectNode requestNode = objectMapper.createObjectNode();
+        String url = RestUrls.createRelativeResourceUrl(RestUrls.URL_HISTORIC_PROCESS_INSTANCE_QUERY) + "/stream";
+        assertErrorResult(url + "?sort=businessKey", requestNode, HttpStatus.SC_BAD_REQUEST);
+    }
+
     @Test
     @Deployment(resources = { "org/flowable/rest/service/api/twoTaskProcess.bpmn20.xml" })
     public void testQueryProcessInstancesByActiveActivityId() throws Exception {
@@ -16,6 +16,7 @@ package org.flowable.rest.service.api.runtime;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.List;
@@ -437,4 +438,62 @@ public class TaskCollectionResourceTest extends BaseSpringRestTestCase {
             }
         }
     }
+
+    /**
+     * Test getting a collection of tasks with keyset pagination. GET runtime/tasks?searchAfter=
+     */
+    @Test
+    public void testGetTasksSearchAfter() throws Exception {
+        try {
+            List<String> taskIds = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                Task task = taskService.newTask();
+                task.setName("Task " + i);
+                task.setPriority(i % 2);
+                taskService.saveTask(task);
+                taskIds.add(task.getId());
+            }
+
+            String url = RestUrls.createRelativeResourceUrl(RestUrls.URL_TASK_COLLECTION) + "?sort=priority&order=desc&size=2&searchAfter=";
+            List<String> pagedTaskIds = new ArrayList<>();
+            List<Integer> pagedPriorities = new ArrayList<>();
+            String searchAfter = "";
+            int pages = 0;
+            while (searchAfter != null) {
+                CloseableHttpResponse response = executeRequest(new HttpGet(SERVER_URL_PREFIX + url + encode(searchAfter)), HttpStatus.SC_OK);
+                JsonNode responseNode = objectMapper.readTree(response.getEntity().getContent());
+                closeResponse(response);
+
+                assertThat(responseNode.get("total").asLong()).isEqualTo(-1);
+                for (JsonNode taskNode : responseNode.get("data")) {
+                    pagedTaskIds.add(taskNode.get("id").asText());
+                    pagedPriorities.add(taskNode.get("priority").asInt());
+                }
+                searchAfter = responseNode.has("nextSearchAfter") ? responseNode.get("nextSearchAfter").asText() : null;
+                pages++;
+            }
+
+            assertThat(pages).isEqualTo(3);
+            assertThat(pagedTaskIds).containsExactlyInAnyOrderElementsOf(taskIds);
+            assertThat(pagedPriorities).containsExactly(1, 1, 0, 0, 0);
+
+            // The token is only valid for the sort it was created for
+            CloseableHttpResponse response = executeRequest(new HttpGet(SERVER_URL_PREFIX + url), HttpStatus.SC_OK);
+            String token = objectMapper.readTree(response.getEntity().getContent()).get("nextSearchAfter").asText();
+            closeResponse(response);
+            url = RestUrls.createRelativeResourceUrl(RestUrls.URL_TASK_COLLECTION) + "?sort=createTime&order=desc&size=2&searchAfter=" + encode(token);
+            closeResponse(executeRequest(new HttpGet(SERVER_URL_PREFIX + url), HttpStatus.SC_BAD_REQUEST));
+
+            // Sorting on a property that can be null is not supported
+            url = RestUrls.createRelativeResourceUrl(RestUrls.URL_TASK_COLLECTION) + "?sort=dueDate&searchAfter=";
+            closeResponse(executeRequest(new HttpGet(SERVER_URL_PREFIX + url), HttpStatus.SC_BAD_REQUEST));
+
+        } finally {
+            // Clean adhoc-tasks even if test fails
+            List<Task> tasks = taskService.createTaskQuery().list();
+            for (Task task : tasks) {
+                taskService.deleteTask(task.getId(), true);
+            }
+        }
+    }
 }
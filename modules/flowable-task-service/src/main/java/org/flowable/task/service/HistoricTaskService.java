@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -90,4 +91,15 @@ public interface HistoricTaskService {
     void deleteHistoricTaskInstancesForNonExistingProcessInstances();
     
     void deleteHistoricTaskInstancesForNonExistingCaseInstances();
+
+    /**
+     * Deletes the historic task log entries of the given process instances with one set-based delete statement.
+     */
+    void bulkDeleteHistoricTaskLogEntriesForProcessInstanceIds(Collection<String> processInstanceIds);
+
+    /**
+     * Deletes the historic task instances of the given process instances with one set-based delete statement,
+     * without loading the task entities. Subtasks that don't belong to the process instances are not deleted.
+     */
+    void bulkDeleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds);
 }
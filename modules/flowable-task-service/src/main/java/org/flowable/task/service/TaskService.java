@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
@@ -60,4 +61,12 @@ public interface TaskService {
     void deleteTask(TaskEntity task, boolean fireEvents);
     
     void deleteTasksByExecutionId(String executionId);
+
+    /**
+     * Deletes the tasks of the given process instances with a set-based statement, without loading the tasks.
+     * No events are dispatched and no task listeners are notified for the deleted tasks.
+     */
+    void bulkDeleteTasksForProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void bulkDeleteTasksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 }
@@ -1751,9 +1751,17 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return this;
     }
 
+    @Override
+    protected boolean isSearchAfterSupported() {
+        return true;
+    }
+
     @Override
     protected void checkQueryOk() {
         super.checkQueryOk();
+        if (searchAfter && (includeProcessVariables || includeTaskLocalVariables || includeIdentityLinks)) {
+            throw new FlowableIllegalArgumentException("Invalid query: search after pagination is not supported when including variables or identity links");
+        }
         // In case historic query variables are included, an additional order-by
         // clause should be added
         // to ensure the last value of a variable is used
@@ -2002,6 +2010,11 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return withoutTenantId;
     }
 
+    @Override
+    protected boolean isIncludeRelatedData() {
+        return includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks;
+    }
+
     public boolean isIncludeTaskLocalVariables() {
         return includeTaskLocalVariables;
     }
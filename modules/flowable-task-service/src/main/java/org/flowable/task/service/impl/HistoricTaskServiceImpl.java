@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
@@ -254,4 +255,16 @@ public class HistoricTaskServiceImpl extends CommonServiceImpl<TaskServiceConfig
     protected IdentityLinkServiceConfiguration getIdentityLinkServiceConfiguration(AbstractEngineConfiguration engineConfiguration) {
         return (IdentityLinkServiceConfiguration) engineConfiguration.getServiceConfigurations().get(EngineConfigurationConstants.KEY_IDENTITY_LINK_SERVICE_CONFIG);
     }
+
+    @Override
+    public void bulkDeleteHistoricTaskLogEntriesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        if (this.configuration.isEnableHistoricTaskLogging()) {
+            getHistoricTaskLogEntryEntityManager().bulkDeleteHistoricTaskLogEntriesForProcessInstanceIds(processInstanceIds);
+        }
+    }
+
+    @Override
+    public void bulkDeleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getHistoricTaskInstanceEntityManager().bulkDeleteHistoricTaskInstancesForProcessInstanceIds(processInstanceIds);
+    }
 }
@@ -1711,6 +1711,19 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return specialOrderBy;
     }
 
+    @Override
+    protected boolean isSearchAfterSupported() {
+        return true;
+    }
+
+    @Override
+    protected void checkQueryOk() {
+        super.checkQueryOk();
+        if (searchAfter && (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks)) {
+            throw new FlowableIllegalArgumentException("Invalid query: search after pagination is not supported when including variables or identity links");
+        }
+    }
+
     // results ////////////////////////////////////////////////////////////////
 
     @Override
@@ -2085,6 +2098,11 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return suspensionState;
     }
 
+    @Override
+    protected boolean isIncludeRelatedData() {
+        return includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks;
+    }
+
     public boolean isIncludeTaskLocalVariables() {
         return includeTaskLocalVariables;
     }
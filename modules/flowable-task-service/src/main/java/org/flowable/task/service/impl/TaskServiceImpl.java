@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
@@ -112,6 +113,16 @@ public class TaskServiceImpl extends CommonServiceImpl<TaskServiceConfiguration>
         getTaskEntityManager().deleteTasksByExecutionId(executionId);
     }
 
+    @Override
+    public void bulkDeleteTasksForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getTaskEntityManager().bulkDeleteTasksForProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void bulkDeleteTasksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        getTaskEntityManager().bulkDeleteTasksForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+
     public TaskEntityManager getTaskEntityManager() {
         return configuration.getTaskEntityManager();
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -45,4 +46,6 @@ public interface HistoricTaskInstanceEntityManager extends EntityManager<Histori
     void deleteHistoricTaskInstancesForNonExistingProcessInstances();
     
     void deleteHistoricTaskInstancesForNonExistingCaseInstances();
+
+    void bulkDeleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds);
 }
\ No newline at end of file
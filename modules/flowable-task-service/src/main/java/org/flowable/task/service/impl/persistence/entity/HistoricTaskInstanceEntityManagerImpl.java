@@ -13,6 +13,7 @@
 
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -108,4 +109,8 @@ public class HistoricTaskInstanceEntityManagerImpl
         this.dataManager = historicTaskInstanceDataManager;
     }
 
+    @Override
+    public void bulkDeleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.bulkDeleteHistoricTaskInstancesForProcessInstanceIds(processInstanceIds);
+    }
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -101,4 +102,8 @@ public class HistoricTaskLogEntryEntityManagerImpl
         getDataManager().insert(historicTaskLogEntryEntity);
     }
 
+    @Override
+    public void bulkDeleteHistoricTaskLogEntriesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDataManager().bulkDeleteHistoricTaskLogEntriesForProcessInstanceIds(processInstanceIds);
+    }
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -60,4 +61,8 @@ public interface TaskEntityManager extends EntityManager<TaskEntity> {
     void updateAllTaskRelatedEntityCountFlags(boolean configProperty);
     
     void deleteTasksByExecutionId(String executionId);
+
+    void bulkDeleteTasksForProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void bulkDeleteTasksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -206,6 +207,16 @@ public class TaskEntityManagerImpl extends AbstractTaskServiceEntityManager<Task
         dataManager.deleteTasksByExecutionId(executionId);
     }
 
+    @Override
+    public void bulkDeleteTasksForProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.bulkDeleteTasksForProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void bulkDeleteTasksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        dataManager.bulkDeleteTasksForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+
     protected void logAssigneeChanged(TaskEntity taskEntity, String previousAssignee, String newAssignee) {
         if (serviceConfiguration.isEnableHistoricTaskLogging()) {
             ObjectNode dataNode = serviceConfiguration.getObjectMapper().createObjectNode();
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -103,4 +104,11 @@ public class MyBatisHistoricTaskLogEntryDataManager extends AbstractDataManager<
     protected IdGenerator getIdGenerator() {
         return taskServiceConfiguration.getIdGenerator();
     }
+
+    @Override
+    public void bulkDeleteHistoricTaskLogEntriesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("processInstanceIds", processInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricTaskLogEntriesForProcessInstanceIds", parameters, HistoricTaskLogEntryEntityImpl.class);
+    }
 }
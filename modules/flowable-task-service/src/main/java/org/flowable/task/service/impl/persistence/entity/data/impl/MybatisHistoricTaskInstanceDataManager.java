@@ -12,7 +12,9 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -142,4 +144,11 @@ public class MybatisHistoricTaskInstanceDataManager extends AbstractDataManager<
     protected IdGenerator getIdGenerator() {
         return taskServiceConfiguration.getIdGenerator();
     }
+
+    @Override
+    public void bulkDeleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("processInstanceIds", processInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricTaskInstancesForProcessInstanceIds", parameters, HistoricTaskInstanceEntityImpl.class);
+    }
 }
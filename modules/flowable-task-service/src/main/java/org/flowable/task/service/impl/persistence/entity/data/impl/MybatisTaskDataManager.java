@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -190,6 +191,21 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
         }
     }
 
+    @Override
+    public void bulkDeleteTasksForProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("processInstanceIds", processInstanceIds);
+        getDbSqlSession().delete("bulkDeleteTasksForProcessInstanceIds", params, TaskEntityImpl.class);
+    }
+
+    @Override
+    public void bulkDeleteTasksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("scopeIds", scopeIds);
+        params.put("scopeType", scopeType);
+        getDbSqlSession().delete("bulkDeleteTasksForScopeIdsAndScopeType", params, TaskEntityImpl.class);
+    }
+
     @Override
     protected IdGenerator getIdGenerator() {
         return taskServiceConfiguration.getIdGenerator();
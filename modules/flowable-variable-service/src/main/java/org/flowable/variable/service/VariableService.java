@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.variable.api.types.VariableType;
@@ -31,6 +32,12 @@ public interface VariableService {
         return createInternalVariableInstanceQuery().executionId(executionId).withoutTaskId().list();
     }
 
+    /**
+     * Finds the variable instances, not related to a task, of all the given executions.
+     * The executions are queried in batches, see {@link VariableServiceConfiguration#getVariablePrefetchBatchSize()}.
+     */
+    List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Collection<String> executionIds);
+
     default List<VariableInstanceEntity> findVariableInstanceByScopeIdAndScopeType(String scopeId, String scopeType) {
         return createInternalVariableInstanceQuery().scopeId(scopeId).withoutSubScopeId().scopeType(scopeType).list();
     }
@@ -67,4 +74,12 @@ public interface VariableService {
     
     void deleteVariablesByTaskId(String taskId);
 
+    /**
+     * Deletes the variables of the given process instances, including their byte arrays, with set-based statements,
+     * without loading the variables. No events are dispatched for the deleted variables.
+     */
+    void bulkDeleteVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void bulkDeleteVariableInstancesByScopeIdsAndScopeTypes(Collection<String> scopeIds, Collection<String> scopeTypes);
+
 }
@@ -71,6 +71,12 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration {
      * By default true for backwards compatibility.
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
+
+    /**
+     * The maximum number of scope ids in the IN clause of one query when the variables of multiple scopes are fetched in bulk.
+     * Larger collections of scope ids are split into multiple queries.
+     */
+    protected int variablePrefetchBatchSize = 500;
     
     public VariableServiceConfiguration(String engineName) {
         super(engineName);
@@ -218,4 +224,13 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration {
     public void setSerializableVariableTypeTrackDeserializedObjects(boolean serializableVariableTypeTrackDeserializedObjects) {
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
+
+    public int getVariablePrefetchBatchSize() {
+        return variablePrefetchBatchSize;
+    }
+
+    public VariableServiceConfiguration setVariablePrefetchBatchSize(int variablePrefetchBatchSize) {
+        this.variablePrefetchBatchSize = variablePrefetchBatchSize;
+        return this;
+    }
 }
@@ -12,6 +12,11 @@
  */
 package org.flowable.variable.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.service.InternalVariableInstanceQuery;
@@ -35,6 +40,22 @@ public class VariableServiceImpl extends CommonServiceImpl<VariableServiceConfig
         return getVariableInstanceEntityManager().createInternalVariableInstanceQuery();
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Collection<String> executionIds) {
+        if (executionIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> executionIdList = new ArrayList<>(executionIds);
+        int batchSize = Math.max(1, configuration.getVariablePrefetchBatchSize());
+        List<VariableInstanceEntity> variableInstances = new ArrayList<>();
+        for (int i = 0; i < executionIdList.size(); i += batchSize) {
+            List<String> batch = executionIdList.subList(i, Math.min(i + batchSize, executionIdList.size()));
+            variableInstances.addAll(createInternalVariableInstanceQuery().executionIds(batch).withoutTaskId().list());
+        }
+        return variableInstances;
+    }
+
     @Override
     public VariableInstanceEntity createVariableInstance(String name, VariableType type, Object value) {
         return getVariableInstanceEntityManager().create(name, type, value);
@@ -70,6 +91,16 @@ public class VariableServiceImpl extends CommonServiceImpl<VariableServiceConfig
         getVariableInstanceEntityManager().deleteVariablesByTaskId(taskId);
     }
 
+    @Override
+    public void bulkDeleteVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getVariableInstanceEntityManager().bulkDeleteVariableInstancesByProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void bulkDeleteVariableInstancesByScopeIdsAndScopeTypes(Collection<String> scopeIds, Collection<String> scopeTypes) {
+        getVariableInstanceEntityManager().bulkDeleteVariableInstancesByScopeIdsAndScopeTypes(scopeIds, scopeTypes);
+    }
+
     public VariableInstanceEntityManager getVariableInstanceEntityManager() {
         return configuration.getVariableInstanceEntityManager();
     }
@@ -15,10 +15,12 @@ package org.flowable.variable.service.impl.persistence.entity;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
 
@@ -27,7 +29,7 @@ import org.flowable.variable.api.types.VariableType;
  * @author Marcus Klimstra (CGI)
  * @author Joram Barrez
  */
-public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, ValueFields, Serializable {
+public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, DirtyTrackingEntity, ValueFields, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -84,10 +86,14 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void forceUpdate() {
         forcedUpdate = true;
+        markDirty();
     }
     
     @Override
     public void setExecutionId(String executionId) {
+        if (!Objects.equals(this.executionId, executionId)) {
+            markDirty();
+        }
         this.executionId = executionId;
     }
 
@@ -112,7 +118,11 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setBytes(byte[] bytes) {
         ensureByteArrayRefInitialized();
+        String byteArrayValueId = byteArrayRef.getId();
         byteArrayRef.setValue("var-" + name, bytes, getEngineType());
+        if (!Objects.equals(byteArrayValueId, byteArrayRef.getId())) {
+            markDirty();
+        }
     }
 
     @Override
@@ -147,6 +157,9 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setName(String name) {
+        if (!Objects.equals(this.name, name)) {
+            markDirty();
+        }
         this.name = name;
     }
 
@@ -178,6 +191,9 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setType(VariableType type) {
+        if (!Objects.equals(this.type, type)) {
+            markDirty();
+        }
         this.type = type;
     }
 
@@ -213,6 +229,9 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setScopeId(String scopeId) {
+        if (!Objects.equals(this.scopeId, scopeId)) {
+            markDirty();
+        }
         this.scopeId = scopeId;
     }
     
@@ -223,6 +242,9 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     
     @Override
     public void setSubScopeId(String subScopeId) {
+        if (!Objects.equals(this.subScopeId, subScopeId)) {
+            markDirty();
+        }
         this.subScopeId = subScopeId;
     }
 
@@ -233,6 +255,9 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setScopeType(String scopeType) {
+        if (!Objects.equals(this.scopeType, scopeType)) {
+            markDirty();
+        }
         this.scopeType = scopeType;
     }
 
@@ -243,6 +268,9 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setLongValue(Long longValue) {
+        if (!Objects.equals(this.longValue, longValue)) {
+            markDirty();
+        }
         this.longValue = longValue;
     }
 
@@ -253,6 +281,9 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setDoubleValue(Double doubleValue) {
+        if (!Objects.equals(this.doubleValue, doubleValue)) {
+            markDirty();
+        }
         this.doubleValue = doubleValue;
     }
 
@@ -263,6 +294,9 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setTextValue(String textValue) {
+        if (!Objects.equals(this.textValue, textValue)) {
+            markDirty();
+        }
         this.textValue = textValue;
     }
 
@@ -273,6 +307,9 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setTextValue2(String textValue2) {
+        if (!Objects.equals(this.textValue2, textValue2)) {
+            markDirty();
+        }
         this.textValue2 = textValue2;
     }
 
@@ -48,4 +48,8 @@ public interface VariableInstanceEntityManager extends EntityManager<VariableIns
 
     void deleteBySubScopeIdAndScopeTypes(String subScopeId, Collection<String> scopeTypes);
 
+    void bulkDeleteVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void bulkDeleteVariableInstancesByScopeIdsAndScopeTypes(Collection<String> scopeIds, Collection<String> scopeTypes);
+
 }
\ No newline at end of file
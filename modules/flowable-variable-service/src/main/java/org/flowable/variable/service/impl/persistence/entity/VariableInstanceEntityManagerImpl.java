@@ -91,4 +91,14 @@ public class VariableInstanceEntityManagerImpl
     public void deleteBySubScopeIdAndScopeTypes(String subScopeId, Collection<String> scopeTypes) {
         dataManager.deleteBySubScopeIdAndScopeTypes(subScopeId, scopeTypes);
     }
+
+    @Override
+    public void bulkDeleteVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.bulkDeleteVariableInstancesByProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void bulkDeleteVariableInstancesByScopeIdsAndScopeTypes(Collection<String> scopeIds, Collection<String> scopeTypes) {
+        dataManager.bulkDeleteVariableInstancesByScopeIdsAndScopeTypes(scopeIds, scopeTypes);
+    }
 }
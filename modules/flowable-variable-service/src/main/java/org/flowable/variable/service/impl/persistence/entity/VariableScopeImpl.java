@@ -90,6 +90,24 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         this.variableInstances = variableInstances;
     }
 
+    /**
+     * Initializes the variable instances of this scope with variable instances that were fetched upfront,
+     * e.g. in bulk together with the variable instances of other scopes.
+     * Does nothing when the variable instances were already initialized.
+     */
+    public void internalSetPrefetchedVariableInstances(Collection<VariableInstanceEntity> prefetchedVariableInstances) {
+        if (variableInstances == null) {
+            variableInstances = new HashMap<>();
+            for (VariableInstanceEntity variableInstance : prefetchedVariableInstances) {
+                variableInstances.put(variableInstance.getName(), variableInstance);
+            }
+        }
+    }
+
+    public boolean isVariableInstancesInitialized() {
+        return variableInstances != null;
+    }
+
     @Override
     public Map<String, Object> getVariables() {
         return collectVariables(new HashMap<>());
@@ -38,4 +38,8 @@ public interface VariableInstanceDataManager extends DataManager<VariableInstanc
 
     void deleteBySubScopeIdAndScopeTypes(String subScopeId, Collection<String> scopeTypes);
 
+    void bulkDeleteVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void bulkDeleteVariableInstancesByScopeIdsAndScopeTypes(Collection<String> scopeIds, Collection<String> scopeTypes);
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -131,6 +132,24 @@ public class MybatisHistoricVariableInstanceDataManager extends AbstractDataMana
         getDbSqlSession().delete("bulkDeleteHistoricVariableInstancesForNonExistingCaseInstances", null, HistoricVariableInstanceEntity.class);
     }
 
+    @Override
+    public void bulkDeleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("processInstanceIds", processInstanceIds);
+        // The byte arrays are registered for the same entity class, so they are deleted before the variables referencing them
+        getDbSqlSession().delete("bulkDeleteBytesForHistoricVariableInstancesByProcessInstanceIds", params, HistoricVariableInstanceEntityImpl.class);
+        getDbSqlSession().delete("bulkDeleteHistoricVariableInstancesByProcessInstanceIds", params, HistoricVariableInstanceEntityImpl.class);
+    }
+
+    @Override
+    public void bulkDeleteHistoricVariableInstancesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("scopeIds", scopeIds);
+        params.put("scopeType", scopeType);
+        getDbSqlSession().delete("bulkDeleteBytesForHistoricVariableInstancesByScopeIdsAndScopeType", params, HistoricVariableInstanceEntityImpl.class);
+        getDbSqlSession().delete("bulkDeleteHistoricVariableInstancesByScopeIdsAndScopeType", params, HistoricVariableInstanceEntityImpl.class);
+    }
+
     @Override
     protected IdGenerator getIdGenerator() {
         return variableServiceConfiguration.getIdGenerator();
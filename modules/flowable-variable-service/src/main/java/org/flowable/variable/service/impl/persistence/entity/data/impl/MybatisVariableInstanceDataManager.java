@@ -129,6 +129,31 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
         params.put("scopeTypes", scopeTypes);
         bulkDelete("deleteVariablesBySubScopeIdAndScopeTypes", variableInstanceBySubScopeIdAndScopeTypesMatcher, params);
     }
+
+    @Override
+    public void bulkDeleteVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("processInstanceIds", processInstanceIds);
+
+        // The byte arrays are referenced by the variables, so their ids are selected up front and
+        // they are deleted after the variables (the byte array deletes come later in the delete order)
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        List<String> byteArrayIds = dbSqlSession.selectListWithRawParameterNoCacheLoadAndStore("selectVariableByteArrayIdsByProcessInstanceIds", params);
+        dbSqlSession.delete("bulkDeleteVariableInstancesByProcessInstanceIds", params, VariableInstanceEntityImpl.class);
+        bulkDeleteByteArraysNoRevisionCheck(byteArrayIds);
+    }
+
+    @Override
+    public void bulkDeleteVariableInstancesByScopeIdsAndScopeTypes(Collection<String> scopeIds, Collection<String> scopeTypes) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("scopeIds", scopeIds);
+        params.put("scopeTypes", scopeTypes);
+
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        List<String> byteArrayIds = dbSqlSession.selectListWithRawParameterNoCacheLoadAndStore("selectVariableByteArrayIdsByScopeIdsAndScopeTypes", params);
+        dbSqlSession.delete("bulkDeleteVariableInstancesByScopeIdsAndScopeTypes", params, VariableInstanceEntityImpl.class);
+        bulkDeleteByteArraysNoRevisionCheck(byteArrayIds);
+    }
     
     @Override
     protected IdGenerator getIdGenerator() {
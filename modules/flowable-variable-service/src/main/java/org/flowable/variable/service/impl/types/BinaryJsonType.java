@@ -0,0 +1,153 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Stores {@link JsonNode} values as bytes in the byte array table, encoded by the configured {@link ObjectMapper}.
+ * When the mapper uses a binary data format (e.g. one created with a Jackson Smile or CBOR factory) the value is stored in that
+ * compact binary encoding. Encoded values larger than the compression threshold are additionally GZIP compressed.
+ *
+ * This type is not registered by default. As the first type that is able to store a value is used, it needs to be registered
+ * before the {@link JsonType}, e.g. through the custom pre variable types of the engine configuration.
+ */
+public class BinaryJsonType extends JsonType {
+
+    public static final String TYPE_NAME = "binaryJson";
+
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
+    protected static final byte FORMAT_PLAIN = 0;
+    protected static final byte FORMAT_GZIP = 1;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinaryJsonType.class);
+
+    protected final int compressionThreshold;
+
+    public BinaryJsonType(ObjectMapper objectMapper, boolean trackObjects) {
+        this(objectMapper, trackObjects, DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    /**
+     * @param compressionThreshold the encoded size in bytes above which values are compressed, a negative value disables compression
+     */
+    public BinaryJsonType(ObjectMapper objectMapper, boolean trackObjects, int compressionThreshold) {
+        this(objectMapper, trackObjects, compressionThreshold, TYPE_NAME);
+    }
+
+    protected BinaryJsonType(ObjectMapper objectMapper, boolean trackObjects, int compressionThreshold, String typeName) {
+        super(Integer.MAX_VALUE, objectMapper, trackObjects, typeName);
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public Object getValue(ValueFields valueFields) {
+        if (valueFields.getCachedValue() != null) {
+            return valueFields.getCachedValue();
+        }
+
+        JsonNode jsonValue = null;
+        byte[] bytes = valueFields.getBytes();
+        if (bytes != null && bytes.length > 0) {
+            try {
+                jsonValue = decode(bytes);
+                valueFields.setCachedValue(jsonValue);
+                traceValue(jsonValue, valueFields);
+            } catch (IOException e) {
+                LOGGER.error("Error reading binary json variable {}", valueFields.getName(), e);
+            }
+        }
+        return jsonValue;
+    }
+
+    @Override
+    public void setValue(Object value, ValueFields valueFields) {
+        valueFields.setTextValue(null);
+        if (value == null) {
+            valueFields.setBytes(null);
+            valueFields.setCachedValue(null);
+        } else {
+            JsonNode jsonNode = (JsonNode) value;
+            valueFields.setBytes(encode(jsonNode));
+            valueFields.setCachedValue(jsonNode);
+            traceValue(jsonNode, valueFields);
+        }
+    }
+
+    @Override
+    public boolean updateValueIfChanged(JsonNode originalNode, JsonNode originalCopyNode, VariableInstanceEntity variableInstanceEntity) {
+        if (!Objects.equals(originalNode, originalCopyNode)) {
+            variableInstanceEntity.setBytes(encode(originalNode));
+            return true;
+        }
+        return false;
+    }
+
+    protected byte[] encode(JsonNode jsonNode) {
+        try {
+            byte[] encoded = objectMapper.writeValueAsBytes(jsonNode);
+            if (compressionThreshold >= 0 && encoded.length > compressionThreshold) {
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream(encoded.length / 2 + 1);
+                outputStream.write(FORMAT_GZIP);
+                try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+                    gzipOutputStream.write(encoded);
+                }
+                return outputStream.toByteArray();
+            }
+
+            byte[] bytes = new byte[encoded.length + 1];
+            bytes[0] = FORMAT_PLAIN;
+            System.arraycopy(encoded, 0, bytes, 1, encoded.length);
+            return bytes;
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not encode binary json value", e);
+        }
+    }
+
+    protected JsonNode decode(byte[] bytes) throws IOException {
+        byte format = bytes[0];
+        if (format == FORMAT_PLAIN) {
+            return objectMapper.readTree(bytes, 1, bytes.length - 1);
+
+        } else if (format == FORMAT_GZIP) {
+            try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+                return objectMapper.readTree(inputStream);
+            }
+
+        } else {
+            throw new IOException("Unknown binary json format " + format);
+        }
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+}
@@ -47,6 +47,7 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
     public static final String TYPE_NAME = "serializable";
 
     protected boolean trackDeserializedObjects;
+    protected SerializableVariableChangeDetector changeDetector;
 
     @Override
     public String getTypeName() {
@@ -60,6 +61,11 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
         this.trackDeserializedObjects = trackDeserializedObjects;
     }
 
+    public SerializableType(boolean trackDeserializedObjects, SerializableVariableChangeDetector changeDetector) {
+        this.trackDeserializedObjects = trackDeserializedObjects;
+        this.changeDetector = changeDetector;
+    }
+
     @Override
     public Object getValue(ValueFields valueFields) {
         Object cachedObject = valueFields.getCachedValue();
@@ -97,7 +103,7 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
                 VariableServiceConfiguration variableServiceConfiguration = getVariableServiceConfiguration(valueFields);
                 if (variableServiceConfiguration != null) {
                     commandContext.addCloseListener(new TraceableVariablesCommandContextCloseListener(
-                        new TraceableObject<>(this, value, valueBytes, (VariableInstanceEntity) valueFields)
+                        createTraceableObject(value, valueBytes, (VariableInstanceEntity) valueFields)
                     ));
                     variableServiceConfiguration.getInternalHistoryVariableManager().initAsyncHistoryCommandContextCloseListener();
                 }
@@ -106,6 +112,16 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
     }
 
 
+    protected TraceableObject<Object, byte[]> createTraceableObject(Object value, byte[] valueBytes, VariableInstanceEntity variableInstanceEntity) {
+        if (changeDetector != null && value != null) {
+            Object changeToken = changeDetector.getChangeToken(value);
+            if (changeToken != null) {
+                return new ChangeTokenTraceableObject(this, value, valueBytes, variableInstanceEntity, changeDetector, changeToken);
+            }
+        }
+        return new TraceableObject<>(this, value, valueBytes, variableInstanceEntity);
+    }
+
     @Override
     public boolean updateValueIfChanged(Object tracedObject, byte[] originalBytes,
         VariableInstanceEntity variableInstanceEntity) {
@@ -190,6 +206,14 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
         return value instanceof Serializable;
     }
 
+    public SerializableVariableChangeDetector getChangeDetector() {
+        return changeDetector;
+    }
+
+    public void setChangeDetector(SerializableVariableChangeDetector changeDetector) {
+        this.changeDetector = changeDetector;
+    }
+
     protected ObjectInputStream createObjectInputStream(InputStream is) throws IOException {
         return new ObjectInputStream(is) {
             @Override
@@ -202,4 +226,29 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
     protected ObjectOutputStream createObjectOutputStream(OutputStream os) throws IOException {
         return new ObjectOutputStream(os);
     }
+
+    /**
+     * Only compares the serialized form of the traced object when its change token changed.
+     */
+    protected static class ChangeTokenTraceableObject extends TraceableObject<Object, byte[]> {
+
+        protected SerializableVariableChangeDetector changeDetector;
+        protected Object changeToken;
+
+        public ChangeTokenTraceableObject(SerializableType type, Object tracedObject, byte[] tracedObjectOriginalValue,
+                VariableInstanceEntity variableInstanceEntity, SerializableVariableChangeDetector changeDetector, Object changeToken) {
+            super(type, tracedObject, tracedObjectOriginalValue, variableInstanceEntity);
+            this.changeDetector = changeDetector;
+            this.changeToken = changeToken;
+        }
+
+        @Override
+        public void updateIfValueChanged() {
+            if (changeToken.equals(changeDetector.getChangeToken(tracedObject))) {
+                return;
+            }
+            super.updateIfValueChanged();
+        }
+    }
+
 }
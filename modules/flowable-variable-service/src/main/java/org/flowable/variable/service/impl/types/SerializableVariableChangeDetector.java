@@ -0,0 +1,32 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+/**
+ * Decides whether a deserialized object of a {@link SerializableType} variable might have been changed during a command,
+ * without serializing the object.
+ *
+ * When the object is read or set, a change token is taken (for example a version number or a modification counter of the object).
+ * When the command closes and the token of the object is still equal to the original token, the object is considered unchanged:
+ * it is not serialized again and the variable is not updated. The detector needs to guarantee that every change of the object
+ * results in a different token, as changes are lost otherwise.
+ */
+public interface SerializableVariableChangeDetector {
+
+    /**
+     * @return a token describing the state of the object, or null when the detector doesn't support the object,
+     *         in which case the serialized form of the object is compared.
+     */
+    Object getChangeToken(Object value);
+
+}